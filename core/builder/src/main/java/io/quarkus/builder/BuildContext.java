@@ -254,10 +254,14 @@ public final class BuildContext {
         }
     }
 
-    void depFinished() {
+    void depFinished(StepInfo dependency) {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
+            final BuildMetrics metrics = execution.getMetrics();
+            if (metrics != null) {
+                metrics.stepReady(stepInfo, dependency);
+            }
             execution.getExecutor().execute(this::run);
         }
     }
@@ -267,7 +271,11 @@ public final class BuildContext {
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
         final long start = System.currentTimeMillis();
+        final BuildMetrics metrics = execution.getMetrics();
         log.tracef("Starting step \"%s\"", buildStep);
+        if (metrics != null) {
+            metrics.stepStarted(stepInfo);
+        }
         try {
             if (!execution.isErrorReported()) {
                 running = true;
@@ -285,13 +293,16 @@ public final class BuildContext {
                 }
             }
         } finally {
+            if (metrics != null) {
+                metrics.stepFinished(stepInfo);
+            }
             log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
         if (!dependents.isEmpty()) {
             for (StepInfo info : dependents) {
-                execution.getBuildContext(info).depFinished();
+                execution.getBuildContext(info).depFinished(stepInfo);
             }
         } else {
             execution.depFinished();
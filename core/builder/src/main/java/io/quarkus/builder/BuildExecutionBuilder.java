@@ -20,6 +20,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private boolean metricsEnabled;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -69,6 +70,21 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    /**
+     * Enable recording of per step timing information, which is then available from {@link BuildResult#getMetrics()}.
+     *
+     * @param metricsEnabled {@code true} to record build metrics
+     * @return this builder
+     */
+    public BuildExecutionBuilder setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+        return this;
+    }
+
+    boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
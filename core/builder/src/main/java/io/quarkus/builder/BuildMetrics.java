@@ -0,0 +1,283 @@
+package io.quarkus.builder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing information recorded for the steps of a single build execution.
+ * <p>
+ * For each step this records when it became runnable (i.e. when the last step it depends on finished), when it
+ * was actually started by the executor and when it finished, as well as the thread it ran on. From this the
+ * critical path through the build chain can be computed, which is the chain of steps that bounds the total
+ * build time.
+ * <p>
+ * Metrics are only recorded if they have been enabled via {@link BuildExecutionBuilder#setMetricsEnabled(boolean)}.
+ */
+public final class BuildMetrics {
+
+    private final String buildTargetName;
+    private final long buildStarted = System.nanoTime();
+    private final ConcurrentHashMap<StepInfo, StepRecord> records = new ConcurrentHashMap<>();
+    private volatile long buildFinished;
+
+    BuildMetrics(String buildTargetName) {
+        this.buildTargetName = buildTargetName;
+    }
+
+    void stepReady(StepInfo stepInfo, StepInfo lastDependency) {
+        StepRecord record = record(stepInfo);
+        record.readyAt = System.nanoTime() - buildStarted;
+        record.lastDependency = lastDependency;
+    }
+
+    void stepStarted(StepInfo stepInfo) {
+        StepRecord record = record(stepInfo);
+        record.thread = Thread.currentThread().getName();
+        record.startedAt = System.nanoTime() - buildStarted;
+    }
+
+    void stepFinished(StepInfo stepInfo) {
+        record(stepInfo).finishedAt = System.nanoTime() - buildStarted;
+    }
+
+    void buildFinished() {
+        buildFinished = System.nanoTime() - buildStarted;
+    }
+
+    private StepRecord record(StepInfo stepInfo) {
+        return records.computeIfAbsent(stepInfo, StepRecord::new);
+    }
+
+    /**
+     * @return the name of the build target these metrics were recorded for
+     */
+    public String getBuildTargetName() {
+        return buildTargetName;
+    }
+
+    /**
+     * @param timeUnit the time unit to return
+     * @return the total duration of the build
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(buildFinished, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the records of all the steps that ran, ordered by start time
+     */
+    public List<StepRecord> getSteps() {
+        List<StepRecord> steps = new ArrayList<>(records.values());
+        steps.sort(Comparator.comparingLong(StepRecord::getStartedAt));
+        return steps;
+    }
+
+    /**
+     * Computes the critical path, starting from the step that finished last and walking back through the dependency
+     * that made each step runnable.
+     *
+     * @return the steps on the critical path, in execution order
+     */
+    public List<StepRecord> getCriticalPath() {
+        StepRecord last = null;
+        for (StepRecord record : records.values()) {
+            if (last == null || record.finishedAt > last.finishedAt) {
+                last = record;
+            }
+        }
+        Deque<StepRecord> path = new ArrayDeque<>();
+        Set<StepRecord> visited = new HashSet<>();
+        while (last != null && visited.add(last)) {
+            path.addFirst(last);
+            last = last.lastDependency == null ? null : records.get(last.lastDependency);
+        }
+        return new ArrayList<>(path);
+    }
+
+    /**
+     * @return the number of distinct threads that ran build steps
+     */
+    public int getThreadCount() {
+        Set<String> threads = new HashSet<>();
+        for (StepRecord record : records.values()) {
+            threads.add(record.thread);
+        }
+        return threads.size();
+    }
+
+    /**
+     * Writes the metrics as a JSON document.
+     *
+     * @param path the file to write to
+     * @throws IOException if the file could not be written
+     */
+    public void dumpTo(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeJson(writer);
+        }
+    }
+
+    void writeJson(Writer writer) throws IOException {
+        List<StepRecord> steps = getSteps();
+        writer.write("{\n  \"buildTarget\": ");
+        writeString(writer, buildTargetName);
+        writer.write(",\n  \"durationMs\": " + getDuration(TimeUnit.MILLISECONDS));
+        writer.write(",\n  \"threads\": " + getThreadCount());
+        writer.write(",\n  \"steps\": [");
+        for (int i = 0; i < steps.size(); ++i) {
+            StepRecord step = steps.get(i);
+            writer.write(i == 0 ? "\n    {" : ",\n    {");
+            writer.write("\"stepId\": ");
+            writeString(writer, step.getStepId());
+            writer.write(", \"thread\": ");
+            writeString(writer, step.getThread());
+            writer.write(", \"readyAtMs\": " + toMillis(step.readyAt));
+            writer.write(", \"startedAtMs\": " + toMillis(step.startedAt));
+            writer.write(", \"durationMs\": " + toMillis(step.getDuration()));
+            writer.write(", \"waitMs\": " + toMillis(step.getWaitTime()));
+            writer.write(", \"lastDependency\": ");
+            writeString(writer, step.getLastDependency());
+            writer.write("}");
+        }
+        writer.write("\n  ],\n  \"criticalPath\": [");
+        List<StepRecord> criticalPath = getCriticalPath();
+        for (int i = 0; i < criticalPath.size(); ++i) {
+            writer.write(i == 0 ? "\n    " : ",\n    ");
+            writeString(writer, criticalPath.get(i).getStepId());
+        }
+        writer.write("\n  ]\n}\n");
+    }
+
+    /**
+     * @param limit the maximum number of steps to list
+     * @return a human readable summary of the slowest steps and of the critical path
+     */
+    public String getSummary(int limit) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Build of ").append(buildTargetName).append(" took ").append(getDuration(TimeUnit.MILLISECONDS))
+                .append("ms using ").append(getThreadCount()).append(" threads");
+        List<StepRecord> steps = getSteps();
+        steps.sort(Comparator.comparingLong(StepRecord::getDuration).reversed());
+        sb.append("\nSlowest steps:");
+        for (StepRecord step : steps.subList(0, Math.min(limit, steps.size()))) {
+            appendStep(sb, step);
+        }
+        List<StepRecord> criticalPath = getCriticalPath();
+        Collections.reverse(criticalPath);
+        long criticalTime = 0;
+        for (StepRecord step : criticalPath) {
+            criticalTime += step.getDuration() + step.getWaitTime();
+        }
+        sb.append("\nCritical path (").append(criticalPath.size()).append(" steps, ").append(toMillis(criticalTime))
+                .append("ms), last steps first:");
+        for (StepRecord step : criticalPath.subList(0, Math.min(limit, criticalPath.size()))) {
+            appendStep(sb, step);
+        }
+        return sb.toString();
+    }
+
+    private static void appendStep(StringBuilder sb, StepRecord step) {
+        sb.append("\n\t").append(toMillis(step.getDuration())).append("ms (waited ").append(toMillis(step.getWaitTime()))
+                .append("ms) ").append(step.getStepId());
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static void writeString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * The timing of a single build step, all times are in nanoseconds relative to the start of the build.
+     */
+    public static final class StepRecord {
+
+        private final StepInfo stepInfo;
+        private volatile StepInfo lastDependency;
+        private volatile String thread;
+        private volatile long readyAt;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+
+        StepRecord(StepInfo stepInfo) {
+            this.stepInfo = stepInfo;
+        }
+
+        public String getStepId() {
+            return stepInfo.getBuildStep().toString();
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public long getReadyAt() {
+            return readyAt;
+        }
+
+        public long getStartedAt() {
+            return startedAt;
+        }
+
+        public long getFinishedAt() {
+            return finishedAt;
+        }
+
+        /**
+         * @return the time the step spent running
+         */
+        public long getDuration() {
+            return Math.max(0, finishedAt - startedAt);
+        }
+
+        /**
+         * @return the time the step spent queued in the executor after all of its dependencies had finished
+         */
+        public long getWaitTime() {
+            return Math.max(0, startedAt - readyAt);
+        }
+
+        /**
+         * @return the id of the dependency that finished last, and so made this step runnable, or {@code null} for
+         *         steps without dependencies
+         */
+        public String getLastDependency() {
+            StepInfo dependency = lastDependency;
+            return dependency == null ? null : dependency.getBuildStep().toString();
+        }
+    }
+}
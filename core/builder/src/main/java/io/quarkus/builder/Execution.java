@@ -36,6 +36,7 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final BuildMetrics metrics;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -58,6 +59,7 @@ final class Execution {
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
         buildTargetName = builder.getBuildTargetName();
+        metrics = builder.isMetricsEnabled() ? new BuildMetrics(buildTargetName) : null;
         executor = executorBuilder.build();
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
@@ -82,6 +84,9 @@ final class Execution {
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
+            if (metrics != null) {
+                metrics.stepReady(startStep, null);
+            }
             executor.execute(getBuildContext(startStep)::run);
         }
         // wait for the wrap-up
@@ -110,6 +115,9 @@ final class Execution {
                 if (intr)
                     Thread.currentThread().interrupt();
             }
+        if (metrics != null) {
+            metrics.buildFinished();
+        }
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.getLevel() == Diagnostic.Level.ERROR) {
                 BuildException failed = new BuildException("Build failed due to errors", diagnostic.getThrown(),
@@ -125,13 +133,17 @@ final class Execution {
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+                max(0, System.nanoTime() - start), metrics);
     }
 
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
 
+    BuildMetrics getMetrics() {
+        return metrics;
+    }
+
     String getBuildTargetName() {
         return buildTargetName;
     }
@@ -1,10 +1,13 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Assertions;
@@ -124,6 +127,52 @@ public class BasicTests {
         assertNotNull(result.consume(DummyItem2.class));
     }
 
+    @Test
+    public void testMetrics() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "producer";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String toString() {
+                return "consumer";
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        final BuildChain chain = builder.build();
+        assertNull(chain.createExecutionBuilder("my-app.jar").execute().getMetrics());
+
+        final BuildResult result = chain.createExecutionBuilder("my-app.jar").setMetricsEnabled(true).execute();
+        final BuildMetrics metrics = result.getMetrics();
+        assertNotNull(metrics);
+        assertEquals(2, metrics.getSteps().size());
+        List<BuildMetrics.StepRecord> criticalPath = metrics.getCriticalPath();
+        assertEquals(2, criticalPath.size());
+        assertEquals("producer", criticalPath.get(0).getStepId());
+        assertEquals("consumer", criticalPath.get(1).getStepId());
+        assertEquals("producer", criticalPath.get(1).getLastDependency());
+        assertTrue(metrics.getSummary(5).contains("consumer"));
+    }
+
     @Test
     public void testInitial() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
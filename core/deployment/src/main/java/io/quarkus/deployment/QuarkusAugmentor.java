@@ -20,6 +20,7 @@ import io.quarkus.bootstrap.model.PathsCollection;
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
@@ -42,6 +43,13 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    /**
+     * If this system property is set to true the time taken by each build step is recorded, and a summary and a JSON
+     * report are written once augmentation is complete.
+     */
+    public static final String DUMP_BUILD_METRICS = "quarkus.debug.dump-build-metrics";
+    public static final String BUILD_METRICS_JSON = "build-metrics.json";
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathsCollection root;
@@ -146,6 +154,7 @@ public class QuarkusAugmentor {
             for (PathsCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            execBuilder.setMetricsEnabled(Boolean.getBoolean(DUMP_BUILD_METRICS));
             BuildResult buildResult = execBuilder.execute();
             String message = "Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms";
             if (launchMode == LaunchMode.NORMAL) {
@@ -154,6 +163,15 @@ public class QuarkusAugmentor {
                 //test and dev mode already report the total startup time, no need to add noise to the logs
                 log.debug(message);
             }
+            BuildMetrics metrics = buildResult.getMetrics();
+            if (metrics != null) {
+                log.info(metrics.getSummary(10));
+                if (targetDir != null) {
+                    Path metricsFile = targetDir.resolve(BUILD_METRICS_JSON);
+                    metrics.dumpTo(metricsFile);
+                    log.infof("Build metrics written to %s", metricsFile);
+                }
+            }
             return buildResult;
         } finally {
             try {
@@ -332,7 +332,8 @@ public final class RunTimeConfigurationGenerator {
             // create the map for build time config source
             final ResultHandle buildTimeValues = clinit.newInstance(HM_NEW);
             for (Map.Entry<String, String> entry : buildTimeRunTimeVisibleValues.entrySet()) {
-                clinit.invokeVirtualMethod(HM_PUT, buildTimeValues, clinit.load(entry.getKey()), clinit.load(entry.getValue()));
+                clinit.invokeVirtualMethod(HM_PUT, buildTimeValues, clinit.load(entry.getKey()),
+                        loadValue(clinit, entry.getValue()));
             }
 
             // static field containing the instance of the class - is set when createBootstrapConfig is run
@@ -415,7 +416,7 @@ public final class RunTimeConfigurationGenerator {
                 final ResultHandle buildTimeValues = reinit.newInstance(HM_NEW);
                 for (Map.Entry<String, String> entry : buildTimeRunTimeVisibleValues.entrySet()) {
                     reinit.invokeVirtualMethod(HM_PUT, buildTimeValues, reinit.load(entry.getKey()),
-                            reinit.load(entry.getValue()));
+                            loadValue(reinit, entry.getValue()));
                 }
                 final ResultHandle buildTimeConfigSource = reinit.newInstance(PCS_NEW, buildTimeValues,
                         reinit.load("Build time config = Reloaded"), reinit.load(100));
@@ -486,14 +487,14 @@ public final class RunTimeConfigurationGenerator {
                 //but these can already just be read directly, as we are in the same JVM
                 for (Map.Entry<String, String> entry : specifiedRunTimeDefaultValues.entrySet()) {
                     clinit.invokeVirtualMethod(HM_PUT, specifiedRunTimeValues, clinit.load(entry.getKey()),
-                            clinit.load(entry.getValue()));
+                            loadValue(clinit, entry.getValue()));
                 }
             }
             for (Map.Entry<String, String> entry : runTimeDefaults.entrySet()) {
                 if (!specifiedRunTimeDefaultValues.containsKey(entry.getKey())) {
                     // only add entry if the user didn't override it
                     clinit.invokeVirtualMethod(HM_PUT, specifiedRunTimeValues, clinit.load(entry.getKey()),
-                            clinit.load(entry.getValue()));
+                            loadValue(clinit, entry.getValue()));
                 }
             }
             final ResultHandle specifiedRunTimeSource = clinit.newInstance(PCS_NEW, specifiedRunTimeValues,
@@ -858,6 +859,10 @@ public final class RunTimeConfigurationGenerator {
             }
         }
 
+        private static ResultHandle loadValue(BytecodeCreator bc, String value) {
+            return value == null ? bc.loadNull() : bc.load(value);
+        }
+
         private MethodDescriptor generateInitGroup(ClassDefinition definition) {
             final Class<?> clazz = definition.getConfigurationClass();
             MethodDescriptor methodDescriptor = groupInitMethods.get(clazz);
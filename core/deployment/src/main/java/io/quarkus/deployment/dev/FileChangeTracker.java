@@ -0,0 +1,255 @@
+package io.quarkus.deployment.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.LiveReloadConfig;
+import io.quarkus.runtime.configuration.ConfigInstantiator;
+
+/**
+ * Keeps track of the files that changed under a set of root directories, so that a dev mode scan only has to look at
+ * the files that actually changed instead of walking every root.
+ * <p>
+ * Roots are registered lazily the first time they are queried, and the first query always asks the caller to do a full
+ * scan. After that {@link #getChangedFiles(Path)} returns the files that were created, modified or deleted since the
+ * previous call. As deleting or moving a directory only produces an event for the directory itself, the tracker keeps the
+ * files it has seen, so that the files below a deleted directory are returned as well. If events were lost the root is
+ * walked again, and the files which are gone are returned together with all the existing ones.
+ * <p>
+ * If the platform only provides a polling {@link WatchService}, which can take several seconds to notice a change,
+ * {@code null} is always returned and the caller falls back to walking the root.
+ */
+class FileChangeTracker implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeTracker.class);
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+    private final Map<Path, Set<Path>> changes = new HashMap<>();
+    private final Map<Path, Set<Path>> knownFiles = new HashMap<>();
+    private final Set<Path> needsFullScan = new HashSet<>();
+
+    FileChangeTracker() {
+        this(isWatchServiceEnabled());
+    }
+
+    private static boolean isWatchServiceEnabled() {
+        LiveReloadConfig config = new LiveReloadConfig();
+        ConfigInstantiator.handleObject(config);
+        return config.watchService;
+    }
+
+    FileChangeTracker(boolean useWatchService) {
+        this.watchService = useWatchService ? createWatchService() : null;
+    }
+
+    private static WatchService createWatchService() {
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            if (service.getClass().getName().contains("Polling")) {
+                //the JDK polling implementation is a lot slower to notice changes than walking the tree on every scan
+                service.close();
+                return null;
+            }
+            return service;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Unable to create a watch service, changes will be detected by scanning the file system", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the files below the given root that changed since the last call.
+     *
+     * @param root the root directory
+     * @return the changed files, which may no longer exist if they have been deleted, or {@code null} if the caller needs
+     *         to do a full scan of the root
+     */
+    synchronized Set<Path> getChangedFiles(Path root) {
+        if (watchService == null) {
+            return null;
+        }
+        Set<Path> rootChanges = changes.get(root);
+        if (rootChanges == null) {
+            changes.put(root, new HashSet<>());
+            knownFiles.put(root, new HashSet<>());
+            try {
+                registerTree(root, root, false);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to watch %s, changes will be detected by scanning the file system", root);
+                changes.remove(root);
+                knownFiles.remove(root);
+            }
+            return null;
+        }
+        processEvents();
+        rootChanges = changes.get(root);
+        if (rootChanges == null) {
+            return getChangedFiles(root);
+        }
+        if (needsFullScan.remove(root)) {
+            rootChanges.clear();
+            return null;
+        }
+        Set<Path> ret = new HashSet<>(rootChanges);
+        rootChanges.clear();
+        return ret;
+    }
+
+    private void processEvents() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path dir = keys.get(key);
+            if (dir == null) {
+                key.cancel();
+                continue;
+            }
+            Path root = rootOf(dir);
+            if (root == null) {
+                key.cancel();
+                keys.remove(key);
+                continue;
+            }
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    rescan(root);
+                    continue;
+                }
+                Path file = dir.resolve((Path) event.context());
+                changes.get(root).add(file);
+                if (event.kind() == ENTRY_DELETE) {
+                    deleted(root, file);
+                } else {
+                    knownFiles.get(root).add(file);
+                    if (event.kind() == ENTRY_CREATE && Files.isDirectory(file)) {
+                        //files may have been created in the new directory before we started watching it
+                        try {
+                            registerTree(root, file, true);
+                        } catch (IOException e) {
+                            needsFullScan.add(root);
+                        }
+                    }
+                }
+            }
+            if (!key.reset()) {
+                keys.remove(key);
+                if (dir.equals(root)) {
+                    //the root itself is gone, it will be registered again the next time it is queried
+                    changes.remove(root);
+                    knownFiles.remove(root);
+                    needsFullScan.remove(root);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports the files that were below a deleted path, as there is no event for them if a directory was deleted or
+     * moved, and stops watching the directories below it.
+     */
+    private void deleted(Path root, Path path) {
+        Set<Path> rootChanges = changes.get(root);
+        Iterator<Path> it = knownFiles.get(root).iterator();
+        while (it.hasNext()) {
+            Path known = it.next();
+            if (known.startsWith(path)) {
+                rootChanges.add(known);
+                it.remove();
+            }
+        }
+        Iterator<Map.Entry<WatchKey, Path>> keyIt = keys.entrySet().iterator();
+        while (keyIt.hasNext()) {
+            Map.Entry<WatchKey, Path> entry = keyIt.next();
+            if (entry.getValue().startsWith(path)) {
+                entry.getKey().cancel();
+                keyIt.remove();
+            }
+        }
+    }
+
+    /**
+     * Walks the root again after events were lost, reporting all its files as well as the known ones which are gone.
+     */
+    private void rescan(Path root) {
+        Set<Path> previous = knownFiles.put(root, new HashSet<>());
+        try {
+            registerTree(root, root, true);
+        } catch (IOException e) {
+            needsFullScan.add(root);
+            return;
+        }
+        Set<Path> rootChanges = changes.get(root);
+        for (Path path : previous) {
+            if (!knownFiles.get(root).contains(path)) {
+                rootChanges.add(path);
+            }
+        }
+    }
+
+    private Path rootOf(Path dir) {
+        Path root = null;
+        for (Path candidate : changes.keySet()) {
+            if (dir.startsWith(candidate) && (root == null || candidate.getNameCount() > root.getNameCount())) {
+                root = candidate;
+            }
+        }
+        return root;
+    }
+
+    private void registerTree(Path root, Path dir, boolean reportCreated) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        Set<Path> known = knownFiles.get(root);
+        Set<Path> created = reportCreated ? changes.get(root) : null;
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.forEach(p -> {
+                if (Files.isDirectory(p)) {
+                    try {
+                        keys.put(p.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), p);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                known.add(p);
+                if (created != null) {
+                    created.add(p);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        keys.clear();
+        changes.clear();
+        knownFiles.clear();
+    }
+}
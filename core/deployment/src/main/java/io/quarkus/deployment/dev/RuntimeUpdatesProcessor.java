@@ -67,6 +67,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     private final Map<Path, Long> watchedFileTimestamps = new ConcurrentHashMap<>();
     private final Map<Path, Long> classFileChangeTimeStamps = new ConcurrentHashMap<>();
     private final Map<Path, Path> classFilePathToSourceFilePath = new ConcurrentHashMap<>();
+    private final FileChangeTracker fileChangeTracker = new FileChangeTracker();
 
     /**
      * Resources that appear in both src and target, these will be removed if the src resource subsequently disappears.
@@ -244,6 +245,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
 
         for (DevModeContext.ModuleInfo module : context.getAllModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            final Set<Path> moduleDeletedSourceFilePaths = new HashSet<>();
 
             for (String sourcePath : module.getSourcePaths()) {
                 final Set<File> changedSourceFiles;
@@ -251,14 +253,30 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                 if (!Files.exists(start)) {
                     continue;
                 }
-                try (final Stream<Path> sourcesStream = Files.walk(start)) {
-                    changedSourceFiles = sourcesStream
-                            .parallel()
-                            .filter(p -> matchingHandledExtension(p).isPresent()
-                                    && sourceFileWasRecentModified(p, ignoreFirstScanChanges))
-                            .map(Path::toFile)
-                            //Needing a concurrent Set, not many standard options:
-                            .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                final Set<Path> trackedChanges = fileChangeTracker.getChangedFiles(start);
+                if (trackedChanges != null) {
+                    changedSourceFiles = new HashSet<>();
+                    for (Path p : trackedChanges) {
+                        if (!matchingHandledExtension(p).isPresent()) {
+                            continue;
+                        }
+                        if (!Files.exists(p)) {
+                            sourceFileTimestamps.remove(p);
+                            moduleDeletedSourceFilePaths.add(p);
+                        } else if (sourceFileWasRecentModified(p, ignoreFirstScanChanges)) {
+                            changedSourceFiles.add(p.toFile());
+                        }
+                    }
+                } else {
+                    try (final Stream<Path> sourcesStream = Files.walk(start)) {
+                        changedSourceFiles = sourcesStream
+                                .parallel()
+                                .filter(p -> matchingHandledExtension(p).isPresent()
+                                        && sourceFileWasRecentModified(p, ignoreFirstScanChanges))
+                                .map(Path::toFile)
+                                //Needing a concurrent Set, not many standard options:
+                                .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                    }
                 }
                 if (!changedSourceFiles.isEmpty()) {
                     log.info("Changed source files detected, recompiling " + changedSourceFiles);
@@ -278,7 +296,8 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
 
             }
 
-            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges)) {
+            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, moduleDeletedSourceFilePaths,
+                    ignoreFirstScanChanges)) {
                 hasChanges = true;
             }
         }
@@ -292,7 +311,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     }
 
     private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun) {
+            Set<Path> moduleDeletedSourceFiles, boolean isInitialRun) {
         boolean hasChanges = !moduleChangedSourceFiles.isEmpty();
 
         if (module.getClassesPath() == null) {
@@ -305,38 +324,41 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                 if (!Files.exists(moduleClassesPath)) {
                     continue;
                 }
-                try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
-                    final Set<Path> classFilePaths = classesStream
-                            .parallel()
-                            .filter(path -> path.toString().endsWith(CLASS_EXTENSION))
-                            .collect(Collectors.toSet());
-
-                    for (Path classFilePath : classFilePaths) {
-                        final Path sourceFilePath = retrieveSourceFilePathForClassFile(classFilePath, moduleChangedSourceFiles,
-                                module);
-
-                        if (sourceFilePath != null) {
-                            if (!sourceFilePath.toFile().exists()) {
-                                // Source file has been deleted. Delete class and restart
-                                cleanUpClassFile(classFilePath);
-                                sourceFileTimestamps.remove(sourceFilePath);
-                                hasChanges = true;
+                final Set<Path> trackedChanges = fileChangeTracker.getChangedFiles(moduleClassesPath);
+                final Set<Path> classFilePaths;
+                if (trackedChanges != null) {
+                    classFilePaths = new HashSet<>();
+                    for (Path path : trackedChanges) {
+                        if (path.toString().endsWith(CLASS_EXTENSION)) {
+                            if (Files.exists(path)) {
+                                classFilePaths.add(path);
                             } else {
-                                classFilePathToSourceFilePath.put(classFilePath, sourceFilePath);
-                                if (classFileWasRecentModified(classFilePath, isInitialRun)) {
-                                    // At least one class was recently modified. Restart.
-                                    hasChanges = true;
-                                } else if (moduleChangedSourceFiles.contains(sourceFilePath)) {
-                                    // Source file has been modified, we delete the .class files as they are going to
-                                    // be recompiled anyway, this allows for simple cleanup of inner classes
-                                    cleanUpClassFile(classFilePath);
-                                    hasChanges = true;
-                                }
+                                classFileChangeTimeStamps.remove(path);
+                                classFilePathToSourceFilePath.remove(path);
                             }
-                        } else if (classFileWasRecentModified(classFilePath, isInitialRun)) {
-                            hasChanges = true;
                         }
                     }
+                    // the class files of changed or deleted sources also need to be checked, as stale ones are removed
+                    for (Map.Entry<Path, Path> entry : classFilePathToSourceFilePath.entrySet()) {
+                        if (entry.getKey().startsWith(moduleClassesPath)
+                                && (moduleChangedSourceFiles.contains(entry.getValue())
+                                        || moduleDeletedSourceFiles.contains(entry.getValue()))) {
+                            classFilePaths.add(entry.getKey());
+                        }
+                    }
+                } else {
+                    try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
+                        classFilePaths = classesStream
+                                .parallel()
+                                .filter(path -> path.toString().endsWith(CLASS_EXTENSION))
+                                .collect(Collectors.toSet());
+                    }
+                }
+
+                for (Path classFilePath : classFilePaths) {
+                    if (checkClassFile(classFilePath, moduleChangedSourceFiles, module, isInitialRun)) {
+                        hasChanges = true;
+                    }
                 }
             }
         } catch (IOException e) {
@@ -346,6 +368,35 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
         return hasChanges;
     }
 
+    private boolean checkClassFile(Path classFilePath, List<Path> moduleChangedSourceFiles, DevModeContext.ModuleInfo module,
+            boolean isInitialRun) throws IOException {
+        final Path sourceFilePath = retrieveSourceFilePathForClassFile(classFilePath, moduleChangedSourceFiles,
+                module);
+
+        if (sourceFilePath != null) {
+            if (!sourceFilePath.toFile().exists()) {
+                // Source file has been deleted. Delete class and restart
+                cleanUpClassFile(classFilePath);
+                sourceFileTimestamps.remove(sourceFilePath);
+                return true;
+            } else {
+                classFilePathToSourceFilePath.put(classFilePath, sourceFilePath);
+                if (classFileWasRecentModified(classFilePath, isInitialRun)) {
+                    // At least one class was recently modified. Restart.
+                    return true;
+                } else if (moduleChangedSourceFiles.contains(sourceFilePath)) {
+                    // Source file has been modified, we delete the .class files as they are going to
+                    // be recompiled anyway, this allows for simple cleanup of inner classes
+                    cleanUpClassFile(classFilePath);
+                    return true;
+                }
+            }
+        } else if (classFileWasRecentModified(classFilePath, isInitialRun)) {
+            return true;
+        }
+        return false;
+    }
+
     private Path retrieveSourceFilePathForClassFile(Path classFilePath, List<Path> moduleChangedSourceFiles,
             DevModeContext.ModuleInfo module) {
         Path sourceFilePath = classFilePathToSourceFilePath.get(classFilePath);
@@ -398,42 +449,32 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
             //copy all modified non hot deployment files over
             if (doCopy) {
                 try {
-                    final Set<Path> seen = new HashSet<>(moduleResources);
-                    //since the stream is Closeable, use a try with resources so the underlying iterator is closed
-                    try (final Stream<Path> walk = Files.walk(root)) {
-                        walk.forEach(path -> {
-                            try {
-                                Path relative = root.relativize(path);
-                                Path target = outputDir.resolve(relative);
-                                seen.remove(target);
-                                if (!watchedFileTimestamps.containsKey(path)) {
-                                    moduleResources.add(target);
-                                    if (!Files.exists(target) || Files.getLastModifiedTime(target).toMillis() < Files
-                                            .getLastModifiedTime(path).toMillis()) {
-                                        if (Files.isDirectory(path)) {
-                                            Files.createDirectories(target);
-                                        } else {
-                                            Files.createDirectories(target.getParent());
-                                            ret.add(relative.toString());
-                                            byte[] data = Files.readAllBytes(path);
-                                            try (FileOutputStream out = new FileOutputStream(target.toFile())) {
-                                                out.write(data);
-                                            }
-                                            if (copyResourceNotification != null) {
-                                                copyResourceNotification.accept(module, relative.toString());
-                                            }
-                                        }
-                                    }
+                    final Set<Path> trackedChanges = fileChangeTracker.getChangedFiles(root);
+                    if (trackedChanges != null) {
+                        for (Path path : trackedChanges) {
+                            if (Files.exists(path)) {
+                                copyResource(module, root, outputDir, path, moduleResources, ret);
+                            } else {
+                                Path target = outputDir.resolve(root.relativize(path));
+                                if (moduleResources.remove(target) && !Files.isDirectory(target)) {
+                                    Files.deleteIfExists(target);
                                 }
-                            } catch (Exception e) {
-                                log.error("Failed to copy resources", e);
                             }
-                        });
-                    }
-                    for (Path i : seen) {
-                        moduleResources.remove(i);
-                        if (!Files.isDirectory(i)) {
-                            Files.delete(i);
+                        }
+                    } else {
+                        final Set<Path> seen = new HashSet<>(moduleResources);
+                        //since the stream is Closeable, use a try with resources so the underlying iterator is closed
+                        try (final Stream<Path> walk = Files.walk(root)) {
+                            walk.forEach(path -> {
+                                seen.remove(outputDir.resolve(root.relativize(path)));
+                                copyResource(module, root, outputDir, path, moduleResources, ret);
+                            });
+                        }
+                        for (Path i : seen) {
+                            moduleResources.remove(i);
+                            if (!Files.isDirectory(i)) {
+                                Files.delete(i);
+                            }
                         }
                     }
                 } catch (IOException e) {
@@ -477,6 +518,35 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
         return ret;
     }
 
+    private void copyResource(DevModeContext.ModuleInfo module, Path root, Path outputDir, Path path,
+            Set<Path> moduleResources, Set<String> changed) {
+        try {
+            Path relative = root.relativize(path);
+            Path target = outputDir.resolve(relative);
+            if (!watchedFileTimestamps.containsKey(path)) {
+                moduleResources.add(target);
+                if (!Files.exists(target) || Files.getLastModifiedTime(target).toMillis() < Files
+                        .getLastModifiedTime(path).toMillis()) {
+                    if (Files.isDirectory(path)) {
+                        Files.createDirectories(target);
+                    } else {
+                        Files.createDirectories(target.getParent());
+                        changed.add(relative.toString());
+                        byte[] data = Files.readAllBytes(path);
+                        try (FileOutputStream out = new FileOutputStream(target.toFile())) {
+                            out.write(data);
+                        }
+                        if (copyResourceNotification != null) {
+                            copyResourceNotification.accept(module, relative.toString());
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to copy resources", e);
+        }
+    }
+
     private boolean sourceFileWasRecentModified(final Path sourcePath, boolean ignoreFirstScanChanges) {
         return checkIfFileModified(sourcePath, sourceFileTimestamps, ignoreFirstScanChanges);
     }
@@ -550,6 +620,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     @Override
     public void close() throws IOException {
         compiler.close();
+        fileChangeTracker.close();
         FSWatchUtil.shutdown();
     }
 }
@@ -102,6 +102,17 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> userProvidersDirectory;
 
+    /**
+     * If this is true the jars in the fast-jar and mutable-jar layouts are written with their entries stored
+     * uncompressed, and the runner class loader will memory map them and load classes directly from the mapped
+     * files instead of inflating every entry.
+     *
+     * This trades a bigger application on disk for faster class loading, and is considered experimental for the
+     * time being.
+     */
+    @ConfigItem
+    public boolean uncompressedJars;
+
     public boolean isAnyJarType() {
         return (type.equalsIgnoreCase(PackageConfig.LEGACY) ||
                 type.equalsIgnoreCase(PackageConfig.JAR) ||
@@ -22,6 +22,8 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,7 +35,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -141,6 +150,7 @@ public class JarResultBuildStep {
     public static final String QUARKUS = "quarkus";
     public static final String DEFAULT_FAST_JAR_DIRECTORY_NAME = "quarkus-app";
     public static final String RENAMED_JAR_EXTENSION = ".jar.original";
+    public static final String DEPENDENCY_DIGESTS = "dependency-digests.properties";
 
     @BuildStep
     OutputTargetBuildItem outputTarget(BuildSystemTargetBuildItem bst, PackageConfig packageConfig) {
@@ -464,7 +474,8 @@ public class JarResultBuildStep {
             userProviders = buildDir.resolve(packageConfig.userProvidersDirectory.get());
         }
         if (!rebuild) {
-            IoUtils.createOrEmptyDir(buildDir);
+            //the lib directory is kept so that unchanged dependencies do not need to be written again
+            emptyDirExcept(buildDir, libDir);
             Files.createDirectories(mainLib);
             Files.createDirectories(baseLib);
             Files.createDirectories(appDir);
@@ -487,7 +498,7 @@ public class JarResultBuildStep {
         if (!transformedClasses.getTransformedClassesByJar().isEmpty()) {
             Path transformedZip = quarkus.resolve(TRANSFORMED_BYTECODE_JAR);
             jars.add(transformedZip);
-            try (FileSystem out = ZipUtils.newZip(transformedZip)) {
+            try (FileSystem out = ZipUtils.newZip(transformedZip, !packageConfig.uncompressedJars)) {
                 for (Set<TransformedClassesBuildItem.TransformedClass> transformedSet : transformedClasses
                         .getTransformedClassesByJar().values()) {
                     for (TransformedClassesBuildItem.TransformedClass transformed : transformedSet) {
@@ -503,7 +514,7 @@ public class JarResultBuildStep {
         //now generated classes and resources
         Path generatedZip = quarkus.resolve(GENERATED_BYTECODE_JAR);
         jars.add(generatedZip);
-        try (FileSystem out = ZipUtils.newZip(generatedZip)) {
+        try (FileSystem out = ZipUtils.newZip(generatedZip, !packageConfig.uncompressedJars)) {
             for (GeneratedClassBuildItem i : generatedClasses) {
                 String fileName = i.getName().replace(".", "/") + ".class";
                 Path target = out.getPath(fileName);
@@ -529,7 +540,7 @@ public class JarResultBuildStep {
         if (!rebuild) {
             Set<String> finalIgnoredEntries = new HashSet<>(IGNORED_ENTRIES);
             packageConfig.userConfiguredIgnoredEntries.ifPresent(finalIgnoredEntries::addAll);
-            try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
+            try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar, !packageConfig.uncompressedJars)) {
                 for (Path root : applicationArchivesBuildItem.getRootArchive().getRootDirs()) {
                     copyFiles(root, runnerZipFs, null, finalIgnoredEntries);
                 }
@@ -537,15 +548,45 @@ public class JarResultBuildStep {
         }
 
         StringBuilder classPath = new StringBuilder();
-        for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getUserDependencies()) {
-            if (rebuild) {
-                jars.addAll(appDep.getArtifact().getPaths().toList());
-            } else {
-                copyDependency(curateOutcomeBuildItem, copiedArtifacts, mainLib, baseLib, jars, true, classPath, appDep);
+        Path dependencyDigests;
+        try (DependencyCopier copier = new DependencyCopier(libDir)) {
+            dependencyDigests = copier.digestsFile();
+            for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getUserDependencies()) {
+                if (rebuild) {
+                    jars.addAll(appDep.getArtifact().getPaths().toList());
+                } else {
+                    copyDependency(curateOutcomeBuildItem, copiedArtifacts, mainLib, baseLib, jars, true, classPath, appDep,
+                            packageConfig.uncompressedJars, copier);
+                }
+                if (curateOutcomeBuildItem.getEffectiveModel().getParentFirstArtifacts()
+                        .contains(appDep.getArtifact().getKey())) {
+                    bootJars.addAll(appDep.getArtifact().getPaths().toList());
+                }
             }
-            if (curateOutcomeBuildItem.getEffectiveModel().getParentFirstArtifacts()
-                    .contains(appDep.getArtifact().getKey())) {
-                bootJars.addAll(appDep.getArtifact().getPaths().toList());
+            if (!rebuild && packageConfig.type.equalsIgnoreCase(PackageConfig.MUTABLE_JAR)) {
+                Path deploymentLib = libDir.resolve(DEPLOYMENT_LIB);
+                Files.createDirectories(deploymentLib);
+                for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getFullDeploymentDeps()) {
+                    //the deployment jars are not part of the runtime class path
+                    copyDependency(curateOutcomeBuildItem, copiedArtifacts, deploymentLib, baseLib, new ArrayList<>(), false,
+                            classPath, appDep, false, copier);
+                }
+            }
+            copier.await();
+        }
+        if (!rebuild) {
+            //remove the dependencies left over from previous builds
+            Set<Path> current = new HashSet<>();
+            for (List<Path> paths : copiedArtifacts.values()) {
+                current.addAll(paths);
+            }
+            current.add(dependencyDigests);
+            try (Stream<Path> files = Files.walk(libDir)) {
+                for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                    if (!current.contains(file)) {
+                        Files.delete(file);
+                    }
+                }
             }
         }
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchiveBuildItems) {
@@ -560,7 +601,8 @@ public class JarResultBuildStep {
         }
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
-            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars);
+            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars,
+                    packageConfig.uncompressedJars);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -577,12 +619,6 @@ public class JarResultBuildStep {
             if (packageConfig.type.equalsIgnoreCase(PackageConfig.MUTABLE_JAR)) {
 
                 Path deploymentLib = libDir.resolve(DEPLOYMENT_LIB);
-                Files.createDirectories(deploymentLib);
-                for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getFullDeploymentDeps()) {
-                    copyDependency(curateOutcomeBuildItem, copiedArtifacts, deploymentLib, baseLib, jars, false, classPath,
-                            appDep);
-                }
-
                 Map<AppArtifactKey, List<String>> relativePaths = new HashMap<>();
                 for (Map.Entry<AppArtifactKey, List<Path>> e : copiedArtifacts.entrySet()) {
                     relativePaths.put(e.getKey(),
@@ -638,9 +674,28 @@ public class JarResultBuildStep {
         return new JarBuildItem(initJar, null, libDir, packageConfig.type, null);
     }
 
+    private static void emptyDirExcept(Path dir, Path keep) throws IOException {
+        if (!Files.exists(dir)) {
+            Files.createDirectories(dir);
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : files.collect(Collectors.toList())) {
+                if (p.equals(keep)) {
+                    continue;
+                }
+                if (Files.isDirectory(p)) {
+                    IoUtils.recursiveDelete(p);
+                } else {
+                    Files.delete(p);
+                }
+            }
+        }
+    }
+
     private void copyDependency(CurateOutcomeBuildItem curateOutcomeBuildItem, Map<AppArtifactKey, List<Path>> runtimeArtifacts,
-            Path libDir, Path baseLib, List<Path> jars, boolean allowParentFirst, StringBuilder classPath, AppDependency appDep)
-            throws IOException {
+            Path libDir, Path baseLib, List<Path> jars, boolean allowParentFirst, StringBuilder classPath, AppDependency appDep,
+            boolean uncompressed, DependencyCopier copier) {
         final AppArtifact depArtifact = appDep.getArtifact();
 
         // Exclude files that are not jars (typically, we can have XML files here, see https://github.com/quarkusio/quarkus/issues/2852)
@@ -656,13 +711,13 @@ public class JarResultBuildStep {
                         .contains(depArtifact.getKey())) {
                     final String fileName = depArtifact.getGroupId() + "." + resolvedDep.getFileName();
                     final Path targetPath = baseLib.resolve(fileName);
-                    Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                    copier.copyJar(resolvedDep, targetPath, false);
                     classPath.append(" ").append(LIB).append("/").append(BOOT_LIB).append("/").append(fileName);
                     runtimeArtifacts.computeIfAbsent(depArtifact.getKey(), (s) -> new ArrayList<>()).add(targetPath);
                 } else {
                     final String fileName = depArtifact.getGroupId() + "." + resolvedDep.getFileName();
                     final Path targetPath = libDir.resolve(fileName);
-                    Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                    copier.copyJar(resolvedDep, targetPath, uncompressed);
                     jars.add(targetPath);
                     runtimeArtifacts.computeIfAbsent(depArtifact.getKey(), (s) -> new ArrayList<>()).add(targetPath);
                 }
@@ -676,22 +731,205 @@ public class JarResultBuildStep {
                 final Path targetPath = libDir.resolve(fileName);
                 runtimeArtifacts.computeIfAbsent(depArtifact.getKey(), (s) -> new ArrayList<>()).add(targetPath);
                 jars.add(targetPath);
-                try (FileSystem runnerZipFs = ZipUtils.newZip(targetPath)) {
-                    Files.walkFileTree(resolvedDep, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
-                            new SimpleFileVisitor<Path>() {
-                                @Override
-                                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
-                                        throws IOException {
-                                    final Path relativePath = resolvedDep.relativize(file);
-                                    final Path targetPath = runnerZipFs.getPath(relativePath.toString());
-                                    if (targetPath.getParent() != null) {
-                                        Files.createDirectories(targetPath.getParent());
+                copier.zipDirectory(resolvedDep, targetPath, uncompressed);
+            }
+        }
+    }
+
+    /**
+     * Copies dependencies into the fast-jar lib directories in parallel.
+     *
+     * The lib directories are kept between builds, and a jar is only written if the existing file is not already a copy
+     * of the same content. The SHA-256 digest of the source of every copy is recorded in the {@link #DEPENDENCY_DIGESTS}
+     * file, together with the size and modification time of the copy, so that an unchanged dependency is detected by
+     * reading the source once, and the copy is not read at all.
+     */
+    private static final class DependencyCopier implements AutoCloseable {
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        private final List<Future<Boolean>> copies = new ArrayList<>();
+        private final Map<Path, Path> sources = new HashMap<>();
+        private final Map<String, String> digests = new ConcurrentHashMap<>();
+        private final Properties previousDigests = new Properties();
+        private final Path libDir;
+        private final Path digestsFile;
+
+        DependencyCopier(Path libDir) throws IOException {
+            this.libDir = libDir;
+            this.digestsFile = libDir.resolve(DEPENDENCY_DIGESTS);
+            if (Files.isRegularFile(digestsFile)) {
+                try (InputStream in = Files.newInputStream(digestsFile)) {
+                    previousDigests.load(in);
+                } catch (IllegalArgumentException e) {
+                    //a damaged file only means that all the dependencies are written again
+                }
+            }
+        }
+
+        Path digestsFile() {
+            return digestsFile;
+        }
+
+        void copyJar(Path source, Path target, boolean uncompressed) {
+            if (!claim(source, target)) {
+                return;
+            }
+            String key = libDir.relativize(target).toString().replace('\\', '/');
+            copies.add(executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    //the uncompressed copy of a jar is not the same file as its plain copy
+                    String sourceDigest = digest(source) + (uncompressed ? ":uncompressed" : "");
+                    String recorded = previousDigests.getProperty(key);
+                    if (recorded != null && isRecordedCopy(recorded, sourceDigest, target)) {
+                        digests.put(key, recorded);
+                        return false;
+                    }
+                    if (uncompressed) {
+                        copyUncompressed(source, target);
+                    } else {
+                        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    digests.put(key, sourceDigest + " " + Files.size(target) + " "
+                            + Files.getLastModifiedTime(target).toMillis());
+                    return true;
+                }
+            }));
+        }
+
+        void zipDirectory(Path source, Path target, boolean uncompressed) {
+            if (!claim(source, target)) {
+                return;
+            }
+            copies.add(executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    Files.deleteIfExists(target);
+                    try (FileSystem runnerZipFs = ZipUtils.newZip(target, !uncompressed)) {
+                        Files.walkFileTree(source, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                                new SimpleFileVisitor<Path>() {
+                                    @Override
+                                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                                            throws IOException {
+                                        final Path relativePath = source.relativize(file);
+                                        final Path targetPath = runnerZipFs.getPath(relativePath.toString());
+                                        if (targetPath.getParent() != null) {
+                                            Files.createDirectories(targetPath.getParent());
+                                        }
+                                        Files.copy(file, targetPath, StandardCopyOption.REPLACE_EXISTING); //replace only needed for testing
+                                        return FileVisitResult.CONTINUE;
                                     }
-                                    Files.copy(file, targetPath, StandardCopyOption.REPLACE_EXISTING); //replace only needed for testing
-                                    return FileVisitResult.CONTINUE;
-                                }
-                            });
+                                });
+                    }
+                    return true;
+                }
+            }));
+        }
+
+        /**
+         * Two copies must never write the same file concurrently, so a target is only copied once.
+         */
+        private boolean claim(Path source, Path target) {
+            Path previous = sources.putIfAbsent(target, source);
+            if (previous == null) {
+                return true;
+            }
+            if (!previous.equals(source)) {
+                log.warnf("Both %s and %s are copied to %s, only the first one is kept", previous, source, target);
+            }
+            return false;
+        }
+
+        void await() throws IOException, InterruptedException {
+            if (copies.isEmpty()) {
+                return;
+            }
+            //only written back once all the copies are complete
+            Files.deleteIfExists(digestsFile);
+            int written = 0;
+            for (Future<Boolean> copy : copies) {
+                try {
+                    if (copy.get()) {
+                        written++;
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    }
+                    throw new RuntimeException("Failed to copy dependency", e.getCause());
+                }
+            }
+            log.debugf("Wrote %d dependencies, %d were unchanged", written, copies.size() - written);
+            copies.clear();
+            Properties recorded = new Properties();
+            recorded.putAll(digests);
+            try (OutputStream out = Files.newOutputStream(digestsFile)) {
+                recorded.store(out, "The digests of the dependencies copied to this directory");
+            }
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A recorded copy is reused if it was made from a source with the same digest, and if it has not been modified since.
+     */
+    private static boolean isRecordedCopy(String recorded, String sourceDigest, Path target) throws IOException {
+        String[] parts = recorded.split(" ");
+        return parts.length == 3 && parts[0].equals(sourceDigest) && Files.isRegularFile(target)
+                && Long.toString(Files.size(target)).equals(parts[1])
+                && Long.toString(Files.getLastModifiedTime(target).toMillis()).equals(parts[2]);
+    }
+
+    private static String digest(Path file) throws IOException {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            try (InputStream in = Files.newInputStream(file)) {
+                int r;
+                while ((r = in.read(buffer)) > 0) {
+                    md.update(buffer, 0, r);
+                }
+            }
+            byte[] digest = md.digest();
+            StringBuilder sb = new StringBuilder(64);
+            for (int i = 0; i < digest.length; ++i) {
+                sb.append(Integer.toHexString((digest[i] & 0xFF) | 0x100).substring(1, 3));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Rewrites a dependency jar with all its entries stored uncompressed, so they can be read directly from a memory
+     * mapped file at runtime. Entry order and contents are preserved, so signatures are still valid.
+     */
+    private static void copyUncompressed(Path source, Path target) throws IOException {
+        try (ZipFile in = new ZipFile(source.toFile());
+                ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(target))) {
+            byte[] buffer = new byte[8192];
+            Enumeration<? extends ZipEntry> entries = in.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                ZipEntry stored = new ZipEntry(entry.getName());
+                stored.setMethod(ZipEntry.STORED);
+                stored.setTime(entry.getTime());
+                stored.setSize(entry.getSize());
+                stored.setCompressedSize(entry.getSize());
+                stored.setCrc(entry.getCrc());
+                out.putNextEntry(stored);
+                try (InputStream data = in.getInputStream(entry)) {
+                    int r;
+                    while ((r = data.read(buffer)) > 0) {
+                        out.write(buffer, 0, r);
+                    }
                 }
+                out.closeEntry();
             }
         }
     }
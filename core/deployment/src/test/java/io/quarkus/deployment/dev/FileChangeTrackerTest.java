@@ -0,0 +1,89 @@
+package io.quarkus.deployment.dev;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileChangeTrackerTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void disabledAlwaysRequiresFullScan() throws Exception {
+        try (FileChangeTracker tracker = new FileChangeTracker(false)) {
+            assertNull(tracker.getChangedFiles(root));
+            assertNull(tracker.getChangedFiles(root));
+        }
+    }
+
+    @Test
+    void reportsChangedFiles() throws Exception {
+        Path existing = Files.write(root.resolve("existing.txt"), new byte[] { 1 });
+        try (FileChangeTracker tracker = new FileChangeTracker(true)) {
+            // the first query always requires a full scan
+            assertNull(tracker.getChangedFiles(root));
+            Set<Path> changes = tracker.getChangedFiles(root);
+            if (changes == null) {
+                // no native watch service on this platform
+                return;
+            }
+            assertTrue(changes.isEmpty());
+
+            Path dir = Files.createDirectories(root.resolve("dir"));
+            Path created = Files.write(dir.resolve("created.txt"), new byte[] { 2 });
+            Files.delete(existing);
+
+            changes = awaitChanges(tracker, created, existing);
+            assertTrue(changes.contains(created), changes::toString);
+            assertTrue(changes.contains(existing), changes::toString);
+        }
+    }
+
+    @Test
+    void reportsFilesOfDeletedDirectories() throws Exception {
+        Path dir = Files.createDirectories(root.resolve("dir/nested"));
+        Path file = Files.write(dir.resolve("file.txt"), new byte[] { 1 });
+        try (FileChangeTracker tracker = new FileChangeTracker(true)) {
+            assertNull(tracker.getChangedFiles(root));
+            if (tracker.getChangedFiles(root) == null) {
+                // no native watch service on this platform
+                return;
+            }
+
+            // moving the directory only produces an event for the directory itself
+            Path moved = Files.move(root.resolve("dir"), root.resolve("moved"));
+
+            Set<Path> changes = awaitChanges(tracker, file, moved.resolve("nested/file.txt"));
+            assertTrue(changes.contains(dir), changes::toString);
+            assertTrue(changes.contains(file), changes::toString);
+            assertTrue(changes.contains(moved.resolve("nested/file.txt")), changes::toString);
+        }
+    }
+
+    private Set<Path> awaitChanges(FileChangeTracker tracker, Path... expected) throws InterruptedException {
+        Set<Path> changes = new HashSet<>();
+        for (int i = 0; i < 100; ++i) {
+            Set<Path> current = tracker.getChangedFiles(root);
+            if (current != null) {
+                changes.addAll(current);
+            }
+            boolean all = true;
+            for (Path p : expected) {
+                all &= changes.contains(p);
+            }
+            if (all) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        return changes;
+    }
+}
@@ -17,6 +17,14 @@ public class LiveReloadConfig {
     @ConfigItem
     public Optional<List<String>> watchedResources;
 
+    /**
+     * If the changed files are detected with the file system watch service, so that a scan only looks at the files which
+     * changed. If disabled, or if the platform only provides a polling watch service, every scan walks all the source,
+     * class and resource directories.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean watchService;
+
     /**
      * Password used to use to connect to the remote dev-mode application
      */
@@ -5,6 +5,7 @@ import java.util.List;
 import org.wildfly.security.auth.server.SecurityRealm;
 
 import io.quarkus.agroal.spi.JdbcDataSourceBuildItem;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
@@ -14,11 +15,14 @@ import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.elytron.security.deployment.ElytronPasswordMarkerBuildItem;
 import io.quarkus.elytron.security.deployment.SecurityRealmBuildItem;
 import io.quarkus.elytron.security.jdbc.JdbcRecorder;
 import io.quarkus.elytron.security.jdbc.JdbcSecurityRealmBuildTimeConfig;
 import io.quarkus.elytron.security.jdbc.JdbcSecurityRealmRuntimeConfig;
+import io.quarkus.elytron.security.jdbc.ReactiveJdbcIdentityProvider;
+import io.quarkus.elytron.security.jdbc.ReactiveJdbcTrustedIdentityProvider;
 import io.quarkus.runtime.RuntimeValue;
 
 class ElytronSecurityJdbcProcessor {
@@ -47,7 +51,7 @@ class ElytronSecurityJdbcProcessor {
             BuildProducer<SecurityRealmBuildItem> securityRealm,
             BeanContainerBuildItem beanContainerBuildItem, //we need this to make sure ArC is initialized
             List<JdbcDataSourceBuildItem> dataSourcesConfigured) throws Exception {
-        if (!jdbcSecurityRealmBuildTimeConfig.enabled) {
+        if (!jdbcSecurityRealmBuildTimeConfig.enabled || jdbcSecurityRealmBuildTimeConfig.reactive) {
             return;
         }
 
@@ -55,9 +59,34 @@ class ElytronSecurityJdbcProcessor {
         securityRealm.produce(new SecurityRealmBuildItem(realm, jdbcSecurityRealmBuildTimeConfig.realmName, null));
     }
 
+    /**
+     * Register the identity providers running the principal queries with the reactive SQL client, instead of the
+     * blocking Elytron realm.
+     */
+    @BuildStep
+    void reactiveIdentityProviders(JdbcSecurityRealmBuildTimeConfig jdbcSecurityRealmBuildTimeConfig,
+            BuildProducer<AdditionalBeanBuildItem> beans) {
+        if (jdbcSecurityRealmBuildTimeConfig.enabled && jdbcSecurityRealmBuildTimeConfig.reactive) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(ReactiveJdbcIdentityProvider.class));
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(ReactiveJdbcTrustedIdentityProvider.class));
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureReactiveRealm(JdbcRecorder recorder,
+            JdbcSecurityRealmBuildTimeConfig jdbcSecurityRealmBuildTimeConfig,
+            JdbcSecurityRealmRuntimeConfig jdbcSecurityRealmRuntimeConfig,
+            BeanContainerBuildItem beanContainerBuildItem, //we need this to make sure ArC is initialized
+            ShutdownContextBuildItem shutdown) {
+        if (jdbcSecurityRealmBuildTimeConfig.enabled && jdbcSecurityRealmBuildTimeConfig.reactive) {
+            recorder.setupReactiveRealm(jdbcSecurityRealmRuntimeConfig, shutdown);
+        }
+    }
+
     @BuildStep
     ElytronPasswordMarkerBuildItem marker(JdbcSecurityRealmBuildTimeConfig jdbcSecurityRealmBuildTimeConfig) {
-        if (!jdbcSecurityRealmBuildTimeConfig.enabled) {
+        if (!jdbcSecurityRealmBuildTimeConfig.enabled || jdbcSecurityRealmBuildTimeConfig.reactive) {
             return null;
         }
         return new ElytronPasswordMarkerBuildItem();
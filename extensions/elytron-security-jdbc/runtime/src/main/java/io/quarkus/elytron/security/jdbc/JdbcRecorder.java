@@ -1,6 +1,13 @@
 package io.quarkus.elytron.security.jdbc;
 
 import java.security.Provider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import javax.sql.DataSource;
@@ -13,8 +20,11 @@ import org.wildfly.security.auth.server.SecurityRealm;
 import org.wildfly.security.password.WildFlyElytronPasswordProvider;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.elytron.security.runtime.DefaultRoleDecoder;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.sqlclient.Pool;
 
 @Recorder
 public class JdbcRecorder {
@@ -42,6 +52,55 @@ public class JdbcRecorder {
         return new RuntimeValue<>(builder.build());
     }
 
+    /**
+     * Set up the {@linkplain ReactiveJdbcRealm} of the identity providers, running the principal queries with the reactive
+     * SQL client.
+     *
+     * @param config - the realm config
+     */
+    public void setupReactiveRealm(JdbcSecurityRealmRuntimeConfig config, ShutdownContext shutdownContext) {
+        List<PrincipalQueryConfig> principalQueries = new ArrayList<>();
+        principalQueries.add(config.principalQueries.defaultPrincipalQuery);
+        principalQueries.addAll(config.principalQueries.namedPrincipalQueries.values());
+        for (PrincipalQueryConfig principalQuery : principalQueries) {
+            if (!principalQuery.sql.isPresent()) {
+                throw new IllegalStateException("quarkus.security.jdbc.principal-query.sql property must be set");
+            }
+            if (principalQuery.datasource.isPresent()) {
+                throw new IllegalStateException(
+                        "quarkus.security.jdbc.principal-query.datasource is not supported by the reactive realm");
+            }
+        }
+        if (!Arc.container().select(Pool.class).isResolvable()) {
+            throw new IllegalStateException(
+                    "quarkus.security.jdbc.reactive requires a reactive SQL client, such as quarkus-reactive-pg-client");
+        }
+
+        int poolSize = config.passwordHashing.poolSize.orElse(Runtime.getRuntime().availableProcessors());
+        ThreadPoolExecutor hashingExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.passwordHashing.queueSize), new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "jdbc-realm-password-hashing-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        shutdownContext.addShutdownTask(hashingExecutor::shutdownNow);
+
+        Supplier<Pool> pool = new Supplier<Pool>() {
+            @Override
+            public Pool get() {
+                return Arc.container().instance(Pool.class).get();
+            }
+        };
+        ReactiveJdbcRealm realm = new ReactiveJdbcRealm(pool, principalQueries, hashingExecutor,
+                Arc.container().instance(DefaultRoleDecoder.class).get());
+        Arc.container().instance(ReactiveJdbcIdentityProvider.class).get().setRealm(realm);
+    }
+
     private void registerPrincipalQuery(PrincipalQueryConfig principalQuery, JdbcSecurityRealmBuilder builder) {
 
         QueryBuilder queryBuilder = builder.principalQuery(principalQuery.sql.orElseThrow(
@@ -23,11 +23,22 @@ public class JdbcSecurityRealmBuildTimeConfig {
     @ConfigItem
     public boolean enabled;
 
+    /**
+     * If the principal queries are run with the reactive SQL client of the application rather than with a JDBC
+     * datasource. The credentials are then checked without blocking a worker thread, the password hashes being verified
+     * by a dedicated bounded pool.
+     * The queries must use the parameter placeholder of the reactive SQL client, for example `$1` for PostgreSQL, and
+     * the `datasource` of the queries is not supported.
+     */
+    @ConfigItem
+    public boolean reactive;
+
     @Override
     public String toString() {
         return "JdbcRealmConfig{" +
                 ", realmName='" + realmName + '\'' +
                 ", enabled=" + enabled +
+                ", reactive=" + reactive +
                 '}';
     }
 }
@@ -18,10 +18,17 @@ public class JdbcSecurityRealmRuntimeConfig {
     public PrincipalQueriesConfig principalQueries;
     //  https://github.com/wildfly/wildfly-core/blob/master/elytron/src/test/resources/org/wildfly/extension/elytron/security-realms.xml#L18
 
+    /**
+     * The pool verifying the password hashes when the realm is reactive
+     */
+    @ConfigItem
+    public PasswordHashingConfig passwordHashing;
+
     @Override
     public String toString() {
         return "JdbcRealmConfig{" +
                 "principalQueries=" + principalQueries +
+                ", passwordHashing=" + passwordHashing +
                 '}';
     }
 }
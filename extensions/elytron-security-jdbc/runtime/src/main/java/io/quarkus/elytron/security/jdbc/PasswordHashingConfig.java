@@ -0,0 +1,34 @@
+package io.quarkus.elytron.security.jdbc;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Configuration of the bounded pool verifying the password hashes of the reactive realm
+ */
+@ConfigGroup
+public class PasswordHashingConfig {
+
+    /**
+     * The number of threads verifying the password hashes, the number of processors by default
+     */
+    @ConfigItem
+    public OptionalInt poolSize;
+
+    /**
+     * The maximum number of password verifications waiting for a thread. Further authentications fail, rather than
+     * letting a burst of logins hold more memory or delay the requests of the other endpoints.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int queueSize;
+
+    @Override
+    public String toString() {
+        return "PasswordHashingConfig{" +
+                "poolSize=" + poolSize +
+                ", queueSize=" + queueSize +
+                '}';
+    }
+}
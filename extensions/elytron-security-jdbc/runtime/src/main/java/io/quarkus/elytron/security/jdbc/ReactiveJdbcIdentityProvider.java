@@ -0,0 +1,37 @@
+package io.quarkus.elytron.security.jdbc;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Authenticates the usernames and passwords with the {@link ReactiveJdbcRealm}, without blocking.
+ */
+@ApplicationScoped
+public class ReactiveJdbcIdentityProvider implements IdentityProvider<UsernamePasswordAuthenticationRequest> {
+
+    private volatile ReactiveJdbcRealm realm;
+
+    @Override
+    public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+        return UsernamePasswordAuthenticationRequest.class;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+            AuthenticationRequestContext context) {
+        return realm.authenticate(request.getUsername(), request.getPassword());
+    }
+
+    public ReactiveJdbcRealm getRealm() {
+        return realm;
+    }
+
+    public void setRealm(ReactiveJdbcRealm realm) {
+        this.realm = realm;
+    }
+}
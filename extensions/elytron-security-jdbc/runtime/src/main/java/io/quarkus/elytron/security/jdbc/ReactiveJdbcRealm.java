@@ -0,0 +1,313 @@
+package io.quarkus.elytron.security.jdbc;
+
+import java.security.GeneralSecurityException;
+import java.security.Provider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+import org.wildfly.common.codec.Base64Alphabet;
+import org.wildfly.common.iteration.CodePointIterator;
+import org.wildfly.security.auth.realm.jdbc.mapper.PasswordKeyMapper;
+import org.wildfly.security.authz.AuthorizationIdentity;
+import org.wildfly.security.authz.MapAttributes;
+import org.wildfly.security.password.Password;
+import org.wildfly.security.password.PasswordFactory;
+import org.wildfly.security.password.WildFlyElytronPasswordProvider;
+import org.wildfly.security.password.interfaces.ClearPassword;
+import org.wildfly.security.password.spec.ClearPasswordSpec;
+import org.wildfly.security.password.spec.IteratedSaltedHashPasswordSpec;
+import org.wildfly.security.password.util.ModularCrypt;
+
+import io.quarkus.elytron.security.runtime.DefaultRoleDecoder;
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Runs the principal queries with the reactive SQL client, rather than with the blocking Elytron
+ * {@linkplain org.wildfly.security.auth.realm.jdbc.JdbcSecurityRealm}.
+ * <p>
+ * The queries run on the event loop and the clear passwords are compared there. The password hashes are verified by a
+ * bounded executor, and the result is then passed back to the Vert.x context of the request.
+ */
+public class ReactiveJdbcRealm {
+
+    private static final Logger log = Logger.getLogger(ReactiveJdbcRealm.class);
+
+    private static final Provider[] PROVIDERS = new Provider[] { new WildFlyElytronPasswordProvider() };
+    private static final Supplier<Provider[]> PROVIDERS_SUPPLIER = new Supplier<Provider[]>() {
+        @Override
+        public Provider[] get() {
+            return PROVIDERS;
+        }
+    };
+
+    /*
+     * The failures of the queries and of the password verifications are reported as failed authentications, like the
+     * blocking realm does, rather than as server errors
+     */
+    private static final Predicate<Throwable> UNEXPECTED_FAILURE = new Predicate<Throwable>() {
+        @Override
+        public boolean test(Throwable failure) {
+            return !(failure instanceof AuthenticationFailedException);
+        }
+    };
+    private static final Function<Throwable, Throwable> AUTHENTICATION_FAILURE = new Function<Throwable, Throwable>() {
+        @Override
+        public Throwable apply(Throwable failure) {
+            log.debug("Authentication failed", failure);
+            return new AuthenticationFailedException(failure);
+        }
+    };
+
+    private final Supplier<Pool> poolSupplier;
+    private volatile Pool pool;
+    private final List<PrincipalQueryConfig> principalQueries;
+    private final Executor hashingExecutor;
+    private final DefaultRoleDecoder roleDecoder;
+
+    /**
+     * @param pool supplies the pool of the reactive SQL client, which is only looked up for the first authentication
+     */
+    public ReactiveJdbcRealm(Supplier<Pool> pool, List<PrincipalQueryConfig> principalQueries, Executor hashingExecutor,
+            DefaultRoleDecoder roleDecoder) {
+        this.poolSupplier = pool;
+        this.principalQueries = principalQueries;
+        this.hashingExecutor = hashingExecutor;
+        this.roleDecoder = roleDecoder;
+    }
+
+    /**
+     * @return the identity of the user, failing with an {@link AuthenticationFailedException} if the user is unknown,
+     *         the password does not match or the user could not be checked
+     */
+    public Uni<SecurityIdentity> authenticate(String username, PasswordCredential credential) {
+        return findPrincipal(username).flatMap(new Function<PrincipalEntry, Uni<? extends SecurityIdentity>>() {
+            @Override
+            public Uni<? extends SecurityIdentity> apply(PrincipalEntry entry) {
+                if (entry == null || entry.password == null) {
+                    return Uni.createFrom().failure(new AuthenticationFailedException());
+                }
+                return verify(entry.password, credential.getPassword())
+                        .map(new Function<Boolean, SecurityIdentity>() {
+                            @Override
+                            public SecurityIdentity apply(Boolean verified) {
+                                if (!verified) {
+                                    throw new AuthenticationFailedException();
+                                }
+                                return createIdentity(username, entry, credential);
+                            }
+                        });
+            }
+        }).onFailure(UNEXPECTED_FAILURE).transform(AUTHENTICATION_FAILURE);
+    }
+
+    /**
+     * @return the identity of the user, without any credential check, or {@code null} if the user is unknown
+     */
+    public Uni<SecurityIdentity> lookup(String username) {
+        return findPrincipal(username).map(new Function<PrincipalEntry, SecurityIdentity>() {
+            @Override
+            public SecurityIdentity apply(PrincipalEntry entry) {
+                return entry == null ? null : createIdentity(username, entry, null);
+            }
+        }).onFailure(UNEXPECTED_FAILURE).transform(AUTHENTICATION_FAILURE);
+    }
+
+    private SecurityIdentity createIdentity(String username, PrincipalEntry entry, PasswordCredential credential) {
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder();
+        builder.setPrincipal(new QuarkusPrincipal(username));
+        for (String role : roleDecoder.decodeRoles(AuthorizationIdentity.basicIdentity(entry.attributes))) {
+            builder.addRole(role);
+        }
+        if (credential != null) {
+            builder.addCredential(credential);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Runs all the principal queries, the attributes of which are merged.
+     *
+     * @return the principal, or {@code null} if no query returned a row
+     */
+    private Uni<PrincipalEntry> findPrincipal(String username) {
+        List<Uni<RowSet<Row>>> queries = new ArrayList<>(principalQueries.size());
+        for (PrincipalQueryConfig principalQuery : principalQueries) {
+            queries.add(execute(principalQuery.sql.get(), username));
+        }
+        Function<List<?>, PrincipalEntry> toEntry = new Function<List<?>, PrincipalEntry>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public PrincipalEntry apply(List<?> rowSets) {
+                PrincipalEntry entry = new PrincipalEntry();
+                boolean found = false;
+                for (int i = 0; i < rowSets.size(); i++) {
+                    for (Row row : (RowSet<Row>) rowSets.get(i)) {
+                        found = true;
+                        entry.map(principalQueries.get(i), row);
+                    }
+                }
+                return found ? entry : null;
+            }
+        };
+        if (queries.size() == 1) {
+            return queries.get(0).map(new Function<RowSet<Row>, PrincipalEntry>() {
+                @Override
+                public PrincipalEntry apply(RowSet<Row> rows) {
+                    List<RowSet<Row>> rowSets = new ArrayList<>(1);
+                    rowSets.add(rows);
+                    return toEntry.apply(rowSets);
+                }
+            });
+        }
+        return Uni.combine().all().unis(queries).combinedWith(toEntry);
+    }
+
+    private Uni<RowSet<Row>> execute(String sql, String username) {
+        Pool client = pool();
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super RowSet<Row>>>() {
+            @Override
+            public void accept(UniEmitter<? super RowSet<Row>> emitter) {
+                client.preparedQuery(sql).execute(Tuple.of(username), result -> {
+                    if (result.succeeded()) {
+                        emitter.complete(result.result());
+                    } else {
+                        emitter.fail(result.cause());
+                    }
+                });
+            }
+        });
+    }
+
+    private Pool pool() {
+        Pool current = pool;
+        if (current == null) {
+            current = pool = poolSupplier.get();
+        }
+        return current;
+    }
+
+    private Uni<Boolean> verify(Password password, char[] guess) {
+        if (password instanceof ClearPassword) {
+            // cheap enough for the event loop
+            return Uni.createFrom().item(verifyNow(password, guess));
+        }
+        Context context = Vertx.currentContext();
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Boolean>>() {
+            @Override
+            public void accept(UniEmitter<? super Boolean> emitter) {
+                try {
+                    hashingExecutor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            boolean verified;
+                            try {
+                                verified = verifyNow(password, guess);
+                            } catch (Throwable t) {
+                                onContext(context, () -> emitter.fail(t));
+                                return;
+                            }
+                            onContext(context, () -> emitter.complete(verified));
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    log.debug("Too many password verifications are pending", e);
+                    emitter.fail(new AuthenticationFailedException(e));
+                }
+            }
+        });
+    }
+
+    private static void onContext(Context context, Runnable action) {
+        if (context == null) {
+            action.run();
+        } else {
+            context.runOnContext(v -> action.run());
+        }
+    }
+
+    private static boolean verifyNow(Password password, char[] guess) {
+        try {
+            PasswordFactory factory = PasswordFactory.getInstance(password.getAlgorithm(), PROVIDERS_SUPPLIER);
+            return factory.verify(factory.translate(password), guess);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to verify a password of algorithm " + password.getAlgorithm(), e);
+        }
+    }
+
+    /**
+     * The attributes and the password found by the principal queries
+     */
+    private static final class PrincipalEntry {
+
+        final MapAttributes attributes = new MapAttributes();
+        Password password;
+
+        void map(PrincipalQueryConfig principalQuery, Row row) {
+            for (AttributeMappingConfig mapping : principalQuery.attributeMappings.values()) {
+                Object value = row.getValue(mapping.index - 1);
+                if (value != null) {
+                    attributes.addLast(mapping.to, value.toString());
+                }
+            }
+            if (password != null) {
+                return;
+            }
+            try {
+                if (principalQuery.clearPasswordMapperConfig.enabled) {
+                    String clear = row.getString(principalQuery.clearPasswordMapperConfig.passwordIndex - 1);
+                    if (clear != null) {
+                        password = PasswordFactory.getInstance(ClearPassword.ALGORITHM_CLEAR, PROVIDERS_SUPPLIER)
+                                .generatePassword(new ClearPasswordSpec(clear.toCharArray()));
+                    }
+                } else if (principalQuery.bcryptPasswordKeyMapperConfig.enabled) {
+                    password = toBcryptPassword(principalQuery.bcryptPasswordKeyMapperConfig, row);
+                }
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Unable to read the password of the principal query", e);
+            }
+        }
+
+        private static Password toBcryptPassword(BcryptPasswordKeyMapperConfig config, Row row)
+                throws GeneralSecurityException {
+            String hash = row.getString(config.passwordIndex - 1);
+            if (hash == null) {
+                return null;
+            }
+            if (config.saltIndex <= 0 || config.iterationCountIndex <= 0) {
+                // the hash is in the modular crypt format, e.g. $2a$10$...
+                return ModularCrypt.decode(hash);
+            }
+            byte[] salt = decode(row.getString(config.saltIndex - 1), config.saltEncoding);
+            int iterationCount = ((Number) row.getValue(config.iterationCountIndex - 1)).intValue();
+            return PasswordFactory.getInstance(BcryptPasswordKeyMapperConfig.BCRYPT, PROVIDERS_SUPPLIER)
+                    .generatePassword(new IteratedSaltedHashPasswordSpec(decode(hash, config.hashEncoding), salt,
+                            iterationCount));
+        }
+
+        private static byte[] decode(String value, PasswordKeyMapper.Encoding encoding) {
+            if (encoding == PasswordKeyMapper.Encoding.HEX) {
+                return CodePointIterator.ofString(value).hexDecode().drain();
+            }
+            return CodePointIterator.ofString(value).base64Decode(Base64Alphabet.STANDARD, false).drain();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.elytron.security.jdbc;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TrustedAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Looks up the principals which have already been authenticated, e.g. by the form authentication, with the
+ * {@link ReactiveJdbcRealm}, without blocking.
+ */
+@ApplicationScoped
+public class ReactiveJdbcTrustedIdentityProvider implements IdentityProvider<TrustedAuthenticationRequest> {
+
+    @Inject
+    ReactiveJdbcIdentityProvider identityProvider;
+
+    @Override
+    public Class<TrustedAuthenticationRequest> getRequestType() {
+        return TrustedAuthenticationRequest.class;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(TrustedAuthenticationRequest request,
+            AuthenticationRequestContext context) {
+        return identityProvider.getRealm().lookup(request.getPrincipal());
+    }
+}
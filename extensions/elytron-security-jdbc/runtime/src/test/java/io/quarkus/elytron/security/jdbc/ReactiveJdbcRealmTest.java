@@ -0,0 +1,279 @@
+package io.quarkus.elytron.security.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.wildfly.security.auth.realm.jdbc.mapper.PasswordKeyMapper;
+import org.wildfly.security.authz.Attributes;
+import org.wildfly.security.authz.AuthorizationIdentity;
+import org.wildfly.security.authz.Roles;
+
+import io.quarkus.elytron.security.runtime.DefaultRoleDecoder;
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.VertxException;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+public class ReactiveJdbcRealmTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String CLEAR_QUERY = "SELECT password, role FROM test_user WHERE username = $1";
+    private static final String BCRYPT_QUERY = "SELECT password, salt, iterations, role FROM test_user WHERE username = $1";
+    private static final String ROLES_QUERY = "SELECT role FROM test_role WHERE username = $1";
+
+    private final StubPool pool = new StubPool();
+    private final ExecutorService hashingExecutor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testClearPassword() {
+        pool.addRow(CLEAR_QUERY, "user", "user", "user");
+        ReactiveJdbcRealm realm = realm(clearQuery());
+
+        SecurityIdentity identity = authenticate(realm, "user", "user");
+        Assertions.assertEquals("user", identity.getPrincipal().getName());
+        Assertions.assertEquals(Collections.singleton("user"), identity.getRoles());
+        Assertions.assertNotNull(identity.getCredential(PasswordCredential.class));
+    }
+
+    @Test
+    public void testBcryptPassword() {
+        pool.addRow(BCRYPT_QUERY, "admin", "zWhRw/6/wzugNHhRZVch18/nSrqzHVw=", "8KC0SE2MSbRZqttat0umqA==", 10, "admin");
+        ReactiveJdbcRealm realm = realm(bcryptQuery());
+
+        SecurityIdentity identity = authenticate(realm, "admin", "admin");
+        Assertions.assertEquals("admin", identity.getPrincipal().getName());
+        Assertions.assertEquals(Collections.singleton("admin"), identity.getRoles());
+        assertAuthenticationFails(realm, "admin", "user", null);
+    }
+
+    @Test
+    public void testWrongPassword() {
+        pool.addRow(CLEAR_QUERY, "user", "user", "user");
+        assertAuthenticationFails(realm(clearQuery()), "user", "admin", null);
+    }
+
+    @Test
+    public void testUnknownUser() {
+        pool.addRow(CLEAR_QUERY, "user", "user", "user");
+        ReactiveJdbcRealm realm = realm(clearQuery());
+
+        assertAuthenticationFails(realm, "nobody", "user", null);
+        Assertions.assertNull(realm.lookup("nobody").await().atMost(TIMEOUT));
+    }
+
+    @Test
+    public void testMergedQueries() {
+        pool.addRow(CLEAR_QUERY, "user", "user", "user");
+        pool.addRow(ROLES_QUERY, "user", "admin");
+        pool.addRow(ROLES_QUERY, "user", "tester");
+        PrincipalQueryConfig roles = query(ROLES_QUERY, 1);
+        roles.clearPasswordMapperConfig.enabled = false;
+        ReactiveJdbcRealm realm = realm(clearQuery(), roles);
+
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("user", "admin", "tester")),
+                authenticate(realm, "user", "user").getRoles());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("user", "admin", "tester")),
+                realm.lookup("user").await().atMost(TIMEOUT).getRoles());
+    }
+
+    @Test
+    public void testFullHashingQueue() {
+        pool.addRow(BCRYPT_QUERY, "admin", "zWhRw/6/wzugNHhRZVch18/nSrqzHVw=", "8KC0SE2MSbRZqttat0umqA==", 10, "admin");
+        ReactiveJdbcRealm realm = new ReactiveJdbcRealm(() -> pool, Collections.singletonList(bcryptQuery()),
+                command -> {
+                    throw new RejectedExecutionException("Queue full");
+                }, new GroupsRoleDecoder());
+
+        assertAuthenticationFails(realm, "admin", "admin", RejectedExecutionException.class);
+    }
+
+    @Test
+    public void testQueryFailure() {
+        pool.failure = new VertxException("relation \"test_user\" does not exist");
+        ReactiveJdbcRealm realm = realm(clearQuery());
+
+        assertAuthenticationFails(realm, "user", "user", VertxException.class);
+        AuthenticationFailedException failure = Assertions.assertThrows(AuthenticationFailedException.class,
+                () -> realm.lookup("user").await().atMost(TIMEOUT));
+        Assertions.assertSame(pool.failure, failure.getCause());
+    }
+
+    private ReactiveJdbcRealm realm(PrincipalQueryConfig... queries) {
+        return new ReactiveJdbcRealm(() -> pool, Arrays.asList(queries), hashingExecutor, new GroupsRoleDecoder());
+    }
+
+    private static SecurityIdentity authenticate(ReactiveJdbcRealm realm, String username, String password) {
+        return realm.authenticate(username, new PasswordCredential(password.toCharArray())).await().atMost(TIMEOUT);
+    }
+
+    private static void assertAuthenticationFails(ReactiveJdbcRealm realm, String username, String password,
+            Class<? extends Throwable> cause) {
+        AuthenticationFailedException failure = Assertions.assertThrows(AuthenticationFailedException.class,
+                () -> authenticate(realm, username, password));
+        if (cause != null) {
+            Assertions.assertTrue(cause.isInstance(failure.getCause()), String.valueOf(failure.getCause()));
+        }
+    }
+
+    private static PrincipalQueryConfig clearQuery() {
+        PrincipalQueryConfig query = query(CLEAR_QUERY, 2);
+        query.clearPasswordMapperConfig.enabled = true;
+        query.clearPasswordMapperConfig.passwordIndex = 1;
+        return query;
+    }
+
+    private static PrincipalQueryConfig bcryptQuery() {
+        PrincipalQueryConfig query = query(BCRYPT_QUERY, 4);
+        query.bcryptPasswordKeyMapperConfig.enabled = true;
+        query.bcryptPasswordKeyMapperConfig.passwordIndex = 1;
+        query.bcryptPasswordKeyMapperConfig.hashEncoding = PasswordKeyMapper.Encoding.BASE64;
+        query.bcryptPasswordKeyMapperConfig.saltIndex = 2;
+        query.bcryptPasswordKeyMapperConfig.saltEncoding = PasswordKeyMapper.Encoding.BASE64;
+        query.bcryptPasswordKeyMapperConfig.iterationCountIndex = 3;
+        return query;
+    }
+
+    private static PrincipalQueryConfig query(String sql, int groupsIndex) {
+        PrincipalQueryConfig query = new PrincipalQueryConfig();
+        query.sql = Optional.of(sql);
+        AttributeMappingConfig groups = new AttributeMappingConfig();
+        groups.index = groupsIndex;
+        groups.to = "groups";
+        query.attributeMappings = Collections.singletonMap("0", groups);
+        query.clearPasswordMapperConfig = new ClearPasswordMapperConfig();
+        query.bcryptPasswordKeyMapperConfig = new BcryptPasswordKeyMapperConfig();
+        return query;
+    }
+
+    /**
+     * Decodes the roles from the {@code groups} attribute, as the default decoder does without a custom decoder.
+     */
+    static class GroupsRoleDecoder extends DefaultRoleDecoder {
+
+        @Override
+        public Roles decodeRoles(AuthorizationIdentity authorizationIdentity) {
+            Attributes.Entry groups = authorizationIdentity.getAttributes().get("groups");
+            return groups == null ? Roles.NONE : Roles.fromSet(new HashSet<>(groups));
+        }
+    }
+
+    /**
+     * Returns the rows registered for a query and a username, or fails all queries.
+     */
+    static class StubPool implements Pool {
+
+        final Map<String, List<Row>> rows = new HashMap<>();
+        Throwable failure;
+
+        void addRow(String sql, String username, Object... values) {
+            Row row = (Row) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Row.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getValue":
+                            case "getString":
+                                return values[(Integer) args[0]];
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+            rows.computeIfAbsent(sql + "|" + username, k -> new ArrayList<>()).add(row);
+        }
+
+        @Override
+        public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+            return proxy(PreparedQuery.class, (proxy, method, args) -> {
+                if (!method.getName().equals("execute") || args.length != 2) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                @SuppressWarnings("unchecked")
+                Handler<AsyncResult<RowSet<Row>>> handler = (Handler<AsyncResult<RowSet<Row>>>) args[1];
+                if (failure != null) {
+                    handler.handle(Future.failedFuture(failure));
+                } else {
+                    String username = ((Tuple) args[0]).getString(0);
+                    handler.handle(Future.succeededFuture(rowSet(rows.getOrDefault(sql + "|" + username,
+                            Collections.emptyList()))));
+                }
+                return null;
+            });
+        }
+
+        private RowSet<Row> rowSet(List<Row> rows) {
+            return proxy(RowSet.class, (proxy, method, args) -> {
+                if (!method.getName().equals("iterator")) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                Iterator<Row> iterator = rows.iterator();
+                return new RowIterator<Row>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Row next() {
+                        return iterator.next();
+                    }
+                };
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T proxy(Class<?> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type }, handler);
+        }
+
+        @Override
+        public Query<RowSet<Row>> query(String sql) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void begin(Handler<AsyncResult<Transaction>> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -12,12 +12,14 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.elytron.security.runtime.DefaultRoleDecoder;
 import io.quarkus.elytron.security.runtime.ElytronPasswordIdentityProvider;
 import io.quarkus.elytron.security.runtime.ElytronRecorder;
 import io.quarkus.elytron.security.runtime.ElytronSecurityDomainManager;
 import io.quarkus.elytron.security.runtime.ElytronTokenIdentityProvider;
 import io.quarkus.elytron.security.runtime.ElytronTrustedIdentityProvider;
+import io.quarkus.elytron.security.runtime.IdentityCacheConfig;
 import io.quarkus.runtime.RuntimeValue;
 
 /**
@@ -92,6 +94,23 @@ class ElytronDeploymentProcessor {
         }
     }
 
+    /**
+     * Set up the cache of the identities authenticated by the default SecurityRealm with a username and a password.
+     *
+     * @param recorder - the runtime recorder class used to access runtime behaviors
+     * @param realms - the previously created SecurityRealm runtime values
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void identityCache(ElytronRecorder recorder, IdentityCacheConfig config, List<SecurityRealmBuildItem> realms,
+            List<ElytronPasswordMarkerBuildItem> pw, BeanContainerBuildItem bc,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (!realms.isEmpty() && !pw.isEmpty()) {
+            recorder.setupIdentityCache(bc.getValue(), config, realms.get(0).getName());
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerIdentityCacheMetrics()));
+        }
+    }
+
     /**
      * For each SecurityRealm, load it's runtime state. This is currently a little strange due to how the AuthConfig is
      * downcast to the type of SecurityRealm configuration instance.
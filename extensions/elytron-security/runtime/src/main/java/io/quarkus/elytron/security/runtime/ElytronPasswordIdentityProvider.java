@@ -1,5 +1,8 @@
 package io.quarkus.elytron.security.runtime;
 
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -15,6 +18,7 @@ import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.smallrye.mutiny.Uni;
 
@@ -37,9 +41,79 @@ public class ElytronPasswordIdentityProvider implements IdentityProvider<Usernam
         return UsernamePasswordAuthenticationRequest.class;
     }
 
+    /**
+     * Identities of the authenticated usernames and passwords, {@code null} if they are not cached
+     */
+    private volatile IdentityCache identityCache;
+    private volatile long identityCacheTimeToLive;
+    private volatile String realmName;
+    /**
+     * Random value added to the cache keys, so that the digests of the passwords can not be precomputed
+     */
+    private final String salt;
+
+    public ElytronPasswordIdentityProvider() {
+        byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        salt = Base64.getEncoder().encodeToString(bytes);
+    }
+
     @Override
     public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        IdentityCache cache = identityCache;
+        if (cache == null) {
+            return authenticateWithDomain(request, context);
+        }
+        String key = IdentityCache.digest(salt, realmName, request.getUsername(),
+                new String(request.getPassword().getPassword()));
+        SecurityIdentity cached = cache.get(key);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return authenticateWithDomain(request, context).onItem().invoke(new Consumer<SecurityIdentity>() {
+            @Override
+            public void accept(SecurityIdentity identity) {
+                cache.put(key, identity, System.currentTimeMillis() + identityCacheTimeToLive);
+            }
+        });
+    }
+
+    /**
+     * Removes the cached identities of the given principal, for example after its password or its roles have changed.
+     */
+    public void invalidateIdentityCache(String principalName) {
+        IdentityCache cache = identityCache;
+        if (cache != null) {
+            cache.invalidateIf(identity -> principalName.equals(identity.getPrincipal().getName()));
+        }
+    }
+
+    /**
+     * Removes all the cached identities.
+     */
+    public void invalidateIdentityCache() {
+        IdentityCache cache = identityCache;
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    public IdentityCache getIdentityCache() {
+        return identityCache;
+    }
+
+    /**
+     * @param realmName the name of the realm which authenticates the usernames and passwords
+     */
+    public void setIdentityCache(IdentityCache identityCache, long timeToLiveMillis, String realmName) {
+        this.identityCacheTimeToLive = timeToLiveMillis;
+        this.realmName = realmName;
+        this.identityCache = identityCache;
+    }
+
+    private Uni<SecurityIdentity> authenticateWithDomain(UsernamePasswordAuthenticationRequest request,
+            AuthenticationRequestContext context) {
         return context.runBlocking(new Supplier<SecurityIdentity>() {
             @Override
             public SecurityIdentity get() {
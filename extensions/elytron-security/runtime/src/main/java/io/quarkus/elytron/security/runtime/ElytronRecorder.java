@@ -1,6 +1,7 @@
 package io.quarkus.elytron.security.runtime;
 
 import java.security.Permission;
+import java.util.function.Consumer;
 
 import javax.enterprise.inject.spi.CDI;
 
@@ -14,9 +15,12 @@ import org.wildfly.security.authz.RoleDecoder;
 import org.wildfly.security.authz.Roles;
 import org.wildfly.security.permission.PermissionVerifier;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.runtime.IdentityCache;
 
 /**
  * The runtime security recorder class that provides methods for creating RuntimeValues for the deployment security objects.
@@ -33,6 +37,31 @@ public class ElytronRecorder {
         bc.instance(ElytronSecurityDomainManager.class).setDomain(domain.getValue());
     }
 
+    /**
+     * Sets up the cache of the identities authenticated with a username and a password, if it is enabled.
+     *
+     * @param realmName - the default realm name, which authenticates the usernames and passwords
+     */
+    public void setupIdentityCache(BeanContainer bc, IdentityCacheConfig config, String realmName) {
+        if (config.maxSize > 0) {
+            bc.instance(ElytronPasswordIdentityProvider.class).setIdentityCache(new IdentityCache(config.maxSize),
+                    config.timeToLive.toMillis(), realmName);
+        }
+    }
+
+    public Consumer<MetricsFactory> registerIdentityCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                IdentityCache cache = Arc.container().instance(ElytronPasswordIdentityProvider.class).get()
+                        .getIdentityCache();
+                if (cache != null) {
+                    cache.registerMetrics(metricsFactory, "elytron");
+                }
+            }
+        };
+    }
+
     /**
      * Create a {@linkplain SecurityDomain.Builder} for the given default {@linkplain SecurityRealm}.
      *
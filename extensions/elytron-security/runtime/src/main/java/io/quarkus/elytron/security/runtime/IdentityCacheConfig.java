@@ -0,0 +1,31 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * A configuration object for the cache of the identities authenticated with a username and a password by the Elytron
+ * security realms.
+ */
+@ConfigRoot(name = "security.identity-cache", phase = ConfigPhase.RUN_TIME)
+public class IdentityCacheConfig {
+
+    /**
+     * Maximum number of identities authenticated with a username and a password which are kept in memory.
+     * A request with the same username and password as a cached identity is not authenticated again by the security
+     * realm, so neither the realm is queried nor the password hash is verified. Failed authentications are not cached.
+     * The cache is keyed by a digest of the realm name, the username and the password, and is disabled when set to 0.
+     */
+    @ConfigItem(defaultValue = "0")
+    public int maxSize;
+
+    /**
+     * Time after which a cached identity is authenticated again by the security realm, so that the changes of the
+     * passwords and roles are eventually taken into account.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration timeToLive;
+}
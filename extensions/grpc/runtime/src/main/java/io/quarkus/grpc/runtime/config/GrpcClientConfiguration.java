@@ -1,6 +1,7 @@
 package io.quarkus.grpc.runtime.config;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -24,6 +25,35 @@ public class GrpcClientConfiguration {
     @ConfigItem
     public String host;
 
+    /**
+     * The static list of addresses on which the service is exposed, as {@code host:port}.
+     * IPv6 addresses are enclosed in brackets, such as {@code [::1]:9000}.
+     * When set, {@code host} and {@code port} are ignored.
+     */
+    @ConfigItem
+    public Optional<List<String>> addresses;
+
+    /**
+     * The load balancing policy of the client.
+     * Accepted values are:
+     * <ul>
+     * <li>{@code pick-first}: the calls go to the first reachable address,</li>
+     * <li>{@code round-robin}: the calls rotate over all the addresses of the service, resolved from the DNS or set
+     * with {@code addresses}, and over the connections,</li>
+     * <li>{@code least-request}: as {@code round-robin}, but the calls go to the connection with the fewest calls in
+     * flight.</li>
+     * </ul>
+     */
+    @ConfigItem(defaultValue = "pick-first")
+    public String loadBalancingPolicy;
+
+    /**
+     * The number of connections opened to each address of the service.
+     * The calls of a connection are handled by a single event loop, so more connections let the client use more cores.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int connections;
+
     /**
      * The SSL/TLS config.
      */
@@ -1,36 +1,47 @@
 package io.quarkus.grpc.runtime.supports;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import org.jboss.logging.Logger;
+
 import io.grpc.Metadata;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.Status;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 /**
- * gRPC Server interceptor offloading the execution of the gRPC method on a wroker thread if the method is annotated
+ * gRPC Server interceptor offloading the execution of the gRPC method on a worker thread if the method is annotated
  * with {@link io.smallrye.common.annotation.Blocking}.
  *
- * For non-annotated methods, the interceptor acts as a pass-through.
+ * For non-annotated methods, the interceptor acts as a pass-through and the method runs on the event loop.
+ *
+ * The events of a blocking call are executed in order by a per-call serial executor: the events received while the
+ * call is already running on a worker thread are queued and executed by that thread, so a stream of messages only
+ * hands off to a worker thread when the call is idle. Distinct calls do not wait for each other.
  */
 public class BlockingServerInterceptor implements ServerInterceptor {
 
+    private static final Logger LOGGER = Logger.getLogger(BlockingServerInterceptor.class);
+
     private final Vertx vertx;
-    private final List<String> blockingMethods;
-    private final Map<String, Boolean> cache = new HashMap<>();
+    private final Set<String> blockingMethods;
+    private final Map<String, Boolean> cache = new ConcurrentHashMap<>();
 
     public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods) {
         this.vertx = vertx;
-        this.blockingMethods = new ArrayList<>();
+        this.blockingMethods = new HashSet<>();
         for (String method : blockingMethods) {
             this.blockingMethods.add(method.toLowerCase());
         }
@@ -59,60 +70,77 @@ public class BlockingServerInterceptor implements ServerInterceptor {
         });
 
         if (isBlocking) {
-            ReplayListener<ReqT> replay = new ReplayListener<>();
-
-            vertx.executeBlocking(new Handler<Promise<Object>>() {
+            SerialListener<ReqT> listener = new SerialListener<>();
+            listener.execute(new Runnable() {
                 @Override
-                public void handle(Promise<Object> f) {
-                    ServerCall.Listener<ReqT> listener = next.startCall(call, headers);
-                    replay.setDelegate(listener);
-                    f.complete(null);
+                public void run() {
+                    try {
+                        listener.delegate = next.startCall(call, headers);
+                    } catch (Throwable t) {
+                        // the events of the call are dropped, so it must be closed here
+                        LOGGER.error("Unable to start the blocking gRPC method", t);
+                        call.close(Status.fromThrowable(t), new Metadata());
+                    }
                 }
-            }, null);
-
-            return replay;
+            });
+            return listener;
         } else {
             return next.startCall(call, headers);
         }
     }
 
     /**
-     * Stores the incoming events until the listener is injected.
-     * When injected, replay the events.
+     * Executes the events of a call on a worker thread, in order, starting with the call itself.
      *
-     * Note that event must be executed in order, explaining the `ordered:true`.
+     * The events are queued, and the thread incrementing {@code pending} from zero schedules a drain of the queue on a
+     * worker thread. The drain runs until it has executed as many events as were counted, so the events submitted while
+     * it runs are executed without another handoff and without locking.
      */
-    private class ReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
+    private class SerialListener<ReqT> extends ServerCall.Listener<ReqT> implements Handler<Promise<Object>> {
+
+        private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        // Only accessed by the drain, the queue publishes it to the next drain
         private ServerCall.Listener<ReqT> delegate;
-        private final List<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new LinkedList<>();
 
-        synchronized void setDelegate(ServerCall.Listener<ReqT> delegate) {
-            this.delegate = delegate;
-            for (Consumer<ServerCall.Listener<ReqT>> event : incomingEvents) {
-                event.accept(delegate);
+        void execute(Runnable event) {
+            events.add(event);
+            if (pending.getAndIncrement() == 0) {
+                vertx.executeBlocking(this, false, null);
             }
-            incomingEvents.clear();
         }
 
-        private synchronized void executeOnContextOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            if (this.delegate != null) {
-                vertx.executeBlocking(new Handler<Promise<Object>>() {
-                    @Override
-                    public void handle(Promise<Object> f) {
-                        consumer.accept(delegate);
-                        f.complete();
+        @Override
+        public void handle(Promise<Object> promise) {
+            do {
+                Runnable event = events.poll();
+                try {
+                    event.run();
+                } catch (Throwable t) {
+                    LOGGER.error("Unable to execute the blocking gRPC method", t);
+                }
+            } while (pending.decrementAndGet() != 0);
+            promise.complete();
+        }
+
+        private void executeOnDelegate(Handler<ServerCall.Listener<ReqT>> event) {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    // the delegate is missing if the call failed to start
+                    if (delegate != null) {
+                        event.handle(delegate);
                     }
-                }, true, null);
-            } else {
-                incomingEvents.add(consumer);
-            }
+                }
+            });
         }
 
         @Override
         public void onMessage(ReqT message) {
-            executeOnContextOrEnqueue(new Consumer<ServerCall.Listener<ReqT>>() {
+            executeOnDelegate(new Handler<ServerCall.Listener<ReqT>>() {
                 @Override
-                public void accept(ServerCall.Listener<ReqT> t) {
+                public void handle(ServerCall.Listener<ReqT> t) {
                     t.onMessage(message);
                 }
             });
@@ -120,23 +148,23 @@ public class BlockingServerInterceptor implements ServerInterceptor {
 
         @Override
         public void onHalfClose() {
-            executeOnContextOrEnqueue(ServerCall.Listener::onHalfClose);
+            executeOnDelegate(ServerCall.Listener::onHalfClose);
         }
 
         @Override
         public void onCancel() {
-            executeOnContextOrEnqueue(ServerCall.Listener::onCancel);
+            executeOnDelegate(ServerCall.Listener::onCancel);
         }
 
         @Override
         public void onComplete() {
-            executeOnContextOrEnqueue(ServerCall.Listener::onComplete);
+            executeOnDelegate(ServerCall.Listener::onComplete);
         }
 
         @Override
         public void onReady() {
-            executeOnContextOrEnqueue(ServerCall.Listener::onReady);
+            executeOnDelegate(ServerCall.Listener::onReady);
         }
     }
 
-}
\ No newline at end of file
+}
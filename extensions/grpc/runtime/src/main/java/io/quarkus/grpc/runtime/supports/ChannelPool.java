@@ -0,0 +1,88 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * A channel spreading the calls over several channels, each of them having its own connections.
+ *
+ * The calls of a single HTTP/2 connection are handled by a single event loop, so a pool of channels lets a client use
+ * more than one core. The calls either rotate over the channels, or go to the channel with the fewest calls in flight,
+ * the rotation breaking the ties.
+ */
+public class ChannelPool extends Channel {
+
+    private final ManagedChannel[] channels;
+    private final boolean leastRequest;
+    private final AtomicIntegerArray inFlight;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ChannelPool(List<ManagedChannel> channels, boolean leastRequest) {
+        this.channels = channels.toArray(new ManagedChannel[0]);
+        this.leastRequest = leastRequest;
+        this.inFlight = new AtomicIntegerArray(this.channels.length);
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor,
+            CallOptions callOptions) {
+        int start = Math.floorMod(next.getAndIncrement(), channels.length);
+        if (!leastRequest) {
+            return channels[start].newCall(methodDescriptor, callOptions);
+        }
+        int selected = start;
+        int fewest = inFlight.get(start);
+        for (int i = 1; i < channels.length && fewest > 0; i++) {
+            int index = (start + i) % channels.length;
+            int calls = inFlight.get(index);
+            if (calls < fewest) {
+                selected = index;
+                fewest = calls;
+            }
+        }
+        return new CountingCall<>(channels[selected].newCall(methodDescriptor, callOptions), selected);
+    }
+
+    @Override
+    public String authority() {
+        return channels[0].authority();
+    }
+
+    private class CountingCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+        private final int index;
+
+        CountingCall(ClientCall<ReqT, RespT> delegate, int index) {
+            super(delegate);
+            this.index = index;
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            inFlight.incrementAndGet(index);
+            try {
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        inFlight.decrementAndGet(index);
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            } catch (RuntimeException e) {
+                inFlight.decrementAndGet(index);
+                throw e;
+            }
+        }
+    }
+}
@@ -2,17 +2,23 @@ package io.quarkus.grpc.runtime.supports;
 
 import static io.grpc.internal.GrpcUtil.DEFAULT_MAX_HEADER_LIST_SIZE;
 import static io.grpc.internal.GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE;
+import static io.grpc.internal.GrpcUtil.authorityFromHostAndPort;
 import static io.grpc.netty.NettyChannelBuilder.DEFAULT_FLOW_CONTROL_WINDOW;
 
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.net.ssl.SSLException;
 
 import io.grpc.Channel;
 import io.grpc.ClientInterceptor;
+import io.grpc.ManagedChannel;
+import io.grpc.NameResolverRegistry;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NegotiationType;
 import io.grpc.netty.NettyChannelBuilder;
@@ -27,6 +33,12 @@ import io.quarkus.grpc.runtime.config.GrpcClientConfiguration;
 @SuppressWarnings({ "OptionalIsPresent", "Convert2Lambda" })
 public class Channels {
 
+    private static final String PICK_FIRST = "pick-first";
+    private static final String ROUND_ROBIN = "round-robin";
+    private static final String LEAST_REQUEST = "least-request";
+
+    private static final AtomicBoolean STATIC_NAME_RESOLVER_REGISTERED = new AtomicBoolean();
+
     private Channels() {
         // Avoid direct instantiation
     }
@@ -39,8 +51,6 @@ public class Channels {
         }
 
         GrpcClientConfiguration config = instance.get().getConfiguration(name);
-        String host = config.host;
-        int port = config.port;
         boolean plainText = !config.ssl.trustStore.isPresent();
         Optional<Boolean> usePlainText = config.plainText;
         if (usePlainText.isPresent()) {
@@ -64,7 +74,41 @@ public class Channels {
             context = sslContextBuilder.build();
         }
 
-        NettyChannelBuilder builder = NettyChannelBuilder.forAddress(host, port)
+        String loadBalancingPolicy = config.loadBalancingPolicy.toLowerCase();
+        if (!PICK_FIRST.equals(loadBalancingPolicy) && !ROUND_ROBIN.equals(loadBalancingPolicy)
+                && !LEAST_REQUEST.equals(loadBalancingPolicy)) {
+            throw new IllegalArgumentException("Unsupported gRPC load balancing policy " + config.loadBalancingPolicy
+                    + " for client " + name + ", accepted values are: pick-first, round-robin, least-request");
+        }
+
+        if (config.connections <= 1) {
+            return createManagedChannel(config, loadBalancingPolicy, plainText, context);
+        }
+        List<ManagedChannel> channels = new ArrayList<>();
+        for (int i = 0; i < config.connections; i++) {
+            channels.add(createManagedChannel(config, loadBalancingPolicy, plainText, context));
+        }
+        return new ChannelPool(channels, LEAST_REQUEST.equals(loadBalancingPolicy));
+    }
+
+    private static ManagedChannel createManagedChannel(GrpcClientConfiguration config, String loadBalancingPolicy,
+            boolean plainText, SslContext context) {
+        NettyChannelBuilder builder;
+        if (config.addresses.isPresent()) {
+            registerStaticNameResolver();
+            builder = NettyChannelBuilder.forTarget(StaticNameResolverProvider.target(config.addresses.get()));
+        } else if (PICK_FIRST.equals(loadBalancingPolicy)) {
+            builder = NettyChannelBuilder.forAddress(config.host, config.port);
+        } else {
+            // resolve all the addresses of the host, to balance the calls over them
+            builder = NettyChannelBuilder.forTarget("dns:///" + authorityFromHostAndPort(config.host, config.port));
+        }
+        if (!PICK_FIRST.equals(loadBalancingPolicy)) {
+            // each channel balances its calls over the addresses, the pool balances them over the channels
+            builder.defaultLoadBalancingPolicy("round_robin");
+        }
+
+        builder
                 .flowControlWindow(config.flowControlWindow.orElse(DEFAULT_FLOW_CONTROL_WINDOW))
                 .keepAliveWithoutCalls(config.keepAliveWithoutCalls)
                 .maxHedgedAttempts(config.maxHedgedAttempts)
@@ -126,6 +170,12 @@ public class Channels {
         return builder.build();
     }
 
+    private static void registerStaticNameResolver() {
+        if (STATIC_NAME_RESOLVER_REGISTERED.compareAndSet(false, true)) {
+            NameResolverRegistry.getDefaultRegistry().register(new StaticNameResolverProvider());
+        }
+    }
+
     public static Channel retrieveChannel(String name) {
         InstanceHandle<Channel> instance = Arc.container().instance(Channel.class, GrpcServiceLiteral.of(name));
         if (!instance.isAvailable()) {
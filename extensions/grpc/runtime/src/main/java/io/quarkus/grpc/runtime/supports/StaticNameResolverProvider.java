@@ -0,0 +1,134 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.Status;
+
+/**
+ * Resolves a static list of addresses, given as the path of a {@code static:///host1:port1,host2:port2} target.
+ *
+ * The host names are resolved each time the channel asks for a resolution. The authority of the channel is the first
+ * address, use {@code override-authority} if the addresses do not share the same TLS host name.
+ */
+public class StaticNameResolverProvider extends NameResolverProvider {
+
+    static final String SCHEME = "static";
+
+    /**
+     * Builds the target of a channel resolving the given addresses.
+     */
+    static String target(List<String> addresses) {
+        try {
+            // the multi-argument constructor quotes the characters illegal in a path, such as IPv6 brackets
+            return new URI(SCHEME, "", "/" + String.join(",", addresses), null).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid gRPC client addresses " + addresses, e);
+        }
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    protected int priority() {
+        return 5;
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        String path = targetUri.getPath();
+        List<String> addresses = new ArrayList<>();
+        for (String address : path.substring(path.startsWith("/") ? 1 : 0).split(",")) {
+            if (!address.trim().isEmpty()) {
+                addresses.add(address.trim());
+            }
+        }
+        if (addresses.isEmpty()) {
+            throw new IllegalArgumentException("No address in the gRPC target " + targetUri);
+        }
+        return new StaticNameResolver(addresses, args.getDefaultPort());
+    }
+
+    private static class StaticNameResolver extends NameResolver {
+
+        private final List<String> addresses;
+        private final int defaultPort;
+        private Listener2 listener;
+
+        StaticNameResolver(List<String> addresses, int defaultPort) {
+            this.addresses = addresses;
+            this.defaultPort = defaultPort;
+        }
+
+        @Override
+        public String getServiceAuthority() {
+            return addresses.get(0);
+        }
+
+        @Override
+        public void start(Listener2 listener) {
+            this.listener = listener;
+            resolve();
+        }
+
+        @Override
+        public void refresh() {
+            resolve();
+        }
+
+        @Override
+        public void shutdown() {
+            // nothing to release
+        }
+
+        private void resolve() {
+            List<EquivalentAddressGroup> groups = new ArrayList<>();
+            try {
+                for (String address : addresses) {
+                    groups.add(new EquivalentAddressGroup(toSocketAddress(address)));
+                }
+            } catch (RuntimeException e) {
+                listener.onError(Status.UNAVAILABLE.withDescription("Unable to resolve " + addresses).withCause(e));
+                return;
+            }
+            listener.onResult(ResolutionResult.newBuilder().setAddresses(groups).build());
+        }
+
+        private InetSocketAddress toSocketAddress(String address) {
+            String host = address;
+            int port = defaultPort;
+            int colon = address.lastIndexOf(':');
+            // an IPv6 address without brackets has no port
+            boolean ipv6 = !address.startsWith("[") && colon != address.indexOf(':');
+            if (!ipv6 && colon > address.lastIndexOf(']')) {
+                host = address.substring(0, colon);
+                port = Integer.parseInt(address.substring(colon + 1));
+            }
+            if (host.startsWith("[") && host.endsWith("]")) {
+                host = host.substring(1, host.length() - 1);
+            }
+            InetSocketAddress socketAddress = new InetSocketAddress(host, port);
+            if (socketAddress.isUnresolved()) {
+                throw new IllegalArgumentException("Unknown host " + host);
+            }
+            return socketAddress;
+        }
+    }
+}
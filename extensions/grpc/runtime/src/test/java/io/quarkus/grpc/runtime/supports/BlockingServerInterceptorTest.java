@@ -0,0 +1,150 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.Status;
+import io.vertx.core.Vertx;
+
+public class BlockingServerInterceptorTest {
+
+    private static final MethodDescriptor<String, String> METHOD = MethodDescriptor.<String, String> newBuilder()
+            .setType(MethodDescriptor.MethodType.CLIENT_STREAMING)
+            .setFullMethodName("fake/blockingCall")
+            .setRequestMarshaller(new ChannelPoolTest.StringMarshaller())
+            .setResponseMarshaller(new ChannelPoolTest.StringMarshaller())
+            .build();
+
+    private final Vertx vertx = Vertx.vertx();
+    private final BlockingServerInterceptor interceptor = new BlockingServerInterceptor(vertx,
+            Collections.singletonList("blockingCall"));
+
+    @AfterEach
+    public void close() {
+        vertx.close();
+    }
+
+    @Test
+    public void testEventsAreExecutedInOrder() throws Exception {
+        RecordingListener delegate = new RecordingListener();
+        ServerCall.Listener<String> listener = interceptor.interceptCall(new FakeCall(), new Metadata(),
+                (call, headers) -> delegate);
+
+        // the transport delivers the events of a call one at a time, but not always from the same thread
+        List<String> sent = new ArrayList<>();
+        Object transport = new Object();
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 2000; i++) {
+                int index = i;
+                threads.execute(() -> {
+                    synchronized (transport) {
+                        sent.add("message-" + index);
+                        listener.onMessage("message-" + index);
+                    }
+                });
+            }
+        } finally {
+            threads.shutdown();
+            assertThat(threads.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+        listener.onHalfClose();
+
+        assertThat(delegate.halfClosed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(delegate.overlapping).isFalse();
+        List<String> expected = new ArrayList<>(sent);
+        expected.add("half-close");
+        assertThat(delegate.events).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void testCallIsClosedIfItFailsToStart() throws Exception {
+        FakeCall call = new FakeCall();
+        ServerCall.Listener<String> listener = interceptor.interceptCall(call, new Metadata(), (c, headers) -> {
+            throw Status.INVALID_ARGUMENT.withDescription("Invalid headers").asRuntimeException();
+        });
+
+        assertThat(call.closed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(call.status.getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(call.status.getDescription()).isEqualTo("Invalid headers");
+
+        // the events following the failure are dropped
+        listener.onMessage("ignored");
+        listener.onHalfClose();
+    }
+
+    static class RecordingListener extends ServerCall.Listener<String> {
+
+        final List<String> events = new ArrayList<>();
+        final CountDownLatch halfClosed = new CountDownLatch(1);
+        final AtomicBoolean running = new AtomicBoolean();
+        volatile boolean overlapping;
+
+        @Override
+        public void onMessage(String message) {
+            record(message);
+        }
+
+        @Override
+        public void onHalfClose() {
+            record("half-close");
+            halfClosed.countDown();
+        }
+
+        private void record(String event) {
+            if (!running.compareAndSet(false, true)) {
+                overlapping = true;
+            }
+            events.add(event);
+            running.set(false);
+        }
+    }
+
+    static class FakeCall extends ServerCall<String, String> {
+
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile Status status;
+
+        @Override
+        public void request(int numMessages) {
+        }
+
+        @Override
+        public void sendHeaders(Metadata headers) {
+        }
+
+        @Override
+        public void sendMessage(String message) {
+        }
+
+        @Override
+        public void close(Status status, Metadata trailers) {
+            this.status = status;
+            closed.countDown();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public MethodDescriptor<String, String> getMethodDescriptor() {
+            return METHOD;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+public class ChannelPoolTest {
+
+    private static final MethodDescriptor<String, String> METHOD = MethodDescriptor.<String, String> newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName("fake/call")
+            .setRequestMarshaller(new StringMarshaller())
+            .setResponseMarshaller(new StringMarshaller())
+            .build();
+
+    private final FakeChannel first = new FakeChannel("first:9000");
+    private final FakeChannel second = new FakeChannel("second:9000");
+    private final FakeChannel third = new FakeChannel("third:9000");
+
+    @Test
+    public void testRoundRobin() {
+        ChannelPool pool = new ChannelPool(Arrays.asList(first, second, third), false);
+        for (int i = 0; i < 6; i++) {
+            start(pool.newCall(METHOD, CallOptions.DEFAULT));
+        }
+        assertThat(first.calls).hasSize(2);
+        assertThat(second.calls).hasSize(2);
+        assertThat(third.calls).hasSize(2);
+        assertThat(pool.authority()).isEqualTo("first:9000");
+    }
+
+    @Test
+    public void testLeastRequest() {
+        ChannelPool pool = new ChannelPool(Arrays.asList(first, second), true);
+        start(pool.newCall(METHOD, CallOptions.DEFAULT));
+        start(pool.newCall(METHOD, CallOptions.DEFAULT));
+        assertThat(first.calls).hasSize(1);
+        assertThat(second.calls).hasSize(1);
+
+        // the turn of the first channel, which still has a call in flight
+        second.calls.get(0).close();
+        start(pool.newCall(METHOD, CallOptions.DEFAULT));
+        assertThat(first.calls).hasSize(1);
+        assertThat(second.calls).hasSize(2);
+
+        // ties are broken by the rotation
+        start(pool.newCall(METHOD, CallOptions.DEFAULT));
+        assertThat(second.calls).hasSize(3);
+        start(pool.newCall(METHOD, CallOptions.DEFAULT));
+        assertThat(first.calls).hasSize(2);
+    }
+
+    @Test
+    public void testLeastRequestCountsStartedCalls() {
+        ChannelPool pool = new ChannelPool(Arrays.asList(first, second), true);
+        // created but not started
+        pool.newCall(METHOD, CallOptions.DEFAULT);
+        pool.newCall(METHOD, CallOptions.DEFAULT);
+        start(pool.newCall(METHOD, CallOptions.DEFAULT));
+        assertThat(first.calls).hasSize(2);
+        assertThat(second.calls).hasSize(1);
+    }
+
+    private static void start(ClientCall<String, String> call) {
+        call.start(new ClientCall.Listener<String>() {
+        }, new Metadata());
+    }
+
+    static class FakeChannel extends ManagedChannel {
+
+        final String authority;
+        final List<FakeCall> calls = new ArrayList<>();
+
+        FakeChannel(String authority) {
+            this.authority = authority;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor,
+                CallOptions callOptions) {
+            FakeCall call = new FakeCall();
+            calls.add(call);
+            return (ClientCall<ReqT, RespT>) call;
+        }
+
+        @Override
+        public String authority() {
+            return authority;
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            return this;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            return this;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    static class FakeCall extends ClientCall<String, String> {
+
+        Listener<String> listener;
+
+        void close() {
+            listener.onClose(Status.OK, new Metadata());
+        }
+
+        @Override
+        public void start(Listener<String> responseListener, Metadata headers) {
+            listener = responseListener;
+        }
+
+        @Override
+        public void request(int numMessages) {
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(String message) {
+        }
+    }
+
+    static class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+
+        @Override
+        public InputStream stream(String value) {
+            return new ByteArrayInputStream(value.getBytes());
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+
+public class StaticNameResolverProviderTest {
+
+    private final StaticNameResolverProvider provider = new StaticNameResolverProvider();
+
+    @Test
+    public void testResolveAddresses() {
+        String target = StaticNameResolverProvider.target(Arrays.asList("localhost:9000", "127.0.0.1:9001", "[::1]:9002"));
+        assertThat(target).startsWith("static:///");
+
+        NameResolver resolver = provider.newNameResolver(URI.create(target), args());
+        assertThat(resolver.getServiceAuthority()).isEqualTo("localhost:9000");
+        assertThat(resolve(resolver)).containsExactly(
+                new InetSocketAddress("localhost", 9000),
+                new InetSocketAddress("127.0.0.1", 9001),
+                new InetSocketAddress("::1", 9002));
+    }
+
+    @Test
+    public void testDefaultPort() {
+        NameResolver resolver = provider.newNameResolver(URI.create("static:///localhost,%20127.0.0.1:9001,,::1"), args());
+        assertThat(resolve(resolver)).containsExactly(
+                new InetSocketAddress("localhost", 443),
+                new InetSocketAddress("127.0.0.1", 9001),
+                new InetSocketAddress("::1", 443));
+    }
+
+    @Test
+    public void testUnknownHost() {
+        NameResolver resolver = provider.newNameResolver(URI.create("static:///localhost:9000,unknown.invalid:9000"),
+                args());
+        RecordingListener listener = new RecordingListener();
+        resolver.start(listener);
+        assertThat(listener.addresses).isEmpty();
+        assertThat(listener.error.getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+    }
+
+    @Test
+    public void testOtherTargets() {
+        assertThat(provider.newNameResolver(URI.create("dns:///localhost:9000"), args())).isNull();
+        assertThatThrownBy(() -> provider.newNameResolver(URI.create("static:///"), args()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<SocketAddress> resolve(NameResolver resolver) {
+        RecordingListener listener = new RecordingListener();
+        resolver.start(listener);
+        assertThat(listener.error).isNull();
+        return listener.addresses;
+    }
+
+    private static NameResolver.Args args() {
+        return NameResolver.Args.newBuilder()
+                .setDefaultPort(443)
+                .setProxyDetector(address -> null)
+                .setSynchronizationContext(new SynchronizationContext((thread, error) -> {
+                }))
+                .setServiceConfigParser(new NameResolver.ServiceConfigParser() {
+                    @Override
+                    public NameResolver.ConfigOrError parseServiceConfig(Map<String, ?> rawServiceConfig) {
+                        return NameResolver.ConfigOrError.fromConfig(Collections.emptyMap());
+                    }
+                })
+                .build();
+    }
+
+    static class RecordingListener extends NameResolver.Listener2 {
+
+        final List<SocketAddress> addresses = new ArrayList<>();
+        Status error;
+
+        @Override
+        public void onResult(NameResolver.ResolutionResult resolutionResult) {
+            for (EquivalentAddressGroup group : resolutionResult.getAddresses()) {
+                addresses.addAll(group.getAddresses());
+            }
+        }
+
+        @Override
+        public void onError(Status error) {
+            this.error = error;
+        }
+    }
+}
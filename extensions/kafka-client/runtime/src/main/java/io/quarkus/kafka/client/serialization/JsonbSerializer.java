@@ -1,7 +1,5 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Map;
 
 import javax.json.bind.Jsonb;
@@ -10,6 +8,8 @@ import org.apache.kafka.common.serialization.Serializer;
 
 /**
  * A {@link Serializer} that serializes to JSON using JSON-B.
+ * <p>
+ * Records are written into a buffer reused by the serializers of the current thread.
  */
 public class JsonbSerializer<T> implements Serializer<T> {
 
@@ -35,11 +35,12 @@ public class JsonbSerializer<T> implements Serializer<T> {
 
     @Override
     public byte[] serialize(String topic, T data) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+        SerializationBuffer output = SerializationBuffer.acquire();
+        try {
             jsonb.toJson(data, output);
             return output.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        } finally {
+            output.release();
         }
     }
 
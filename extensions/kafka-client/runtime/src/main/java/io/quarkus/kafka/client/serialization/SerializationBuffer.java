@@ -0,0 +1,92 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A growable, unsynchronized output buffer, reused by the serializers of a thread.
+ * <p>
+ * The serialized record is written into the buffer of the current thread and then copied once into the returned array,
+ * instead of going through a new {@link java.io.ByteArrayOutputStream} per record.
+ * A buffer grown past {@link #MAX_RETAINED_SIZE} by a large record is dropped after use, so it doesn't stay allocated.
+ */
+final class SerializationBuffer extends OutputStream {
+
+    static final int INITIAL_SIZE = 1024;
+    static final int MAX_RETAINED_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<SerializationBuffer> BUFFERS = ThreadLocal.withInitial(SerializationBuffer::new);
+
+    private byte[] bytes = new byte[INITIAL_SIZE];
+    private int size;
+    private boolean inUse;
+
+    private SerializationBuffer() {
+    }
+
+    /**
+     * @return the buffer of the current thread, or a new one if it is already in use, e.g. by a nested serialization
+     */
+    static SerializationBuffer acquire() {
+        SerializationBuffer buffer = BUFFERS.get();
+        if (buffer.inUse) {
+            buffer = new SerializationBuffer();
+        }
+        buffer.inUse = true;
+        return buffer;
+    }
+
+    /**
+     * @return a copy of the bytes written since the buffer was acquired
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Resets the buffer so that it can be acquired again.
+     */
+    void release() {
+        size = 0;
+        inUse = false;
+        if (bytes.length > MAX_RETAINED_SIZE) {
+            bytes = new byte[INITIAL_SIZE];
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(size + 1);
+        bytes[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(size + len);
+        System.arraycopy(b, off, bytes, size, len);
+        size += len;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("Serialized record too large");
+        }
+        if (capacity > bytes.length) {
+            int newLength = bytes.length << 1;
+            if (newLength < capacity) {
+                newLength = capacity;
+            } else if (newLength < 0) {
+                newLength = Integer.MAX_VALUE - 8;
+            }
+            bytes = Arrays.copyOf(bytes, newLength);
+        }
+    }
+
+    @Override
+    public void close() {
+        // the buffer is released by its owner, closing the stream is a no-op like for ByteArrayOutputStream
+    }
+}
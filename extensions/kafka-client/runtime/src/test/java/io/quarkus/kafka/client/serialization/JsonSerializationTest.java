@@ -0,0 +1,71 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.util.Arrays;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JsonSerializationTest {
+
+    public static class Fruit {
+        public String name;
+        public String description;
+
+        public Fruit() {
+        }
+
+        public Fruit(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    @Test
+    public void shouldRoundTripWithObjectMapper() {
+        ObjectMapperSerde<Fruit> serde = new ObjectMapperSerde<>(Fruit.class, new ObjectMapper());
+        assertRoundTrip(serde);
+    }
+
+    @Test
+    public void shouldRoundTripWithJsonb() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            JsonbSerde<Fruit> serde = new JsonbSerde<>(Fruit.class, jsonb);
+            assertRoundTrip(serde);
+        }
+    }
+
+    @Test
+    public void shouldNotReuseBufferOfNestedSerialization() {
+        SerializationBuffer outer = SerializationBuffer.acquire();
+        SerializationBuffer nested = SerializationBuffer.acquire();
+        Assertions.assertThat(nested).isNotSameAs(outer);
+        nested.release();
+        outer.release();
+        SerializationBuffer next = SerializationBuffer.acquire();
+        Assertions.assertThat(next).isSameAs(outer);
+        next.release();
+    }
+
+    private static void assertRoundTrip(Serde<Fruit> serde) {
+        Serializer<Fruit> serializer = serde.serializer();
+        Deserializer<Fruit> deserializer = serde.deserializer();
+        // a large record grows the buffer, the following small one must not see its bytes
+        char[] large = new char[SerializationBuffer.MAX_RETAINED_SIZE + 1];
+        Arrays.fill(large, 'a');
+        for (Fruit fruit : new Fruit[] { new Fruit("apple", "red"), new Fruit("melon", new String(large)),
+                new Fruit("kiwi", "\u00e9t\u00e9"), new Fruit("pear", null) }) {
+            Fruit result = deserializer.deserialize("fruits", serializer.serialize("fruits", fruit));
+            Assertions.assertThat(result.name).isEqualTo(fruit.name);
+            Assertions.assertThat(result.description).isEqualTo(fruit.description);
+        }
+        Assertions.assertThat(deserializer.deserialize("fruits", null)).isNull();
+    }
+}
@@ -3,7 +3,10 @@ package io.quarkus.micrometer.deployment.binder;
 import java.util.function.BooleanSupplier;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.micrometer.runtime.MicrometerRecorder;
 import io.quarkus.micrometer.runtime.config.MicrometerConfig;
 
@@ -18,6 +21,11 @@ public class KafkaBinderProcessor {
 
     static final String KAFKA_EVENT_CONSUMER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.kafka.KafkaEventObserver";
 
+    static final String KAFKA_CONNECTOR_CLASS_NAME = "io.smallrye.reactive.messaging.kafka.KafkaConnector";
+    static final Class<?> KAFKA_CONNECTOR_CLASS_CLASS = MicrometerRecorder.getClassForName(KAFKA_CONNECTOR_CLASS_NAME);
+
+    static final String KAFKA_INTERCEPTOR_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.kafka.KafkaMetricsInterceptor";
+
     static class KafkaSupportEnabled implements BooleanSupplier {
         MicrometerConfig mConfig;
 
@@ -32,4 +40,19 @@ public class KafkaBinderProcessor {
                 .addBeanClass(KAFKA_EVENT_CONSUMER_CLASS_NAME)
                 .setUnremovable().build();
     }
+
+    /**
+     * The clients created by the Kafka connector are observed through CDI events, but the events don't give
+     * access to the records. Install the interceptor recording their throughput and sizes on all channels.
+     */
+    @BuildStep(onlyIf = KafkaSupportEnabled.class)
+    void registerConnectorInterceptor(BuildProducer<RunTimeConfigurationDefaultBuildItem> runTimeDefaults,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (KAFKA_CONNECTOR_CLASS_CLASS == null) {
+            return;
+        }
+        runTimeDefaults.produce(new RunTimeConfigurationDefaultBuildItem(
+                "mp.messaging.connector.smallrye-kafka.interceptor.classes", KAFKA_INTERCEPTOR_CLASS_NAME));
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, KAFKA_INTERCEPTOR_CLASS_NAME));
+    }
 }
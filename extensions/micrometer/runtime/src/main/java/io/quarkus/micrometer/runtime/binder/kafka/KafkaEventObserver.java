@@ -1,6 +1,7 @@
 package io.quarkus.micrometer.runtime.binder.kafka;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -8,11 +9,13 @@ import javax.enterprise.event.Observes;
 
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+import io.quarkus.runtime.StartupEvent;
 
 @ApplicationScoped
 public class KafkaEventObserver {
@@ -69,6 +72,20 @@ public class KafkaEventObserver {
         }
     }
 
+    /**
+     * The record metrics of the Kafka connector channels come from the default interceptors of the connector,
+     * report the channels replacing them.
+     *
+     * @param event Startup event
+     */
+    void checkConnectorInterceptors(@Observes StartupEvent event) {
+        List<String> channels = KafkaMetricsInterceptor.channelsWithoutInterceptor(ConfigProvider.getConfig());
+        if (!channels.isEmpty()) {
+            log.warnf("The Kafka record metrics are disabled for the channels %s, add %s to their interceptor.classes"
+                    + " to enable them", channels, KafkaMetricsInterceptor.class.getName());
+        }
+    }
+
     void tryToClose(AutoCloseable c) {
         try {
             c.close();
@@ -0,0 +1,196 @@
+package io.quarkus.micrometer.runtime.binder.kafka;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.microprofile.config.Config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Records the throughput and the record sizes of a Kafka consumer or producer, per topic.
+ * <p>
+ * The Kafka client metrics bound by {@link KafkaEventObserver} only provide averages and maximums of the record sizes,
+ * this interceptor records them as distributions, with buckets from 128 bytes to 1 megabyte.
+ * Meters are tagged with the {@code client.id} of the client and the {@code topic} of the records.
+ * Clients sharing a {@code client.id} share their meters, which are removed when the last of them is closed.
+ * <p>
+ * It is set as the default {@code interceptor.classes} of the channels of the Kafka connector.
+ * A channel configuring its own interceptors only gets it if listed, see {@link #channelsWithoutInterceptor(Config)}.
+ */
+public class KafkaMetricsInterceptor implements ConsumerInterceptor<Object, Object>, ProducerInterceptor<Object, Object> {
+
+    static final double[] RECORD_SIZE_BUCKETS = { 128, 512, 1024, 4 * 1024, 16 * 1024, 64 * 1024, 256 * 1024,
+            1024 * 1024 };
+
+    static final String CONNECTOR = "smallrye-kafka";
+    static final String CONNECTOR_INTERCEPTORS = "mp.messaging.connector." + CONNECTOR + ".interceptor.classes";
+    static final Pattern CHANNEL_PROPERTY = Pattern.compile("mp\\.messaging\\.(incoming|outgoing)\\.(.+)\\.connector");
+
+    /**
+     * The number of clients using each meter, per registry. Registries are compared by identity.
+     */
+    static final Map<MeterRegistry, Map<Meter.Id, Integer>> METER_REFERENCES = new WeakHashMap<>();
+
+    MeterRegistry registry = Metrics.globalRegistry;
+    String clientId = "";
+    final Map<String, TopicMeters> topicMeters = new ConcurrentHashMap<>();
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        Object id = configs.get(CommonClientConfigs.CLIENT_ID_CONFIG);
+        if (id != null) {
+            clientId = id.toString();
+        }
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> onConsume(ConsumerRecords<Object, Object> records) {
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = records.records(partition);
+            TopicMeters meters = topicMeters(partition.topic(), false);
+            meters.records.increment(partitionRecords.size());
+            for (ConsumerRecord<Object, Object> record : partitionRecords) {
+                meters.recordSize.record(size(record.serializedKeySize(), record.serializedValueSize()));
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+    }
+
+    @Override
+    public ProducerRecord<Object, Object> onSend(ProducerRecord<Object, Object> record) {
+        return record;
+    }
+
+    @Override
+    public void onAcknowledgement(RecordMetadata metadata, Exception exception) {
+        if (metadata == null) {
+            return;
+        }
+        TopicMeters meters = topicMeters(metadata.topic(), true);
+        if (exception != null) {
+            meters.errors.increment();
+        } else {
+            meters.records.increment();
+            meters.recordSize.record(size(metadata.serializedKeySize(), metadata.serializedValueSize()));
+        }
+    }
+
+    @Override
+    public void close() {
+        for (TopicMeters meters : topicMeters.values()) {
+            meters.remove(registry);
+        }
+        topicMeters.clear();
+    }
+
+    private TopicMeters topicMeters(String topic, boolean producer) {
+        TopicMeters meters = topicMeters.get(topic);
+        if (meters == null) {
+            meters = topicMeters.computeIfAbsent(topic, t -> new TopicMeters(registry, producer,
+                    Tags.of("client.id", clientId, "topic", t)));
+        }
+        return meters;
+    }
+
+    static long size(int serializedKeySize, int serializedValueSize) {
+        // sizes are -1 for null keys and values
+        return Math.max(0, serializedKeySize) + Math.max(0, serializedValueSize);
+    }
+
+    static final class TopicMeters {
+        final Counter records;
+        final Counter errors;
+        final DistributionSummary recordSize;
+
+        TopicMeters(MeterRegistry registry, boolean producer, Tags tags) {
+            String prefix = producer ? "kafka.producer" : "kafka.consumer";
+            // registering and counting under the same lock, so that a meter is not removed by another client meanwhile
+            synchronized (METER_REFERENCES) {
+                records = Counter.builder(prefix + ".records")
+                        .description(producer ? "The number of records sent" : "The number of records received")
+                        .tags(tags)
+                        .register(registry);
+                errors = producer ? Counter.builder(prefix + ".records.errors")
+                        .description("The number of records that could not be sent")
+                        .tags(tags)
+                        .register(registry) : null;
+                recordSize = DistributionSummary.builder(prefix + ".record.size")
+                        .description("The serialized size of the key and value of the records")
+                        .baseUnit("bytes")
+                        .serviceLevelObjectives(RECORD_SIZE_BUCKETS)
+                        .tags(tags)
+                        .register(registry);
+                Map<Meter.Id, Integer> references = METER_REFERENCES.computeIfAbsent(registry, r -> new HashMap<>());
+                for (Meter meter : new Meter[] { records, errors, recordSize }) {
+                    if (meter != null) {
+                        references.merge(meter.getId(), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        void remove(MeterRegistry registry) {
+            synchronized (METER_REFERENCES) {
+                Map<Meter.Id, Integer> references = METER_REFERENCES.get(registry);
+                for (Meter meter : new Meter[] { records, errors, recordSize }) {
+                    if (meter != null && references.merge(meter.getId(), -1, Integer::sum) == 0) {
+                        references.remove(meter.getId());
+                        registry.remove(meter);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the channels of the Kafka connector that configure their {@code interceptor.classes}, or inherit the
+     * connector ones, without this interceptor.
+     */
+    static List<String> channelsWithoutInterceptor(Config config) {
+        Optional<String> connectorInterceptors = config.getOptionalValue(CONNECTOR_INTERCEPTORS, String.class);
+        List<String> channels = new ArrayList<>();
+        for (String name : config.getPropertyNames()) {
+            Matcher matcher = CHANNEL_PROPERTY.matcher(name);
+            if (!matcher.matches() || !CONNECTOR.equals(config.getOptionalValue(name, String.class).orElse(null))) {
+                continue;
+            }
+            String prefix = "mp.messaging." + matcher.group(1) + "." + matcher.group(2);
+            Optional<String> interceptors = config.getOptionalValue(prefix + ".interceptor.classes", String.class);
+            if (!interceptors.isPresent()) {
+                interceptors = connectorInterceptors;
+            }
+            if (interceptors.isPresent() && !Arrays.asList(interceptors.get().trim().split("\\s*,\\s*"))
+                    .contains(KafkaMetricsInterceptor.class.getName())) {
+                channels.add(matcher.group(2));
+            }
+        }
+        return channels;
+    }
+}
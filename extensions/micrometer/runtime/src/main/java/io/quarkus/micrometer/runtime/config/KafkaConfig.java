@@ -17,6 +17,9 @@ public class KafkaConfig implements MicrometerConfig.CapabilityEnabled {
      * the Kafka Consumer or Producer interface is on the classpath
      * and either this value is true, or this value is unset and
      * {@code quarkus.micrometer.binder-enabled-default} is true.
+     * <p>
+     * The channels of the SmallRye Reactive Messaging Kafka connector then also record the
+     * throughput and the record sizes of their clients.
      */
     @ConfigItem
     public Optional<Boolean> enabled;
@@ -0,0 +1,120 @@
+package io.quarkus.micrometer.runtime.binder.kafka;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class KafkaMetricsInterceptorTest {
+
+    SimpleMeterRegistry registry;
+    KafkaMetricsInterceptor interceptor;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        interceptor = new KafkaMetricsInterceptor();
+        interceptor.registry = registry;
+        interceptor.configure(Collections.singletonMap("client.id", "prices-client"));
+    }
+
+    @Test
+    public void testConsumedRecords() {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        records.put(new TopicPartition("prices", 0), Arrays.asList(record("prices", 0, 3, 100), record("prices", 0, -1, 20)));
+        records.put(new TopicPartition("prices", 1), Collections.singletonList(record("prices", 1, 3, 2000)));
+        interceptor.onConsume(new ConsumerRecords<>(records));
+
+        Assertions.assertEquals(3, registry.get("kafka.consumer.records")
+                .tags("client.id", "prices-client", "topic", "prices").counter().count());
+        DistributionSummary sizes = registry.get("kafka.consumer.record.size").tag("topic", "prices").summary();
+        Assertions.assertEquals(3, sizes.count());
+        Assertions.assertEquals(103 + 20 + 2003, sizes.totalAmount());
+        Assertions.assertNull(registry.find("kafka.consumer.records.errors").counter());
+
+        interceptor.close();
+        Assertions.assertTrue(registry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void testProducedRecords() {
+        interceptor.onAcknowledgement(metadata("orders", 10, 90), null);
+        interceptor.onAcknowledgement(metadata("orders", -1, 50), null);
+        interceptor.onAcknowledgement(metadata("orders", -1, -1), new IllegalStateException("Not sent"));
+        interceptor.onAcknowledgement(null, new IllegalStateException("Unknown topic"));
+
+        Assertions.assertEquals(2, registry.get("kafka.producer.records").tag("topic", "orders").counter().count());
+        Assertions.assertEquals(1, registry.get("kafka.producer.records.errors").tag("topic", "orders").counter().count());
+        Assertions.assertEquals(150, registry.get("kafka.producer.record.size").tag("topic", "orders").summary()
+                .totalAmount());
+
+        interceptor.close();
+        Assertions.assertTrue(registry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void testSharedClientId() {
+        KafkaMetricsInterceptor other = new KafkaMetricsInterceptor();
+        other.registry = registry;
+        other.configure(Collections.singletonMap("client.id", "prices-client"));
+        interceptor.onAcknowledgement(metadata("orders", -1, 10), null);
+        other.onAcknowledgement(metadata("orders", -1, 10), null);
+        Assertions.assertEquals(2, registry.get("kafka.producer.records").tag("topic", "orders").counter().count());
+
+        other.close();
+        interceptor.onAcknowledgement(metadata("orders", -1, 10), null);
+        Assertions.assertEquals(3, registry.get("kafka.producer.records").tag("topic", "orders").counter().count());
+
+        interceptor.close();
+        Assertions.assertTrue(registry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void testChannelsWithoutInterceptor() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("mp.messaging.incoming.prices.connector", "smallrye-kafka");
+        properties.put("mp.messaging.incoming.quotes.connector", "smallrye-kafka");
+        properties.put("mp.messaging.incoming.quotes.interceptor.classes",
+                "org.acme.TracingInterceptor, " + KafkaMetricsInterceptor.class.getName());
+        properties.put("mp.messaging.outgoing.orders.connector", "smallrye-kafka");
+        properties.put("mp.messaging.outgoing.orders.interceptor.classes", "org.acme.TracingInterceptor");
+        properties.put("mp.messaging.outgoing.events.connector", "smallrye-amqp");
+        properties.put("mp.messaging.outgoing.events.interceptor.classes", "org.acme.TracingInterceptor");
+        Assertions.assertEquals(Collections.singletonList("orders"),
+                KafkaMetricsInterceptor.channelsWithoutInterceptor(config(properties)));
+
+        properties.put(KafkaMetricsInterceptor.CONNECTOR_INTERCEPTORS, "org.acme.TracingInterceptor");
+        List<String> channels = KafkaMetricsInterceptor.channelsWithoutInterceptor(config(properties));
+        Collections.sort(channels);
+        Assertions.assertEquals(Arrays.asList("orders", "prices"), channels);
+    }
+
+    private static SmallRyeConfig config(Map<String, String> properties) {
+        return new SmallRyeConfigBuilder().withSources(new PropertiesConfigSource(properties, "test", 100)).build();
+    }
+
+    private static ConsumerRecord<Object, Object> record(String topic, int partition, int keySize, int valueSize) {
+        return new ConsumerRecord<>(topic, partition, 0L, 0L, TimestampType.CREATE_TIME, 0L, keySize, valueSize, null,
+                null);
+    }
+
+    private static RecordMetadata metadata(String topic, int keySize, int valueSize) {
+        return new RecordMetadata(new TopicPartition(topic, 0), 0L, 0L, 0L, 0L, keySize, valueSize);
+    }
+}
@@ -170,6 +170,12 @@ public class OidcTenantConfig {
     @ConfigItem
     public TokenStateManager tokenStateManager = new TokenStateManager();
 
+    /**
+     * Cache of the token introspection and user info results
+     */
+    @ConfigItem
+    public TokenCache tokenCache = new TokenCache();
+
     @ConfigGroup
     public static class Tls {
         public enum Verification {
@@ -235,6 +241,44 @@ public class OidcTenantConfig {
         }
     }
 
+    /**
+     * Cache of the results of the token introspection and user info requests
+     */
+    @ConfigGroup
+    public static class TokenCache {
+
+        /**
+         * Maximum number of tokens for which the introspection and user info results are kept in memory.
+         * Each cache is keyed by a digest of the token and the requests with the same token share the request to the OIDC
+         * server which is still in progress. Failed requests are not cached.
+         * The caches are disabled when set to 0.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int maxSize;
+
+        /**
+         * Maximum time a result is kept in memory. An introspection result is also removed when the token expires.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration timeToLive = Duration.ofMinutes(3);
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
     /**
      * Default Authorization Code token state manager configuration
      */
@@ -437,6 +481,14 @@ public class OidcTenantConfig {
         return logout;
     }
 
+    public TokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    public void setTokenCache(TokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
     @ConfigGroup
     public static class Credentials {
 
@@ -969,6 +1021,15 @@ public class OidcTenantConfig {
         @ConfigItem
         public Optional<String> header = Optional.empty();
 
+        /**
+         * Maximum number of verified bearer access tokens for which the security identity is kept in memory, until the
+         * token expires. A request with a cached token is not verified again. The cache is emptied when the JWK set is
+         * refreshed. Opaque tokens are not cached.
+         * The cache is keyed by a digest of the token and is disabled when set to 0.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int identityCacheSize;
+
         public Optional<String> getIssuer() {
             return issuer;
         }
@@ -1032,6 +1093,14 @@ public class OidcTenantConfig {
         public void setTokenType(String tokenType) {
             this.tokenType = Optional.of(tokenType);
         }
+
+        public int getIdentityCacheSize() {
+            return identityCacheSize;
+        }
+
+        public void setIdentityCacheSize(int identityCacheSize) {
+            this.identityCacheSize = identityCacheSize;
+        }
     }
 
     @ConfigGroup
@@ -4,6 +4,7 @@ import java.time.Duration;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.security.runtime.IdentityCache;
 import io.vertx.core.Handler;
 import io.vertx.ext.auth.oauth2.OAuth2Auth;
 
@@ -12,10 +13,20 @@ public class JwkSetRefreshHandler implements Handler<String> {
     private OAuth2Auth auth;
     private volatile long lastForcedRefreshTime;
     private long forcedJwksRefreshIntervalMilliSecs;
+    private IdentityCache identityCache;
 
     public JwkSetRefreshHandler(OAuth2Auth auth, Duration forcedJwksRefreshInterval) {
+        this(auth, forcedJwksRefreshInterval, null);
+    }
+
+    /**
+     * @param identityCache the cache of the identities verified with the current JWK set, emptied when the set is
+     *        refreshed, or {@code null}
+     */
+    public JwkSetRefreshHandler(OAuth2Auth auth, Duration forcedJwksRefreshInterval, IdentityCache identityCache) {
         this.auth = auth;
         this.forcedJwksRefreshIntervalMilliSecs = forcedJwksRefreshInterval.toMillis();
+        this.identityCache = identityCache;
     }
 
     @SuppressWarnings("deprecation")
@@ -28,6 +39,9 @@ public class JwkSetRefreshHandler implements Handler<String> {
             auth.loadJWK(res -> {
                 if (res.failed()) {
                     LOG.debugf("Failed to refresh the JWK set: %s", res.cause());
+                } else if (identityCache != null) {
+                    // the keys which verified the cached tokens may have been rotated out
+                    identityCache.invalidateAll();
                 }
             });
         }
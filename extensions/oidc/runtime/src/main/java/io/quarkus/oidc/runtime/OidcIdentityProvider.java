@@ -9,6 +9,8 @@ import java.util.function.Supplier;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
 import io.quarkus.oidc.AccessTokenCredential;
 import io.quarkus.oidc.IdTokenCredential;
 import io.quarkus.oidc.OidcTenantConfig;
@@ -20,11 +22,13 @@ import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.oauth2.AccessToken;
 import io.vertx.ext.auth.oauth2.impl.OAuth2AuthProviderImpl;
@@ -70,6 +74,53 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
             RoutingContext vertxContext) {
         TenantConfigContext resolvedContext = tenantResolver.resolve(vertxContext, true);
 
+        // Only the bearer access tokens are cached, the code flow tokens may have to be refreshed
+        IdentityCache identityCache = request.getToken() instanceof AccessTokenCredential ? resolvedContext.identityCache
+                : null;
+        if (identityCache == null) {
+            return validateToken(request, vertxContext, resolvedContext);
+        }
+        String key = IdentityCache.digest(request.getToken().getToken());
+        SecurityIdentity cached = identityCache.get(key);
+        if (cached != null) {
+            return Uni.createFrom().item(bindToRequest(cached, request.getToken(), vertxContext, resolvedContext));
+        }
+        return validateToken(request, vertxContext, resolvedContext)
+                .onItem().invoke(new Consumer<SecurityIdentity>() {
+                    @Override
+                    public void accept(SecurityIdentity identity) {
+                        // opaque tokens have no expiry in their identity and are not cached
+                        if (identity.getPrincipal() instanceof JsonWebToken) {
+                            long expiresAt = ((JsonWebToken) identity.getPrincipal()).getExpirationTime();
+                            if (expiresAt > 0) {
+                                identityCache.put(key, identity, expiresAt * 1000);
+                            }
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Creates an identity for the current request from an identity cached by a previous request with the same token.
+     */
+    private static SecurityIdentity bindToRequest(SecurityIdentity cached, TokenCredential credential,
+            RoutingContext vertxContext, TenantConfigContext resolvedContext) {
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder()
+                .addCredential(credential)
+                .addRoles(cached.getRoles())
+                .addAttributes(cached.getAttributes());
+        Principal principal = cached.getPrincipal();
+        if (principal instanceof OidcJwtCallerPrincipal) {
+            principal = new OidcJwtCallerPrincipal(((OidcJwtCallerPrincipal) principal).getClaims(), credential,
+                    resolvedContext.oidcConfig.token.principalClaim.orElse(null));
+        }
+        builder.setPrincipal(principal);
+        OidcUtils.setBlockinApiAttribute(builder, vertxContext);
+        return builder.build();
+    }
+
+    private Uni<SecurityIdentity> validateToken(TokenAuthenticationRequest request, RoutingContext vertxContext,
+            TenantConfigContext resolvedContext) {
         if (resolvedContext.oidcConfig.publicKey.isPresent()) {
             return validateTokenWithoutOidcServer(request, resolvedContext);
         } else {
@@ -96,7 +147,7 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
             @Override
             public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
 
-                resolvedContext.auth.decodeToken(request.getToken().getToken(),
+                decodeToken(resolvedContext, request.getToken().getToken(),
                         new Handler<AsyncResult<AccessToken>>() {
                             @Override
                             public void handle(AsyncResult<AccessToken> event) {
@@ -221,7 +272,7 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super AccessToken>>() {
             @Override
             public void accept(UniEmitter<? super AccessToken> uniEmitter) {
-                resolvedContext.auth.decodeToken((String) vertxContext.get("access_token"),
+                decodeToken(resolvedContext, (String) vertxContext.get("access_token"),
                         new Handler<AsyncResult<AccessToken>>() {
                             @Override
                             public void handle(AsyncResult<AccessToken> event) {
@@ -235,6 +286,35 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
         }).await().indefinitely();
     }
 
+    private static void decodeToken(TenantConfigContext resolvedContext, String token,
+            Handler<AsyncResult<AccessToken>> handler) {
+        if (resolvedContext.introspectionCache == null) {
+            resolvedContext.auth.decodeToken(token, handler);
+        } else {
+            resolvedContext.introspectionCache.get(token, new Handler<Promise<AccessToken>>() {
+                @Override
+                public void handle(Promise<AccessToken> promise) {
+                    resolvedContext.auth.decodeToken(token, promise);
+                }
+            }, handler);
+        }
+    }
+
+    private static void userInfo(TenantConfigContext resolvedContext, OAuth2TokenImpl tokenImpl,
+            Handler<AsyncResult<JsonObject>> handler) {
+        if (resolvedContext.userInfoCache == null) {
+            tokenImpl.userInfo(handler);
+        } else {
+            resolvedContext.userInfoCache.get(tokenImpl.principal().getString("access_token"),
+                    new Handler<Promise<JsonObject>>() {
+                        @Override
+                        public void handle(Promise<JsonObject> promise) {
+                            tokenImpl.userInfo(promise);
+                        }
+                    }, handler);
+        }
+    }
+
     private static Uni<SecurityIdentity> validateTokenWithoutOidcServer(TokenAuthenticationRequest request,
             TenantConfigContext resolvedContext) {
         OAuth2AuthProviderImpl auth = ((OAuth2AuthProviderImpl) resolvedContext.auth);
@@ -270,7 +350,7 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
                 new Consumer<UniEmitter<? super JsonObject>>() {
                     @Override
                     public void accept(UniEmitter<? super JsonObject> uniEmitter) {
-                        tokenImpl.userInfo(new Handler<AsyncResult<JsonObject>>() {
+                        userInfo(resolvedContext, tokenImpl, new Handler<AsyncResult<JsonObject>>() {
                             @Override
                             public void handle(AsyncResult<JsonObject> event) {
                                 if (event.failed()) {
@@ -20,6 +20,7 @@ import io.quarkus.oidc.OidcTenantConfig.Roles.Source;
 import io.quarkus.oidc.OidcTenantConfig.Tls.Verification;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.AsyncResult;
@@ -251,8 +252,10 @@ public class OidcRecorder {
             }
         }
 
-        auth.missingKeyHandler(new JwkSetRefreshHandler(auth, oidcConfig.token.forcedJwkRefreshInterval));
-        return new TenantConfigContext(auth, oidcConfig);
+        TenantConfigContext tenantContext = new TenantConfigContext(auth, oidcConfig);
+        auth.missingKeyHandler(new JwkSetRefreshHandler(auth, oidcConfig.token.forcedJwkRefreshInterval,
+                tenantContext.identityCache));
+        return tenantContext;
     }
 
     private static String prependSlash(String path) {
@@ -335,6 +338,30 @@ public class OidcRecorder {
         return Optional.of(new ProxyOptions(jsonOptions));
     }
 
+    public Consumer<MetricsFactory> registerCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                TenantConfigBean tenantConfigBean = Arc.container().instance(TenantConfigBean.class).get();
+                registerCacheMetrics(metricsFactory, tenantConfigBean.getDefaultTenant());
+                for (TenantConfigContext tenantContext : tenantConfigBean.getStaticTenantsConfig().values()) {
+                    registerCacheMetrics(metricsFactory, tenantContext);
+                }
+            }
+        };
+    }
+
+    private static void registerCacheMetrics(MetricsFactory metricsFactory, TenantConfigContext tenantContext) {
+        String tenantId = tenantContext.oidcConfig.tenantId.orElse("Default");
+        if (tenantContext.identityCache != null) {
+            tenantContext.identityCache.registerMetrics(metricsFactory, "oidc-" + tenantId);
+        }
+        if (tenantContext.introspectionCache != null) {
+            tenantContext.introspectionCache.registerMetrics(metricsFactory, tenantId);
+            tenantContext.userInfoCache.registerMetrics(metricsFactory, tenantId);
+        }
+    }
+
     public void setSecurityEventObserved(boolean isSecurityEventObserved) {
         DefaultTenantConfigResolver bean = Arc.container().instance(DefaultTenantConfigResolver.class).get();
         bean.setSecurityEventObserved(isSecurityEventObserved);
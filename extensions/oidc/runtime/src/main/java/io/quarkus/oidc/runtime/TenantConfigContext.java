@@ -1,6 +1,9 @@
 package io.quarkus.oidc.runtime;
 
 import io.quarkus.oidc.OidcTenantConfig;
+import io.quarkus.security.runtime.IdentityCache;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.oauth2.AccessToken;
 import io.vertx.ext.auth.oauth2.OAuth2Auth;
 
 class TenantConfigContext {
@@ -13,10 +16,41 @@ class TenantConfigContext {
      * Tenant configuration
      */
     final OidcTenantConfig oidcConfig;
+    /**
+     * Identities of the verified bearer tokens, {@code null} if they are not cached
+     */
+    final IdentityCache identityCache;
+    /**
+     * Results of the token introspection requests, {@code null} if they are not cached
+     */
+    final TokenResultCache<AccessToken> introspectionCache;
+    /**
+     * Results of the user info requests, {@code null} if they are not cached
+     */
+    final TokenResultCache<JsonObject> userInfoCache;
 
     TenantConfigContext(OAuth2Auth auth, OidcTenantConfig config) {
         this.auth = auth;
         this.oidcConfig = config;
+        this.identityCache = config.token.identityCacheSize > 0 ? new IdentityCache(config.token.identityCacheSize) : null;
+        if (config.tokenCache.maxSize > 0) {
+            this.introspectionCache = new TokenResultCache<>("introspection", config.tokenCache.maxSize,
+                    config.tokenCache.timeToLive, TenantConfigContext::introspectionExpiresAt);
+            this.userInfoCache = new TokenResultCache<>("userinfo", config.tokenCache.maxSize,
+                    config.tokenCache.timeToLive, userInfo -> Long.MAX_VALUE);
+        } else {
+            this.introspectionCache = null;
+            this.userInfoCache = null;
+        }
+    }
+
+    private static long introspectionExpiresAt(AccessToken result) {
+        if (result.accessToken() != null) {
+            // the JWT token has been verified locally, there is no introspection result to keep
+            return 0;
+        }
+        Object exp = result.principal().getValue("exp");
+        return exp instanceof Number ? ((Number) exp).longValue() * 1000 : Long.MAX_VALUE;
     }
 
 }
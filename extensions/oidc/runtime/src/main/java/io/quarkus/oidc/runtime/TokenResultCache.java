@@ -0,0 +1,132 @@
+package io.quarkus.oidc.runtime;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.runtime.IdentityCache;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+/**
+ * A cache of the results the OIDC server returns for a token, such as its introspection or the user info.
+ * <p>
+ * The requests with the same token share the call to the OIDC server which is in flight, if any, and then its result
+ * until the token expires, at most for the configured time to live. The failures are not cached. The entries are keyed
+ * by a digest of the token.
+ */
+class TokenResultCache<T> {
+
+    private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final String name;
+    private final int maxSize;
+    private final long timeToLive;
+    private final ToLongFunction<T> expiresAt;
+
+    /**
+     * @param expiresAt returns the time in milliseconds since the epoch at which a result expires, {@link Long#MAX_VALUE}
+     *        if it is not known, or {@code 0} if the result must not be kept once the call completed
+     */
+    TokenResultCache(String name, int maxSize, Duration timeToLive, ToLongFunction<T> expiresAt) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive.toMillis();
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Passes the cached result for the given token to the handler, or calls the OIDC server.
+     *
+     * @param call the call to the OIDC server, completing the given promise
+     */
+    void get(String token, Handler<Promise<T>> call, Handler<AsyncResult<T>> handler) {
+        String key = IdentityCache.digest(token);
+        Entry<T> entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                hits.increment();
+                entry.result.onComplete(handler);
+                return;
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        Promise<T> promise = Promise.promise();
+        Entry<T> loading = new Entry<>(promise.future());
+        Entry<T> existing = entries.putIfAbsent(key, loading);
+        if (existing != null) {
+            // a concurrent request started the call first
+            existing.result.onComplete(handler);
+            return;
+        }
+        evictIfNeeded();
+        promise.future().onComplete(new Handler<AsyncResult<T>>() {
+            @Override
+            public void handle(AsyncResult<T> result) {
+                if (result.failed()) {
+                    entries.remove(key, loading);
+                    return;
+                }
+                long expiry = Math.min(expiresAt.applyAsLong(result.result()), System.currentTimeMillis() + timeToLive);
+                if (expiry > System.currentTimeMillis()) {
+                    loading.expiresAt = expiry;
+                } else {
+                    entries.remove(key, loading);
+                }
+            }
+        });
+        promise.future().onComplete(handler);
+        call.handle(promise);
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory, String tenantId) {
+        metricsFactory.builder("oidc.token.cache.hits")
+                .description("Number of requests answered from the cache of the OIDC server results.")
+                .tag("cache", name)
+                .tag("tenant", tenantId)
+                .buildCounter(hits::sum);
+        metricsFactory.builder("oidc.token.cache.misses")
+                .description("Number of requests sent to the OIDC server while the cache was enabled.")
+                .tag("cache", name)
+                .tag("tenant", tenantId)
+                .buildCounter(misses::sum);
+        metricsFactory.builder("oidc.token.cache.size")
+                .description("Number of results in the cache of the OIDC server results.")
+                .tag("cache", name)
+                .tag("tenant", tenantId)
+                .buildGauge(entries::size);
+    }
+
+    private void evictIfNeeded() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        // evicts a tenth of the entries at once, so that a full cache is not scanned on every call
+        int targetSize = maxSize - maxSize / 10;
+        Iterator<Entry<T>> iterator = entries.values().iterator();
+        while (entries.size() > targetSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry<T> {
+        final Future<T> result;
+        // the entry is shared while the call is in flight
+        volatile long expiresAt = Long.MAX_VALUE;
+
+        Entry(Future<T> result) {
+            this.result = result;
+        }
+    }
+}
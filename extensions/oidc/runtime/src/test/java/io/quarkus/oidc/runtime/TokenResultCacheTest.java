@@ -0,0 +1,65 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Promise;
+
+public class TokenResultCacheTest {
+
+    @Test
+    public void testConcurrentRequestsShareTheCall() {
+        TokenResultCache<String> cache = new TokenResultCache<>("test", 10, Duration.ofMinutes(1), r -> Long.MAX_VALUE);
+        List<Promise<String>> calls = new ArrayList<>();
+        List<AsyncResult<String>> results = new ArrayList<>();
+
+        cache.get("token", calls::add, results::add);
+        cache.get("token", calls::add, results::add);
+        assertEquals(1, calls.size());
+        assertEquals(0, results.size());
+
+        calls.get(0).complete("alice");
+        cache.get("token", calls::add, results::add);
+        assertEquals(1, calls.size());
+        assertEquals(3, results.size());
+        for (AsyncResult<String> result : results) {
+            assertEquals("alice", result.result());
+        }
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        TokenResultCache<String> cache = new TokenResultCache<>("test", 10, Duration.ofMinutes(1), r -> Long.MAX_VALUE);
+        List<Promise<String>> calls = new ArrayList<>();
+        List<AsyncResult<String>> results = new ArrayList<>();
+
+        cache.get("token", calls::add, results::add);
+        calls.get(0).fail("unavailable");
+        cache.get("token", calls::add, results::add);
+
+        assertEquals(2, calls.size());
+        assertTrue(results.get(0).failed());
+    }
+
+    @Test
+    public void testExpiredResultsAreNotKept() {
+        TokenResultCache<String> cache = new TokenResultCache<>("test", 10, Duration.ofMinutes(1),
+                r -> r.equals("expired") ? System.currentTimeMillis() - 1 : Long.MAX_VALUE);
+        List<Promise<String>> calls = new ArrayList<>();
+
+        cache.get("token", calls::add, r -> {
+        });
+        calls.get(0).complete("expired");
+        cache.get("token", calls::add, r -> {
+        });
+
+        assertEquals(2, calls.size());
+    }
+}
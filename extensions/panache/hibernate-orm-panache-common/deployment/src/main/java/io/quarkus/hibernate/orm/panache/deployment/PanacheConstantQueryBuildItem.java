@@ -0,0 +1,31 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.hibernate.orm.panache.common.runtime.PrecompiledQuery;
+
+/**
+ * A constant query string passed to a Panache operation of an entity, found in the application bytecode.
+ */
+public final class PanacheConstantQueryBuildItem extends MultiBuildItem {
+    private final String entityClassName;
+    private final PrecompiledQuery.Kind kind;
+    private final String query;
+
+    public PanacheConstantQueryBuildItem(String entityClassName, PrecompiledQuery.Kind kind, String query) {
+        this.entityClassName = entityClassName;
+        this.kind = kind;
+        this.query = query;
+    }
+
+    public String getEntityClassName() {
+        return entityClassName;
+    }
+
+    public PrecompiledQuery.Kind getKind() {
+        return kind;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import io.quarkus.hibernate.orm.panache.common.runtime.PrecompiledQuery;
+
+/**
+ * Finds the Panache operations called with a constant query string, such as {@code Person.find("name = ?1", name)}.
+ * <p>
+ * A call site is only considered when the query argument is pushed by a single {@code LDC} instruction, which we find by
+ * tracking the source of each stack value.
+ */
+public class PanacheConstantQueryScanner {
+
+    private static final Logger LOG = Logger.getLogger(PanacheConstantQueryScanner.class);
+
+    private static final Map<String, PrecompiledQuery.Kind> OPERATIONS = new HashMap<>();
+
+    static {
+        OPERATIONS.put("find", PrecompiledQuery.Kind.FIND);
+        OPERATIONS.put("list", PrecompiledQuery.Kind.FIND);
+        OPERATIONS.put("stream", PrecompiledQuery.Kind.FIND);
+        OPERATIONS.put("count", PrecompiledQuery.Kind.COUNT);
+        OPERATIONS.put("exists", PrecompiledQuery.Kind.COUNT);
+        OPERATIONS.put("delete", PrecompiledQuery.Kind.DELETE);
+        OPERATIONS.put("update", PrecompiledQuery.Kind.UPDATE);
+    }
+
+    private static final String STRING_DESCRIPTOR = Type.getDescriptor(String.class);
+
+    // internal name of the entity or repository class -> entity class name
+    private final Map<String, String> owners;
+    private final Set<String> found = new HashSet<>();
+    private final List<PanacheConstantQueryBuildItem> queries = new ArrayList<>();
+
+    /**
+     * @param owners the entity class names, indexed by the internal name of the entity or repository classes their
+     *        operations are called on
+     */
+    public PanacheConstantQueryScanner(Map<String, String> owners) {
+        this.owners = owners;
+    }
+
+    public void scan(byte[] classBytes) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(classBytes).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        for (MethodNode method : classNode.methods) {
+            if (hasCandidateCall(method)) {
+                scan(classNode.name, method);
+            }
+        }
+    }
+
+    public List<PanacheConstantQueryBuildItem> getQueries() {
+        return queries;
+    }
+
+    private boolean hasCandidateCall(MethodNode method) {
+        for (AbstractInsnNode insn : method.instructions) {
+            if (isCandidateCall(insn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isCandidateCall(AbstractInsnNode insn) {
+        if (!(insn instanceof MethodInsnNode)) {
+            return false;
+        }
+        MethodInsnNode call = (MethodInsnNode) insn;
+        return owners.containsKey(call.owner)
+                && OPERATIONS.containsKey(call.name)
+                && call.desc.startsWith("(" + STRING_DESCRIPTOR);
+    }
+
+    private void scan(String owner, MethodNode method) {
+        Frame<SourceValue>[] frames;
+        try {
+            frames = new Analyzer<>(new SourceInterpreter()).analyze(owner, method);
+        } catch (AnalyzerException e) {
+            LOG.debugf(e, "Unable to analyze method %s.%s, its Panache queries will not be precompiled", owner,
+                    method.name);
+            return;
+        }
+        AbstractInsnNode[] insns = method.instructions.toArray();
+        for (int i = 0; i < insns.length; i++) {
+            Frame<SourceValue> frame = frames[i];
+            if (frame == null || !isCandidateCall(insns[i])) {
+                continue;
+            }
+            MethodInsnNode call = (MethodInsnNode) insns[i];
+            int queryArgument = frame.getStackSize() - Type.getArgumentTypes(call.desc).length;
+            SourceValue value = frame.getStack(queryArgument);
+            if (value.insns.size() != 1) {
+                continue;
+            }
+            AbstractInsnNode source = value.insns.iterator().next();
+            if (source.getOpcode() == Opcodes.LDC && ((LdcInsnNode) source).cst instanceof String) {
+                String entityClassName = owners.get(call.owner);
+                PrecompiledQuery.Kind kind = OPERATIONS.get(call.name);
+                String query = (String) ((LdcInsnNode) source).cst;
+                if (found.add(entityClassName + '\0' + kind + '\0' + query)) {
+                    queries.add(new PanacheConstantQueryBuildItem(entityClassName, kind, query));
+                }
+            }
+        }
+    }
+}
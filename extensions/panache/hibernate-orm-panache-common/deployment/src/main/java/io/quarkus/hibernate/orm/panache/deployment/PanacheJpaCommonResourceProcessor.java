@@ -1,9 +1,11 @@
 package io.quarkus.hibernate.orm.panache.deployment;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.persistence.NamedQueries;
@@ -20,9 +22,15 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.JpaEntitiesBuildItem;
+import io.quarkus.hibernate.orm.deployment.JpaModelPersistenceUnitMappingBuildItem;
+import io.quarkus.hibernate.orm.deployment.PersistenceProviderSetUpBuildItem;
 import io.quarkus.hibernate.orm.panache.common.runtime.PanacheHibernateRecorder;
+import io.quarkus.hibernate.orm.panache.common.runtime.PrecompiledQuery;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public final class PanacheJpaCommonResourceProcessor {
 
@@ -53,6 +61,63 @@ public final class PanacheJpaCommonResourceProcessor {
         panacheHibernateRecorder.setNamedQueryMap(namedQueryMap);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void precompileConstantQueries(List<PanacheConstantQueryBuildItem> constantQueries,
+            Optional<JpaModelPersistenceUnitMappingBuildItem> jpaModelPersistenceUnitMapping,
+            BeanContainerBuildItem beanContainer,
+            List<PersistenceProviderSetUpBuildItem> persistenceProviderSetUp,
+            PanacheHibernateRecorder panacheHibernateRecorder) {
+        if (constantQueries.isEmpty()) {
+            return;
+        }
+
+        List<PrecompiledQuery> precompiledQueries = new ArrayList<>();
+        for (PanacheConstantQueryBuildItem constantQuery : constantQueries) {
+            String persistenceUnit = getPersistenceUnit(jpaModelPersistenceUnitMapping,
+                    constantQuery.getEntityClassName());
+            String query = constantQuery.getQuery();
+            // named queries are already precompiled by Hibernate ORM
+            if (persistenceUnit == null || query.trim().isEmpty() || PanacheJpaUtil.isNamedQuery(query)) {
+                continue;
+            }
+            // the expansion of single property queries depends on the number of parameters
+            for (int paramCount = 1; paramCount >= 0; paramCount--) {
+                String jpql = createQuery(constantQuery.getKind(), constantQuery.getEntityClassName(), query, paramCount);
+                precompiledQueries.add(new PrecompiledQuery(constantQuery.getEntityClassName(), persistenceUnit,
+                        constantQuery.getKind(), query, paramCount == 1, jpql));
+            }
+        }
+
+        panacheHibernateRecorder.registerPrecompiledQueries(precompiledQueries);
+    }
+
+    private static String getPersistenceUnit(
+            Optional<JpaModelPersistenceUnitMappingBuildItem> jpaModelPersistenceUnitMapping, String entityClassName) {
+        if (!jpaModelPersistenceUnitMapping.isPresent()) {
+            return PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
+        }
+        Set<String> persistenceUnits = jpaModelPersistenceUnitMapping.get().getEntityToPersistenceUnits()
+                .get(entityClassName);
+        // entities attached to several persistence units cannot be used with Panache
+        return persistenceUnits != null && persistenceUnits.size() == 1 ? persistenceUnits.iterator().next() : null;
+    }
+
+    private static String createQuery(PrecompiledQuery.Kind kind, String entityClassName, String query, int paramCount) {
+        switch (kind) {
+            case FIND:
+                return PanacheJpaUtil.createFindQuery(entityClassName, query, paramCount);
+            case COUNT:
+                return PanacheJpaUtil.createCountQuery(entityClassName, query, paramCount);
+            case DELETE:
+                return PanacheJpaUtil.createDeleteQuery(entityClassName, query, paramCount);
+            case UPDATE:
+                return PanacheJpaUtil.createUpdateQuery(entityClassName, query, paramCount);
+            default:
+                throw new IllegalArgumentException("Unsupported query kind: " + kind);
+        }
+    }
+
     private void lookupNamedQueries(CombinedIndexBuildItem index, DotName name, Set<String> namedQueries) {
         ClassInfo classInfo = index.getIndex().getClassByName(name);
         if (classInfo == null) {
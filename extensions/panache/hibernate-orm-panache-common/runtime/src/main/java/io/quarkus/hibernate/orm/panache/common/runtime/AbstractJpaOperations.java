@@ -1,9 +1,12 @@
 package io.quarkus.hibernate.orm.panache.common.runtime;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
@@ -12,7 +15,12 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.jboss.logging.Logger;
+
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
 import io.quarkus.hibernate.orm.PersistenceUnit;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.panache.common.Parameters;
@@ -21,6 +29,11 @@ import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
 
+    private static final Logger LOG = Logger.getLogger(AbstractJpaOperations.class);
+
+    // the entity managers are singleton beans forwarding to the current session: they are resolved once per container
+    private volatile EntityManagerCache entityManagerCache;
+
     protected abstract PanacheQueryType createPanacheQuery(EntityManager em, String query, String orderBy,
             Object paramsArrayOrMap);
 
@@ -28,10 +41,36 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
 
     protected abstract Stream<?> stream(PanacheQueryType query);
 
-    public abstract EntityManager getEntityManager(Class<?> clazz);
+    /**
+     * @return the name of the persistence unit the given entity class is attached to, or {@code null} for the default one
+     */
+    protected abstract String getPersistenceUnitName(Class<?> clazz);
+
+    public EntityManager getEntityManager(Class<?> clazz) {
+        Map<Class<?>, EntityManager> byClass = entityManagerCache().byClass;
+        EntityManager em = byClass.get(clazz);
+        if (em == null) {
+            em = getEntityManager(getPersistenceUnitName(clazz));
+            byClass.put(clazz, em);
+        }
+        return em;
+    }
 
     public EntityManager getEntityManager(String persistentUnitName) {
-        if (persistentUnitName == null || PersistenceUnitUtil.isDefaultPersistenceUnit(persistentUnitName)) {
+        if (persistentUnitName == null) {
+            persistentUnitName = PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
+        }
+        Map<String, EntityManager> byPersistenceUnit = entityManagerCache().byPersistenceUnit;
+        EntityManager em = byPersistenceUnit.get(persistentUnitName);
+        if (em == null) {
+            em = lookupEntityManager(persistentUnitName);
+            byPersistenceUnit.put(persistentUnitName, em);
+        }
+        return em;
+    }
+
+    private static EntityManager lookupEntityManager(String persistentUnitName) {
+        if (PersistenceUnitUtil.isDefaultPersistenceUnit(persistentUnitName)) {
             return Arc.container().instance(EntityManager.class).get();
         }
 
@@ -40,6 +79,17 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         return Arc.container().instance(EntityManager.class, persistenceUnitLiteral).get();
     }
 
+    private EntityManagerCache entityManagerCache() {
+        ArcContainer container = Arc.container();
+        EntityManagerCache cache = entityManagerCache;
+        if (cache == null || cache.container != container) {
+            // first use, or the application was restarted with a new container
+            cache = new EntityManagerCache(container);
+            entityManagerCache = cache;
+        }
+        return cache;
+    }
+
     public EntityManager getEntityManager() {
         return getEntityManager(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
     }
@@ -74,6 +124,73 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         entities.forEach(entity -> persist(entity));
     }
 
+    public long persistInBatches(Iterable<?> entities, int batchSize) {
+        return persistInBatches(entities.iterator(), batchSize);
+    }
+
+    public long persistInBatches(Stream<?> entities, int batchSize) {
+        return persistInBatches(entities.iterator(), batchSize);
+    }
+
+    /**
+     * Persists the entities, flushing and clearing the persistence context every {@code batchSize} entities so that it
+     * doesn't grow with the number of entities. JDBC batching is enabled with the same size for the duration of the
+     * operation, and the second-level cache is bypassed.
+     */
+    private long persistInBatches(Iterator<?> entities, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be strictly positive, was " + batchSize);
+        }
+        if (!entities.hasNext()) {
+            return 0;
+        }
+        Object entity = entities.next();
+        Class<?> entityClass = entity.getClass();
+        EntityManager em = getEntityManager(entityClass);
+        Session session = em.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setJdbcBatchSize(batchSize);
+        session.setCacheMode(CacheMode.IGNORE);
+        long start = System.nanoTime();
+        long count = 0;
+        try {
+            while (true) {
+                persist(em, entity);
+                if (++count % batchSize == 0) {
+                    em.flush();
+                    em.clear();
+                    LOG.debugf("Persisted %d entities so far (%d rows/s)", count, rate(count, start));
+                }
+                if (!entities.hasNext()) {
+                    break;
+                }
+                entity = entities.next();
+                if (entity.getClass() != entityClass) {
+                    entityClass = entity.getClass();
+                    if (getEntityManager(entityClass).unwrap(Session.class).getSessionFactory() != session
+                            .getSessionFactory()) {
+                        throw new IllegalArgumentException("Entities persisted in batches must belong to the same "
+                                + "persistence unit, " + entityClass.getName() + " doesn't");
+                    }
+                }
+            }
+            em.flush();
+            em.clear();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+            session.setCacheMode(previousCacheMode);
+        }
+        LOG.debugf("Persisted %d entities in %d ms (%d rows/s)", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), rate(count, start));
+        return count;
+    }
+
+    private static long rate(long count, long start) {
+        long elapsed = System.nanoTime() - start;
+        return elapsed == 0 ? count : count * TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
     public void delete(Object entity) {
         EntityManager em = getEntityManager(entity.getClass());
         em.remove(entity);
@@ -143,7 +260,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String findQuery = PanacheJpaUtil.createFindQuery(entityClass, query, paramCount(params));
+        String findQuery = createFindQuery(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager(entityClass);
         // FIXME: check for duplicate ORDER BY clause?
         if (PanacheJpaUtil.isNamedQuery(query)) {
@@ -159,7 +276,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String findQuery = PanacheJpaUtil.createFindQuery(entityClass, query, paramCount(params));
+        String findQuery = createFindQuery(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager(entityClass);
         // FIXME: check for duplicate ORDER BY clause?
         if (PanacheJpaUtil.isNamedQuery(query)) {
@@ -262,15 +379,15 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
 
     public long count(Class<?> entityClass, String query, Object... params) {
         return (long) bindParameters(
-                getEntityManager(entityClass)
-                        .createQuery(PanacheJpaUtil.createCountQuery(entityClass, query, paramCount(params))),
+                createQuery(getEntityManager(entityClass), PrecompiledQuery.Kind.COUNT, entityClass, query,
+                        paramCount(params)),
                 params).getSingleResult();
     }
 
     public long count(Class<?> entityClass, String query, Map<String, Object> params) {
         return (long) bindParameters(
-                getEntityManager(entityClass)
-                        .createQuery(PanacheJpaUtil.createCountQuery(entityClass, query, paramCount(params))),
+                createQuery(getEntityManager(entityClass), PrecompiledQuery.Kind.COUNT, entityClass, query,
+                        paramCount(params)),
                 params).getSingleResult();
     }
 
@@ -312,16 +429,16 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
 
     public long delete(Class<?> entityClass, String query, Object... params) {
         return bindParameters(
-                getEntityManager(entityClass)
-                        .createQuery(PanacheJpaUtil.createDeleteQuery(entityClass, query, paramCount(params))),
+                createQuery(getEntityManager(entityClass), PrecompiledQuery.Kind.DELETE, entityClass, query,
+                        paramCount(params)),
                 params)
                         .executeUpdate();
     }
 
     public long delete(Class<?> entityClass, String query, Map<String, Object> params) {
         return bindParameters(
-                getEntityManager(entityClass)
-                        .createQuery(PanacheJpaUtil.createDeleteQuery(entityClass, query, paramCount(params))),
+                createQuery(getEntityManager(entityClass), PrecompiledQuery.Kind.DELETE, entityClass, query,
+                        paramCount(params)),
                 params)
                         .executeUpdate();
     }
@@ -330,6 +447,33 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         return delete(entityClass, query, params.map());
     }
 
+    private static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        PrecompiledQuery precompiledQuery = PrecompiledQueries.get(PrecompiledQuery.Kind.FIND, entityClass, query,
+                paramCount);
+        if (precompiledQuery != null) {
+            return precompiledQuery.getJpql();
+        }
+        return PanacheJpaUtil.createFindQuery(entityClass, query, paramCount);
+    }
+
+    private static Query createQuery(EntityManager em, PrecompiledQuery.Kind kind, Class<?> entityClass, String query,
+            int paramCount) {
+        PrecompiledQuery precompiledQuery = PrecompiledQueries.get(kind, entityClass, query, paramCount);
+        if (precompiledQuery != null) {
+            return em.createNamedQuery(precompiledQuery.getNamedQuery());
+        }
+        switch (kind) {
+            case COUNT:
+                return em.createQuery(PanacheJpaUtil.createCountQuery(entityClass, query, paramCount));
+            case DELETE:
+                return em.createQuery(PanacheJpaUtil.createDeleteQuery(entityClass, query, paramCount));
+            case UPDATE:
+                return em.createQuery(PanacheJpaUtil.createUpdateQuery(entityClass, query, paramCount));
+            default:
+                throw new IllegalArgumentException("Unsupported query kind: " + kind);
+        }
+    }
+
     public IllegalStateException implementationInjectionMissing() {
         return new IllegalStateException(
                 "This method is normally automatically overridden in subclasses: did you forget to annotate your entity with @Entity?");
@@ -366,13 +510,17 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     }
 
     public int executeUpdate(Class<?> entityClass, String query, Object... params) {
-        String updateQuery = PanacheJpaUtil.createUpdateQuery(entityClass, query, paramCount(params));
-        return executeUpdate(updateQuery, entityClass, params);
+        Query jpaQuery = createQuery(getEntityManager(entityClass), PrecompiledQuery.Kind.UPDATE, entityClass, query,
+                paramCount(params));
+        bindParameters(jpaQuery, params);
+        return jpaQuery.executeUpdate();
     }
 
     public int executeUpdate(Class<?> entityClass, String query, Map<String, Object> params) {
-        String updateQuery = PanacheJpaUtil.createUpdateQuery(entityClass, query, paramCount(params));
-        return executeUpdate(updateQuery, entityClass, params);
+        Query jpaQuery = createQuery(getEntityManager(entityClass), PrecompiledQuery.Kind.UPDATE, entityClass, query,
+                paramCount(params));
+        bindParameters(jpaQuery, params);
+        return jpaQuery.executeUpdate();
     }
 
     public int update(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -394,4 +542,14 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
             throw new IllegalStateException(e);
         }
     }
+
+    private static final class EntityManagerCache {
+        final ArcContainer container;
+        final Map<String, EntityManager> byPersistenceUnit = new ConcurrentHashMap<>();
+        final Map<Class<?>, EntityManager> byClass = new ConcurrentHashMap<>();
+
+        EntityManagerCache(ArcContainer container) {
+            this.container = container;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache.common.runtime;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -10,4 +11,8 @@ public class PanacheHibernateRecorder {
     public void setNamedQueryMap(Map<String, Set<String>> namedQueryMap) {
         NamedQueryUtil.setNamedQueryMap(namedQueryMap);
     }
+
+    public void registerPrecompiledQueries(List<PrecompiledQuery> precompiledQueries) {
+        PrecompiledQueries.register(precompiledQueries);
+    }
 }
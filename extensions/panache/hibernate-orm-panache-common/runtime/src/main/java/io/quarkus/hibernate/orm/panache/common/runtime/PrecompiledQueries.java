@@ -0,0 +1,87 @@
+package io.quarkus.hibernate.orm.panache.common.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.runtime.JPAConfig;
+
+/**
+ * Holds the Panache queries precompiled at augmentation time, indexed by their query string.
+ */
+public final class PrecompiledQueries {
+
+    private static final Logger LOG = Logger.getLogger(PrecompiledQueries.class);
+
+    static final String NAMED_QUERY_PREFIX = "quarkus-panache:";
+
+    private static final PrecompiledQuery[] EMPTY = new PrecompiledQuery[0];
+
+    // will be replaced at startup
+    private static volatile Map<String, PrecompiledQuery[]> queries = Collections.emptyMap();
+
+    private PrecompiledQueries() {
+        // prevent initialization
+    }
+
+    /**
+     * Registers the given queries as named queries of their persistence unit, so that they are parsed once at startup.
+     * Queries that cannot be registered are left to the dynamic query creation, which will report the error.
+     */
+    static void register(List<PrecompiledQuery> precompiledQueries) {
+        JPAConfig jpaConfig = Arc.container().instance(JPAConfig.class).get();
+        Map<String, List<PrecompiledQuery>> registered = new HashMap<>();
+        for (PrecompiledQuery precompiledQuery : precompiledQueries) {
+            EntityManagerFactory emf = jpaConfig.getEntityManagerFactory(precompiledQuery.getPersistenceUnit());
+            EntityManager em = emf.createEntityManager();
+            try {
+                emf.addNamedQuery(precompiledQuery.getNamedQuery(), em.createQuery(precompiledQuery.getJpql()));
+            } catch (RuntimeException e) {
+                LOG.debugf(e, "Unable to precompile the query '%s' of entity %s", precompiledQuery.getQuery(),
+                        precompiledQuery.getEntityClass());
+                continue;
+            } finally {
+                em.close();
+            }
+            registered.computeIfAbsent(precompiledQuery.getQuery(), k -> new ArrayList<>()).add(precompiledQuery);
+        }
+
+        Map<String, PrecompiledQuery[]> newQueries = new HashMap<>();
+        int count = 0;
+        for (Map.Entry<String, List<PrecompiledQuery>> entry : registered.entrySet()) {
+            newQueries.put(entry.getKey(), entry.getValue().toArray(EMPTY));
+            count += entry.getValue().size();
+        }
+        queries = newQueries;
+        LOG.debugf("Precompiled %d Panache queries", count);
+    }
+
+    /**
+     * @return the precompiled query matching the given call, or {@code null} if the query has to be created dynamically
+     */
+    static PrecompiledQuery get(PrecompiledQuery.Kind kind, Class<?> entityClass, String query, int paramCount) {
+        if (query == null) {
+            return null;
+        }
+        PrecompiledQuery[] candidates = queries.get(query);
+        if (candidates == null) {
+            return null;
+        }
+        boolean singleParameter = paramCount == 1;
+        for (PrecompiledQuery candidate : candidates) {
+            if (candidate.getKind() == kind && candidate.isSingleParameter() == singleParameter
+                    && candidate.getEntityClass().equals(entityClass.getName())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package io.quarkus.hibernate.orm.panache.common.runtime;
+
+/**
+ * A Panache query string found as a constant at a call site, with the JPQL it expands to.
+ * <p>
+ * Built at augmentation time and registered as a named query when the application starts.
+ */
+public class PrecompiledQuery {
+
+    public enum Kind {
+        FIND,
+        COUNT,
+        DELETE,
+        UPDATE
+    }
+
+    private String entityClass;
+    private String persistenceUnit;
+    private Kind kind;
+    private String query;
+    private boolean singleParameter;
+    private String jpql;
+
+    public PrecompiledQuery() {
+    }
+
+    public PrecompiledQuery(String entityClass, String persistenceUnit, Kind kind, String query, boolean singleParameter,
+            String jpql) {
+        this.entityClass = entityClass;
+        this.persistenceUnit = persistenceUnit;
+        this.kind = kind;
+        this.query = query;
+        this.singleParameter = singleParameter;
+        this.jpql = jpql;
+    }
+
+    public String getEntityClass() {
+        return entityClass;
+    }
+
+    public void setEntityClass(String entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public String getPersistenceUnit() {
+        return persistenceUnit;
+    }
+
+    public void setPersistenceUnit(String persistenceUnit) {
+        this.persistenceUnit = persistenceUnit;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public void setKind(Kind kind) {
+        this.kind = kind;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    /**
+     * @return whether this query is used with exactly one parameter, which changes the expansion of single property queries
+     */
+    public boolean isSingleParameter() {
+        return singleParameter;
+    }
+
+    public void setSingleParameter(boolean singleParameter) {
+        this.singleParameter = singleParameter;
+    }
+
+    public String getJpql() {
+        return jpql;
+    }
+
+    public void setJpql(String jpql) {
+        this.jpql = jpql;
+    }
+
+    /**
+     * @return the name of the named query registered for this query
+     */
+    public String getNamedQuery() {
+        return PrecompiledQueries.NAMED_QUERY_PREFIX + jpql;
+    }
+}
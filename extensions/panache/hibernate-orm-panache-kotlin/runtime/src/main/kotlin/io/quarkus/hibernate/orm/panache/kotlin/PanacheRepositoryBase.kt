@@ -564,6 +564,42 @@ interface PanacheRepositoryBase<Entity : Any, Id: Any> {
         JpaOperations.persist(entities)
     }
 
+    /**
+     * Persist all given entities in batches of [batchSize] entities, for imports too large to be held in the
+     * persistence context at once.
+     *
+     * The persistence context is flushed and cleared after each batch, so the persisted entities, as well as any entity
+     * loaded before the call, are detached once this method returns. JDBC batching is enabled with the same size for
+     * the duration of the call, unless the identifiers are generated by the database (identity columns), which
+     * Hibernate ORM cannot batch. All entities must belong to the same persistence unit.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     * @return the number of persisted entities
+     * @see [PanacheRepositoryBase.persist]
+     */
+    fun persistInBatches(entities: Iterable<Entity>, batchSize: Int): Long {
+        return JpaOperations.persistInBatches(entities, batchSize)
+    }
+
+    /**
+     * Persist all given entities in batches of [batchSize] entities, for imports too large to be held in the
+     * persistence context at once.
+     *
+     * The persistence context is flushed and cleared after each batch, so the persisted entities, as well as any entity
+     * loaded before the call, are detached once this method returns. JDBC batching is enabled with the same size for
+     * the duration of the call, unless the identifiers are generated by the database (identity columns), which
+     * Hibernate ORM cannot batch. All entities must belong to the same persistence unit.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     * @return the number of persisted entities
+     * @see [PanacheRepositoryBase.persist]
+     */
+    fun persistInBatches(entities: Stream<Entity>, batchSize: Int): Long {
+        return JpaOperations.persistInBatches(entities, batchSize)
+    }
+
     /**
      * Persist all given entities.
      *
@@ -1,5 +1,9 @@
 package io.quarkus.hibernate.orm.panache.deployment;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -23,6 +27,7 @@ import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.builder.BuildException;
+import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -109,6 +114,51 @@ public final class PanacheHibernateResourceProcessor {
         return null;
     }
 
+    @BuildStep
+    void collectConstantQueries(CombinedIndexBuildItem index,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            List<PanacheEntityClassBuildItem> entityClasses,
+            BuildProducer<PanacheConstantQueryBuildItem> constantQueries) throws IOException {
+        // the operations of entities are called on the entity class, the ones of repositories on the repository class
+        Map<String, String> owners = new HashMap<>();
+        for (PanacheEntityClassBuildItem entityClass : entityClasses) {
+            String entityClassName = entityClass.get().name().toString();
+            owners.put(entityClassName.replace('.', '/'), entityClassName);
+        }
+        collectRepositoryEntities(index, DOTNAME_PANACHE_REPOSITORY_BASE, owners);
+        collectRepositoryEntities(index, DOTNAME_PANACHE_REPOSITORY, owners);
+        if (owners.isEmpty()) {
+            return;
+        }
+
+        PanacheConstantQueryScanner scanner = new PanacheConstantQueryScanner(owners);
+        ApplicationArchive rootArchive = applicationArchivesBuildItem.getRootArchive();
+        for (ClassInfo classInfo : rootArchive.getIndex().getKnownClasses()) {
+            Path classFile = rootArchive.getChildPath(classInfo.name().toString().replace('.', '/') + ".class");
+            if (classFile != null) {
+                scanner.scan(Files.readAllBytes(classFile));
+            }
+        }
+        for (PanacheConstantQueryBuildItem constantQuery : scanner.getQueries()) {
+            constantQueries.produce(constantQuery);
+        }
+    }
+
+    private void collectRepositoryEntities(CombinedIndexBuildItem index, DotName repositoryType,
+            Map<String, String> owners) {
+        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(repositoryType)) {
+            // abstract and generic repositories are skipped: their operations are called on bottom types
+            if (Modifier.isAbstract(classInfo.flags()) || !classInfo.typeParameters().isEmpty()) {
+                continue;
+            }
+            List<org.jboss.jandex.Type> typeParameters = JandexUtil.resolveTypeParameters(classInfo.name(), repositoryType,
+                    index.getIndex());
+            if (typeParameters.get(0).kind() == org.jboss.jandex.Type.Kind.CLASS) {
+                owners.put(classInfo.name().toString().replace('.', '/'), typeParameters.get(0).name().toString());
+            }
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     void build(
@@ -0,0 +1,62 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import javax.enterprise.context.control.ActivateRequestContext;
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrecompiledQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application.properties")
+                    .addClasses(MyEntity.class));
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    @Transactional
+    void constantQueriesShouldBePrecompiled() {
+        MyEntity entity = new MyEntity();
+        entity.name = "stef";
+        entity.persist();
+
+        assertEquals(1, MyEntity.count("name", "stef"));
+        assertEquals(1, MyEntity.list("name = ?1 and id > ?2", "stef", 0L).size());
+        assertEquals(1, MyEntity.update("name = 'loic' where name = ?1", "stef"));
+        assertEquals(1, MyEntity.delete("name", "loic"));
+
+        String entityName = MyEntity.class.getName();
+        assertNotNull(entityManager.createNamedQuery(
+                "quarkus-panache:SELECT COUNT(*) FROM " + entityName + " WHERE name = ?1"));
+        assertNotNull(entityManager.createNamedQuery(
+                "quarkus-panache:FROM " + entityName + " WHERE name = ?1 and id > ?2"));
+        assertNotNull(entityManager.createNamedQuery(
+                "quarkus-panache:UPDATE FROM " + entityName + " SET name = 'loic' where name = ?1"));
+        assertNotNull(entityManager.createNamedQuery(
+                "quarkus-panache:DELETE FROM " + entityName + " WHERE name = ?1"));
+    }
+
+    @Test
+    @ActivateRequestContext
+    void dynamicQueriesShouldNotBePrecompiled() {
+        String query = String.join(" ", "id", ">", "?1");
+        assertEquals(0, MyEntity.count(query, 0L));
+
+        assertThrows(IllegalArgumentException.class, () -> entityManager.createNamedQuery(
+                "quarkus-panache:SELECT COUNT(*) FROM " + MyEntity.class.getName() + " WHERE id > ?1"));
+    }
+}
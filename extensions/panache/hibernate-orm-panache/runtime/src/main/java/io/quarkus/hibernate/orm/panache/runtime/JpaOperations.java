@@ -38,10 +38,8 @@ public class JpaOperations {
         }
 
         @Override
-        public EntityManager getEntityManager(Class<?> clazz) {
-            String clazzName = clazz.getName();
-            String persistentUnitName = entityToPersistenceUnit.get(clazzName);
-            return super.getEntityManager(persistentUnitName);
+        protected String getPersistenceUnitName(Class<?> clazz) {
+            return entityToPersistenceUnit.get(clazz.getName());
         }
     }
 
@@ -75,6 +73,14 @@ public class JpaOperations {
         delegate.persist(entities);
     }
 
+    public static long persistInBatches(Iterable<?> entities, int batchSize) {
+        return delegate.persistInBatches(entities, batchSize);
+    }
+
+    public static long persistInBatches(Stream<?> entities, int batchSize) {
+        return delegate.persistInBatches(entities, batchSize);
+    }
+
     public static void delete(Object entity) {
         delegate.delete(entity);
     }
@@ -2,6 +2,7 @@ package io.quarkus.mongodb.panache;
 
 import java.util.Map;
 
+import io.quarkus.mongodb.panache.binder.PanacheQlQueryBinder;
 import io.quarkus.mongodb.panache.runtime.MongoPropertyUtil;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -9,5 +10,6 @@ import io.quarkus.runtime.annotations.Recorder;
 public class PanacheMongoRecorder {
     public void setReplacementCache(Map<String, Map<String, String>> replacementMap) {
         MongoPropertyUtil.setReplacementCache(replacementMap);
+        PanacheQlQueryBinder.clearFilterCache();
     }
 }
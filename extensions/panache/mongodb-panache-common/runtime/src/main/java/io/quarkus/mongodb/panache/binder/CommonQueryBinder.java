@@ -12,6 +12,7 @@ import java.util.Date;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
 
 final class CommonQueryBinder {
@@ -64,6 +65,55 @@ final class CommonQueryBinder {
         return "'" + value.toString().replace("\\", "\\\\").replace("'", "\\'") + "'";
     }
 
+    /**
+     * Converts a value to the one read by {@link Document#parse(String)} from its escaped form, so binding it directly
+     * inside a document gives the same document as parsing a query where it has been escaped.
+     * Collections and arrays are not supported.
+     */
+    static Object toValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof ObjectId) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof Long) {
+            // numbers that fit in 32 bits are read as int32
+            long longValue = (Long) value;
+            return longValue == (int) longValue ? Integer.valueOf((int) longValue) : value;
+        }
+        if ((value instanceof Double || value instanceof Float) && Double.isFinite(((Number) value).doubleValue())) {
+            return Double.valueOf(value.toString());
+        }
+        if (value instanceof Date) {
+            return new Date(((Date) value).toInstant().toEpochMilli());
+        }
+        if (value instanceof LocalDate) {
+            return new Date(((LocalDate) value).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli());
+        }
+        if (value instanceof LocalDateTime) {
+            return new Date(((LocalDateTime) value).atZone(ZoneOffset.UTC).toInstant().toEpochMilli());
+        }
+        if (value instanceof Instant) {
+            return new Date(((Instant) value).toEpochMilli());
+        }
+        if (value instanceof Number || value instanceof UUID) {
+            return parseValue(escape(value));
+        }
+        return value.toString();
+    }
+
+    /**
+     * Reads a value from its JSON form, as {@link Document#parse(String)} does.
+     */
+    static Object parseValue(String json) {
+        return Document.parse("{'value':" + json + "}").get("value");
+    }
+
+    static boolean isMultiValued(Object value) {
+        return value != null && (value.getClass().isArray() || value instanceof Collection);
+    }
+
     /**
      * Converts Collection or Array to a String separated for ','. Used in $in operators
      */
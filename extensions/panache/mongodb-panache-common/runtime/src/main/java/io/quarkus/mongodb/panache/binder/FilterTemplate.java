@@ -0,0 +1,344 @@
+package io.quarkus.mongodb.panache.binder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.bson.Document;
+
+import io.quarkus.panacheql.internal.HqlLexer;
+import io.quarkus.panacheql.internal.HqlParser;
+
+/**
+ * The filter document of a PanacheQL query, parsed once and then bound with the parameters of each execution.
+ * <p>
+ * Binding gives the same document as {@link Document#parse(String)} on the query bound by {@link MongoParserVisitor}.
+ * The predicates and parameter values for which this would not hold are not bound, they are left to the JSON binding.
+ */
+final class FilterTemplate {
+
+    static final FilterTemplate UNSUPPORTED = new FilterTemplate(Collections.emptyList(), Collections.emptyList());
+
+    private final List<Entry> entries;
+    private final List<Slot> slots;
+
+    private FilterTemplate(List<Entry> entries, List<Slot> slots) {
+        this.entries = entries;
+        this.slots = slots;
+    }
+
+    static FilterTemplate compile(String query, Map<String, String> replacementMap) {
+        HqlLexer lexer = new HqlLexer(CharStreams.fromString(query));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        HqlParser parser = new HqlParser(tokens);
+        HqlParser.PredicateContext predicate = parser.predicate();
+        if (parser.getNumberOfSyntaxErrors() > 0) {
+            return UNSUPPORTED;
+        }
+        Compiler compiler = new Compiler(replacementMap);
+        List<Entry> entries = compiler.predicate(predicate);
+        return entries == null ? UNSUPPORTED : new FilterTemplate(entries, compiler.slots);
+    }
+
+    /**
+     * Binds the parameters, either the positional or the named ones.
+     *
+     * @return the filter document, or null if the parameters cannot be bound by this template
+     */
+    Document bind(Object[] positional, Map<String, Object> named) {
+        if (this == UNSUPPORTED) {
+            return null;
+        }
+        for (Slot slot : slots) {
+            if (!slot.canBind(positional, named)) {
+                return null;
+            }
+        }
+        return bind(entries, positional, named);
+    }
+
+    private static Document bind(List<Entry> entries, Object[] positional, Map<String, Object> named) {
+        Document document = new Document();
+        for (Entry entry : entries) {
+            document.put(entry.key, entry.value.bind(positional, named));
+        }
+        return document;
+    }
+
+    private interface Node {
+        Object bind(Object[] positional, Map<String, Object> named);
+    }
+
+    private static final class Entry {
+        final String key;
+        final Node value;
+
+        Entry(String key, Node value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static final class Constant implements Node {
+        final Object value;
+
+        Constant(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object bind(Object[] positional, Map<String, Object> named) {
+            return value;
+        }
+    }
+
+    private static final class DocumentNode implements Node {
+        final List<Entry> entries;
+
+        DocumentNode(List<Entry> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Object bind(Object[] positional, Map<String, Object> named) {
+            return FilterTemplate.bind(entries, positional, named);
+        }
+    }
+
+    private static final class ListNode implements Node {
+        final List<Node> elements;
+
+        ListNode(List<Node> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Object bind(Object[] positional, Map<String, Object> named) {
+            List<Object> list = new ArrayList<>(elements.size());
+            for (Node element : elements) {
+                list.add(element.bind(positional, named));
+            }
+            return list;
+        }
+    }
+
+    private enum SlotKind {
+        VALUE,
+        LIKE,
+        IN
+    }
+
+    /**
+     * A parameter of the query: <code>?1</code> for index based or <code>:key</code> for named one.
+     */
+    private static final class Slot implements Node {
+        final SlotKind kind;
+        final int position;
+        final String name;
+
+        Slot(String text, SlotKind kind) {
+            this.kind = kind;
+            this.position = text.charAt(0) == '?' ? position(text) : -1;
+            this.name = text.charAt(0) == ':' ? text.substring(1) : null;
+        }
+
+        private static int position(String text) {
+            try {
+                int position = Integer.parseInt(text.substring(1));
+                // parameters are bound by their text, so '?01' is not the first parameter
+                return text.equals("?" + position) ? position : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        boolean canBind(Object[] positional, Map<String, Object> named) {
+            Object value;
+            if (positional != null) {
+                if (position < 1 || position > positional.length) {
+                    return false;
+                }
+                value = positional[position - 1];
+            } else {
+                if (name == null || !named.containsKey(name)) {
+                    return false;
+                }
+                value = named.get(name);
+            }
+            if (kind != SlotKind.IN) {
+                return !CommonQueryBinder.isMultiValued(value);
+            }
+            if (value instanceof Collection) {
+                return ((Collection<?>) value).stream().noneMatch(CommonQueryBinder::isMultiValued);
+            }
+            if (value != null && value.getClass().isArray()) {
+                if (!(value instanceof Object[])) {
+                    return false;
+                }
+                for (Object element : (Object[]) value) {
+                    if (CommonQueryBinder.isMultiValued(element)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Object bind(Object[] positional, Map<String, Object> named) {
+            Object value = positional != null ? positional[position - 1] : named.get(name);
+            switch (kind) {
+                case LIKE:
+                    String parameter = CommonQueryBinder.escape(value);
+                    if (parameter.indexOf('/') == 1 && parameter.lastIndexOf('/') > 1) {
+                        // a JavaScript regex, see MongoParserVisitor.visitLikePredicate()
+                        return CommonQueryBinder.parseValue(parameter.substring(1, parameter.length() - 1));
+                    }
+                    return CommonQueryBinder.toValue(value);
+                case IN:
+                    List<Object> values = new ArrayList<>();
+                    if (value instanceof Collection) {
+                        for (Object element : (Collection<?>) value) {
+                            values.add(CommonQueryBinder.toValue(element));
+                        }
+                    } else if (value instanceof Object[]) {
+                        for (Object element : (Object[]) value) {
+                            values.add(CommonQueryBinder.toValue(element));
+                        }
+                    } else {
+                        values.add(CommonQueryBinder.toValue(value));
+                    }
+                    return values;
+                default:
+                    return CommonQueryBinder.toValue(value);
+            }
+        }
+    }
+
+    /**
+     * Mirrors {@link MongoParserVisitor}, returning null for the parts of the query it doesn't support.
+     */
+    private static final class Compiler {
+        final Map<String, String> replacementMap;
+        final List<Slot> slots = new ArrayList<>();
+
+        Compiler(Map<String, String> replacementMap) {
+            this.replacementMap = replacementMap;
+        }
+
+        List<Entry> predicate(HqlParser.PredicateContext ctx) {
+            if (ctx instanceof HqlParser.AndPredicateContext) {
+                List<Entry> entries = new ArrayList<>();
+                for (HqlParser.PredicateContext predicate : ((HqlParser.AndPredicateContext) ctx).predicate()) {
+                    List<Entry> predicateEntries = predicate(predicate);
+                    if (predicateEntries == null) {
+                        return null;
+                    }
+                    entries.addAll(predicateEntries);
+                }
+                return entries;
+            }
+            if (ctx instanceof HqlParser.OrPredicateContext) {
+                List<Node> documents = new ArrayList<>();
+                for (HqlParser.PredicateContext predicate : ((HqlParser.OrPredicateContext) ctx).predicate()) {
+                    List<Entry> predicateEntries = predicate(predicate);
+                    if (predicateEntries == null) {
+                        return null;
+                    }
+                    documents.add(new DocumentNode(predicateEntries));
+                }
+                return entry("$or", new ListNode(documents));
+            }
+            if (ctx instanceof HqlParser.EqualityPredicateContext) {
+                HqlParser.EqualityPredicateContext predicate = (HqlParser.EqualityPredicateContext) ctx;
+                return entry(key(predicate.expression(0)), value(predicate.expression(1), SlotKind.VALUE));
+            }
+            if (ctx instanceof HqlParser.InequalityPredicateContext) {
+                HqlParser.InequalityPredicateContext predicate = (HqlParser.InequalityPredicateContext) ctx;
+                return operator(predicate.expression(0), "$ne", value(predicate.expression(1), SlotKind.VALUE));
+            }
+            if (ctx instanceof HqlParser.LessThanOrEqualPredicateContext) {
+                HqlParser.LessThanOrEqualPredicateContext predicate = (HqlParser.LessThanOrEqualPredicateContext) ctx;
+                return operator(predicate.expression(0), "$lte", value(predicate.expression(1), SlotKind.VALUE));
+            }
+            if (ctx instanceof HqlParser.LessThanPredicateContext) {
+                HqlParser.LessThanPredicateContext predicate = (HqlParser.LessThanPredicateContext) ctx;
+                return operator(predicate.expression(0), "$lt", value(predicate.expression(1), SlotKind.VALUE));
+            }
+            if (ctx instanceof HqlParser.GreaterThanOrEqualPredicateContext) {
+                HqlParser.GreaterThanOrEqualPredicateContext predicate = (HqlParser.GreaterThanOrEqualPredicateContext) ctx;
+                return operator(predicate.expression(0), "$gte", value(predicate.expression(1), SlotKind.VALUE));
+            }
+            if (ctx instanceof HqlParser.GreaterThanPredicateContext) {
+                HqlParser.GreaterThanPredicateContext predicate = (HqlParser.GreaterThanPredicateContext) ctx;
+                return operator(predicate.expression(0), "$gt", value(predicate.expression(1), SlotKind.VALUE));
+            }
+            if (ctx instanceof HqlParser.IsNullPredicateContext) {
+                HqlParser.IsNullPredicateContext predicate = (HqlParser.IsNullPredicateContext) ctx;
+                return operator(predicate.expression(), "$exists", new Constant(predicate.NOT() != null));
+            }
+            if (ctx instanceof HqlParser.LikePredicateContext) {
+                HqlParser.LikePredicateContext predicate = (HqlParser.LikePredicateContext) ctx;
+                return operator(predicate.expression(0), "$regex", value(predicate.expression(1), SlotKind.LIKE));
+            }
+            if (ctx instanceof HqlParser.InPredicateContext) {
+                HqlParser.InPredicateContext predicate = (HqlParser.InPredicateContext) ctx;
+                if (!(predicate.inList() instanceof HqlParser.SubQueryInListContext)) {
+                    return null;
+                }
+                HqlParser.ExpressionContext expression = ((HqlParser.SubQueryInListContext) predicate.inList())
+                        .expression();
+                Node values = value(expression, SlotKind.IN);
+                if (values instanceof Constant) {
+                    values = new ListNode(Collections.singletonList(values));
+                }
+                return operator(predicate.expression(), "$in", values);
+            }
+            return null;
+        }
+
+        private List<Entry> operator(HqlParser.ExpressionContext field, String operator, Node value) {
+            if (value == null) {
+                return null;
+            }
+            return entry(key(field), new DocumentNode(Collections.singletonList(new Entry(operator, value))));
+        }
+
+        private List<Entry> entry(String key, Node value) {
+            if (key == null || value == null) {
+                return null;
+            }
+            return Collections.singletonList(new Entry(key, value));
+        }
+
+        private String key(HqlParser.ExpressionContext ctx) {
+            if (ctx instanceof HqlParser.PathExpressionContext) {
+                return field(ctx);
+            }
+            return null;
+        }
+
+        private Node value(HqlParser.ExpressionContext ctx, SlotKind kind) {
+            if (ctx instanceof HqlParser.LiteralExpressionContext) {
+                return new Constant(ctx.getText());
+            }
+            if (ctx instanceof HqlParser.PathExpressionContext) {
+                return new Constant(field(ctx));
+            }
+            if (ctx instanceof HqlParser.ParameterExpressionContext) {
+                Slot slot = new Slot(ctx.getText(), kind);
+                slots.add(slot);
+                return slot;
+            }
+            return null;
+        }
+
+        private String field(HqlParser.ExpressionContext ctx) {
+            return replacementMap.getOrDefault(ctx.getText(), ctx.getText());
+        }
+    }
+}
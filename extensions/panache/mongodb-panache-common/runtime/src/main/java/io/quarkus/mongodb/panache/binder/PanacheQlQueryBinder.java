@@ -2,9 +2,12 @@ package io.quarkus.mongodb.panache.binder;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.bson.Document;
 
 import io.quarkus.mongodb.panache.runtime.MongoPropertyUtil;
 import io.quarkus.panacheql.internal.HqlLexer;
@@ -13,6 +16,72 @@ import io.quarkus.panacheql.internal.HqlParserBaseVisitor;
 
 public class PanacheQlQueryBinder {
 
+    /**
+     * The maximum number of parsed queries kept, past it queries are parsed on each execution.
+     */
+    private static final int MAX_CACHED_FILTERS = 2048;
+
+    private static final Map<String, Map<String, FilterTemplate>> filterCache = new ConcurrentHashMap<>();
+    private static final AtomicInteger cachedFilters = new AtomicInteger();
+
+    /**
+     * Binds the parameters of the query into a filter document.
+     * <p>
+     * The query is parsed once per entity class, the parameters are then bound directly into a copy of the parsed filter.
+     * The result is the same as parsing the JSON returned by {@link #bindQuery(Class, String, Object[])}.
+     */
+    public static Document bindFilter(Class<?> clazz, String query, Object[] params) {
+        Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
+
+        //shorthand query
+        if (params.length == 1 && query.indexOf('?') == -1) {
+            if (!CommonQueryBinder.isMultiValued(params[0])) {
+                return new Document(replaceField(query, replacementMap), CommonQueryBinder.toValue(params[0]));
+            }
+        } else {
+            Document filter = filterTemplate(clazz, query, replacementMap).bind(params, null);
+            if (filter != null) {
+                return filter;
+            }
+        }
+        return Document.parse(bindQuery(clazz, query, params));
+    }
+
+    /**
+     * Binds the parameters of the query into a filter document.
+     *
+     * @see #bindFilter(Class, String, Object[])
+     */
+    public static Document bindFilter(Class<?> clazz, String query, Map<String, Object> params) {
+        Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
+        Document filter = filterTemplate(clazz, query, replacementMap).bind(null, params);
+        if (filter != null) {
+            return filter;
+        }
+        return Document.parse(bindQuery(clazz, query, params));
+    }
+
+    /**
+     * Drops the parsed queries, they depend on the field replacements of the entities.
+     */
+    public static void clearFilterCache() {
+        filterCache.clear();
+        cachedFilters.set(0);
+    }
+
+    private static FilterTemplate filterTemplate(Class<?> clazz, String query, Map<String, String> replacementMap) {
+        Map<String, FilterTemplate> classFilters = filterCache.computeIfAbsent(clazz.getName(),
+                k -> new ConcurrentHashMap<>());
+        FilterTemplate template = classFilters.get(query);
+        if (template == null) {
+            template = FilterTemplate.compile(query, replacementMap);
+            if (cachedFilters.get() < MAX_CACHED_FILTERS && classFilters.putIfAbsent(query, template) == null) {
+                cachedFilters.incrementAndGet();
+            }
+        }
+        return template;
+    }
+
     public static String bindQuery(Class<?> clazz, String query, Object[] params) {
         Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
 
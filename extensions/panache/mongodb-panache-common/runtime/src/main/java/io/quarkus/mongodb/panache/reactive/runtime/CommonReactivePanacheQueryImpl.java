@@ -31,6 +31,8 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     private Collation collation;
 
+    private Integer batchSize;
+
     public CommonReactivePanacheQueryImpl(ReactiveMongoCollection<? extends Entity> collection, Bson mongoQuery, Bson sort) {
         this.collection = collection;
         this.mongoQuery = mongoQuery;
@@ -46,6 +48,7 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         this.count = previousQuery.count;
         this.range = previousQuery.range;
         this.collation = previousQuery.collation;
+        this.batchSize = previousQuery.batchSize;
     }
 
     // Builder
@@ -143,6 +146,14 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         return (CommonReactivePanacheQueryImpl<T>) this;
     }
 
+    public <T extends Entity> CommonReactivePanacheQueryImpl<T> withBatchSize(int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("The batch size must not be negative, was " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return (CommonReactivePanacheQueryImpl<T>) this;
+    }
+
     // Results
 
     @SuppressWarnings("unchecked")
@@ -215,6 +226,9 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         if (this.collation != null) {
             options.collation(collation);
         }
+        if (this.batchSize != null) {
+            options.batchSize(batchSize);
+        }
         return options;
     }
 
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -22,6 +23,9 @@ import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 import org.jboss.logging.Logger;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
@@ -41,6 +45,10 @@ import io.smallrye.mutiny.Uni;
 @SuppressWarnings({ "rawtypes", "unchecked", "Convert2MethodRef" })
 public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     public final String ID = "_id";
+    /**
+     * The number of entities written by each bulk write when persisting, updating or deleting a stream of entities.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
     private static final Logger LOGGER = Logger.getLogger(ReactiveMongoOperations.class);
     private static final Map<String, String> defaultDatabaseName = new ConcurrentHashMap<>();
 
@@ -89,16 +97,12 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     public Uni<Void> persist(Stream<?> entities) {
-        return Uni.createFrom().deferred(() -> {
-            List<Object> objects = entities.collect(Collectors.toList());
-            if (objects.size() > 0) {
-                // get the first entity to be able to retrieve the collection with it
-                Object firstEntity = objects.get(0);
-                ReactiveMongoCollection collection = mongoCollection(firstEntity);
-                return persist(collection, objects);
-            }
-            return nullUni();
-        });
+        return persist(entities, DEFAULT_BATCH_SIZE, true);
+    }
+
+    public Uni<Void> persist(Stream<?> entities, int batchSize, boolean ordered) {
+        return bulkWrite(entities, batchSize, ordered, (collection, entity) -> new InsertOneModel(entity))
+                .onItem().ignore().andContinueWithNull();
     }
 
     public Uni<Void> update(Object entity) {
@@ -137,16 +141,13 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     public Uni<Void> update(Stream<?> entities) {
-        return Uni.createFrom().deferred(() -> {
-            List<Object> objects = entities.collect(Collectors.toList());
-            if (objects.size() > 0) {
-                // get the first entity to be able to retrieve the collection with it
-                Object firstEntity = objects.get(0);
-                ReactiveMongoCollection collection = mongoCollection(firstEntity);
-                return update(collection, objects);
-            }
-            return nullUni();
-        });
+        return update(entities, DEFAULT_BATCH_SIZE, true);
+    }
+
+    public Uni<Void> update(Stream<?> entities, int batchSize, boolean ordered) {
+        return bulkWrite(entities, batchSize, ordered,
+                (collection, entity) -> new ReplaceOneModel(idQuery(collection, entity), entity))
+                        .onItem().ignore().andContinueWithNull();
     }
 
     public Uni<Void> persistOrUpdate(Object entity) {
@@ -185,16 +186,8 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     public Uni<Void> persistOrUpdate(Stream<?> entities) {
-        return Uni.createFrom().deferred(() -> {
-            List<Object> objects = entities.collect(Collectors.toList());
-            if (objects.size() > 0) {
-                // get the first entity to be able to retrieve the collection with it
-                Object firstEntity = objects.get(0);
-                ReactiveMongoCollection collection = mongoCollection(firstEntity);
-                return persistOrUpdate(collection, objects);
-            }
-            return nullUni();
-        });
+        return bulkWrite(entities, DEFAULT_BATCH_SIZE, true, this::persistOrUpdateModel)
+                .onItem().ignore().andContinueWithNull();
     }
 
     public Uni<Void> delete(Object entity) {
@@ -205,6 +198,11 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
         return collection.deleteOne(query).onItem().ignore().andContinueWithNull();
     }
 
+    public Uni<Long> delete(Stream<?> entities, int batchSize, boolean ordered) {
+        return bulkWrite(entities, batchSize, ordered,
+                (collection, entity) -> new DeleteOneModel(idQuery(collection, entity)));
+    }
+
     public ReactiveMongoCollection mongoCollection(Class<?> entityClass) {
         MongoEntity mongoEntity = entityClass.getAnnotation(MongoEntity.class);
         ReactiveMongoDatabase database = mongoDatabase(mongoEntity);
@@ -270,25 +268,60 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
         //this will be an ordered bulk: it's less performant than a unordered one but will fail at the first failed write
         List<WriteModel> bulk = new ArrayList<>();
         for (Object entity : entities) {
-            //we transform the entity as a document first
-            BsonDocument document = getBsonDocument(collection, entity);
-
-            //then we get its id field and create a new Document with only this one that will be our replace query
-            BsonValue id = document.get(ID);
-            if (id == null) {
-                //insert with autogenerated ID
-                bulk.add(new InsertOneModel(entity));
-            } else {
-                //insert with user provided ID or update
-                BsonDocument query = new BsonDocument().append(ID, id);
-                bulk.add(new ReplaceOneModel(query, entity,
-                        new ReplaceOptions().upsert(true)));
-            }
+            bulk.add(persistOrUpdateModel(collection, entity));
         }
 
         return collection.bulkWrite(bulk).onItem().ignore().andContinueWithNull();
     }
 
+    private WriteModel persistOrUpdateModel(ReactiveMongoCollection collection, Object entity) {
+        //we transform the entity as a document first
+        BsonDocument document = getBsonDocument(collection, entity);
+
+        //then we get its id field and create a new Document with only this one that will be our replace query
+        BsonValue id = document.get(ID);
+        if (id == null) {
+            //insert with autogenerated ID
+            return new InsertOneModel(entity);
+        }
+        //insert with user provided ID or update
+        BsonDocument query = new BsonDocument().append(ID, id);
+        return new ReplaceOneModel(query, entity, new ReplaceOptions().upsert(true));
+    }
+
+    /**
+     * Writes the entities of the stream with one bulk write per batch of <code>batchSize</code> entities, so only one
+     * batch is held in memory at a time.
+     *
+     * @return the number of deleted documents
+     */
+    private Uni<Long> bulkWrite(Stream<?> entities, int batchSize, boolean ordered,
+            BiFunction<ReactiveMongoCollection, Object, WriteModel> writeModel) {
+        if (batchSize < 1) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException("The batch size must be greater than zero, was " + batchSize));
+        }
+        BulkWriteOptions options = new BulkWriteOptions().ordered(ordered);
+        return Multi.createFrom().<Object> items(() -> entities)
+                .groupItems().intoLists().of(batchSize)
+                .onItem().transformToUniAndConcatenate(batch -> {
+                    // get the first entity to be able to retrieve the collection with it
+                    ReactiveMongoCollection collection = mongoCollection(batch.get(0));
+                    List<WriteModel> bulk = new ArrayList<>(batch.size());
+                    for (Object entity : batch) {
+                        bulk.add(writeModel.apply(collection, entity));
+                    }
+                    Uni<BulkWriteResult> written = collection.bulkWrite(bulk, options);
+                    return written.map(result -> (long) result.getDeletedCount());
+                })
+                .collectItems().with(Collectors.summingLong(Long::longValue));
+    }
+
+    private BsonDocument idQuery(ReactiveMongoCollection collection, Object entity) {
+        BsonValue id = getBsonDocument(collection, entity).get(ID);
+        return new BsonDocument().append(ID, id);
+    }
+
     private BsonDocument getBsonDocument(ReactiveMongoCollection collection, Object entity) {
         BsonDocument document = new BsonDocument();
         Codec codec = collection.getCodecRegistry().get(entity.getClass());
@@ -339,8 +372,7 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
 
     @SuppressWarnings("rawtypes")
     public QueryType find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return createQuery(collection, docQuery, docSort);
@@ -366,6 +398,46 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
         return bindQuery;
     }
 
+    /**
+     * Same as {@link #bindFilter(Class, String, Object[])} but returns the filter as a document.
+     * PanacheQL queries are parsed once, their parameters are then bound directly inside a copy of the parsed filter.
+     */
+    Document bindFilterDocument(Class<?> clazz, String query, Object[] params) {
+        Document filter;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            filter = Document.parse(NativeQueryBinder.bindQuery(query, params));
+        } else {
+            //this is a PanacheQL query
+            filter = PanacheQlQueryBinder.bindFilter(clazz, query, params);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(filter.toJson());
+        }
+        return filter;
+    }
+
+    /**
+     * Same as {@link #bindFilter(Class, String, Map)} but returns the filter as a document.
+     * PanacheQL queries are parsed once, their parameters are then bound directly inside a copy of the parsed filter.
+     */
+    Document bindFilterDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        Document filter;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            filter = Document.parse(NativeQueryBinder.bindQuery(query, params));
+        } else {
+            //this is a PanacheQL query
+            filter = PanacheQlQueryBinder.bindFilter(clazz, query, params);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(filter.toJson());
+        }
+        return filter;
+    }
+
     /**
      * We should have a query like <code>{'firstname': ?1, 'lastname': ?2}</code> for native one
      * and like <code>firstname = ?1 and lastname = ?2</code> for PanacheQL one.
@@ -430,8 +502,7 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
 
     @SuppressWarnings("rawtypes")
     public QueryType find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return createQuery(collection, docQuery, docSort);
@@ -576,15 +647,13 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     public Uni<Long> count(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
 
     public Uni<Long> count(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
@@ -611,15 +680,13 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     public Uni<Long> delete(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).map(deleteResult -> deleteResult.getDeletedCount());
     }
 
     public Uni<Long> delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).map(deleteResult -> deleteResult.getDeletedCount());
     }
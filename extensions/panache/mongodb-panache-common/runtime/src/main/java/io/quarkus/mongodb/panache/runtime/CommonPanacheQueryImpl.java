@@ -4,7 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -31,6 +34,8 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Collation collation;
 
+    private Integer batchSize;
+
     public CommonPanacheQueryImpl(MongoCollection<? extends Entity> collection, Bson mongoQuery, Bson sort) {
         this.collection = collection;
         this.mongoQuery = mongoQuery;
@@ -46,6 +51,7 @@ public class CommonPanacheQueryImpl<Entity> {
         this.count = previousQuery.count;
         this.range = previousQuery.range;
         this.collation = previousQuery.collation;
+        this.batchSize = previousQuery.batchSize;
     }
 
     public <T> CommonPanacheQueryImpl<T> project(Class<T> type) {
@@ -139,6 +145,14 @@ public class CommonPanacheQueryImpl<Entity> {
         return (CommonPanacheQueryImpl<T>) this;
     }
 
+    public <T extends Entity> CommonPanacheQueryImpl<T> withBatchSize(int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("The batch size must not be negative, was " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return (CommonPanacheQueryImpl<T>) this;
+    }
+
     // Results
 
     @SuppressWarnings("unchecked")
@@ -156,15 +170,7 @@ public class CommonPanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     private <T extends Entity> List<T> list(Integer limit) {
         List<T> list = new ArrayList<>();
-        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
-        if (this.projections != null) {
-            find.projection(projections);
-        }
-        if (this.collation != null) {
-            find.collation(collation);
-        }
-        manageOffsets(find, limit);
-        MongoCursor<T> cursor = find.sort(sort).iterator();
+        MongoCursor<T> cursor = find(limit).iterator();
 
         try {
             while (cursor.hasNext()) {
@@ -179,7 +185,10 @@ public class CommonPanacheQueryImpl<Entity> {
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
-        return (Stream<T>) list().stream();
+        // results are read from the cursor as the stream is consumed, one batch at a time
+        MongoCursor<T> cursor = find(null).iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
     }
 
     public <T extends Entity> T firstResult() {
@@ -209,6 +218,21 @@ public class CommonPanacheQueryImpl<Entity> {
         return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
     }
 
+    private FindIterable find(Integer limit) {
+        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
+        if (this.projections != null) {
+            find.projection(projections);
+        }
+        if (this.collation != null) {
+            find.collation(collation);
+        }
+        if (this.batchSize != null) {
+            find.batchSize(batchSize);
+        }
+        manageOffsets(find, limit);
+        return find.sort(sort);
+    }
+
     private void manageOffsets(FindIterable find, Integer limit) {
         if (range != null) {
             find.skip(range.getStartIndex());
@@ -6,12 +6,13 @@ import static io.quarkus.mongodb.panache.runtime.BeanUtils.getDatabaseName;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.bson.BsonDocument;
@@ -25,6 +26,8 @@ import org.jboss.logging.Logger;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
@@ -40,6 +43,10 @@ import io.quarkus.panache.common.Sort;
 @SuppressWarnings({ "rawtypes", "unchecked" })
 public abstract class MongoOperations<QueryType, UpdateType> {
     public final String ID = "_id";
+    /**
+     * The number of entities written by each bulk write when persisting, updating or deleting a stream of entities.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
     private static final Logger LOGGER = Logger.getLogger(MongoOperations.class);
 
     private final Map<String, String> defaultDatabaseName = new ConcurrentHashMap<>();
@@ -85,13 +92,11 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     public void persist(Stream<?> entities) {
-        List<Object> objects = entities.collect(Collectors.toList());
-        if (objects.size() > 0) {
-            // get the first entity to be able to retrieve the collection with it
-            Object firstEntity = objects.get(0);
-            MongoCollection collection = mongoCollection(firstEntity);
-            update(collection, objects);
-        }
+        persist(entities, DEFAULT_BATCH_SIZE, true);
+    }
+
+    public void persist(Stream<?> entities, int batchSize, boolean ordered) {
+        bulkWrite(entities, batchSize, ordered, (collection, entity) -> new InsertOneModel(entity));
     }
 
     public void update(Object entity) {
@@ -127,13 +132,12 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     public void update(Stream<?> entities) {
-        List<Object> objects = entities.collect(Collectors.toList());
-        if (objects.size() > 0) {
-            // get the first entity to be able to retrieve the collection with it
-            Object firstEntity = objects.get(0);
-            MongoCollection collection = mongoCollection(firstEntity);
-            update(collection, objects);
-        }
+        update(entities, DEFAULT_BATCH_SIZE, true);
+    }
+
+    public void update(Stream<?> entities, int batchSize, boolean ordered) {
+        bulkWrite(entities, batchSize, ordered,
+                (collection, entity) -> new ReplaceOneModel(idQuery(collection, entity), entity));
     }
 
     public void persistOrUpdate(Object entity) {
@@ -169,13 +173,7 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     public void persistOrUpdate(Stream<?> entities) {
-        List<Object> objects = entities.collect(Collectors.toList());
-        if (objects.size() > 0) {
-            // get the first entity to be able to retrieve the collection with it
-            Object firstEntity = objects.get(0);
-            MongoCollection collection = mongoCollection(firstEntity);
-            persistOrUpdate(collection, objects);
-        }
+        bulkWrite(entities, DEFAULT_BATCH_SIZE, true, this::persistOrUpdateModel);
     }
 
     public void delete(Object entity) {
@@ -186,6 +184,11 @@ public abstract class MongoOperations<QueryType, UpdateType> {
         collection.deleteOne(query);
     }
 
+    public long delete(Stream<?> entities, int batchSize, boolean ordered) {
+        return bulkWrite(entities, batchSize, ordered,
+                (collection, entity) -> new DeleteOneModel(idQuery(collection, entity)));
+    }
+
     public MongoCollection mongoCollection(Class<?> entityClass) {
         MongoEntity mongoEntity = entityClass.getAnnotation(MongoEntity.class);
         MongoDatabase database = mongoDatabase(mongoEntity);
@@ -247,25 +250,66 @@ public abstract class MongoOperations<QueryType, UpdateType> {
         //this will be an ordered bulk: it's less performant than a unordered one but will fail at the first failed write
         List<WriteModel> bulk = new ArrayList<>();
         for (Object entity : entities) {
-            //we transform the entity as a document first
-            BsonDocument document = getBsonDocument(collection, entity);
-
-            //then we get its id field and create a new Document with only this one that will be our replace query
-            BsonValue id = document.get(ID);
-            if (id == null) {
-                //insert with autogenerated ID
-                bulk.add(new InsertOneModel(entity));
-            } else {
-                //insert with user provided ID or update
-                BsonDocument query = new BsonDocument().append(ID, id);
-                bulk.add(new ReplaceOneModel(query, entity,
-                        new ReplaceOptions().upsert(true)));
-            }
+            bulk.add(persistOrUpdateModel(collection, entity));
         }
 
         collection.bulkWrite(bulk);
     }
 
+    private WriteModel persistOrUpdateModel(MongoCollection collection, Object entity) {
+        //we transform the entity as a document first
+        BsonDocument document = getBsonDocument(collection, entity);
+
+        //then we get its id field and create a new Document with only this one that will be our replace query
+        BsonValue id = document.get(ID);
+        if (id == null) {
+            //insert with autogenerated ID
+            return new InsertOneModel(entity);
+        }
+        //insert with user provided ID or update
+        BsonDocument query = new BsonDocument().append(ID, id);
+        return new ReplaceOneModel(query, entity, new ReplaceOptions().upsert(true));
+    }
+
+    /**
+     * Writes the entities of the stream with one bulk write per batch of <code>batchSize</code> entities, so only one
+     * batch is held in memory at a time.
+     *
+     * @return the number of deleted documents
+     */
+    private long bulkWrite(Stream<?> entities, int batchSize, boolean ordered,
+            BiFunction<MongoCollection, Object, WriteModel> writeModel) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than zero, was " + batchSize);
+        }
+        BulkWriteOptions options = new BulkWriteOptions().ordered(ordered);
+        List<WriteModel> bulk = new ArrayList<>(Math.min(batchSize, DEFAULT_BATCH_SIZE));
+        MongoCollection collection = null;
+        long deleted = 0;
+        Iterator<?> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            Object entity = iterator.next();
+            if (collection == null) {
+                // get the first entity to be able to retrieve the collection with it
+                collection = mongoCollection(entity);
+            }
+            bulk.add(writeModel.apply(collection, entity));
+            if (bulk.size() == batchSize) {
+                deleted += collection.bulkWrite(bulk, options).getDeletedCount();
+                bulk.clear();
+            }
+        }
+        if (!bulk.isEmpty()) {
+            deleted += collection.bulkWrite(bulk, options).getDeletedCount();
+        }
+        return deleted;
+    }
+
+    private BsonDocument idQuery(MongoCollection collection, Object entity) {
+        BsonValue id = getBsonDocument(collection, entity).get(ID);
+        return new BsonDocument().append(ID, id);
+    }
+
     private BsonDocument getBsonDocument(MongoCollection collection, Object entity) {
         BsonDocument document = new BsonDocument();
         Codec codec = collection.getCodecRegistry().get(entity.getClass());
@@ -313,8 +357,7 @@ public abstract class MongoOperations<QueryType, UpdateType> {
 
     @SuppressWarnings("rawtypes")
     public QueryType find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return createQuery(collection, docQuery, docSort);
@@ -340,6 +383,46 @@ public abstract class MongoOperations<QueryType, UpdateType> {
         return bindQuery;
     }
 
+    /**
+     * Same as {@link #bindFilter(Class, String, Object[])} but returns the filter as a document.
+     * PanacheQL queries are parsed once, their parameters are then bound directly inside a copy of the parsed filter.
+     */
+    Document bindFilterDocument(Class<?> clazz, String query, Object[] params) {
+        Document filter;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            filter = Document.parse(NativeQueryBinder.bindQuery(query, params));
+        } else {
+            //this is a PanacheQL query
+            filter = PanacheQlQueryBinder.bindFilter(clazz, query, params);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(filter.toJson());
+        }
+        return filter;
+    }
+
+    /**
+     * Same as {@link #bindFilter(Class, String, Map)} but returns the filter as a document.
+     * PanacheQL queries are parsed once, their parameters are then bound directly inside a copy of the parsed filter.
+     */
+    Document bindFilterDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        Document filter;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            filter = Document.parse(NativeQueryBinder.bindQuery(query, params));
+        } else {
+            //this is a PanacheQL query
+            filter = PanacheQlQueryBinder.bindFilter(clazz, query, params);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(filter.toJson());
+        }
+        return filter;
+    }
+
     /**
      * We should have a query like <code>{'firstname': ?1, 'lastname': ?2}</code> for native one
      * and like <code>firstname = ?1 and lastname = ?2</code> for PanacheQL one.
@@ -400,8 +483,7 @@ public abstract class MongoOperations<QueryType, UpdateType> {
 
     @SuppressWarnings("rawtypes")
     public QueryType find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return createQuery(collection, docQuery, docSort);
@@ -546,15 +628,13 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     public long count(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
 
     public long count(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
@@ -582,15 +662,13 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     public long delete(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
 
     public long delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = bindFilterDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
@@ -3,6 +3,7 @@ package io.quarkus.mongodb.panache.runtime;
 import java.util.Map;
 
 import org.bson.BsonDocument;
+import org.bson.Document;
 import org.bson.conversions.Bson;
 
 import com.mongodb.client.MongoCollection;
@@ -25,15 +26,13 @@ public class PanacheUpdateImpl implements PanacheUpdate {
 
     @Override
     public long where(String query, Object... params) {
-        String bindQuery = operations.bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = operations.bindFilterDocument(entityClass, query, params);
         return collection.updateMany(docQuery, update).getModifiedCount();
     }
 
     @Override
     public long where(String query, Map<String, Object> params) {
-        String bindQuery = operations.bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        Document docQuery = operations.bindFilterDocument(entityClass, query, params);
         return collection.updateMany(docQuery, update).getModifiedCount();
     }
 
@@ -95,6 +95,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return this;
     }
 
+    @Override
+    public PanacheQuery<Entity> withBatchSize(int batchSize) {
+        delegate.withBatchSize(batchSize);
+        return this;
+    }
+
     // Results
 
     @Override
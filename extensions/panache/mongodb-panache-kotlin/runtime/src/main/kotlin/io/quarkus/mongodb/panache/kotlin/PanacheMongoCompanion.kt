@@ -587,6 +587,18 @@ interface PanacheMongoCompanionBase<Entity : PanacheMongoEntityBase, Id: Any> {
      */
     fun persist(entities: Stream<Entity>) = operations.persist(entities)
 
+    /**
+     * Insert all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure (`true`) or are all attempted
+     * @see [persist]
+     */
+    fun persist(entities: Stream<Entity>, batchSize: Int, ordered: Boolean) =
+            operations.persist(entities, batchSize, ordered)
+
     /**
      * Insert all given entities.
      *
@@ -611,6 +623,18 @@ interface PanacheMongoCompanionBase<Entity : PanacheMongoEntityBase, Id: Any> {
      */
     fun update(entities: Stream<Entity>) = operations.update(entities)
 
+    /**
+     * Update all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to update
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure (`true`) or are all attempted
+     * @see [update]
+     */
+    fun update(entities: Stream<Entity>, batchSize: Int, ordered: Boolean) =
+            operations.update(entities, batchSize, ordered)
+
     /**
      * Update all given entities.
      *
@@ -635,6 +659,19 @@ interface PanacheMongoCompanionBase<Entity : PanacheMongoEntityBase, Id: Any> {
      */
     fun persistOrUpdate(entities: Stream<Entity>) = operations.persistOrUpdate(entities)
 
+    /**
+     * Delete all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to delete
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure (`true`) or are all attempted
+     * @return the number of entities deleted
+     * @see [delete]
+     */
+    fun delete(entities: Stream<Entity>, batchSize: Int, ordered: Boolean): Long =
+            operations.delete(entities, batchSize, ordered)
+
     /**
      * Persist all given entities.
      *
@@ -137,6 +137,15 @@ interface PanacheQuery<Entity> {
      * @return this query, modified
      */
     fun withCollation(collation: Collation): PanacheQuery<Entity>
+
+    /**
+     * Define the number of documents fetched from the server per cursor batch when iterating over the results of this
+     * query, for example with [stream].
+     *
+     * @param batchSize the number of documents per batch, zero lets the server pick it
+     * @return this query, modified
+     */
+    fun withBatchSize(batchSize: Int): PanacheQuery<Entity>
     // Results
     /**
      * Reads and caches the total number of entities this query operates on. This causes a database
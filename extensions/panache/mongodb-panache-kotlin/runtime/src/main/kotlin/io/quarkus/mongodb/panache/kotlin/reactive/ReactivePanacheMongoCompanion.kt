@@ -645,6 +645,18 @@ interface ReactivePanacheMongoCompanionBase<Entity : ReactivePanacheMongoEntityB
      */
     fun persist(entities: Stream<Entity>): Uni<Void> = operations.persist(entities)
 
+    /**
+     * Insert all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure (`true`) or are all attempted
+     * @see [persist]
+     */
+    fun persist(entities: Stream<Entity>, batchSize: Int, ordered: Boolean): Uni<Void> =
+            operations.persist(entities, batchSize, ordered)
+
     /**
      * Insert all given entities.
      *
@@ -675,6 +687,18 @@ interface ReactivePanacheMongoCompanionBase<Entity : ReactivePanacheMongoEntityB
      */
     fun update(entities: Stream<Entity>): Uni<Void> = operations.update(entities)
 
+    /**
+     * Update all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to update
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure (`true`) or are all attempted
+     * @see [update]
+     */
+    fun update(entities: Stream<Entity>, batchSize: Int, ordered: Boolean): Uni<Void> =
+            operations.update(entities, batchSize, ordered)
+
     /**
      * Update all given entities.
      *
@@ -705,6 +729,19 @@ interface ReactivePanacheMongoCompanionBase<Entity : ReactivePanacheMongoEntityB
      */
     fun persistOrUpdate(entities: Stream<Entity>): Uni<Void> = operations.persistOrUpdate(entities)
 
+    /**
+     * Delete all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to delete
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure (`true`) or are all attempted
+     * @return the number of entities deleted
+     * @see [delete]
+     */
+    fun delete(entities: Stream<Entity>, batchSize: Int, ordered: Boolean): Uni<Long> =
+            operations.delete(entities, batchSize, ordered)
+
     /**
      * Persist all given entities.
      *
@@ -138,6 +138,15 @@ interface ReactivePanacheQuery<Entity> {
      */
     fun withCollation(collation: Collation): ReactivePanacheQuery<Entity>
 
+    /**
+     * Define the number of documents fetched from the server per cursor batch when iterating over the results of this
+     * query, for example with [stream].
+     *
+     * @param batchSize the number of documents per batch, zero lets the server pick it
+     * @return this query, modified
+     */
+    fun withBatchSize(batchSize: Int): ReactivePanacheQuery<Entity>
+
     /**
      * Reads and caches the total number of entities this query operates on. This causes a database
      * query with `SELECT COUNT(*)` and a query equivalent to the current query, minus
@@ -796,6 +796,19 @@ public interface PanacheMongoRepositoryBase<Entity, Id> {
         operations.persist(entities);
     }
 
+    /**
+     * Persist all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure ({@code true}) or are all attempted
+     * @see #persist(Stream)
+     */
+    public default void persist(Stream<Entity> entities, int batchSize, boolean ordered) {
+        operations.persist(entities, batchSize, ordered);
+    }
+
     /**
      * Persist all given entities.
      * 
@@ -832,6 +845,19 @@ public interface PanacheMongoRepositoryBase<Entity, Id> {
         operations.update(entities);
     }
 
+    /**
+     * Update all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to update
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure ({@code true}) or are all attempted
+     * @see #update(Stream)
+     */
+    public default void update(Stream<Entity> entities, int batchSize, boolean ordered) {
+        operations.update(entities, batchSize, ordered);
+    }
+
     /**
      * Update all given entities.
      *
@@ -868,6 +894,20 @@ public interface PanacheMongoRepositoryBase<Entity, Id> {
         operations.persistOrUpdate(entities);
     }
 
+    /**
+     * Delete all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to delete
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure ({@code true}) or are all attempted
+     * @return the number of entities deleted
+     * @see #delete(Object)
+     */
+    public default long delete(Stream<Entity> entities, int batchSize, boolean ordered) {
+        return operations.delete(entities, batchSize, ordered);
+    }
+
     /**
      * Persist all given entities or update them if they already exist.
      *
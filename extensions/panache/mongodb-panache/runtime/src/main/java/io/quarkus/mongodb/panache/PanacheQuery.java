@@ -144,6 +144,15 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> withCollation(Collation collation);
 
+    /**
+     * Define the number of documents fetched from the server per cursor batch when iterating over the results of this
+     * query, for example with {@link #stream()}.
+     *
+     * @param batchSize the number of documents per batch, zero lets the server pick it
+     * @return this query, modified
+     */
+    public <T extends Entity> PanacheQuery<T> withBatchSize(int batchSize);
+
     // Results
 
     /**
@@ -803,6 +803,19 @@ public interface ReactivePanacheMongoRepositoryBase<Entity, Id> {
         return operations.persist(entities);
     }
 
+    /**
+     * Persist all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure ({@code true}) or are all attempted
+     * @see #persist(Stream)
+     */
+    default Uni<Void> persist(Stream<Entity> entities, int batchSize, boolean ordered) {
+        return operations.persist(entities, batchSize, ordered);
+    }
+
     /**
      * Persist all given entities.
      *
@@ -839,6 +852,19 @@ public interface ReactivePanacheMongoRepositoryBase<Entity, Id> {
         return operations.update(entities);
     }
 
+    /**
+     * Update all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to update
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure ({@code true}) or are all attempted
+     * @see #update(Stream)
+     */
+    default Uni<Void> update(Stream<Entity> entities, int batchSize, boolean ordered) {
+        return operations.update(entities, batchSize, ordered);
+    }
+
     /**
      * Update all given entities.
      *
@@ -875,6 +901,20 @@ public interface ReactivePanacheMongoRepositoryBase<Entity, Id> {
         return operations.persistOrUpdate(entities);
     }
 
+    /**
+     * Delete all given entities, with one bulk write per batch of entities so that
+     * the stream is never held in memory as a whole.
+     *
+     * @param entities the entities to delete
+     * @param batchSize the number of entities written by each bulk write
+     * @param ordered whether the writes of a batch stop at the first failure ({@code true}) or are all attempted
+     * @return the number of entities deleted
+     * @see #delete(Object)
+     */
+    default Uni<Long> delete(Stream<Entity> entities, int batchSize, boolean ordered) {
+        return operations.delete(entities, batchSize, ordered);
+    }
+
     /**
      * Persist all given entities or update them if they already exist.
      *
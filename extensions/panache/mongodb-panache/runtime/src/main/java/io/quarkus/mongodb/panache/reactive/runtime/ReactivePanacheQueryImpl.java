@@ -98,6 +98,12 @@ public class ReactivePanacheQueryImpl<Entity> implements ReactivePanacheQuery<En
         return (ReactivePanacheQuery<T>) this;
     }
 
+    @Override
+    public <T extends Entity> ReactivePanacheQuery<T> withBatchSize(int batchSize) {
+        delegate.withBatchSize(batchSize);
+        return (ReactivePanacheQuery<T>) this;
+    }
+
     @Override
     public Uni<Long> count() {
         return delegate.count();
@@ -14,7 +14,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.bson.Document;
 import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -349,6 +351,41 @@ class MongoOperationsTest {
         assertEquals("{'field':{'$in':['f1', 'f2']},'isOk':true,'$or':[{'value':'jpg'},{'value':'gif'}]}", query);
     }
 
+    @Test
+    public void testBindFilterDocument() {
+        assertBoundAsParsed(Object.class, "field", "a value");
+        assertBoundAsParsed(Object.class, "field", 5_000_000_000L);
+        assertBoundAsParsed(Object.class, "field", 1.1f);
+        assertBoundAsParsed(Object.class, "field", LocalDate.of(2019, 3, 4));
+        assertBoundAsParsed(Object.class, "field", LocalDateTime.of(2019, 3, 4, 1, 1, 1, 123456789));
+        assertBoundAsParsed(Object.class, "field", UUID.fromString("7f000101-7370-1f68-8173-70afa71b0000"));
+        assertBoundAsParsed(Object.class, "field", new ObjectId("5e8b8f5e7c7e3b2a1c9d8e7f"));
+        assertBoundAsParsed(Object.class, "field", "it's a \\ test");
+        assertBoundAsParsed(DemoObj.class, "property", "a value");
+        assertBoundAsParsed(Object.class, "field = ?1 and isOk = ?2", "a value", true);
+        assertBoundAsParsed(DemoObj.class, "field = ?1 or property = ?2 and isOk = ?3", "a", 3, true);
+        assertBoundAsParsed(Object.class, "field >= ?1 and field < ?2 and other != ?1", 1, 5L);
+        assertBoundAsParsed(Object.class, "field is not null and other is null");
+        assertBoundAsParsed(Object.class, "field like ?1", "/a.*b/i");
+        assertBoundAsParsed(Object.class, "field like ?1", "a.*b");
+        assertBoundAsParsed(Object.class, "field in ?1", Arrays.asList("f1", LocalDate.of(2019, 3, 4)));
+        assertBoundAsParsed(Object.class, "field in ?1", (Object) new Object[] { 1, 2L });
+        assertBoundAsParsed(Object.class, "field = ?1 and other = 'value'", (Object) null);
+
+        Map<String, Object> params = Parameters.with("field", "a value").and("list", Arrays.asList(1, 2)).map();
+        assertEquals(Document.parse(operations.bindFilter(DemoObj.class, "property = :field and field in :list", params)),
+                operations.bindFilterDocument(DemoObj.class, "property = :field and field in :list", params));
+
+        // the parsed query is reused with other parameters
+        assertEquals(new Document("field", "other value").append("isOk", false),
+                operations.bindFilterDocument(Object.class, "field = ?1 and isOk = ?2", new Object[] { "other value", false }));
+    }
+
+    private void assertBoundAsParsed(Class<?> clazz, String query, Object... params) {
+        assertEquals(Document.parse(operations.bindFilter(clazz, query, params)),
+                operations.bindFilterDocument(clazz, query, params));
+    }
+
     @Test
     public void testBindUpdate() {
         // native update by index without $set
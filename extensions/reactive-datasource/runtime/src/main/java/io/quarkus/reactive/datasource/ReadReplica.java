@@ -0,0 +1,33 @@
+package io.quarkus.reactive.datasource;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Qualifier;
+
+/**
+ * Qualifier used to inject the pool routing the queries to the read replicas of the reactive datasource.
+ * <p>
+ * When no replica is configured, or when no replica is available, the queries are sent to the primary datasource.
+ */
+@Target({ METHOD, FIELD, PARAMETER, TYPE })
+@Retention(RUNTIME)
+@Documented
+@Qualifier
+public @interface ReadReplica {
+
+    public class ReadReplicaLiteral extends AnnotationLiteral<ReadReplica> implements ReadReplica {
+
+        public static final ReadReplicaLiteral INSTANCE = new ReadReplicaLiteral();
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.reactive.datasource.runtime;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -96,6 +97,42 @@ public class DataSourceReactiveRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> threadLocal;
 
+    /**
+     * Experimental: use one connection pool per Vert.x event loop, the {@code max-size} connections being split
+     * between these pools.
+     * <p>
+     * Callers running on an event loop use the pool of this event loop, other callers use the pool of the least
+     * busy event loop. Takes precedence over {@code thread-local}.
+     */
+    @ConfigItem
+    public Optional<Boolean> perEventLoop;
+
+    /**
+     * The URLs of the read replicas of the datasource.
+     * <p>
+     * The pool injected with the {@code @ReadReplica} qualifier sends its queries to the replica with the fewest pending
+     * operations, and falls back to the primary datasource when no replica is available.
+     * Each replica has its own pool, of {@code max-size} connections.
+     */
+    @ConfigItem
+    public Optional<List<String>> replicaUrls;
+
+    /**
+     * The maximum replication lag of the read replicas.
+     * <p>
+     * During this delay after a write was sent to the primary datasource, the queries of the {@code @ReadReplica} pool
+     * are sent to the primary datasource, so that they see the written data.
+     * The delay is global: a write of any caller sends the queries of all callers to the primary datasource.
+     */
+    @ConfigItem(defaultValue = "0")
+    public Duration replicaMaxLag;
+
+    /**
+     * The interval during which a read replica that failed with a connection error is not used.
+     */
+    @ConfigItem(defaultValue = "PT10S")
+    public Duration replicaRetryInterval;
+
     /**
      * The number of reconnection attempts when a pooled connection cannot be established on first try.
      */
@@ -113,4 +150,11 @@ public class DataSourceReactiveRuntimeConfig {
      */
     @ConfigItem(defaultValueDocumentation = "no timeout")
     public Optional<Duration> idleTimeout;
+
+    /**
+     * The execution time above which queries are logged with the {@code WARN} level, including the time spent waiting
+     * for a connection.
+     */
+    @ConfigItem(defaultValueDocumentation = "slow queries are not logged")
+    public Optional<Duration> slowQueryThreshold;
 }
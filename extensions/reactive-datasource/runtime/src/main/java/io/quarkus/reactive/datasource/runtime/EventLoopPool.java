@@ -0,0 +1,190 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+
+/**
+ * A pool made of one sub-pool per Vert.x event loop, sharing the {@code max-size} connections of the datasource.
+ * <p>
+ * Each sub-pool is created on the context of its event loop, so that callers running on this event loop never hand
+ * their operations to another thread. The maximum size is split between the sub-pools: when it is lower than the number
+ * of event loops, only {@code max-size} sub-pools of one connection are created and the other event loops share them.
+ * Callers not running on an event loop, e.g. worker threads, use the sub-pool of the event loop with the fewest
+ * pending tasks.
+ */
+public abstract class EventLoopPool<PoolType extends Pool> implements Pool {
+
+    private static final Logger log = Logger.getLogger(EventLoopPool.class);
+
+    private static final long CREATION_TIMEOUT_SECONDS = 10;
+
+    protected final PoolOptions poolOptions;
+    protected final Vertx vertx;
+
+    private final AtomicInteger nextPool = new AtomicInteger();
+    private List<EventLoop> eventLoops;
+    private volatile List<PoolType> pools;
+    private volatile boolean closed;
+
+    public EventLoopPool(Vertx vertx, PoolOptions poolOptions) {
+        this.vertx = vertx;
+        this.poolOptions = poolOptions;
+    }
+
+    /**
+     * Creates a sub-pool, called on the context of its event loop.
+     *
+     * @param poolOptions the options of the sub-pool, with its share of the maximum size
+     */
+    protected abstract PoolType createEventLoopPool(PoolOptions poolOptions);
+
+    /**
+     * Creates the sub-pools, waiting for each of them to be created on its event loop.
+     * <p>
+     * Must be called once, before the pool is used, and not from an event loop.
+     */
+    public void start() {
+        if (pools != null) {
+            throw new IllegalStateException("The pool is already started");
+        }
+        VertxInternal vertxInternal = (VertxInternal) vertx;
+        List<EventLoop> eventLoops = new ArrayList<>();
+        for (EventExecutor executor : vertxInternal.getEventLoopGroup()) {
+            eventLoops.add((EventLoop) executor);
+        }
+        int poolCount = Math.min(eventLoops.size(), poolOptions.getMaxSize());
+        List<CompletableFuture<PoolType>> created = new ArrayList<>(poolCount);
+        for (int i = 0; i < poolCount; i++) {
+            PoolOptions options = new PoolOptions(poolOptions)
+                    .setMaxSize(poolOptions.getMaxSize() / poolCount + (i < poolOptions.getMaxSize() % poolCount ? 1 : 0));
+            ContextInternal context = vertxInternal.createEventLoopContext(eventLoops.get(i), null,
+                    Thread.currentThread().getContextClassLoader());
+            CompletableFuture<PoolType> pool = new CompletableFuture<>();
+            context.runOnContext(v -> {
+                try {
+                    pool.complete(createEventLoopPool(options));
+                } catch (Throwable t) {
+                    pool.completeExceptionally(t);
+                }
+            });
+            created.add(pool);
+        }
+        List<PoolType> pools = new ArrayList<>(poolCount);
+        try {
+            for (CompletableFuture<PoolType> pool : created) {
+                pools.add(pool.get(CREATION_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating the event loop pools", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Unable to create the event loop pools", e);
+        }
+        log.debugf("Created %d pools for %d event loops", poolCount, eventLoops.size());
+        this.eventLoops = eventLoops;
+        this.pools = pools;
+    }
+
+    private PoolType pool() {
+        List<PoolType> pools = this.pools;
+        if (pools == null) {
+            throw new IllegalStateException("The pool is not started");
+        }
+        if (closed) {
+            throw new IllegalStateException("The pool is closed");
+        }
+        Context context = Vertx.currentContext();
+        if (context != null && context.isEventLoopContext()) {
+            int index = eventLoops.indexOf(((ContextInternal) context).nettyEventLoop());
+            if (index >= 0) {
+                return pools.get(index % pools.size());
+            }
+        }
+        return leastLoaded(pools);
+    }
+
+    private PoolType leastLoaded(List<PoolType> pools) {
+        int size = pools.size();
+        // rotate the first candidate, so that idle event loops share the callers
+        int start = Math.floorMod(nextPool.getAndIncrement(), size);
+        int best = start;
+        int bestPendingTasks = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            int pendingTasks = pendingTasks(eventLoops.get(index));
+            if (pendingTasks < bestPendingTasks) {
+                best = index;
+                bestPendingTasks = pendingTasks;
+                if (pendingTasks == 0) {
+                    break;
+                }
+            }
+        }
+        return pools.get(best);
+    }
+
+    private static int pendingTasks(EventLoop eventLoop) {
+        if (eventLoop instanceof SingleThreadEventExecutor) {
+            return ((SingleThreadEventExecutor) eventLoop).pendingTasks();
+        }
+        return 0;
+    }
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        pool().getConnection(handler);
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return pool().query(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return pool().preparedQuery(sql);
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<Transaction>> handler) {
+        pool().begin(handler);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        List<PoolType> pools = this.pools;
+        if (pools == null) {
+            return;
+        }
+        for (Pool pool : pools) {
+            log.debugf("Closing pool: %s", pool);
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * A pool reporting its activity to a {@link PoolMetrics} and logging the slow queries.
+ * <p>
+ * The pools of the reactive clients do not expose their state, so when metrics are enabled, the queries are executed on
+ * a connection acquired by this pool, to know how long they waited for a connection and how many connections they use.
+ * The connections acquired with {@link #getConnection(Handler)} and {@link #begin(Handler)} are only accounted for while
+ * they are waited for.
+ */
+public abstract class InstrumentedPool<PoolType extends Pool> implements Pool {
+
+    private static final Logger log = Logger.getLogger(InstrumentedPool.class);
+
+    private final PoolType delegate;
+    private final String name;
+    private final PoolMetrics metrics;
+    private final long slowQueryThresholdNanos;
+
+    /**
+     * @param metrics the metrics of the pool, {@code null} if metrics are disabled
+     * @param slowQueryThreshold the duration above which queries are logged, {@code null} if they are not
+     */
+    protected InstrumentedPool(PoolType delegate, String name, PoolMetrics metrics, Duration slowQueryThreshold) {
+        this.delegate = delegate;
+        this.name = name;
+        this.metrics = metrics;
+        this.slowQueryThresholdNanos = slowQueryThreshold == null ? Long.MAX_VALUE : slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        acquire(Pool::getConnection, handler);
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return new InstrumentedQuery<>(this, sql, client -> client.query(sql));
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return new InstrumentedPreparedQuery<>(this, sql, client -> client.preparedQuery(sql));
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<Transaction>> handler) {
+        acquire(Pool::begin, handler);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+        if (metrics != null) {
+            metrics.close();
+        }
+    }
+
+    private <T> void acquire(BiConsumer<Pool, Handler<AsyncResult<T>>> operation, Handler<AsyncResult<T>> handler) {
+        if (metrics == null) {
+            operation.accept(delegate, handler);
+            return;
+        }
+        long start = System.nanoTime();
+        metrics.waitStarted();
+        operation.accept(delegate, ar -> {
+            metrics.waitEnded(System.nanoTime() - start);
+            handler.handle(ar);
+        });
+    }
+
+    <T> void execute(String sql, BiConsumer<SqlClient, Handler<AsyncResult<T>>> operation,
+            Handler<AsyncResult<T>> handler) {
+        long start = System.nanoTime();
+        if (metrics == null) {
+            operation.accept(delegate, ar -> {
+                completed(sql, start, ar.succeeded());
+                handler.handle(ar);
+            });
+            return;
+        }
+        metrics.waitStarted();
+        delegate.getConnection(ar -> {
+            metrics.waitEnded(System.nanoTime() - start);
+            if (ar.failed()) {
+                completed(sql, start, false);
+                handler.handle(ar.mapEmpty());
+                return;
+            }
+            SqlConnection connection = ar.result();
+            metrics.connectionLeased();
+            operation.accept(connection, result -> {
+                connection.close();
+                metrics.connectionReleased();
+                completed(sql, start, result.succeeded());
+                handler.handle(result);
+            });
+        });
+    }
+
+    private void completed(String sql, long start, boolean succeeded) {
+        long duration = System.nanoTime() - start;
+        if (metrics != null) {
+            metrics.queryExecuted(sql, duration, succeeded);
+        }
+        if (duration > slowQueryThresholdNanos) {
+            log.warnf("Slow query on datasource %s took %d ms: %s", name, TimeUnit.NANOSECONDS.toMillis(duration), sql);
+        }
+    }
+
+    private static class InstrumentedQuery<T> implements Query<T> {
+
+        final InstrumentedPool<?> pool;
+        final String sql;
+        final Function<SqlClient, Query<T>> query;
+
+        InstrumentedQuery(InstrumentedPool<?> pool, String sql, Function<SqlClient, Query<T>> query) {
+            this.pool = pool;
+            this.sql = sql;
+            this.query = query;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<T>> handler) {
+            pool.execute(sql, (client, h) -> query.apply(client).execute(h), handler);
+        }
+
+        @Override
+        public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return new InstrumentedQuery<>(pool, sql, query.andThen(q -> q.collecting(collector)));
+        }
+
+        @Override
+        public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return new InstrumentedQuery<>(pool, sql, query.andThen(q -> q.mapping(mapper)));
+        }
+    }
+
+    private static class InstrumentedPreparedQuery<T> implements PreparedQuery<T> {
+
+        final InstrumentedPool<?> pool;
+        final String sql;
+        final Function<SqlClient, PreparedQuery<T>> query;
+
+        InstrumentedPreparedQuery(InstrumentedPool<?> pool, String sql, Function<SqlClient, PreparedQuery<T>> query) {
+            this.pool = pool;
+            this.sql = sql;
+            this.query = query;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<T>> handler) {
+            pool.execute(sql, (client, h) -> query.apply(client).execute(h), handler);
+        }
+
+        @Override
+        public void execute(Tuple tuple, Handler<AsyncResult<T>> handler) {
+            pool.execute(sql, (client, h) -> query.apply(client).execute(tuple, h), handler);
+        }
+
+        @Override
+        public void executeBatch(List<Tuple> batch, Handler<AsyncResult<T>> handler) {
+            pool.execute(sql, (client, h) -> query.apply(client).executeBatch(batch, h), handler);
+        }
+
+        @Override
+        public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return new InstrumentedPreparedQuery<>(pool, sql, query.andThen(q -> q.collecting(collector)));
+        }
+
+        @Override
+        public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return new InstrumentedPreparedQuery<>(pool, sql, query.andThen(q -> q.mapping(mapper)));
+        }
+    }
+}
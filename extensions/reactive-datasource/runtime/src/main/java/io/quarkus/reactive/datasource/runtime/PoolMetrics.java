@@ -0,0 +1,41 @@
+package io.quarkus.reactive.datasource.runtime;
+
+/**
+ * Receives the events of an {@link InstrumentedPool}, to publish them to a metrics system.
+ */
+public interface PoolMetrics {
+
+    /**
+     * An operation started waiting for a connection.
+     */
+    void waitStarted();
+
+    /**
+     * An operation stopped waiting for a connection, whether it got one or not.
+     *
+     * @param waitNanos the time spent waiting
+     */
+    void waitEnded(long waitNanos);
+
+    /**
+     * A statement started to use a connection of the pool.
+     */
+    void connectionLeased();
+
+    /**
+     * A statement gave its connection back to the pool.
+     */
+    void connectionReleased();
+
+    /**
+     * A statement completed, the duration including the time spent waiting for a connection.
+     *
+     * @param sql the SQL of the statement, with its parameter placeholders
+     */
+    void queryExecuted(String sql, long durationNanos, boolean succeeded);
+
+    /**
+     * The pool is closed.
+     */
+    void close();
+}
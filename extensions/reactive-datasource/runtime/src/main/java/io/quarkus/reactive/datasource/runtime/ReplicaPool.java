@@ -0,0 +1,296 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * A pool sending the operations to the primary datasource, with a {@link #readPool() read view} sending them to the
+ * read replicas.
+ * <p>
+ * The read view sends each operation to the available replica with the fewest pending operations, ties being broken
+ * in a round-robin fashion. A replica failing with a connection error is considered unavailable for the retry interval
+ * and the failed operation is retried on the primary. The read view also uses the primary when no replica is
+ * available, and for the maximum replication lag after a write was sent to the primary, so that callers read their
+ * own writes. This delay is not tracked per caller: the reads of all callers go to the primary after any write.
+ * <p>
+ * Every operation of the primary view is considered a write, except the queries starting with {@code SELECT}.
+ */
+public abstract class ReplicaPool<PoolType extends Pool> implements Pool {
+
+    private static final Logger log = Logger.getLogger(ReplicaPool.class);
+
+    private final Routing<PoolType> routing;
+    private final boolean read;
+
+    protected ReplicaPool(PoolType primary, List<PoolType> replicas, Duration maxLag, Duration retryInterval) {
+        this.routing = new Routing<>(primary, replicas, maxLag, retryInterval);
+        this.read = false;
+    }
+
+    /**
+     * Creates the read view of the given pool.
+     */
+    protected ReplicaPool(ReplicaPool<PoolType> pool) {
+        this.routing = pool.routing;
+        this.read = true;
+    }
+
+    /**
+     * @return the view of this pool sending the operations to the read replicas, closing it has no effect
+     */
+    public abstract PoolType readPool();
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        route(Pool::getConnection, handler);
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        if (read) {
+            return new RoutedQuery<>(routing, pool -> pool.query(sql));
+        }
+        if (!isSelect(sql)) {
+            routing.written();
+        }
+        return routing.primary.query(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        if (read) {
+            return new RoutedPreparedQuery<>(routing, pool -> pool.preparedQuery(sql));
+        }
+        if (!isSelect(sql)) {
+            routing.written();
+        }
+        return routing.primary.preparedQuery(sql);
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<Transaction>> handler) {
+        route(Pool::begin, handler);
+    }
+
+    @Override
+    public void close() {
+        if (read) {
+            return;
+        }
+        log.debugf("Closing pool: %s", routing.primary);
+        routing.primary.close();
+        for (Replica<PoolType> replica : routing.replicas) {
+            log.debugf("Closing pool: %s", replica.pool);
+            replica.pool.close();
+        }
+    }
+
+    private <T> void route(BiConsumer<Pool, Handler<AsyncResult<T>>> operation, Handler<AsyncResult<T>> handler) {
+        if (read) {
+            routing.read(operation, handler);
+        } else {
+            routing.written();
+            operation.accept(routing.primary, handler);
+        }
+    }
+
+    static boolean isSelect(String sql) {
+        int i = 0;
+        while (i < sql.length() && Character.isWhitespace(sql.charAt(i))) {
+            i++;
+        }
+        return sql.regionMatches(true, i, "select", 0, 6);
+    }
+
+    static boolean isConnectionFailure(Throwable failure) {
+        if (failure instanceof IOException) {
+            // e.g. ConnectException, or a connection reset
+            return true;
+        }
+        // the clients report closed connections and pools with generic exceptions, only their messages tell
+        String message = failure.getMessage();
+        if (message == null) {
+            return false;
+        }
+        return message.equals("closed") || message.startsWith("Connection not open")
+                || message.equals("Connection pool closed");
+    }
+
+    private static final class Routing<PoolType extends Pool> {
+
+        final PoolType primary;
+        final List<Replica<PoolType>> replicas;
+        final long maxLagNanos;
+        final long retryIntervalNanos;
+        final AtomicInteger nextReplica = new AtomicInteger();
+        volatile long lastWrite;
+
+        Routing(PoolType primary, List<PoolType> replicaPools, Duration maxLag, Duration retryInterval) {
+            this.primary = primary;
+            this.replicas = new ArrayList<>(replicaPools.size());
+            for (PoolType pool : replicaPools) {
+                replicas.add(new Replica<>(replicas.size(), pool));
+            }
+            this.maxLagNanos = maxLag.toNanos();
+            this.retryIntervalNanos = retryInterval.toNanos();
+            this.lastWrite = System.nanoTime() - maxLagNanos;
+        }
+
+        void written() {
+            if (maxLagNanos > 0) {
+                lastWrite = System.nanoTime();
+            }
+        }
+
+        Replica<PoolType> replica() {
+            int size = replicas.size();
+            if (size == 0) {
+                return null;
+            }
+            long now = System.nanoTime();
+            if (now - lastWrite < maxLagNanos) {
+                return null;
+            }
+            int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+            Replica<PoolType> best = null;
+            int bestPending = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                Replica<PoolType> replica = replicas.get((start + i) % size);
+                if (now - replica.unavailableUntil < 0) {
+                    continue;
+                }
+                int pending = replica.pending.get();
+                if (pending < bestPending) {
+                    best = replica;
+                    bestPending = pending;
+                    if (pending == 0) {
+                        break;
+                    }
+                }
+            }
+            return best;
+        }
+
+        <T> void read(BiConsumer<Pool, Handler<AsyncResult<T>>> operation, Handler<AsyncResult<T>> handler) {
+            Replica<PoolType> replica = replica();
+            if (replica == null) {
+                operation.accept(primary, handler);
+                return;
+            }
+            replica.pending.incrementAndGet();
+            operation.accept(replica.pool, ar -> {
+                replica.pending.decrementAndGet();
+                if (ar.failed() && isConnectionFailure(ar.cause())) {
+                    unavailable(replica, ar.cause());
+                    operation.accept(primary, handler);
+                } else {
+                    handler.handle(ar);
+                }
+            });
+        }
+
+        void unavailable(Replica<PoolType> replica, Throwable failure) {
+            long now = System.nanoTime();
+            if (now - replica.unavailableUntil >= 0) {
+                log.warnf("Read replica #%d is unavailable, using the primary datasource for %d ms: %s", replica.index,
+                        retryIntervalNanos / 1_000_000, failure.getMessage());
+            }
+            replica.unavailableUntil = now + retryIntervalNanos;
+        }
+    }
+
+    private static final class Replica<PoolType extends Pool> {
+
+        final int index;
+        final PoolType pool;
+        final AtomicInteger pending = new AtomicInteger();
+        volatile long unavailableUntil = System.nanoTime();
+
+        Replica(int index, PoolType pool) {
+            this.index = index;
+            this.pool = pool;
+        }
+    }
+
+    private static class RoutedQuery<T> implements Query<T> {
+
+        final Routing<?> routing;
+        final Function<Pool, Query<T>> query;
+
+        RoutedQuery(Routing<?> routing, Function<Pool, Query<T>> query) {
+            this.routing = routing;
+            this.query = query;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<T>> handler) {
+            routing.read((pool, h) -> query.apply(pool).execute(h), handler);
+        }
+
+        @Override
+        public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return new RoutedQuery<>(routing, query.andThen(q -> q.collecting(collector)));
+        }
+
+        @Override
+        public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return new RoutedQuery<>(routing, query.andThen(q -> q.mapping(mapper)));
+        }
+    }
+
+    private static class RoutedPreparedQuery<T> implements PreparedQuery<T> {
+
+        final Routing<?> routing;
+        final Function<Pool, PreparedQuery<T>> query;
+
+        RoutedPreparedQuery(Routing<?> routing, Function<Pool, PreparedQuery<T>> query) {
+            this.routing = routing;
+            this.query = query;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<T>> handler) {
+            routing.read((pool, h) -> query.apply(pool).execute(h), handler);
+        }
+
+        @Override
+        public void execute(Tuple tuple, Handler<AsyncResult<T>> handler) {
+            routing.read((pool, h) -> query.apply(pool).execute(tuple, h), handler);
+        }
+
+        @Override
+        public void executeBatch(List<Tuple> batch, Handler<AsyncResult<T>> handler) {
+            routing.read((pool, h) -> query.apply(pool).executeBatch(batch, h), handler);
+        }
+
+        @Override
+        public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return new RoutedPreparedQuery<>(routing, query.andThen(q -> q.collecting(collector)));
+        }
+
+        @Override
+        public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return new RoutedPreparedQuery<>(routing, query.andThen(q -> q.mapping(mapper)));
+        }
+    }
+}
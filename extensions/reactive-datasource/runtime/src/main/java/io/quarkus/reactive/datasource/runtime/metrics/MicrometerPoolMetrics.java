@@ -0,0 +1,154 @@
+package io.quarkus.reactive.datasource.runtime.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.reactive.datasource.runtime.PoolMetrics;
+
+/**
+ * Publishes the activity of a reactive datasource pool to Micrometer, the meters being tagged with the datasource name.
+ * <p>
+ * The query latencies are tagged with the SQL of the queries, which are templates with parameter placeholders. To bound
+ * the number of meters, the queries are tagged {@code other} once {@value #MAX_SQL_TAGS} distinct SQL are recorded.
+ */
+public class MicrometerPoolMetrics implements PoolMetrics {
+
+    static final int MAX_SQL_TAGS = 100;
+    static final String OTHER_SQL = "other";
+
+    final MeterRegistry registry;
+    final Tags tags;
+    final AtomicInteger pending = new AtomicInteger();
+    final AtomicInteger active = new AtomicInteger();
+    final Timer waitTime;
+    final Map<String, QueryTimers> queryTimers = new ConcurrentHashMap<>();
+    final List<Meter> meters = new ArrayList<>();
+    volatile QueryTimers otherQueryTimers;
+
+    public MicrometerPoolMetrics(String dataSourceName) {
+        this(Metrics.globalRegistry, dataSourceName);
+    }
+
+    MicrometerPoolMetrics(MeterRegistry registry, String dataSourceName) {
+        this.registry = registry;
+        this.tags = Tags.of("datasource", dataSourceName);
+        meters.add(Gauge.builder("reactive.sql.pool.pending", pending, AtomicInteger::get)
+                .description("The number of operations waiting for a connection")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder("reactive.sql.pool.active", active, AtomicInteger::get)
+                .description("The number of connections executing a query")
+                .tags(tags)
+                .register(registry));
+        waitTime = Timer.builder("reactive.sql.pool.wait")
+                .description("The time spent waiting for a connection")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+        meters.add(waitTime);
+    }
+
+    @Override
+    public void waitStarted() {
+        pending.incrementAndGet();
+    }
+
+    @Override
+    public void waitEnded(long waitNanos) {
+        pending.decrementAndGet();
+        waitTime.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionLeased() {
+        active.incrementAndGet();
+    }
+
+    @Override
+    public void connectionReleased() {
+        active.decrementAndGet();
+    }
+
+    @Override
+    public void queryExecuted(String sql, long durationNanos, boolean succeeded) {
+        QueryTimers timers = queryTimers.get(sql);
+        if (timers == null) {
+            timers = queryTimers.size() < MAX_SQL_TAGS ? queryTimers.computeIfAbsent(sql, QueryTimers::new)
+                    : otherQueryTimers();
+        }
+        if (succeeded) {
+            timers.succeeded.record(durationNanos, TimeUnit.NANOSECONDS);
+        } else {
+            timers.failed().record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private QueryTimers otherQueryTimers() {
+        QueryTimers timers = otherQueryTimers;
+        if (timers == null) {
+            // racing threads get the same timers from the registry
+            timers = otherQueryTimers = new QueryTimers(OTHER_SQL);
+        }
+        return timers;
+    }
+
+    @Override
+    public void close() {
+        for (Meter meter : meters) {
+            registry.remove(meter);
+        }
+        for (QueryTimers timers : queryTimers.values()) {
+            timers.remove();
+        }
+        queryTimers.clear();
+        if (otherQueryTimers != null) {
+            otherQueryTimers.remove();
+            otherQueryTimers = null;
+        }
+    }
+
+    final class QueryTimers {
+        final String sql;
+        final Timer succeeded;
+        volatile Timer failed;
+
+        QueryTimers(String sql) {
+            this.sql = sql;
+            this.succeeded = timer("SUCCESS");
+        }
+
+        Timer failed() {
+            Timer timer = failed;
+            if (timer == null) {
+                timer = failed = timer("FAILURE");
+            }
+            return timer;
+        }
+
+        void remove() {
+            registry.remove(succeeded);
+            if (failed != null) {
+                registry.remove(failed);
+            }
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder("reactive.sql.queries")
+                    .description("The execution time of the queries, including the time spent waiting for a connection")
+                    .tags(tags)
+                    .tags("sql", sql, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
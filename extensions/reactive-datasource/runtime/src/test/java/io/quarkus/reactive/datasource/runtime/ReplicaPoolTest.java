@@ -0,0 +1,327 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.VertxException;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+public class ReplicaPoolTest {
+
+    private static final Duration RETRY_INTERVAL = Duration.ofMinutes(1);
+
+    FakePool primary = new FakePool();
+    FakePool replica0 = new FakePool();
+    FakePool replica1 = new FakePool();
+
+    @Test
+    public void testPrimaryViewUsesPrimary() {
+        TestReplicaPool pool = pool(Duration.ZERO, RETRY_INTERVAL, replica0, replica1);
+        execute(pool.query("SELECT * FROM fruits"));
+        execute(pool.preparedQuery("INSERT INTO fruits (name) VALUES ($1)"));
+        pool.getConnection(ar -> Assertions.assertTrue(ar.succeeded()));
+        pool.begin(ar -> Assertions.assertTrue(ar.succeeded()));
+
+        Assertions.assertEquals(Arrays.asList("SELECT * FROM fruits", "INSERT INTO fruits (name) VALUES ($1)",
+                "getConnection", "begin"), primary.operations);
+        Assertions.assertTrue(replica0.operations.isEmpty());
+        Assertions.assertTrue(replica1.operations.isEmpty());
+    }
+
+    @Test
+    public void testReadViewUsesReplicasInTurn() {
+        Pool readPool = pool(Duration.ZERO, RETRY_INTERVAL, replica0, replica1).readPool();
+        for (int i = 0; i < 4; i++) {
+            execute(readPool.query("SELECT " + i));
+        }
+        readPool.getConnection(ar -> Assertions.assertTrue(ar.succeeded()));
+
+        Assertions.assertEquals(Arrays.asList("SELECT 0", "SELECT 2", "getConnection"), replica0.operations);
+        Assertions.assertEquals(Arrays.asList("SELECT 1", "SELECT 3"), replica1.operations);
+        Assertions.assertTrue(primary.operations.isEmpty());
+    }
+
+    @Test
+    public void testReadViewUsesLeastBusyReplica() {
+        Pool readPool = pool(Duration.ZERO, RETRY_INTERVAL, replica0, replica1).readPool();
+        replica0.hold = true;
+        for (int i = 0; i < 3; i++) {
+            execute(readPool.query("SELECT " + i));
+        }
+
+        Assertions.assertEquals(Collections.singletonList("SELECT 0"), replica0.operations);
+        Assertions.assertEquals(Arrays.asList("SELECT 1", "SELECT 2"), replica1.operations);
+
+        // back to taking turns once the replica is idle
+        replica0.release();
+        execute(readPool.query("SELECT 3"));
+        execute(readPool.query("SELECT 4"));
+        Assertions.assertEquals(Arrays.asList("SELECT 0", "SELECT 4"), replica0.operations);
+        Assertions.assertEquals(Arrays.asList("SELECT 1", "SELECT 2", "SELECT 3"), replica1.operations);
+    }
+
+    @Test
+    public void testReadViewWithoutReplicaUsesPrimary() {
+        Pool readPool = pool(Duration.ZERO, RETRY_INTERVAL).readPool();
+        execute(readPool.preparedQuery("SELECT 1"));
+
+        Assertions.assertEquals(Collections.singletonList("SELECT 1"), primary.operations);
+    }
+
+    @Test
+    public void testReadViewUsesPrimaryDuringLagWindow() throws InterruptedException {
+        TestReplicaPool pool = pool(Duration.ofMillis(200), RETRY_INTERVAL, replica0);
+        Pool readPool = pool.readPool();
+        execute(pool.query("SELECT 1"));
+        execute(readPool.query("SELECT 2"));
+        Assertions.assertEquals(Collections.singletonList("SELECT 2"), replica0.operations);
+
+        execute(pool.preparedQuery("UPDATE fruits SET name = $1"));
+        execute(readPool.query("SELECT 3"));
+        Assertions.assertEquals(Arrays.asList("SELECT 1", "UPDATE fruits SET name = $1", "SELECT 3"), primary.operations);
+
+        Thread.sleep(300);
+        execute(readPool.query("SELECT 4"));
+        Assertions.assertEquals(Arrays.asList("SELECT 2", "SELECT 4"), replica0.operations);
+    }
+
+    @Test
+    public void testConnectionsAndTransactionsOfPrimaryViewAreWrites() {
+        TestReplicaPool pool = pool(Duration.ofMinutes(1), RETRY_INTERVAL, replica0);
+        pool.begin(ar -> Assertions.assertTrue(ar.succeeded()));
+        execute(pool.readPool().query("SELECT 1"));
+
+        Assertions.assertEquals(Arrays.asList("begin", "SELECT 1"), primary.operations);
+        Assertions.assertTrue(replica0.operations.isEmpty());
+    }
+
+    @Test
+    public void testFailoverToPrimary() throws InterruptedException {
+        Pool readPool = pool(Duration.ZERO, Duration.ofMillis(200), replica0).readPool();
+        replica0.failure = new ConnectException("Connection refused");
+        Assertions.assertTrue(execute(readPool.query("SELECT 1")).succeeded());
+        Assertions.assertEquals(Collections.singletonList("SELECT 1"), replica0.operations);
+        Assertions.assertEquals(Collections.singletonList("SELECT 1"), primary.operations);
+
+        // the replica is not used for the retry interval
+        replica0.failure = null;
+        execute(readPool.query("SELECT 2"));
+        Assertions.assertEquals(Arrays.asList("SELECT 1", "SELECT 2"), primary.operations);
+
+        Thread.sleep(300);
+        execute(readPool.query("SELECT 3"));
+        Assertions.assertEquals(Arrays.asList("SELECT 1", "SELECT 3"), replica0.operations);
+    }
+
+    @Test
+    public void testDatabaseErrorIsNotRetried() {
+        Pool readPool = pool(Duration.ZERO, RETRY_INTERVAL, replica0).readPool();
+        replica0.failure = new VertxException("relation \"fruit\" does not exist");
+        AsyncResult<RowSet<Row>> result = execute(readPool.query("SELECT * FROM fruit"));
+        Assertions.assertSame(replica0.failure, result.cause());
+
+        replica0.failure = null;
+        execute(readPool.query("SELECT * FROM fruits"));
+        Assertions.assertEquals(Arrays.asList("SELECT * FROM fruit", "SELECT * FROM fruits"), replica0.operations);
+        Assertions.assertTrue(primary.operations.isEmpty());
+    }
+
+    @Test
+    public void testIsConnectionFailure() {
+        Assertions.assertTrue(ReplicaPool.isConnectionFailure(new ConnectException("Connection refused")));
+        Assertions.assertTrue(ReplicaPool.isConnectionFailure(new VertxException("closed")));
+        Assertions.assertTrue(ReplicaPool.isConnectionFailure(new VertxException("Connection not open CLOSED")));
+        Assertions.assertTrue(ReplicaPool.isConnectionFailure(new NoStackTraceThrowable("Connection pool closed")));
+        Assertions.assertFalse(ReplicaPool.isConnectionFailure(new VertxException("Transaction already completed")));
+        Assertions.assertFalse(ReplicaPool.isConnectionFailure(new NoStackTraceThrowable("Max waiter size reached")));
+        Assertions.assertFalse(ReplicaPool.isConnectionFailure(new IllegalStateException()));
+    }
+
+    @Test
+    public void testIsSelect() {
+        Assertions.assertTrue(ReplicaPool.isSelect("SELECT 1"));
+        Assertions.assertTrue(ReplicaPool.isSelect("\n  select * from fruits"));
+        Assertions.assertFalse(ReplicaPool.isSelect("INSERT INTO fruits SELECT * FROM fruits"));
+        Assertions.assertFalse(ReplicaPool.isSelect("sel"));
+    }
+
+    @Test
+    public void testClose() {
+        TestReplicaPool pool = pool(Duration.ZERO, RETRY_INTERVAL, replica0, replica1);
+        pool.readPool().close();
+        Assertions.assertFalse(primary.closed);
+
+        pool.close();
+        Assertions.assertTrue(primary.closed);
+        Assertions.assertTrue(replica0.closed);
+        Assertions.assertTrue(replica1.closed);
+    }
+
+    private TestReplicaPool pool(Duration maxLag, Duration retryInterval, Pool... replicas) {
+        return new TestReplicaPool(primary, Arrays.asList(replicas), maxLag, retryInterval);
+    }
+
+    private static <T> AsyncResult<T> execute(Query<T> query) {
+        List<AsyncResult<T>> results = new ArrayList<>();
+        query.execute(results::add);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    private static <T> AsyncResult<T> execute(PreparedQuery<T> query) {
+        List<AsyncResult<T>> results = new ArrayList<>();
+        query.execute(results::add);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    static final class TestReplicaPool extends ReplicaPool<Pool> {
+
+        TestReplicaPool(Pool primary, List<Pool> replicas, Duration maxLag, Duration retryInterval) {
+            super(primary, replicas, maxLag, retryInterval);
+        }
+
+        TestReplicaPool(TestReplicaPool pool) {
+            super(pool);
+        }
+
+        @Override
+        public Pool readPool() {
+            return new TestReplicaPool(this);
+        }
+    }
+
+    /**
+     * Records the operations, and completes them immediately unless held.
+     */
+    static final class FakePool implements Pool {
+
+        final List<String> operations = new ArrayList<>();
+        final List<Runnable> held = new ArrayList<>();
+        boolean hold;
+        Throwable failure;
+        boolean closed;
+
+        <T> void complete(String operation, Handler<AsyncResult<T>> handler) {
+            operations.add(operation);
+            AsyncResult<T> result = failure != null ? Future.failedFuture(failure) : Future.succeededFuture();
+            if (hold) {
+                held.add(() -> handler.handle(result));
+            } else {
+                handler.handle(result);
+            }
+        }
+
+        void release() {
+            hold = false;
+            held.forEach(Runnable::run);
+            held.clear();
+        }
+
+        @Override
+        public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+            complete("getConnection", handler);
+        }
+
+        @Override
+        public Query<RowSet<Row>> query(String sql) {
+            return new FakeQuery(this, sql);
+        }
+
+        @Override
+        public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+            return new FakePreparedQuery(this, sql);
+        }
+
+        @Override
+        public void begin(Handler<AsyncResult<Transaction>> handler) {
+            complete("begin", handler);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static class FakeQuery implements Query<RowSet<Row>> {
+
+        final FakePool pool;
+        final String sql;
+
+        FakeQuery(FakePool pool, String sql) {
+            this.pool = pool;
+            this.sql = sql;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<RowSet<Row>>> handler) {
+            pool.complete(sql, handler);
+        }
+
+        @Override
+        public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static class FakePreparedQuery implements PreparedQuery<RowSet<Row>> {
+
+        final FakePool pool;
+        final String sql;
+
+        FakePreparedQuery(FakePool pool, String sql) {
+            this.pool = pool;
+            this.sql = sql;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<RowSet<Row>>> handler) {
+            pool.complete(sql, handler);
+        }
+
+        @Override
+        public void execute(Tuple tuple, Handler<AsyncResult<RowSet<Row>>> handler) {
+            pool.complete(sql, handler);
+        }
+
+        @Override
+        public void executeBatch(List<Tuple> batch, Handler<AsyncResult<RowSet<Row>>> handler) {
+            pool.complete(sql, handler);
+        }
+
+        @Override
+        public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package io.quarkus.reactive.datasource.runtime.metrics;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.reactive.datasource.runtime.InstrumentedPool;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+public class MicrometerPoolMetricsTest {
+
+    SimpleMeterRegistry registry;
+    FakePool delegate;
+    TestPool pool;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        delegate = new FakePool();
+        pool = new TestPool(delegate, new MicrometerPoolMetrics(registry, "fruits"));
+    }
+
+    @Test
+    public void testQuery() {
+        List<AsyncResult<RowSet<Row>>> results = new ArrayList<>();
+        pool.query("SELECT * FROM fruits").execute(results::add);
+        Assertions.assertEquals(1, gauge("reactive.sql.pool.pending"));
+        Assertions.assertEquals(0, gauge("reactive.sql.pool.active"));
+
+        delegate.connect();
+        Assertions.assertEquals(0, gauge("reactive.sql.pool.pending"));
+        Assertions.assertEquals(1, gauge("reactive.sql.pool.active"));
+        Assertions.assertEquals(1, registry.get("reactive.sql.pool.wait").tag("datasource", "fruits").timer().count());
+
+        delegate.completeQuery(true);
+        Assertions.assertEquals(0, gauge("reactive.sql.pool.active"));
+        Assertions.assertEquals(1, delegate.closedConnections);
+        Assertions.assertTrue(results.get(0).succeeded());
+        Assertions.assertEquals(1, registry.get("reactive.sql.queries")
+                .tags("datasource", "fruits", "sql", "SELECT * FROM fruits", "outcome", "SUCCESS").timer().count());
+    }
+
+    @Test
+    public void testFailedQuery() {
+        List<AsyncResult<RowSet<Row>>> results = new ArrayList<>();
+        pool.preparedQuery("SELECT * FROM fruits WHERE id = $1").execute(results::add);
+        delegate.connect();
+        delegate.completeQuery(false);
+        pool.query("SELECT * FROM fruits").execute(results::add);
+        delegate.failConnection();
+
+        Assertions.assertTrue(results.get(0).failed());
+        Assertions.assertTrue(results.get(1).failed());
+        Assertions.assertEquals(0, gauge("reactive.sql.pool.pending"));
+        Assertions.assertEquals(0, gauge("reactive.sql.pool.active"));
+        Assertions.assertEquals(2, registry.get("reactive.sql.pool.wait").timer().count());
+        Assertions.assertEquals(1, registry.get("reactive.sql.queries")
+                .tags("sql", "SELECT * FROM fruits WHERE id = $1", "outcome", "FAILURE").timer().count());
+        Assertions.assertEquals(1, registry.get("reactive.sql.queries")
+                .tags("sql", "SELECT * FROM fruits", "outcome", "FAILURE").timer().count());
+    }
+
+    @Test
+    public void testAcquiredConnection() {
+        List<AsyncResult<SqlConnection>> results = new ArrayList<>();
+        pool.getConnection(results::add);
+        Assertions.assertEquals(1, gauge("reactive.sql.pool.pending"));
+
+        delegate.connect();
+        Assertions.assertTrue(results.get(0).succeeded());
+        Assertions.assertEquals(0, gauge("reactive.sql.pool.pending"));
+        // only the connections of the queries are accounted for
+        Assertions.assertEquals(0, gauge("reactive.sql.pool.active"));
+        Assertions.assertEquals(1, registry.get("reactive.sql.pool.wait").timer().count());
+    }
+
+    @Test
+    public void testDistinctSqlAreBounded() {
+        MicrometerPoolMetrics metrics = new MicrometerPoolMetrics(registry, "orders");
+        for (int i = 0; i <= MicrometerPoolMetrics.MAX_SQL_TAGS; i++) {
+            metrics.queryExecuted("SELECT " + i, 1_000, true);
+        }
+        metrics.queryExecuted("SELECT 0", 1_000, true);
+
+        Assertions.assertEquals(MicrometerPoolMetrics.MAX_SQL_TAGS + 1,
+                registry.find("reactive.sql.queries").tag("datasource", "orders").timers().size());
+        Assertions.assertEquals(2, registry.get("reactive.sql.queries").tags("sql", "SELECT 0").timer().count());
+        Assertions.assertEquals(1, registry.get("reactive.sql.queries").tags("sql", MicrometerPoolMetrics.OTHER_SQL)
+                .timer().count());
+
+        metrics.close();
+        Assertions.assertTrue(registry.find("reactive.sql.queries").tag("datasource", "orders").timers().isEmpty());
+    }
+
+    @Test
+    public void testClose() {
+        pool.query("SELECT * FROM fruits").execute(ar -> {
+        });
+        delegate.connect();
+        delegate.completeQuery(false);
+        Assertions.assertFalse(registry.getMeters().isEmpty());
+
+        pool.close();
+        Assertions.assertTrue(delegate.closed);
+        Assertions.assertTrue(registry.getMeters().isEmpty());
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tag("datasource", "fruits").gauge().value();
+    }
+
+    static final class TestPool extends InstrumentedPool<Pool> {
+
+        TestPool(Pool delegate, MicrometerPoolMetrics metrics) {
+            super(delegate, "fruits", metrics, null);
+        }
+    }
+
+    /**
+     * Completes the acquisitions of connections and their queries on demand.
+     */
+    static final class FakePool implements Pool {
+
+        final List<Handler<AsyncResult<SqlConnection>>> waiters = new ArrayList<>();
+        final List<Handler<AsyncResult<RowSet<Row>>>> queries = new ArrayList<>();
+        int closedConnections;
+        boolean closed;
+
+        void connect() {
+            SqlConnection connection = (SqlConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { SqlConnection.class }, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "query":
+                                return new FakeQuery(queries);
+                            case "preparedQuery":
+                                return new FakePreparedQuery(queries);
+                            case "close":
+                                closedConnections++;
+                                return null;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+            waiters.remove(0).handle(Future.succeededFuture(connection));
+        }
+
+        void failConnection() {
+            waiters.remove(0).handle(Future.failedFuture("Connection refused"));
+        }
+
+        void completeQuery(boolean succeeded) {
+            queries.remove(0).handle(succeeded ? Future.succeededFuture() : Future.failedFuture("Syntax error"));
+        }
+
+        @Override
+        public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+            waiters.add(handler);
+        }
+
+        @Override
+        public Query<RowSet<Row>> query(String sql) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void begin(Handler<AsyncResult<Transaction>> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static final class FakeQuery implements Query<RowSet<Row>> {
+
+        final List<Handler<AsyncResult<RowSet<Row>>>> queries;
+
+        FakeQuery(List<Handler<AsyncResult<RowSet<Row>>>> queries) {
+            this.queries = queries;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<RowSet<Row>>> handler) {
+            queries.add(handler);
+        }
+
+        @Override
+        public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static final class FakePreparedQuery implements PreparedQuery<RowSet<Row>> {
+
+        final List<Handler<AsyncResult<RowSet<Row>>>> queries;
+
+        FakePreparedQuery(List<Handler<AsyncResult<RowSet<Row>>>> queries) {
+            this.queries = queries;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<RowSet<Row>>> handler) {
+            queries.add(handler);
+        }
+
+        @Override
+        public void execute(Tuple tuple, Handler<AsyncResult<RowSet<Row>>> handler) {
+            queries.add(handler);
+        }
+
+        @Override
+        public void executeBatch(List<Tuple> batch, Handler<AsyncResult<RowSet<Row>>> handler) {
+            queries.add(handler);
+        }
+
+        @Override
+        public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
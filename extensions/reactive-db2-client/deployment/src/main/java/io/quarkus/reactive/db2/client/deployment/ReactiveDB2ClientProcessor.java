@@ -1,5 +1,7 @@
 package io.quarkus.reactive.db2.client.deployment;
 
+import java.util.Optional;
+
 import javax.inject.Singleton;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
@@ -17,6 +19,8 @@ import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.reactive.datasource.ReadReplica;
 import io.quarkus.reactive.datasource.deployment.VertxPoolBuildItem;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveBuildTimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
@@ -24,6 +28,7 @@ import io.quarkus.reactive.db2.client.runtime.DB2PoolProducer;
 import io.quarkus.reactive.db2.client.runtime.DB2PoolRecorder;
 import io.quarkus.reactive.db2.client.runtime.DataSourceReactiveDB2Config;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 import io.vertx.db2client.DB2Pool;
@@ -49,6 +54,8 @@ class ReactiveDB2ClientProcessor {
                 .setUnremovable()
                 .setDefaultScope(DotNames.APPLICATION_SCOPED)
                 .build());
+        // add the @ReadReplica class otherwise it won't be registered as a qualifier
+        additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(ReadReplica.class).build());
     }
 
     @BuildStep
@@ -63,7 +70,8 @@ class ReactiveDB2ClientProcessor {
             DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig, DataSourcesRuntimeConfig dataSourcesRuntimeConfig,
             DataSourceReactiveBuildTimeConfig dataSourceReactiveBuildTimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
-            DataSourceReactiveDB2Config dataSourceReactiveDB2Config) {
+            DataSourceReactiveDB2Config dataSourceReactiveDB2Config,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
 
         feature.produce(new FeatureBuildItem(Feature.REACTIVE_DB2_CLIENT));
         // Make sure the DB2PoolProducer is initialized before the StartupEvent is fired
@@ -75,7 +83,7 @@ class ReactiveDB2ClientProcessor {
 
         RuntimeValue<DB2Pool> db2PoolValue = recorder.configureDB2Pool(vertx.getVertx(),
                 dataSourcesRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveDB2Config,
-                shutdown);
+                micrometerMetrics(dataSourcesBuildTimeConfig, metricsCapability), shutdown);
         db2Pool.produce(new DB2PoolBuildItem(db2PoolValue));
 
         // Synthetic bean for DB2Pool
@@ -83,6 +91,12 @@ class ReactiveDB2ClientProcessor {
                 .runtimeValue(db2PoolValue)
                 .setRuntimeInit().done());
 
+        // Synthetic bean for the DB2Pool routing the queries to the read replicas
+        syntheticBeans.produce(SyntheticBeanBuildItem.configure(DB2Pool.class).addType(Pool.class)
+                .addQualifier(ReadReplica.class).scope(Singleton.class)
+                .runtimeValue(recorder.readDB2Pool(db2PoolValue))
+                .setRuntimeInit().done());
+
         boolean isDefault = true; // assume always the default pool for now
         vertxPool.produce(new VertxPoolBuildItem(db2PoolValue, DatabaseKind.DB2, isDefault));
 
@@ -106,6 +120,12 @@ class ReactiveDB2ClientProcessor {
                         dataSourcesBuildTimeConfig.healthEnabled));
     }
 
+    private static boolean micrometerMetrics(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        return dataSourcesBuildTimeConfig.metricsEnabled && metricsCapability.isPresent()
+                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER);
+    }
+
     private static boolean createPool(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourceReactiveBuildTimeConfig dataSourceReactiveBuildTimeConfig) {
         if (!dataSourcesBuildTimeConfig.defaultDataSource.dbKind.isPresent()) {
@@ -4,6 +4,7 @@ import javax.enterprise.inject.Produces;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import io.quarkus.reactive.datasource.ReadReplica;
 import io.vertx.db2client.DB2Pool;
 
 public class DB2PoolProducer {
@@ -11,6 +12,10 @@ public class DB2PoolProducer {
     @Inject
     DB2Pool db2Pool;
 
+    @Inject
+    @ReadReplica
+    DB2Pool readDB2Pool;
+
     /**
      * @return the <em>mutiny</em> DB2 Pool instance. The instance is created lazily.
      */
@@ -19,4 +24,15 @@ public class DB2PoolProducer {
     public io.vertx.mutiny.db2client.DB2Pool mutinyDB2Pool() {
         return io.vertx.mutiny.db2client.DB2Pool.newInstance(db2Pool);
     }
+
+    /**
+     * @return the <em>mutiny</em> DB2 Pool instance routing the queries to the read replicas. The instance is
+     *         created lazily.
+     */
+    @Singleton
+    @Produces
+    @ReadReplica
+    public io.vertx.mutiny.db2client.DB2Pool mutinyReadDB2Pool() {
+        return io.vertx.mutiny.db2client.DB2Pool.newInstance(readDB2Pool);
+    }
 }
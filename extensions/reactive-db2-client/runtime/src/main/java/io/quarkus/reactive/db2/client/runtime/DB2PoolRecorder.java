@@ -9,7 +9,10 @@ import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePemTrustOpt
 import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxKeyCertOptions;
 import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxTrustOptions;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
@@ -19,6 +22,7 @@ import io.quarkus.credentials.runtime.CredentialsProviderFinder;
 import io.quarkus.datasource.runtime.DataSourceRuntimeConfig;
 import io.quarkus.datasource.runtime.DataSourcesRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.metrics.MicrometerPoolMetrics;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -32,27 +36,71 @@ public class DB2PoolRecorder {
 
     private static final Logger log = Logger.getLogger(DB2PoolRecorder.class);
 
+    private static final String DEFAULT_TAG = "default";
+
     public RuntimeValue<DB2Pool> configureDB2Pool(RuntimeValue<Vertx> vertx,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveDB2Config dataSourceReactiveDB2Config,
+            boolean micrometerMetrics,
             ShutdownContext shutdown) {
 
         DB2Pool pool = initialize(vertx.getValue(), dataSourcesRuntimeConfig.defaultDataSource,
                 dataSourceReactiveRuntimeConfig,
-                dataSourceReactiveDB2Config);
+                dataSourceReactiveDB2Config, micrometerMetrics);
 
         shutdown.addShutdownTask(pool::close);
         return new RuntimeValue<>(pool);
     }
 
+    public RuntimeValue<DB2Pool> readDB2Pool(RuntimeValue<DB2Pool> db2Pool) {
+        DB2Pool pool = db2Pool.getValue();
+        if (pool instanceof ReplicaDB2Pool) {
+            return new RuntimeValue<>(((ReplicaDB2Pool) pool).readPool());
+        }
+        return db2Pool;
+    }
+
     private DB2Pool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
-            DataSourceReactiveDB2Config dataSourceReactiveDB2Config) {
+            DataSourceReactiveDB2Config dataSourceReactiveDB2Config, boolean micrometerMetrics) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveDB2Config);
-        DB2ConnectOptions connectOptions = toConnectOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
-                dataSourceReactiveDB2Config);
+        DB2ConnectOptions connectOptions = toConnectOptions(dataSourceReactiveRuntimeConfig.url,
+                dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveDB2Config);
+        DB2Pool pool = createPool(vertx, connectOptions, poolOptions, dataSourceReactiveRuntimeConfig);
+        pool = instrument(pool, DEFAULT_TAG, micrometerMetrics, dataSourceReactiveRuntimeConfig);
+        if (!dataSourceReactiveRuntimeConfig.replicaUrls.isPresent()) {
+            return pool;
+        }
+        List<DB2Pool> replicas = new ArrayList<>();
+        for (String replicaUrl : dataSourceReactiveRuntimeConfig.replicaUrls.get()) {
+            DB2ConnectOptions replicaConnectOptions = toConnectOptions(Optional.of(replicaUrl), dataSourceRuntimeConfig,
+                    dataSourceReactiveRuntimeConfig, dataSourceReactiveDB2Config);
+            replicas.add(instrument(createPool(vertx, replicaConnectOptions, poolOptions, dataSourceReactiveRuntimeConfig),
+                    DEFAULT_TAG + "-replica-" + replicas.size(), micrometerMetrics, dataSourceReactiveRuntimeConfig));
+        }
+        return new ReplicaDB2Pool(pool, replicas, dataSourceReactiveRuntimeConfig.replicaMaxLag,
+                dataSourceReactiveRuntimeConfig.replicaRetryInterval);
+    }
+
+    private DB2Pool instrument(DB2Pool pool, String name, boolean micrometerMetrics,
+            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        if (!micrometerMetrics && !dataSourceReactiveRuntimeConfig.slowQueryThreshold.isPresent()) {
+            return pool;
+        }
+        return new InstrumentedDB2Pool(pool, name, micrometerMetrics ? new MicrometerPoolMetrics(name) : null,
+                dataSourceReactiveRuntimeConfig.slowQueryThreshold.orElse(null));
+    }
+
+    private DB2Pool createPool(Vertx vertx, DB2ConnectOptions connectOptions, PoolOptions poolOptions,
+            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        if (dataSourceReactiveRuntimeConfig.perEventLoop.isPresent() &&
+                dataSourceReactiveRuntimeConfig.perEventLoop.get()) {
+            EventLoopDB2Pool pool = new EventLoopDB2Pool(vertx, connectOptions, poolOptions);
+            pool.start();
+            return pool;
+        }
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent() &&
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
             return new ThreadLocalDB2Pool(vertx, connectOptions, poolOptions);
@@ -73,13 +121,14 @@ public class DB2PoolRecorder {
         return poolOptions;
     }
 
-    private DB2ConnectOptions toConnectOptions(DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private DB2ConnectOptions toConnectOptions(Optional<String> datasourceUrl,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveDB2Config dataSourceReactiveDB2Config) {
         DB2ConnectOptions connectOptions;
 
-        if (dataSourceReactiveRuntimeConfig.url.isPresent()) {
-            String url = dataSourceReactiveRuntimeConfig.url.get();
+        if (datasourceUrl.isPresent()) {
+            String url = datasourceUrl.get();
             // clean up the URL to make migrations easier
             if (url.matches("^vertx-reactive:db2://.*$")) {
                 url = url.substring("vertx-reactive:".length());
@@ -0,0 +1,14 @@
+package io.quarkus.reactive.db2.client.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.reactive.datasource.runtime.InstrumentedPool;
+import io.quarkus.reactive.datasource.runtime.PoolMetrics;
+import io.vertx.db2client.DB2Pool;
+
+public class InstrumentedDB2Pool extends InstrumentedPool<DB2Pool> implements DB2Pool {
+
+    public InstrumentedDB2Pool(DB2Pool delegate, String name, PoolMetrics metrics, Duration slowQueryThreshold) {
+        super(delegate, name, metrics, slowQueryThreshold);
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkus.reactive.db2.client.runtime;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.quarkus.reactive.datasource.runtime.ReplicaPool;
+import io.vertx.db2client.DB2Pool;
+
+public class ReplicaDB2Pool extends ReplicaPool<DB2Pool> implements DB2Pool {
+
+    private final DB2Pool readPool;
+
+    public ReplicaDB2Pool(DB2Pool primary, List<DB2Pool> replicas, Duration maxLag, Duration retryInterval) {
+        super(primary, replicas, maxLag, retryInterval);
+        this.readPool = new ReplicaDB2Pool(this);
+    }
+
+    private ReplicaDB2Pool(ReplicaDB2Pool pool) {
+        super(pool);
+        this.readPool = this;
+    }
+
+    @Override
+    public DB2Pool readPool() {
+        return readPool;
+    }
+}
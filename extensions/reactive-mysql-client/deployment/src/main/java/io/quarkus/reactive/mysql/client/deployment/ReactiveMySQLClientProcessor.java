@@ -1,5 +1,7 @@
 package io.quarkus.reactive.mysql.client.deployment;
 
+import java.util.Optional;
+
 import javax.inject.Singleton;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
@@ -17,6 +19,8 @@ import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.reactive.datasource.ReadReplica;
 import io.quarkus.reactive.datasource.deployment.VertxPoolBuildItem;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveBuildTimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
@@ -24,6 +28,7 @@ import io.quarkus.reactive.mysql.client.runtime.DataSourceReactiveMySQLConfig;
 import io.quarkus.reactive.mysql.client.runtime.MySQLPoolProducer;
 import io.quarkus.reactive.mysql.client.runtime.MySQLPoolRecorder;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 import io.vertx.mysqlclient.MySQLPool;
@@ -49,6 +54,8 @@ class ReactiveMySQLClientProcessor {
                 .setUnremovable()
                 .setDefaultScope(DotNames.APPLICATION_SCOPED)
                 .build());
+        // add the @ReadReplica class otherwise it won't be registered as a qualifier
+        additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(ReadReplica.class).build());
     }
 
     @BuildStep
@@ -63,7 +70,8 @@ class ReactiveMySQLClientProcessor {
             DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig, DataSourcesRuntimeConfig dataSourcesRuntimeConfig,
             DataSourceReactiveBuildTimeConfig dataSourceReactiveBuildTimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
-            DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig) {
+            DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
 
         feature.produce(new FeatureBuildItem(Feature.REACTIVE_MYSQL_CLIENT));
         // Make sure the MySQLPoolProducer is initialized before the StartupEvent is fired
@@ -75,7 +83,7 @@ class ReactiveMySQLClientProcessor {
 
         RuntimeValue<MySQLPool> mySqlPool = recorder.configureMySQLPool(vertx.getVertx(),
                 dataSourcesRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig,
-                shutdown);
+                micrometerMetrics(dataSourcesBuildTimeConfig, metricsCapability), shutdown);
         mysqlPool.produce(new MySQLPoolBuildItem(mySqlPool));
 
         // Synthetic bean for MySQLPool
@@ -83,6 +91,12 @@ class ReactiveMySQLClientProcessor {
                 .runtimeValue(mySqlPool)
                 .setRuntimeInit().done());
 
+        // Synthetic bean for the MySQLPool routing the queries to the read replicas
+        syntheticBeans.produce(SyntheticBeanBuildItem.configure(MySQLPool.class).addType(Pool.class)
+                .addQualifier(ReadReplica.class).scope(Singleton.class)
+                .runtimeValue(recorder.readMySQLPool(mySqlPool))
+                .setRuntimeInit().done());
+
         boolean isDefault = true; // assume always the default pool for now
         vertxPool.produce(new VertxPoolBuildItem(mySqlPool, DatabaseKind.MYSQL, isDefault));
 
@@ -106,6 +120,12 @@ class ReactiveMySQLClientProcessor {
                         dataSourcesBuildTimeConfig.healthEnabled));
     }
 
+    private static boolean micrometerMetrics(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        return dataSourcesBuildTimeConfig.metricsEnabled && metricsCapability.isPresent()
+                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER);
+    }
+
     private static boolean createPool(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourceReactiveBuildTimeConfig dataSourceReactiveBuildTimeConfig) {
         if (!dataSourcesBuildTimeConfig.defaultDataSource.dbKind.isPresent()) {
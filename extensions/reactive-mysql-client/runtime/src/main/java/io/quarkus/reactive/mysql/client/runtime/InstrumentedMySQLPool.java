@@ -0,0 +1,14 @@
+package io.quarkus.reactive.mysql.client.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.reactive.datasource.runtime.InstrumentedPool;
+import io.quarkus.reactive.datasource.runtime.PoolMetrics;
+import io.vertx.mysqlclient.MySQLPool;
+
+public class InstrumentedMySQLPool extends InstrumentedPool<MySQLPool> implements MySQLPool {
+
+    public InstrumentedMySQLPool(MySQLPool delegate, String name, PoolMetrics metrics, Duration slowQueryThreshold) {
+        super(delegate, name, metrics, slowQueryThreshold);
+    }
+}
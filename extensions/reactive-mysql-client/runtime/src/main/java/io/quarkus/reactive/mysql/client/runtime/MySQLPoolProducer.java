@@ -6,6 +6,7 @@ import javax.inject.Singleton;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.reactive.datasource.ReadReplica;
 import io.vertx.mysqlclient.MySQLPool;
 
 public class MySQLPoolProducer {
@@ -15,6 +16,10 @@ public class MySQLPoolProducer {
     @Inject
     MySQLPool mysqlPool;
 
+    @Inject
+    @ReadReplica
+    MySQLPool readMySQLPool;
+
     /**
      * @return the <em>mutiny</em> MySQL Pool instance. The instance is created lazily.
      */
@@ -24,6 +29,17 @@ public class MySQLPoolProducer {
         return io.vertx.mutiny.mysqlclient.MySQLPool.newInstance(mysqlPool);
     }
 
+    /**
+     * @return the <em>mutiny</em> MySQL Pool instance routing the queries to the read replicas. The instance is
+     *         created lazily.
+     */
+    @Singleton
+    @Produces
+    @ReadReplica
+    public io.vertx.mutiny.mysqlclient.MySQLPool mutinyReadMySQLPool() {
+        return io.vertx.mutiny.mysqlclient.MySQLPool.newInstance(readMySQLPool);
+    }
+
     /**
      * Produces the Axle MySQL Pool instance. The instance is created lazily.
      *
@@ -9,7 +9,10 @@ import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePemTrustOpt
 import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxKeyCertOptions;
 import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxTrustOptions;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
@@ -19,6 +22,7 @@ import io.quarkus.credentials.runtime.CredentialsProviderFinder;
 import io.quarkus.datasource.runtime.DataSourceRuntimeConfig;
 import io.quarkus.datasource.runtime.DataSourcesRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.metrics.MicrometerPoolMetrics;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -33,27 +37,71 @@ public class MySQLPoolRecorder {
 
     private static final Logger log = Logger.getLogger(MySQLPoolRecorder.class);
 
+    private static final String DEFAULT_TAG = "default";
+
     public RuntimeValue<MySQLPool> configureMySQLPool(RuntimeValue<Vertx> vertx,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig,
+            boolean micrometerMetrics,
             ShutdownContext shutdown) {
 
         MySQLPool mysqlPool = initialize(vertx.getValue(), dataSourcesRuntimeConfig.defaultDataSource,
                 dataSourceReactiveRuntimeConfig,
-                dataSourceReactiveMySQLConfig);
+                dataSourceReactiveMySQLConfig, micrometerMetrics);
 
         shutdown.addShutdownTask(mysqlPool::close);
         return new RuntimeValue<>(mysqlPool);
     }
 
+    public RuntimeValue<MySQLPool> readMySQLPool(RuntimeValue<MySQLPool> mysqlPool) {
+        MySQLPool pool = mysqlPool.getValue();
+        if (pool instanceof ReplicaMySQLPool) {
+            return new RuntimeValue<>(((ReplicaMySQLPool) pool).readPool());
+        }
+        return mysqlPool;
+    }
+
     private MySQLPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
-            DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig) {
+            DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig, boolean micrometerMetrics) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveMySQLConfig);
-        MySQLConnectOptions mysqlConnectOptions = toMySQLConnectOptions(dataSourceRuntimeConfig,
-                dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
+        MySQLConnectOptions mysqlConnectOptions = toMySQLConnectOptions(dataSourceReactiveRuntimeConfig.url,
+                dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
+        MySQLPool mysqlPool = createPool(vertx, mysqlConnectOptions, poolOptions, dataSourceReactiveRuntimeConfig);
+        mysqlPool = instrument(mysqlPool, DEFAULT_TAG, micrometerMetrics, dataSourceReactiveRuntimeConfig);
+        if (!dataSourceReactiveRuntimeConfig.replicaUrls.isPresent()) {
+            return mysqlPool;
+        }
+        List<MySQLPool> replicas = new ArrayList<>();
+        for (String replicaUrl : dataSourceReactiveRuntimeConfig.replicaUrls.get()) {
+            MySQLConnectOptions replicaConnectOptions = toMySQLConnectOptions(Optional.of(replicaUrl), dataSourceRuntimeConfig,
+                    dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
+            replicas.add(instrument(createPool(vertx, replicaConnectOptions, poolOptions, dataSourceReactiveRuntimeConfig),
+                    DEFAULT_TAG + "-replica-" + replicas.size(), micrometerMetrics, dataSourceReactiveRuntimeConfig));
+        }
+        return new ReplicaMySQLPool(mysqlPool, replicas, dataSourceReactiveRuntimeConfig.replicaMaxLag,
+                dataSourceReactiveRuntimeConfig.replicaRetryInterval);
+    }
+
+    private MySQLPool instrument(MySQLPool pool, String name, boolean micrometerMetrics,
+            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        if (!micrometerMetrics && !dataSourceReactiveRuntimeConfig.slowQueryThreshold.isPresent()) {
+            return pool;
+        }
+        return new InstrumentedMySQLPool(pool, name, micrometerMetrics ? new MicrometerPoolMetrics(name) : null,
+                dataSourceReactiveRuntimeConfig.slowQueryThreshold.orElse(null));
+    }
+
+    private MySQLPool createPool(Vertx vertx, MySQLConnectOptions mysqlConnectOptions, PoolOptions poolOptions,
+            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        if (dataSourceReactiveRuntimeConfig.perEventLoop.isPresent() &&
+                dataSourceReactiveRuntimeConfig.perEventLoop.get()) {
+            EventLoopMySQLPool pool = new EventLoopMySQLPool(vertx, mysqlConnectOptions, poolOptions);
+            pool.start();
+            return pool;
+        }
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent() &&
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
             return new ThreadLocalMySQLPool(vertx, mysqlConnectOptions, poolOptions);
@@ -74,12 +122,13 @@ public class MySQLPoolRecorder {
         return poolOptions;
     }
 
-    private MySQLConnectOptions toMySQLConnectOptions(DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private MySQLConnectOptions toMySQLConnectOptions(Optional<String> datasourceUrl,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig) {
         MySQLConnectOptions mysqlConnectOptions;
-        if (dataSourceReactiveRuntimeConfig.url.isPresent()) {
-            String url = dataSourceReactiveRuntimeConfig.url.get();
+        if (datasourceUrl.isPresent()) {
+            String url = datasourceUrl.get();
             // clean up the URL to make migrations easier
             if (url.startsWith("vertx-reactive:mysql://")) {
                 url = url.substring("vertx-reactive:".length());
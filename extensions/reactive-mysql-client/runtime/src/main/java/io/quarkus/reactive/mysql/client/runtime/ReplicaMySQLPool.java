@@ -0,0 +1,27 @@
+package io.quarkus.reactive.mysql.client.runtime;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.quarkus.reactive.datasource.runtime.ReplicaPool;
+import io.vertx.mysqlclient.MySQLPool;
+
+public class ReplicaMySQLPool extends ReplicaPool<MySQLPool> implements MySQLPool {
+
+    private final MySQLPool readPool;
+
+    public ReplicaMySQLPool(MySQLPool primary, List<MySQLPool> replicas, Duration maxLag, Duration retryInterval) {
+        super(primary, replicas, maxLag, retryInterval);
+        this.readPool = new ReplicaMySQLPool(this);
+    }
+
+    private ReplicaMySQLPool(ReplicaMySQLPool pool) {
+        super(pool);
+        this.readPool = this;
+    }
+
+    @Override
+    public MySQLPool readPool() {
+        return readPool;
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.reactive.pg.client.deployment;
 
+import java.util.Optional;
+
 import javax.inject.Singleton;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
@@ -18,6 +20,8 @@ import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageConfigBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.reactive.datasource.ReadReplica;
 import io.quarkus.reactive.datasource.deployment.VertxPoolBuildItem;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveBuildTimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
@@ -25,6 +29,7 @@ import io.quarkus.reactive.pg.client.runtime.DataSourceReactivePostgreSQLConfig;
 import io.quarkus.reactive.pg.client.runtime.PgPoolProducer;
 import io.quarkus.reactive.pg.client.runtime.PgPoolRecorder;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 import io.vertx.pgclient.PgPool;
@@ -50,6 +55,8 @@ class ReactivePgClientProcessor {
                 .setUnremovable()
                 .setDefaultScope(DotNames.APPLICATION_SCOPED)
                 .build());
+        // add the @ReadReplica class otherwise it won't be registered as a qualifier
+        additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(ReadReplica.class).build());
     }
 
     @BuildStep
@@ -71,7 +78,8 @@ class ReactivePgClientProcessor {
             DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig, DataSourcesRuntimeConfig dataSourcesRuntimeConfig,
             DataSourceReactiveBuildTimeConfig dataSourceReactiveBuildTimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
-            DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
+            DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
 
         feature.produce(new FeatureBuildItem(Feature.REACTIVE_PG_CLIENT));
         // Make sure the PgPoolProducer is initialized before the StartupEvent is fired
@@ -83,7 +91,7 @@ class ReactivePgClientProcessor {
 
         RuntimeValue<PgPool> pool = recorder.configurePgPool(vertx.getVertx(),
                 dataSourcesRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig,
-                shutdown);
+                micrometerMetrics(dataSourcesBuildTimeConfig, metricsCapability), shutdown);
         pgPool.produce(new PgPoolBuildItem(pool));
 
         // Synthetic bean for PgPool
@@ -91,6 +99,12 @@ class ReactivePgClientProcessor {
                 SyntheticBeanBuildItem.configure(PgPool.class).addType(Pool.class).scope(Singleton.class).runtimeValue(pool)
                         .setRuntimeInit().done());
 
+        // Synthetic bean for the PgPool routing the queries to the read replicas
+        syntheticBeans.produce(SyntheticBeanBuildItem.configure(PgPool.class).addType(Pool.class)
+                .addQualifier(ReadReplica.class).scope(Singleton.class)
+                .runtimeValue(recorder.readPgPool(pool))
+                .setRuntimeInit().done());
+
         boolean isDefault = true; // assume always the default pool for now
         vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.POSTGRESQL, isDefault));
 
@@ -113,6 +127,12 @@ class ReactivePgClientProcessor {
                 dataSourcesBuildTimeConfig.healthEnabled));
     }
 
+    private static boolean micrometerMetrics(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        return dataSourcesBuildTimeConfig.metricsEnabled && metricsCapability.isPresent()
+                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER);
+    }
+
     private static boolean createPool(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourceReactiveBuildTimeConfig dataSourceReactiveBuildTimeConfig) {
         if (!dataSourcesBuildTimeConfig.defaultDataSource.dbKind.isPresent()) {
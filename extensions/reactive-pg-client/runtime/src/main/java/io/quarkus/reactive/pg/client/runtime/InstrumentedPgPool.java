@@ -0,0 +1,14 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.reactive.datasource.runtime.InstrumentedPool;
+import io.quarkus.reactive.datasource.runtime.PoolMetrics;
+import io.vertx.pgclient.PgPool;
+
+public class InstrumentedPgPool extends InstrumentedPool<PgPool> implements PgPool {
+
+    public InstrumentedPgPool(PgPool delegate, String name, PoolMetrics metrics, Duration slowQueryThreshold) {
+        super(delegate, name, metrics, slowQueryThreshold);
+    }
+}
@@ -6,6 +6,7 @@ import javax.inject.Singleton;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.reactive.datasource.ReadReplica;
 import io.vertx.pgclient.PgPool;
 
 public class PgPoolProducer {
@@ -15,6 +16,10 @@ public class PgPoolProducer {
     @Inject
     PgPool pgPool;
 
+    @Inject
+    @ReadReplica
+    PgPool readPgPool;
+
     /**
      * @return the <em>mutiny</em> PostGreSQL Pool instance. The instance is created lazily.
      */
@@ -24,6 +29,17 @@ public class PgPoolProducer {
         return io.vertx.mutiny.pgclient.PgPool.newInstance(pgPool);
     }
 
+    /**
+     * @return the <em>mutiny</em> PostGreSQL Pool instance routing the queries to the read replicas. The instance is
+     *         created lazily.
+     */
+    @Singleton
+    @Produces
+    @ReadReplica
+    public io.vertx.mutiny.pgclient.PgPool mutinyReadPgPool() {
+        return io.vertx.mutiny.pgclient.PgPool.newInstance(readPgPool);
+    }
+
     /**
      * Produces the Axle PostGreSQL Pool instance. The instance is created lazily.
      *
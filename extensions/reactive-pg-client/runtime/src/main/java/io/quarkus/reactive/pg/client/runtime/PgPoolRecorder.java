@@ -9,7 +9,10 @@ import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePemTrustOpt
 import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxKeyCertOptions;
 import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxTrustOptions;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
@@ -19,6 +22,7 @@ import io.quarkus.credentials.runtime.CredentialsProviderFinder;
 import io.quarkus.datasource.runtime.DataSourceRuntimeConfig;
 import io.quarkus.datasource.runtime.DataSourcesRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.metrics.MicrometerPoolMetrics;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -33,27 +37,71 @@ public class PgPoolRecorder {
 
     private static final Logger log = Logger.getLogger(PgPoolRecorder.class);
 
+    private static final String DEFAULT_TAG = "default";
+
     public RuntimeValue<PgPool> configurePgPool(RuntimeValue<Vertx> vertx,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig,
+            boolean micrometerMetrics,
             ShutdownContext shutdown) {
 
         PgPool pgPool = initialize(vertx.getValue(), dataSourcesRuntimeConfig.defaultDataSource,
                 dataSourceReactiveRuntimeConfig,
-                dataSourceReactivePostgreSQLConfig);
+                dataSourceReactivePostgreSQLConfig, micrometerMetrics);
 
         shutdown.addShutdownTask(pgPool::close);
         return new RuntimeValue<>(pgPool);
     }
 
+    public RuntimeValue<PgPool> readPgPool(RuntimeValue<PgPool> pgPool) {
+        PgPool pool = pgPool.getValue();
+        if (pool instanceof ReplicaPgPool) {
+            return new RuntimeValue<>(((ReplicaPgPool) pool).readPool());
+        }
+        return pgPool;
+    }
+
     private PgPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
-            DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
+            DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig, boolean micrometerMetrics) {
         PoolOptions poolOptions = toPoolOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactivePostgreSQLConfig);
-        PgConnectOptions pgConnectOptions = toPgConnectOptions(dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
-                dataSourceReactivePostgreSQLConfig);
+        PgConnectOptions pgConnectOptions = toPgConnectOptions(dataSourceReactiveRuntimeConfig.url,
+                dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig);
+        PgPool pgPool = createPool(vertx, pgConnectOptions, poolOptions, dataSourceReactiveRuntimeConfig);
+        pgPool = instrument(pgPool, DEFAULT_TAG, micrometerMetrics, dataSourceReactiveRuntimeConfig);
+        if (!dataSourceReactiveRuntimeConfig.replicaUrls.isPresent()) {
+            return pgPool;
+        }
+        List<PgPool> replicas = new ArrayList<>();
+        for (String replicaUrl : dataSourceReactiveRuntimeConfig.replicaUrls.get()) {
+            PgConnectOptions replicaConnectOptions = toPgConnectOptions(Optional.of(replicaUrl), dataSourceRuntimeConfig,
+                    dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig);
+            replicas.add(instrument(createPool(vertx, replicaConnectOptions, poolOptions, dataSourceReactiveRuntimeConfig),
+                    DEFAULT_TAG + "-replica-" + replicas.size(), micrometerMetrics, dataSourceReactiveRuntimeConfig));
+        }
+        return new ReplicaPgPool(pgPool, replicas, dataSourceReactiveRuntimeConfig.replicaMaxLag,
+                dataSourceReactiveRuntimeConfig.replicaRetryInterval);
+    }
+
+    private PgPool instrument(PgPool pool, String name, boolean micrometerMetrics,
+            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        if (!micrometerMetrics && !dataSourceReactiveRuntimeConfig.slowQueryThreshold.isPresent()) {
+            return pool;
+        }
+        return new InstrumentedPgPool(pool, name, micrometerMetrics ? new MicrometerPoolMetrics(name) : null,
+                dataSourceReactiveRuntimeConfig.slowQueryThreshold.orElse(null));
+    }
+
+    private PgPool createPool(Vertx vertx, PgConnectOptions pgConnectOptions, PoolOptions poolOptions,
+            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+        if (dataSourceReactiveRuntimeConfig.perEventLoop.isPresent() &&
+                dataSourceReactiveRuntimeConfig.perEventLoop.get()) {
+            EventLoopPgPool pool = new EventLoopPgPool(vertx, pgConnectOptions, poolOptions);
+            pool.start();
+            return pool;
+        }
         if (dataSourceReactiveRuntimeConfig.threadLocal.isPresent() &&
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
             return new ThreadLocalPgPool(vertx, pgConnectOptions, poolOptions);
@@ -74,13 +122,14 @@ public class PgPoolRecorder {
         return poolOptions;
     }
 
-    private PgConnectOptions toPgConnectOptions(DataSourceRuntimeConfig dataSourceRuntimeConfig,
+    private PgConnectOptions toPgConnectOptions(Optional<String> datasourceUrl,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
         PgConnectOptions pgConnectOptions;
 
-        if (dataSourceReactiveRuntimeConfig.url.isPresent()) {
-            String url = dataSourceReactiveRuntimeConfig.url.get();
+        if (datasourceUrl.isPresent()) {
+            String url = datasourceUrl.get();
             // clean up the URL to make migrations easier
             if (url.matches("^vertx-reactive:postgre(?:s|sql)://.*$")) {
                 url = url.substring("vertx-reactive:".length());
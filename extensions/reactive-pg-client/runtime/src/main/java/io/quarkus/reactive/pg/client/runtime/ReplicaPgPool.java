@@ -0,0 +1,27 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.quarkus.reactive.datasource.runtime.ReplicaPool;
+import io.vertx.pgclient.PgPool;
+
+public class ReplicaPgPool extends ReplicaPool<PgPool> implements PgPool {
+
+    private final PgPool readPool;
+
+    public ReplicaPgPool(PgPool primary, List<PgPool> replicas, Duration maxLag, Duration retryInterval) {
+        super(primary, replicas, maxLag, retryInterval);
+        this.readPool = new ReplicaPgPool(this);
+    }
+
+    private ReplicaPgPool(ReplicaPgPool pool) {
+        super(pool);
+        this.readPool = this;
+    }
+
+    @Override
+    public PgPool readPool() {
+        return readPool;
+    }
+}
@@ -26,6 +26,7 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
@@ -33,6 +34,7 @@ import io.quarkus.redis.client.runtime.MutinyRedis;
 import io.quarkus.redis.client.runtime.MutinyRedisAPI;
 import io.quarkus.redis.client.runtime.RedisClientRecorder;
 import io.quarkus.redis.client.runtime.RedisClientUtil;
+import io.quarkus.redis.client.typed.TypedRedisClient;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 import io.vertx.redis.client.Redis;
@@ -82,6 +84,8 @@ public class RedisClientProcessor {
     @Record(ExecutionTime.RUNTIME_INIT)
     public void produceRedisClient(RedisClientRecorder recorder, ApplicationArchivesBuildItem applicationArchives,
             BuildProducer<SyntheticBeanBuildItem> syntheticBeans,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics,
+            RedisBuildTimeConfig buildTimeConfig,
             VertxBuildItem vertxBuildItem) {
         Set<String> clientNames = new HashSet<>();
         clientNames.add(RedisClientUtil.DEFAULT_CLIENT);
@@ -95,10 +99,14 @@ public class RedisClientProcessor {
         for (String clientName : clientNames) {
             syntheticBeans.produce(createRedisClientSyntheticBean(recorder, clientName));
             syntheticBeans.produce(createRedisReactiveClientSyntheticBean(recorder, clientName));
+            syntheticBeans.produce(createTypedRedisClientSyntheticBean(recorder, clientName));
             syntheticBeans.produce(createMutinyRedisAPISyntheticBean(recorder, clientName));
             syntheticBeans.produce(createMutinyRedisSyntheticBean(recorder, clientName));
             syntheticBeans.produce(createRedisSyntheticBean(recorder, clientName));
             syntheticBeans.produce(createRedisAPISyntheticBean(recorder, clientName));
+            if (buildTimeConfig.metricsEnabled) {
+                metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerNearCacheMetrics(clientName)));
+            }
         }
     }
 
@@ -122,6 +130,16 @@ public class RedisClientProcessor {
         return applyCommonBeanConfig(clientName, configurator);
     }
 
+    private SyntheticBeanBuildItem createTypedRedisClientSyntheticBean(RedisClientRecorder recorder, String clientName) {
+        SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
+                .configure(TypedRedisClient.class)
+                .scope(ApplicationScoped.class)
+                .supplier(recorder.typedRedisClientSupplier(clientName))
+                .setRuntimeInit();
+
+        return applyCommonBeanConfig(clientName, configurator);
+    }
+
     private SyntheticBeanBuildItem createMutinyRedisSyntheticBean(RedisClientRecorder recorder, String clientName) {
         SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
                 .configure(MutinyRedis.class)
@@ -0,0 +1,24 @@
+package io.quarkus.redis.client;
+
+/**
+ * The response of a command queued in a batch, see {@link RedisBatch} and
+ * {@link io.quarkus.redis.client.reactive.ReactiveRedisBatch}.
+ * <p>
+ * The value is only available once the batch has been executed.
+ *
+ * @param <T> the type of the response value
+ */
+public interface BatchResponse<T> {
+
+    /**
+     * @return the value of the response, which may be {@code null} if Redis replied with a null reply
+     * @throws IllegalStateException if the batch has not been executed yet, or if it was a transaction that was
+     *         discarded by Redis
+     */
+    T get();
+
+    /**
+     * @return whether the batch has been executed and the value is available
+     */
+    boolean isDone();
+}
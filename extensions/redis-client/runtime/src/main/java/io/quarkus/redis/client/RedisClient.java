@@ -15,6 +15,22 @@ import io.vertx.redis.client.Response;
 public interface RedisClient {
     void close();
 
+    /**
+     * Create a batch of commands, which are sent in a single round-trip when the batch is executed.
+     *
+     * @return a new batch
+     */
+    RedisBatch batch();
+
+    /**
+     * Create a batch of commands, which are sent in a single round-trip when the batch is executed.
+     *
+     * @param transactional whether the commands are wrapped in {@code MULTI}/{@code EXEC} so that they are
+     *        executed atomically
+     * @return a new batch
+     */
+    RedisBatch batch(boolean transactional);
+
     Response append(String arg0, String arg1);
 
     Response asking();
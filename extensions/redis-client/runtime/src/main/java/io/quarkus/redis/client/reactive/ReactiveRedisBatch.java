@@ -0,0 +1,75 @@
+package io.quarkus.redis.client.reactive;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.quarkus.redis.client.BatchResponse;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.Command;
+
+/**
+ * A batch of Redis commands that are sent together, in a single pipelined write on one connection, when
+ * {@link #execute()} is subscribed to. This costs a single round-trip instead of one round-trip per command.
+ * <p>
+ * Every queued command returns a {@link BatchResponse} which gives access to its reply once the batch has been
+ * executed. A transactional batch is wrapped in {@code MULTI}/{@code EXEC} so that Redis executes its commands
+ * atomically.
+ * <p>
+ * A batch can only be executed once and is not thread safe.
+ */
+public interface ReactiveRedisBatch {
+
+    /**
+     * Queue a command.
+     *
+     * @param command the command
+     * @param args the command arguments
+     * @return the response of the command
+     */
+    BatchResponse<Response> send(Command command, String... args);
+
+    /**
+     * Queue a command, mapping its reply to a typed value.
+     *
+     * @param command the command
+     * @param mapper the function mapping the reply, which is called with {@code null} for null replies
+     * @param args the command arguments
+     * @param <T> the type of the response value
+     * @return the response of the command
+     */
+    <T> BatchResponse<T> send(Command command, Function<Response, T> mapper, String... args);
+
+    BatchResponse<String> get(String key);
+
+    BatchResponse<Boolean> set(String key, String value);
+
+    BatchResponse<Long> del(String... keys);
+
+    BatchResponse<Boolean> exists(String key);
+
+    BatchResponse<Boolean> expire(String key, long seconds);
+
+    BatchResponse<Long> incr(String key);
+
+    BatchResponse<Long> incrby(String key, long increment);
+
+    BatchResponse<String> hget(String key, String field);
+
+    BatchResponse<Long> hset(String key, String field, String value);
+
+    /**
+     * @return the number of queued commands
+     */
+    int size();
+
+    /**
+     * Send all the queued commands.
+     *
+     * @return the replies, in the order the commands were queued, or {@code null} if this is a transactional batch
+     *         that was discarded by Redis because a watched key was modified
+     */
+    Uni<List<Response>> execute();
+
+    List<Response> executeAndAwait();
+}
@@ -14,6 +14,22 @@ import io.vertx.mutiny.redis.client.Response;
 public interface ReactiveRedisClient {
     void close();
 
+    /**
+     * Create a batch of commands, which are sent in a single round-trip when the batch is executed.
+     *
+     * @return a new batch
+     */
+    ReactiveRedisBatch batch();
+
+    /**
+     * Create a batch of commands, which are sent in a single round-trip when the batch is executed.
+     *
+     * @param transactional whether the commands are wrapped in {@code MULTI}/{@code EXEC} so that they are
+     *        executed atomically
+     * @return a new batch
+     */
+    ReactiveRedisBatch batch(boolean transactional);
+
     Uni<Response> append(String arg0, String arg1);
 
     Response appendAndAwait(String arg0, String arg1);
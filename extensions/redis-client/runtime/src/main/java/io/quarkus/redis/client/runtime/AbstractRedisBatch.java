@@ -0,0 +1,180 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import io.quarkus.redis.client.BatchResponse;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * Queues the commands of a batch and sends them with {@link Redis#batch(List)}, which writes all of them to a
+ * single connection before reading the replies.
+ * <p>
+ * The keys written by the queued commands are invalidated in the near cache of the client, if any, when the batch is
+ * sent and when it completes.
+ */
+abstract class AbstractRedisBatch {
+    private static final Function<Response, String> TO_STRING = r -> r == null ? null : r.toString();
+    private static final Function<Response, Long> TO_LONG = r -> r == null ? null : r.toLong();
+    private static final Function<Response, Boolean> IS_ONE = r -> r != null && r.toLong() == 1L;
+
+    private final Redis redis;
+    private final boolean transactional;
+    private final RedisNearCache nearCache;
+    private final List<Request> requests = new ArrayList<>();
+    private final List<BatchResponseImpl<?>> responses = new ArrayList<>();
+    private final List<String> writtenKeys = new ArrayList<>();
+    private boolean writesUnknownKeys;
+    private boolean executed;
+
+    AbstractRedisBatch(Redis redis, boolean transactional, RedisNearCache nearCache) {
+        this.redis = redis;
+        this.transactional = transactional;
+        this.nearCache = nearCache;
+    }
+
+    <T> BatchResponse<T> enqueue(Command command, Function<Response, T> mapper, String... args) {
+        if (executed) {
+            throw new IllegalStateException("The batch has already been executed");
+        }
+        Request request = Request.cmd(command);
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        BatchResponseImpl<T> response = new BatchResponseImpl<>(mapper);
+        requests.add(request);
+        responses.add(response);
+        if (nearCache != null) {
+            List<String> keys = RedisNearCache.writtenKeys(command, Arrays.asList(args));
+            if (keys == null) {
+                writesUnknownKeys = true;
+            } else {
+                writtenKeys.addAll(keys);
+            }
+        }
+        return response;
+    }
+
+    public BatchResponse<String> get(String key) {
+        return enqueue(Command.GET, TO_STRING, key);
+    }
+
+    public BatchResponse<Boolean> set(String key, String value) {
+        return enqueue(Command.SET, r -> r != null, key, value);
+    }
+
+    public BatchResponse<Long> del(String... keys) {
+        return enqueue(Command.DEL, TO_LONG, keys);
+    }
+
+    public BatchResponse<Boolean> exists(String key) {
+        return enqueue(Command.EXISTS, IS_ONE, key);
+    }
+
+    public BatchResponse<Boolean> expire(String key, long seconds) {
+        return enqueue(Command.EXPIRE, IS_ONE, key, Long.toString(seconds));
+    }
+
+    public BatchResponse<Long> incr(String key) {
+        return enqueue(Command.INCR, TO_LONG, key);
+    }
+
+    public BatchResponse<Long> incrby(String key, long increment) {
+        return enqueue(Command.INCRBY, TO_LONG, key, Long.toString(increment));
+    }
+
+    public BatchResponse<String> hget(String key, String field) {
+        return enqueue(Command.HGET, TO_STRING, key, field);
+    }
+
+    public BatchResponse<Long> hset(String key, String field, String value) {
+        return enqueue(Command.HSET, TO_LONG, key, field, value);
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    Uni<List<Response>> send() {
+        if (executed) {
+            throw new IllegalStateException("The batch has already been executed");
+        }
+        executed = true;
+        if (requests.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        List<io.vertx.mutiny.redis.client.Request> batch = new ArrayList<>(requests.size() + 2);
+        if (transactional) {
+            batch.add(io.vertx.mutiny.redis.client.Request.newInstance(Request.cmd(Command.MULTI)));
+        }
+        for (Request request : requests) {
+            batch.add(io.vertx.mutiny.redis.client.Request.newInstance(request));
+        }
+        if (transactional) {
+            batch.add(io.vertx.mutiny.redis.client.Request.newInstance(Request.cmd(Command.EXEC)));
+        }
+        Uni<List<io.vertx.mutiny.redis.client.Response>> replies = redis.batch(batch);
+        if (nearCache != null) {
+            replies = writesUnknownKeys ? nearCache.invalidatingAll(replies) : nearCache.invalidating(replies, writtenKeys);
+        }
+        return replies.map(this::complete);
+    }
+
+    private List<Response> complete(List<io.vertx.mutiny.redis.client.Response> replies) {
+        List<Response> results = new ArrayList<>(requests.size());
+        if (transactional) {
+            // MULTI and the queued commands reply with OK and QUEUED, the actual replies are returned by EXEC
+            io.vertx.mutiny.redis.client.Response exec = replies.get(replies.size() - 1);
+            if (exec == null) {
+                // the transaction was discarded because a watched key was modified
+                return null;
+            }
+            for (Response reply : exec.getDelegate()) {
+                results.add(reply);
+            }
+        } else {
+            for (io.vertx.mutiny.redis.client.Response reply : replies) {
+                results.add(reply == null ? null : reply.getDelegate());
+            }
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            responses.get(i).complete(results.get(i));
+        }
+        return results;
+    }
+
+    private static final class BatchResponseImpl<T> implements BatchResponse<T> {
+        private final Function<Response, T> mapper;
+        private volatile boolean done;
+        private T value;
+
+        BatchResponseImpl(Function<Response, T> mapper) {
+            this.mapper = mapper;
+        }
+
+        void complete(Response reply) {
+            value = mapper.apply(reply);
+            done = true;
+        }
+
+        @Override
+        public T get() {
+            if (!done) {
+                throw new IllegalStateException("The batch has not been executed");
+            }
+            return value;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+    }
+}
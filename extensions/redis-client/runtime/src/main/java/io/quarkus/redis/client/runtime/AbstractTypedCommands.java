@@ -0,0 +1,85 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.quarkus.redis.client.typed.Codec;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * Base class of the typed command groups, keys and values are encoded to buffers and passed to Redis as binary
+ * arguments.
+ */
+abstract class AbstractTypedCommands<K, V> {
+    final Redis redis;
+    final Codec<K> keyCodec;
+    final Codec<V> valueCodec;
+    private final Duration timeout;
+    private final RedisNearCache nearCache;
+
+    AbstractTypedCommands(Redis redis, Codec<K> keyCodec, Codec<V> valueCodec, long timeout, RedisNearCache nearCache) {
+        this.redis = redis;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.timeout = Duration.ofSeconds(timeout);
+        this.nearCache = nearCache;
+    }
+
+    Request request(Command command, K key) {
+        return Request.cmd(command).arg(keyCodec.encode(key));
+    }
+
+    Uni<Response> send(Request request) {
+        return redis.send(io.vertx.mutiny.redis.client.Request.newInstance(request))
+                .map(response -> response == null ? null : response.getDelegate());
+    }
+
+    /**
+     * Sends a command modifying the given key, which is invalidated in the near cache of the client, if any.
+     */
+    Uni<Response> write(Request request, K key) {
+        Uni<Response> command = send(request);
+        if (nearCache == null) {
+            return command;
+        }
+        // the near cache is keyed by the strings read with GET, Redis keys being the UTF-8 bytes of these strings
+        return nearCache.invalidating(command, Collections.singletonList(keyCodec.encode(key).toString()));
+    }
+
+    V decodeValue(Response response) {
+        return response == null ? null : valueCodec.decode(response.toBuffer());
+    }
+
+    List<V> decodeValues(Response response) {
+        if (response == null) {
+            return new ArrayList<>();
+        }
+        List<V> values = new ArrayList<>(response.size());
+        for (Response item : response) {
+            values.add(decodeValue(item));
+        }
+        return values;
+    }
+
+    static Long toLong(Response response) {
+        return response == null ? null : response.toLong();
+    }
+
+    static boolean isOne(Response response) {
+        return response != null && response.toLong() == 1L;
+    }
+
+    static Double toDouble(Response response) {
+        return response == null ? null : Double.valueOf(response.toString());
+    }
+
+    <T> T await(Uni<T> uni) {
+        return uni.await().atMost(timeout);
+    }
+}
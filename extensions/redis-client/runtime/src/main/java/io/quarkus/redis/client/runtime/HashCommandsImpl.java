@@ -0,0 +1,95 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.quarkus.redis.client.typed.Codec;
+import io.quarkus.redis.client.typed.HashCommands;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+
+class HashCommandsImpl<K, F, V> extends AbstractTypedCommands<K, V> implements HashCommands<K, F, V> {
+    private final Codec<F> fieldCodec;
+
+    HashCommandsImpl(Redis redis, Codec<K> keyCodec, Codec<F> fieldCodec, Codec<V> valueCodec, long timeout,
+            RedisNearCache nearCache) {
+        super(redis, keyCodec, valueCodec, timeout, nearCache);
+        this.fieldCodec = fieldCodec;
+    }
+
+    @Override
+    public Uni<V> hget(K key, F field) {
+        return send(request(Command.HGET, key).arg(fieldCodec.encode(field))).map(this::decodeValue);
+    }
+
+    @Override
+    public V hgetAndAwait(K key, F field) {
+        return await(hget(key, field));
+    }
+
+    @Override
+    public Uni<Boolean> hset(K key, F field, V value) {
+        return write(request(Command.HSET, key).arg(fieldCodec.encode(field)).arg(valueCodec.encode(value)), key)
+                .map(AbstractTypedCommands::isOne);
+    }
+
+    @Override
+    public boolean hsetAndAwait(K key, F field, V value) {
+        return await(hset(key, field, value));
+    }
+
+    @Override
+    public Uni<Long> hset(K key, Map<F, V> values) {
+        Request request = request(Command.HSET, key);
+        for (Map.Entry<F, V> entry : values.entrySet()) {
+            request.arg(fieldCodec.encode(entry.getKey())).arg(valueCodec.encode(entry.getValue()));
+        }
+        return write(request, key).map(AbstractTypedCommands::toLong);
+    }
+
+    @Override
+    public long hsetAndAwait(K key, Map<F, V> values) {
+        return await(hset(key, values));
+    }
+
+    @Override
+    public Uni<Map<F, V>> hgetall(K key) {
+        return send(request(Command.HGETALL, key)).map(response -> {
+            Map<F, V> values = new LinkedHashMap<>();
+            if (response != null) {
+                // the reply alternates fields and values
+                for (int i = 0; i + 1 < response.size(); i += 2) {
+                    values.put(fieldCodec.decode(response.get(i).toBuffer()), decodeValue(response.get(i + 1)));
+                }
+            }
+            return values;
+        });
+    }
+
+    @Override
+    public Map<F, V> hgetallAndAwait(K key) {
+        return await(hgetall(key));
+    }
+
+    @Override
+    public Uni<Boolean> hdel(K key, F field) {
+        return write(request(Command.HDEL, key).arg(fieldCodec.encode(field)), key).map(AbstractTypedCommands::isOne);
+    }
+
+    @Override
+    public boolean hdelAndAwait(K key, F field) {
+        return await(hdel(key, field));
+    }
+
+    @Override
+    public Uni<Boolean> hexists(K key, F field) {
+        return send(request(Command.HEXISTS, key).arg(fieldCodec.encode(field))).map(AbstractTypedCommands::isOne);
+    }
+
+    @Override
+    public boolean hexistsAndAwait(K key, F field) {
+        return await(hexists(key, field));
+    }
+}
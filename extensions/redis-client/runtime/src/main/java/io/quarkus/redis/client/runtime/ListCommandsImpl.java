@@ -0,0 +1,76 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.List;
+
+import io.quarkus.redis.client.typed.Codec;
+import io.quarkus.redis.client.typed.ListCommands;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+
+class ListCommandsImpl<K, V> extends AbstractTypedCommands<K, V> implements ListCommands<K, V> {
+
+    ListCommandsImpl(Redis redis, Codec<K> keyCodec, Codec<V> valueCodec, long timeout, RedisNearCache nearCache) {
+        super(redis, keyCodec, valueCodec, timeout, nearCache);
+    }
+
+    @Override
+    public Uni<Long> lpush(K key, V value) {
+        return write(request(Command.LPUSH, key).arg(valueCodec.encode(value)), key).map(AbstractTypedCommands::toLong);
+    }
+
+    @Override
+    public long lpushAndAwait(K key, V value) {
+        return await(lpush(key, value));
+    }
+
+    @Override
+    public Uni<Long> rpush(K key, V value) {
+        return write(request(Command.RPUSH, key).arg(valueCodec.encode(value)), key).map(AbstractTypedCommands::toLong);
+    }
+
+    @Override
+    public long rpushAndAwait(K key, V value) {
+        return await(rpush(key, value));
+    }
+
+    @Override
+    public Uni<V> lpop(K key) {
+        return write(request(Command.LPOP, key), key).map(this::decodeValue);
+    }
+
+    @Override
+    public V lpopAndAwait(K key) {
+        return await(lpop(key));
+    }
+
+    @Override
+    public Uni<V> rpop(K key) {
+        return write(request(Command.RPOP, key), key).map(this::decodeValue);
+    }
+
+    @Override
+    public V rpopAndAwait(K key) {
+        return await(rpop(key));
+    }
+
+    @Override
+    public Uni<List<V>> lrange(K key, long start, long stop) {
+        return send(request(Command.LRANGE, key).arg(start).arg(stop)).map(this::decodeValues);
+    }
+
+    @Override
+    public List<V> lrangeAndAwait(K key, long start, long stop) {
+        return await(lrange(key, start, stop));
+    }
+
+    @Override
+    public Uni<Long> llen(K key) {
+        return send(request(Command.LLEN, key)).map(AbstractTypedCommands::toLong);
+    }
+
+    @Override
+    public long llenAndAwait(K key) {
+        return await(llen(key));
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.quarkus.redis.client.BatchResponse;
+import io.quarkus.redis.client.reactive.ReactiveRedisBatch;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.Command;
+
+class ReactiveRedisBatchImpl extends AbstractRedisBatch implements ReactiveRedisBatch {
+
+    ReactiveRedisBatchImpl(Redis redis, boolean transactional, RedisNearCache nearCache) {
+        super(redis, transactional, nearCache);
+    }
+
+    @Override
+    public BatchResponse<Response> send(Command command, String... args) {
+        return send(command, Function.identity(), args);
+    }
+
+    @Override
+    public <T> BatchResponse<T> send(Command command, Function<Response, T> mapper, String... args) {
+        return enqueue(command, r -> mapper.apply(r == null ? null : Response.newInstance(r)), args);
+    }
+
+    @Override
+    public Uni<List<Response>> execute() {
+        return send().map(replies -> {
+            if (replies == null) {
+                return null;
+            }
+            List<Response> result = new ArrayList<>(replies.size());
+            for (io.vertx.redis.client.Response reply : replies) {
+                result.add(reply == null ? null : Response.newInstance(reply));
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public List<Response> executeAndAwait() {
+        return execute().await().indefinitely();
+    }
+}
@@ -1,17 +1,25 @@
 package io.quarkus.redis.client.runtime;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import io.quarkus.redis.client.reactive.ReactiveRedisBatch;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
 import io.vertx.mutiny.redis.client.Response;
 
 class ReactiveRedisClientImpl implements ReactiveRedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
+    private final RedisNearCache nearCache;
 
-    public ReactiveRedisClientImpl(RedisAPI redisAPI) {
+    public ReactiveRedisClientImpl(Redis redis, RedisAPI redisAPI, RedisNearCache nearCache) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
+        this.nearCache = nearCache;
     }
 
     @Override
@@ -19,14 +27,24 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public ReactiveRedisBatch batch() {
+        return batch(false);
+    }
+
+    @Override
+    public ReactiveRedisBatch batch(boolean transactional) {
+        return new ReactiveRedisBatchImpl(redis, transactional, nearCache);
+    }
+
     @Override
     public Uni<Response> append(String arg0, String arg1) {
-        return redisAPI.append(arg0, arg1);
+        return invalidating(redisAPI.append(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response appendAndAwait(String arg0, String arg1) {
-        return redisAPI.appendAndAwait(arg0, arg1);
+        return append(arg0, arg1).await().indefinitely();
     }
 
     @Override
@@ -81,22 +99,22 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> bitfield(List<String> args) {
-        return redisAPI.bitfield(args);
+        return invalidating(redisAPI.bitfield(args), RedisNearCache.firstKey(args));
     }
 
     @Override
     public Response bitfieldAndAwait(List<String> args) {
-        return redisAPI.bitfieldAndAwait(args);
+        return bitfield(args).await().indefinitely();
     }
 
     @Override
     public Uni<Response> bitop(List<String> args) {
-        return redisAPI.bitop(args);
+        return invalidating(redisAPI.bitop(args), RedisNearCache.destinationKey(args));
     }
 
     @Override
     public Response bitopAndAwait(List<String> args) {
-        return redisAPI.bitopAndAwait(args);
+        return bitop(args).await().indefinitely();
     }
 
     @Override
@@ -221,32 +239,32 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> decr(String arg0) {
-        return redisAPI.decr(arg0);
+        return invalidating(redisAPI.decr(arg0), Collections.singletonList(arg0));
     }
 
     @Override
     public Response decrAndAwait(String arg0) {
-        return redisAPI.decrAndAwait(arg0);
+        return decr(arg0).await().indefinitely();
     }
 
     @Override
     public Uni<Response> decrby(String arg0, String arg1) {
-        return redisAPI.decrby(arg0, arg1);
+        return invalidating(redisAPI.decrby(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response decrbyAndAwait(String arg0, String arg1) {
-        return redisAPI.decrbyAndAwait(arg0, arg1);
+        return decrby(arg0, arg1).await().indefinitely();
     }
 
     @Override
     public Uni<Response> del(List<String> args) {
-        return redisAPI.del(args);
+        return invalidating(redisAPI.del(args), args);
     }
 
     @Override
     public Response delAndAwait(List<String> args) {
-        return redisAPI.delAndAwait(args);
+        return del(args).await().indefinitely();
     }
 
     @Override
@@ -281,22 +299,22 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> eval(List<String> args) {
-        return redisAPI.eval(args);
+        return invalidating(redisAPI.eval(args), RedisNearCache.scriptKeys(args));
     }
 
     @Override
     public Response evalAndAwait(List<String> args) {
-        return redisAPI.evalAndAwait(args);
+        return eval(args).await().indefinitely();
     }
 
     @Override
     public Uni<Response> evalsha(List<String> args) {
-        return redisAPI.evalsha(args);
+        return invalidating(redisAPI.evalsha(args), RedisNearCache.scriptKeys(args));
     }
 
     @Override
     public Response evalshaAndAwait(List<String> args) {
-        return redisAPI.evalshaAndAwait(args);
+        return evalsha(args).await().indefinitely();
     }
 
     @Override
@@ -321,42 +339,42 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> expire(String arg0, String arg1) {
-        return redisAPI.expire(arg0, arg1);
+        return invalidating(redisAPI.expire(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response expireAndAwait(String arg0, String arg1) {
-        return redisAPI.expireAndAwait(arg0, arg1);
+        return expire(arg0, arg1).await().indefinitely();
     }
 
     @Override
     public Uni<Response> expireat(String arg0, String arg1) {
-        return redisAPI.expireat(arg0, arg1);
+        return invalidating(redisAPI.expireat(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response expireatAndAwait(String arg0, String arg1) {
-        return redisAPI.expireatAndAwait(arg0, arg1);
+        return expireat(arg0, arg1).await().indefinitely();
     }
 
     @Override
     public Uni<Response> flushall(List<String> args) {
-        return redisAPI.flushall(args);
+        return invalidatingAll(redisAPI.flushall(args));
     }
 
     @Override
     public Response flushallAndAwait(List<String> args) {
-        return redisAPI.flushallAndAwait(args);
+        return flushall(args).await().indefinitely();
     }
 
     @Override
     public Uni<Response> flushdb(List<String> args) {
-        return redisAPI.flushdb(args);
+        return invalidatingAll(redisAPI.flushdb(args));
     }
 
     @Override
     public Response flushdbAndAwait(List<String> args) {
-        return redisAPI.flushdbAndAwait(args);
+        return flushdb(args).await().indefinitely();
     }
 
     @Override
@@ -441,12 +459,12 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> get(String arg0) {
-        return redisAPI.get(arg0);
+        return cachedGet(arg0);
     }
 
     @Override
     public Response getAndAwait(String arg0) {
-        return redisAPI.getAndAwait(arg0);
+        return get(arg0).await().indefinitely();
     }
 
     @Override
@@ -471,12 +489,12 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> getset(String arg0, String arg1) {
-        return redisAPI.getset(arg0, arg1);
+        return invalidating(redisAPI.getset(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response getsetAndAwait(String arg0, String arg1) {
-        return redisAPI.getsetAndAwait(arg0, arg1);
+        return getset(arg0, arg1).await().indefinitely();
     }
 
     @Override
@@ -641,32 +659,32 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> incr(String arg0) {
-        return redisAPI.incr(arg0);
+        return invalidating(redisAPI.incr(arg0), Collections.singletonList(arg0));
     }
 
     @Override
     public Response incrAndAwait(String arg0) {
-        return redisAPI.incrAndAwait(arg0);
+        return incr(arg0).await().indefinitely();
     }
 
     @Override
     public Uni<Response> incrby(String arg0, String arg1) {
-        return redisAPI.incrby(arg0, arg1);
+        return invalidating(redisAPI.incrby(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response incrbyAndAwait(String arg0, String arg1) {
-        return redisAPI.incrbyAndAwait(arg0, arg1);
+        return incrby(arg0, arg1).await().indefinitely();
     }
 
     @Override
     public Uni<Response> incrbyfloat(String arg0, String arg1) {
-        return redisAPI.incrbyfloat(arg0, arg1);
+        return invalidating(redisAPI.incrbyfloat(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response incrbyfloatAndAwait(String arg0, String arg1) {
-        return redisAPI.incrbyfloatAndAwait(arg0, arg1);
+        return incrbyfloat(arg0, arg1).await().indefinitely();
     }
 
     @Override
@@ -871,32 +889,32 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> move(String arg0, String arg1) {
-        return redisAPI.move(arg0, arg1);
+        return invalidating(redisAPI.move(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response moveAndAwait(String arg0, String arg1) {
-        return redisAPI.moveAndAwait(arg0, arg1);
+        return move(arg0, arg1).await().indefinitely();
     }
 
     @Override
     public Uni<Response> mset(List<String> args) {
-        return redisAPI.mset(args);
+        return invalidating(redisAPI.mset(args), RedisNearCache.pairKeys(args));
     }
 
     @Override
     public Response msetAndAwait(List<String> args) {
-        return redisAPI.msetAndAwait(args);
+        return mset(args).await().indefinitely();
     }
 
     @Override
     public Uni<Response> msetnx(List<String> args) {
-        return redisAPI.msetnx(args);
+        return invalidating(redisAPI.msetnx(args), RedisNearCache.pairKeys(args));
     }
 
     @Override
     public Response msetnxAndAwait(List<String> args) {
-        return redisAPI.msetnxAndAwait(args);
+        return msetnx(args).await().indefinitely();
     }
 
     @Override
@@ -931,22 +949,22 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> pexpire(String arg0, String arg1) {
-        return redisAPI.pexpire(arg0, arg1);
+        return invalidating(redisAPI.pexpire(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response pexpireAndAwait(String arg0, String arg1) {
-        return redisAPI.pexpireAndAwait(arg0, arg1);
+        return pexpire(arg0, arg1).await().indefinitely();
     }
 
     @Override
     public Uni<Response> pexpireat(String arg0, String arg1) {
-        return redisAPI.pexpireat(arg0, arg1);
+        return invalidating(redisAPI.pexpireat(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response pexpireatAndAwait(String arg0, String arg1) {
-        return redisAPI.pexpireatAndAwait(arg0, arg1);
+        return pexpireat(arg0, arg1).await().indefinitely();
     }
 
     @Override
@@ -1021,12 +1039,12 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> psetex(String arg0, String arg1, String arg2) {
-        return redisAPI.psetex(arg0, arg1, arg2);
+        return invalidating(redisAPI.psetex(arg0, arg1, arg2), Collections.singletonList(arg0));
     }
 
     @Override
     public Response psetexAndAwait(String arg0, String arg1, String arg2) {
-        return redisAPI.psetexAndAwait(arg0, arg1, arg2);
+        return psetex(arg0, arg1, arg2).await().indefinitely();
     }
 
     @Override
@@ -1121,22 +1139,22 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> rename(String arg0, String arg1) {
-        return redisAPI.rename(arg0, arg1);
+        return invalidating(redisAPI.rename(arg0, arg1), Arrays.asList(arg0, arg1));
     }
 
     @Override
     public Response renameAndAwait(String arg0, String arg1) {
-        return redisAPI.renameAndAwait(arg0, arg1);
+        return rename(arg0, arg1).await().indefinitely();
     }
 
     @Override
     public Uni<Response> renamenx(String arg0, String arg1) {
-        return redisAPI.renamenx(arg0, arg1);
+        return invalidating(redisAPI.renamenx(arg0, arg1), Arrays.asList(arg0, arg1));
     }
 
     @Override
     public Response renamenxAndAwait(String arg0, String arg1) {
-        return redisAPI.renamenxAndAwait(arg0, arg1);
+        return renamenx(arg0, arg1).await().indefinitely();
     }
 
     @Override
@@ -1161,12 +1179,12 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> restore(List<String> args) {
-        return redisAPI.restore(args);
+        return invalidating(redisAPI.restore(args), RedisNearCache.firstKey(args));
     }
 
     @Override
     public Response restoreAndAwait(List<String> args) {
-        return redisAPI.restoreAndAwait(args);
+        return restore(args).await().indefinitely();
     }
 
     @Override
@@ -1311,52 +1329,52 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> set(List<String> args) {
-        return redisAPI.set(args);
+        return invalidating(redisAPI.set(args), RedisNearCache.firstKey(args));
     }
 
     @Override
     public Response setAndAwait(List<String> args) {
-        return redisAPI.setAndAwait(args);
+        return set(args).await().indefinitely();
     }
 
     @Override
     public Uni<Response> setbit(String arg0, String arg1, String arg2) {
-        return redisAPI.setbit(arg0, arg1, arg2);
+        return invalidating(redisAPI.setbit(arg0, arg1, arg2), Collections.singletonList(arg0));
     }
 
     @Override
     public Response setbitAndAwait(String arg0, String arg1, String arg2) {
-        return redisAPI.setbitAndAwait(arg0, arg1, arg2);
+        return setbit(arg0, arg1, arg2).await().indefinitely();
     }
 
     @Override
     public Uni<Response> setex(String arg0, String arg1, String arg2) {
-        return redisAPI.setex(arg0, arg1, arg2);
+        return invalidating(redisAPI.setex(arg0, arg1, arg2), Collections.singletonList(arg0));
     }
 
     @Override
     public Response setexAndAwait(String arg0, String arg1, String arg2) {
-        return redisAPI.setexAndAwait(arg0, arg1, arg2);
+        return setex(arg0, arg1, arg2).await().indefinitely();
     }
 
     @Override
     public Uni<Response> setnx(String arg0, String arg1) {
-        return redisAPI.setnx(arg0, arg1);
+        return invalidating(redisAPI.setnx(arg0, arg1), Collections.singletonList(arg0));
     }
 
     @Override
     public Response setnxAndAwait(String arg0, String arg1) {
-        return redisAPI.setnxAndAwait(arg0, arg1);
+        return setnx(arg0, arg1).await().indefinitely();
     }
 
     @Override
     public Uni<Response> setrange(String arg0, String arg1, String arg2) {
-        return redisAPI.setrange(arg0, arg1, arg2);
+        return invalidating(redisAPI.setrange(arg0, arg1, arg2), Collections.singletonList(arg0));
     }
 
     @Override
     public Response setrangeAndAwait(String arg0, String arg1, String arg2) {
-        return redisAPI.setrangeAndAwait(arg0, arg1, arg2);
+        return setrange(arg0, arg1, arg2).await().indefinitely();
     }
 
     @Override
@@ -1601,12 +1619,12 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> unlink(List<String> args) {
-        return redisAPI.unlink(args);
+        return invalidating(redisAPI.unlink(args), args);
     }
 
     @Override
     public Response unlinkAndAwait(List<String> args) {
-        return redisAPI.unlinkAndAwait(args);
+        return unlink(args).await().indefinitely();
     }
 
     @Override
@@ -2018,4 +2036,16 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
     public Response zunionstoreAndAwait(List<String> args) {
         return redisAPI.zunionstoreAndAwait(args);
     }
+
+    private Uni<Response> cachedGet(String key) {
+        return nearCache == null ? redisAPI.get(key) : nearCache.get(key, redisAPI::get);
+    }
+
+    private Uni<Response> invalidating(Uni<Response> command, List<String> keys) {
+        return nearCache == null ? command : nearCache.invalidating(command, keys);
+    }
+
+    private Uni<Response> invalidatingAll(Uni<Response> command) {
+        return nearCache == null ? command : nearCache.invalidatingAll(command);
+    }
 }
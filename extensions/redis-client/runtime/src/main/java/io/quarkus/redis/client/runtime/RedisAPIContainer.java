@@ -2,6 +2,7 @@ package io.quarkus.redis.client.runtime;
 
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.typed.TypedRedisClient;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
 
@@ -18,15 +19,21 @@ class RedisAPIContainer {
 
     private final MutinyRedisAPI mutinyRedisAPI;
 
+    private final TypedRedisClient typedClient;
+
+    private final RedisNearCache nearCache;
+
     public RedisAPIContainer(Redis redis, RedisAPI redisAPI, RedisClient redisClient,
             ReactiveRedisClient reactiveClient, MutinyRedis mutinyRedis,
-            MutinyRedisAPI mutinyRedisAPI) {
+            MutinyRedisAPI mutinyRedisAPI, TypedRedisClient typedClient, RedisNearCache nearCache) {
         this.redis = redis;
         this.redisAPI = redisAPI;
         this.redisClient = redisClient;
         this.reactiveClient = reactiveClient;
         this.mutinyRedis = mutinyRedis;
         this.mutinyRedisAPI = mutinyRedisAPI;
+        this.typedClient = typedClient;
+        this.nearCache = nearCache;
     }
 
     public Redis getRedis() {
@@ -53,7 +60,18 @@ class RedisAPIContainer {
         return mutinyRedisAPI;
     }
 
+    public TypedRedisClient getTypedClient() {
+        return typedClient;
+    }
+
+    public RedisNearCache getNearCache() {
+        return nearCache;
+    }
+
     public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
         this.redisAPI.close();
         this.redis.close();
         this.redisAPI.close();
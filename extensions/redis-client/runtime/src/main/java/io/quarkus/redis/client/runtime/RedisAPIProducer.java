@@ -1,17 +1,25 @@
 package io.quarkus.redis.client.runtime;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.PreDestroy;
+import javax.enterprise.inject.Instance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.runtime.RedisConfig.NearCacheInvalidation;
 import io.quarkus.redis.client.runtime.RedisConfig.RedisConfiguration;
+import io.quarkus.redis.client.typed.TypedRedisClient;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.vertx.core.Vertx;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisClientType;
 import io.vertx.redis.client.RedisOptions;
 
 class RedisAPIProducer {
@@ -19,10 +27,12 @@ class RedisAPIProducer {
 
     private final Vertx vertx;
     private final RedisConfig redisConfig;
+    private final Instance<ObjectMapper> objectMapper;
 
-    public RedisAPIProducer(RedisConfig redisConfig, Vertx vertx) {
+    public RedisAPIProducer(RedisConfig redisConfig, Vertx vertx, Instance<ObjectMapper> objectMapper) {
         this.redisConfig = redisConfig;
         this.vertx = vertx;
+        this.objectMapper = objectMapper;
     }
 
     public RedisAPIContainer getRedisAPIContainer(String name) {
@@ -40,13 +50,39 @@ class RedisAPIProducer {
                 RedisAPI redisAPI = RedisAPI.api(redis);
                 MutinyRedis mutinyRedis = new MutinyRedis(redis);
                 MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-                RedisClient redisClient = new RedisClientImpl(mutinyRedisAPI, timeout);
-                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedisAPI);
-                return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI);
+                RedisNearCache nearCache = createNearCache(redisConfiguration, options, mutinyRedis, timeout);
+                RedisClient redisClient = new RedisClientImpl(mutinyRedis, mutinyRedisAPI, timeout, nearCache);
+                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedis, mutinyRedisAPI, nearCache);
+                TypedRedisClient typedClient = new TypedRedisClientImpl(mutinyRedis,
+                        objectMapper.isResolvable() ? objectMapper.get() : new ObjectMapper(), timeout, nearCache);
+                return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI,
+                        typedClient, nearCache);
             }
         });
     }
 
+    private RedisNearCache createNearCache(RedisConfiguration redisConfiguration, RedisOptions options,
+            MutinyRedis mutinyRedis, long timeout) {
+        if (!redisConfiguration.nearCache.enabled) {
+            return null;
+        }
+        if (redisConfiguration.nearCache.invalidation == NearCacheInvalidation.TRACKING
+                && redisConfiguration.clientType != RedisClientType.STANDALONE) {
+            throw new ConfigurationException(
+                    "The Redis near cache `tracking` invalidation requires the `standalone` client type, use the `channel` invalidation instead");
+        }
+        if (redisConfiguration.nearCache.invalidation == NearCacheInvalidation.CHANNEL
+                && !redisConfiguration.nearCache.expireAfterWrite.isPresent()) {
+            // the writes sent through the Redis and RedisAPI beans, or by other applications, are not published
+            throw new ConfigurationException(
+                    "The Redis near cache `channel` invalidation requires `expire-after-write` to be set, as the writes which are not sent through the Redis clients are not published");
+        }
+        RedisNearCache nearCache = new RedisNearCache(vertx, mutinyRedis, options, redisConfiguration.nearCache,
+                Duration.ofSeconds(timeout));
+        nearCache.start();
+        return nearCache;
+    }
+
     @PreDestroy
     public void close() {
         for (RedisAPIContainer container : REDIS_APIS.values()) {
@@ -0,0 +1,35 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import io.quarkus.redis.client.BatchResponse;
+import io.quarkus.redis.client.RedisBatch;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Response;
+
+class RedisBatchImpl extends AbstractRedisBatch implements RedisBatch {
+    private final long timeout;
+
+    RedisBatchImpl(Redis redis, boolean transactional, long timeout, RedisNearCache nearCache) {
+        super(redis, transactional, nearCache);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public BatchResponse<Response> send(Command command, String... args) {
+        return enqueue(command, Function.identity(), args);
+    }
+
+    @Override
+    public <T> BatchResponse<T> send(Command command, Function<Response, T> mapper, String... args) {
+        return enqueue(command, mapper, args);
+    }
+
+    @Override
+    public List<Response> execute() {
+        return send().await().atMost(Duration.ofSeconds(timeout));
+    }
+}
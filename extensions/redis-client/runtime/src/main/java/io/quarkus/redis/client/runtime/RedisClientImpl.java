@@ -1,20 +1,28 @@
 package io.quarkus.redis.client.runtime;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import io.quarkus.redis.client.RedisBatch;
 import io.quarkus.redis.client.RedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
 import io.vertx.redis.client.Response;
 
 class RedisClientImpl implements RedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
     private final long timeout;
+    private final RedisNearCache nearCache;
 
-    public RedisClientImpl(RedisAPI redisAPI, long timeout) {
+    public RedisClientImpl(Redis redis, RedisAPI redisAPI, long timeout, RedisNearCache nearCache) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
         this.timeout = timeout;
+        this.nearCache = nearCache;
     }
 
     @Override
@@ -22,9 +30,19 @@ class RedisClientImpl implements RedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public RedisBatch batch() {
+        return batch(false);
+    }
+
+    @Override
+    public RedisBatch batch(boolean transactional) {
+        return new RedisBatchImpl(redis, transactional, timeout, nearCache);
+    }
+
     @Override
     public Response append(String arg0, String arg1) {
-        return await(redisAPI.append(arg0, arg1));
+        return await(invalidating(redisAPI.append(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
@@ -54,12 +72,12 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response bitfield(List<String> args) {
-        return await(redisAPI.bitfield(args));
+        return await(invalidating(redisAPI.bitfield(args), RedisNearCache.firstKey(args)));
     }
 
     @Override
     public Response bitop(List<String> args) {
-        return await(redisAPI.bitop(args));
+        return await(invalidating(redisAPI.bitop(args), RedisNearCache.destinationKey(args)));
     }
 
     @Override
@@ -124,17 +142,17 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response decr(String arg0) {
-        return await(redisAPI.decr(arg0));
+        return await(invalidating(redisAPI.decr(arg0), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response decrby(String arg0, String arg1) {
-        return await(redisAPI.decrby(arg0, arg1));
+        return await(invalidating(redisAPI.decrby(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response del(List<String> args) {
-        return await(redisAPI.del(args));
+        return await(invalidating(redisAPI.del(args), args));
     }
 
     @Override
@@ -154,12 +172,12 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response eval(List<String> args) {
-        return await(redisAPI.eval(args));
+        return await(invalidating(redisAPI.eval(args), RedisNearCache.scriptKeys(args)));
     }
 
     @Override
     public Response evalsha(List<String> args) {
-        return await(redisAPI.evalsha(args));
+        return await(invalidating(redisAPI.evalsha(args), RedisNearCache.scriptKeys(args)));
     }
 
     @Override
@@ -174,22 +192,22 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response expire(String arg0, String arg1) {
-        return await(redisAPI.expire(arg0, arg1));
+        return await(invalidating(redisAPI.expire(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response expireat(String arg0, String arg1) {
-        return await(redisAPI.expireat(arg0, arg1));
+        return await(invalidating(redisAPI.expireat(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response flushall(List<String> args) {
-        return await(redisAPI.flushall(args));
+        return await(invalidatingAll(redisAPI.flushall(args)));
     }
 
     @Override
     public Response flushdb(List<String> args) {
-        return await(redisAPI.flushdb(args));
+        return await(invalidatingAll(redisAPI.flushdb(args)));
     }
 
     @Override
@@ -234,7 +252,7 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response get(String arg0) {
-        return await(redisAPI.get(arg0));
+        return await(cachedGet(arg0));
     }
 
     @Override
@@ -249,7 +267,7 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response getset(String arg0, String arg1) {
-        return await(redisAPI.getset(arg0, arg1));
+        return await(invalidating(redisAPI.getset(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
@@ -334,17 +352,17 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response incr(String arg0) {
-        return await(redisAPI.incr(arg0));
+        return await(invalidating(redisAPI.incr(arg0), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response incrby(String arg0, String arg1) {
-        return await(redisAPI.incrby(arg0, arg1));
+        return await(invalidating(redisAPI.incrby(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response incrbyfloat(String arg0, String arg1) {
-        return await(redisAPI.incrbyfloat(arg0, arg1));
+        return await(invalidating(redisAPI.incrbyfloat(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
@@ -449,17 +467,17 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response move(String arg0, String arg1) {
-        return await(redisAPI.move(arg0, arg1));
+        return await(invalidating(redisAPI.move(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response mset(List<String> args) {
-        return await(redisAPI.mset(args));
+        return await(invalidating(redisAPI.mset(args), RedisNearCache.pairKeys(args)));
     }
 
     @Override
     public Response msetnx(List<String> args) {
-        return await(redisAPI.msetnx(args));
+        return await(invalidating(redisAPI.msetnx(args), RedisNearCache.pairKeys(args)));
     }
 
     @Override
@@ -479,12 +497,12 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response pexpire(String arg0, String arg1) {
-        return await(redisAPI.pexpire(arg0, arg1));
+        return await(invalidating(redisAPI.pexpire(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response pexpireat(String arg0, String arg1) {
-        return await(redisAPI.pexpireat(arg0, arg1));
+        return await(invalidating(redisAPI.pexpireat(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
@@ -524,7 +542,7 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response psetex(String arg0, String arg1, String arg2) {
-        return await(redisAPI.psetex(arg0, arg1, arg2));
+        return await(invalidating(redisAPI.psetex(arg0, arg1, arg2), Collections.singletonList(arg0)));
     }
 
     @Override
@@ -574,12 +592,12 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response rename(String arg0, String arg1) {
-        return await(redisAPI.rename(arg0, arg1));
+        return await(invalidating(redisAPI.rename(arg0, arg1), Arrays.asList(arg0, arg1)));
     }
 
     @Override
     public Response renamenx(String arg0, String arg1) {
-        return await(redisAPI.renamenx(arg0, arg1));
+        return await(invalidating(redisAPI.renamenx(arg0, arg1), Arrays.asList(arg0, arg1)));
     }
 
     @Override
@@ -594,7 +612,7 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response restore(List<String> args) {
-        return await(redisAPI.restore(args));
+        return await(invalidating(redisAPI.restore(args), RedisNearCache.firstKey(args)));
     }
 
     @Override
@@ -669,27 +687,27 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response set(List<String> args) {
-        return await(redisAPI.set(args));
+        return await(invalidating(redisAPI.set(args), RedisNearCache.firstKey(args)));
     }
 
     @Override
     public Response setbit(String arg0, String arg1, String arg2) {
-        return await(redisAPI.setbit(arg0, arg1, arg2));
+        return await(invalidating(redisAPI.setbit(arg0, arg1, arg2), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response setex(String arg0, String arg1, String arg2) {
-        return await(redisAPI.setex(arg0, arg1, arg2));
+        return await(invalidating(redisAPI.setex(arg0, arg1, arg2), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response setnx(String arg0, String arg1) {
-        return await(redisAPI.setnx(arg0, arg1));
+        return await(invalidating(redisAPI.setnx(arg0, arg1), Collections.singletonList(arg0)));
     }
 
     @Override
     public Response setrange(String arg0, String arg1, String arg2) {
-        return await(redisAPI.setrange(arg0, arg1, arg2));
+        return await(invalidating(redisAPI.setrange(arg0, arg1, arg2), Collections.singletonList(arg0)));
     }
 
     @Override
@@ -814,7 +832,7 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response unlink(List<String> args) {
-        return await(redisAPI.unlink(args));
+        return await(invalidating(redisAPI.unlink(args), args));
     }
 
     @Override
@@ -1022,6 +1040,20 @@ class RedisClientImpl implements RedisClient {
         return await(redisAPI.zunionstore(args));
     }
 
+    private Uni<io.vertx.mutiny.redis.client.Response> cachedGet(String key) {
+        return nearCache == null ? redisAPI.get(key) : nearCache.get(key, redisAPI::get);
+    }
+
+    private Uni<io.vertx.mutiny.redis.client.Response> invalidating(Uni<io.vertx.mutiny.redis.client.Response> command,
+            List<String> keys) {
+        return nearCache == null ? command : nearCache.invalidating(command, keys);
+    }
+
+    private Uni<io.vertx.mutiny.redis.client.Response> invalidatingAll(
+            Uni<io.vertx.mutiny.redis.client.Response> command) {
+        return nearCache == null ? command : nearCache.invalidatingAll(command);
+    }
+
     private Response await(Uni<io.vertx.mutiny.redis.client.Response> mutinyResponse) {
         io.vertx.mutiny.redis.client.Response response = mutinyResponse.await().atMost(Duration.ofSeconds(timeout));
         if (response == null) {
@@ -1,11 +1,14 @@
 package io.quarkus.redis.client.runtime;
 
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.typed.TypedRedisClient;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
 
@@ -32,6 +35,16 @@ public class RedisClientRecorder {
         };
     }
 
+    public Supplier<TypedRedisClient> typedRedisClientSupplier(String clientName) {
+        return new Supplier<TypedRedisClient>() {
+            @Override
+            public TypedRedisClient get() {
+                RedisAPIContainer redisAPIContainer = getRedisAPIContainer(clientName);
+                return redisAPIContainer.getTypedClient();
+            }
+        };
+    }
+
     public Supplier<MutinyRedis> mutinyRedisSupplier(String clientName) {
         return new Supplier<MutinyRedis>() {
             @Override
@@ -72,6 +85,39 @@ public class RedisClientRecorder {
         };
     }
 
+    public Consumer<MetricsFactory> registerNearCacheMetrics(String clientName) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                RedisNearCache nearCache = getRedisAPIContainer(clientName).getNearCache();
+                if (nearCache == null) {
+                    return;
+                }
+                String tagValue = RedisClientUtil.isDefault(clientName) ? "default" : clientName;
+                metricsFactory.builder("redis.near.cache.hits")
+                        .description("Number of GET commands answered from the near cache.")
+                        .tag("client", tagValue)
+                        .buildCounter(nearCache::getHits);
+                metricsFactory.builder("redis.near.cache.misses")
+                        .description("Number of GET commands sent to Redis while the near cache was connected.")
+                        .tag("client", tagValue)
+                        .buildCounter(nearCache::getMisses);
+                metricsFactory.builder("redis.near.cache.evictions")
+                        .description("Number of entries removed from the near cache because it was full.")
+                        .tag("client", tagValue)
+                        .buildCounter(nearCache::getEvictions);
+                metricsFactory.builder("redis.near.cache.invalidations")
+                        .description("Number of entries removed from the near cache because their key changed.")
+                        .tag("client", tagValue)
+                        .buildCounter(nearCache::getInvalidations);
+                metricsFactory.builder("redis.near.cache.size")
+                        .description("Number of entries in the near cache.")
+                        .tag("client", tagValue)
+                        .buildGauge(nearCache::getSize);
+            }
+        };
+    }
+
     private RedisAPIContainer getRedisAPIContainer(String clientName) {
         RedisAPIProducer redisAPIProducer = Arc.container().instance(RedisAPIProducer.class).get();
         return redisAPIProducer.getRedisAPIContainer(clientName);
@@ -2,6 +2,7 @@ package io.quarkus.redis.client.runtime;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -135,5 +136,72 @@ public class RedisConfig {
          */
         @ConfigItem(defaultValue = "32")
         public int maxNestedArrays;
+
+        /**
+         * The client side cache (near cache) of the values read with `GET`.
+         */
+        @ConfigItem
+        public NearCacheConfiguration nearCache;
+    }
+
+    @ConfigGroup
+    public static class NearCacheConfiguration {
+        /**
+         * Whether or not the values read with `GET` are cached on the client side.
+         * <p>
+         * Cached values are dropped when Redis reports that their key changed, see `invalidation`.
+         */
+        @ConfigItem
+        public boolean enabled;
+
+        /**
+         * The maximum number of keys held in the cache.
+         */
+        @ConfigItem(defaultValue = "10000")
+        public int maxSize;
+
+        /**
+         * The maximum duration a value is kept in the cache, as a safety net on top of the invalidation messages.
+         * By default, values are kept until they are invalidated or evicted.
+         * <p>
+         * It must be set with the `channel` invalidation, which doesn't see the writes sent with the `Redis` and
+         * `RedisAPI` beans or by other applications.
+         */
+        @ConfigItem
+        public Optional<Duration> expireAfterWrite;
+
+        /**
+         * How the cache learns about changed keys.
+         * <p>
+         * With `tracking`, server assisted client side caching (`CLIENT TRACKING`) is enabled in broadcasting mode,
+         * and the invalidation messages are received over a dedicated connection. It requires Redis 6 and the
+         * `standalone` client type.
+         * <p>
+         * With `channel`, the keys to invalidate are read from the pub/sub channel set with `channel`. Applications are
+         * then responsible for publishing the keys they modify; the write commands of the Redis clients, their batches
+         * and the typed commands do it automatically. The writes sent with the `Redis` and `RedisAPI` beans are not
+         * published, so `expire-after-write` must be set to bound how long they may be missed.
+         */
+        @ConfigItem(defaultValue = "tracking")
+        public NearCacheInvalidation invalidation;
+
+        /**
+         * The key prefixes tracked in the `tracking` mode. By default, all keys are tracked.
+         * <p>
+         * Setting the prefixes of the cached keys reduces the number of invalidation messages sent by Redis.
+         */
+        @ConfigItem
+        public Optional<List<String>> prefixes;
+
+        /**
+         * The pub/sub channel used in the `channel` mode.
+         */
+        @ConfigItem(defaultValue = "quarkus-redis-invalidation")
+        public String channel;
+    }
+
+    public enum NearCacheInvalidation {
+        TRACKING,
+        CHANNEL
     }
 }
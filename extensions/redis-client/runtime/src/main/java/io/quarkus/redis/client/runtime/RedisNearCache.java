@@ -0,0 +1,527 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.client.runtime.RedisConfig.NearCacheConfiguration;
+import io.quarkus.redis.client.runtime.RedisConfig.NearCacheInvalidation;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.RedisOptions;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * A client side cache of the values read with {@code GET}, shared by the {@link io.quarkus.redis.client.RedisClient} and
+ * {@link io.quarkus.redis.client.reactive.ReactiveRedisClient} of a named client.
+ * <p>
+ * Entries are dropped when Redis reports that their key changed. The invalidation messages are received over a dedicated
+ * pub/sub connection, either from server assisted client side caching ({@code CLIENT TRACKING} in broadcasting mode,
+ * redirected to that connection) or from an application defined channel. As long as that connection is not established,
+ * the cache is bypassed and emptied, so a lost connection never leads to stale reads.
+ * <p>
+ * The write commands sent through the clients, their batches and the typed commands also invalidate their keys locally,
+ * so that a read following a write doesn't depend on the invalidation message having been received.
+ * <p>
+ * Above its maximum size, the cache evicts the least recently read entries, in batches of a tenth of the size so that a
+ * full cache isn't sorted on every miss.
+ */
+class RedisNearCache {
+
+    static final String TRACKING_CHANNEL = "__redis__:invalidate";
+
+    private static final Logger LOGGER = Logger.getLogger(RedisNearCache.class);
+    private static final long RECONNECT_DELAY = 1000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private final Vertx vertx;
+    private final io.vertx.mutiny.redis.client.Redis redis;
+    private final Redis invalidationClient;
+    private final int maxSize;
+    private final long expireAfterWrite;
+    private final NearCacheInvalidation invalidation;
+    private final List<String> prefixes;
+    private final String channel;
+    private final long loadTimeout;
+
+    private volatile boolean connected;
+    private volatile boolean closed;
+    private int generation;
+    private RedisConnection subscriber;
+    private RedisConnection tracker;
+
+    /**
+     * @param loadTimeout the time after which a read of a key which hasn't completed is considered abandoned, so that
+     *        the key can be cached by the next read
+     */
+    RedisNearCache(Vertx vertx, io.vertx.mutiny.redis.client.Redis redis, RedisOptions options,
+            NearCacheConfiguration config, Duration loadTimeout) {
+        this.vertx = vertx;
+        this.redis = redis;
+        // the invalidation connections are kept out of the pool of the client, as they are switched to pub/sub mode
+        this.invalidationClient = Redis.createClient(vertx, new RedisOptions(options).setMaxPoolSize(2));
+        this.maxSize = config.maxSize;
+        this.expireAfterWrite = config.expireAfterWrite.isPresent() ? config.expireAfterWrite.get().toNanos() : 0;
+        this.invalidation = config.invalidation;
+        this.prefixes = config.prefixes.orElse(null);
+        this.channel = invalidation == NearCacheInvalidation.TRACKING ? TRACKING_CHANNEL : config.channel;
+        this.loadTimeout = loadTimeout.toNanos();
+    }
+
+    void start() {
+        connect();
+    }
+
+    /**
+     * Returns the cached value of the given key, or loads it if it's not cached.
+     * <p>
+     * A loaded value is only cached if its key wasn't invalidated while it was being loaded.
+     */
+    Uni<io.vertx.mutiny.redis.client.Response> get(String key,
+            Function<String, Uni<io.vertx.mutiny.redis.client.Response>> loader) {
+        // the cache is looked up when the read is subscribed, a value invalidated in the meantime must not be returned
+        return Uni.createFrom().deferred(() -> lookup(key, loader));
+    }
+
+    private Uni<io.vertx.mutiny.redis.client.Response> lookup(String key,
+            Function<String, Uni<io.vertx.mutiny.redis.client.Response>> loader) {
+        if (!connected) {
+            return loader.apply(key);
+        }
+        Entry entry = entries.get(key);
+        if (entry != null && entry.loaded) {
+            long now = System.nanoTime();
+            if (entry.expiresAt == 0 || entry.expiresAt - now > 0) {
+                hits.increment();
+                entry.lastRead = now;
+                return Uni.createFrom().item(entry.value);
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        Entry loading = new Entry();
+        Entry existing = entries.putIfAbsent(key, loading);
+        // a blocking read timing out doesn't cancel the load, which may never complete if the connection is stuck
+        if (existing != null && (existing.loaded || System.nanoTime() - existing.lastRead < loadTimeout
+                || !entries.replace(key, existing, loading))) {
+            // another read of the same key is in flight, don't wait for it
+            return loader.apply(key);
+        }
+        evictIfNeeded(loading);
+        return loader.apply(key)
+                .onTermination().invoke((response, failure, cancelled) -> {
+                    if (failure == null && !cancelled) {
+                        entries.replace(key, loading, new Entry(response,
+                                expireAfterWrite == 0 ? 0 : System.nanoTime() + expireAfterWrite));
+                    } else {
+                        // a cancelled read, e.g. on a timeout, must not keep the key from being cached
+                        entries.remove(key, loading);
+                    }
+                });
+    }
+
+    /**
+     * Wraps a write command so that the given keys are invalidated locally when it's sent and when it completes, and
+     * published to the invalidation channel in the {@code channel} mode.
+     * <p>
+     * If the keys are {@code null}, the whole cache is invalidated instead, see {@link #invalidatingAll(Uni)}.
+     */
+    <T> Uni<T> invalidating(Uni<T> command, List<String> keys) {
+        if (keys == null) {
+            return invalidatingAll(command);
+        }
+        if (keys.isEmpty()) {
+            return command;
+        }
+        Uni<T> invalidating = command
+                .onSubscribe().invoke(subscription -> invalidate(keys))
+                .onItem().invoke(response -> invalidate(keys));
+        if (invalidation == NearCacheInvalidation.CHANNEL) {
+            return invalidating.onItem().call(response -> publish(keys));
+        }
+        return invalidating;
+    }
+
+    /**
+     * Wraps a command flushing the database, or writing keys that can't be told in advance, so that the whole cache is
+     * invalidated when it's sent and when it completes.
+     */
+    <T> Uni<T> invalidatingAll(Uni<T> command) {
+        return command
+                .onSubscribe().invoke(subscription -> invalidateAll())
+                .onItem().invoke(response -> invalidateAll());
+    }
+
+    void invalidate(List<String> keys) {
+        for (String key : keys) {
+            invalidate(key);
+        }
+    }
+
+    void invalidate(String key) {
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    void invalidateAll() {
+        invalidations.add(entries.size());
+        entries.clear();
+    }
+
+    /**
+     * @return the keys written by the given command, according to the key positions Redis reports for it, or
+     *         {@code null} if they can't be told from the arguments, for instance for {@code FLUSHDB}
+     */
+    static List<String> writtenKeys(Command command, List<String> args) {
+        if (command.isReadOnly()) {
+            return Collections.emptyList();
+        }
+        if (command == Command.EVAL || command == Command.EVALSHA) {
+            return scriptKeys(args);
+        }
+        if (command.isMovable() || command == Command.FLUSHALL || command == Command.FLUSHDB) {
+            return null;
+        }
+        if (command.isKeyless()) {
+            return Collections.emptyList();
+        }
+        // the positions include the command name, and a negative last position counts from the end
+        int first = command.getFirstKey() - 1;
+        int last = command.getLastKey() < 0 ? args.size() + command.getLastKey() : command.getLastKey() - 1;
+        int step = Math.max(command.getInterval(), 1);
+        List<String> keys = new ArrayList<>();
+        for (int i = first; i <= last && i < args.size(); i += step) {
+            keys.add(args.get(i));
+        }
+        return keys;
+    }
+
+    /**
+     * @return the key of a command taking a key as first argument
+     */
+    static List<String> firstKey(List<String> args) {
+        return args.isEmpty() ? Collections.emptyList() : Collections.singletonList(args.get(0));
+    }
+
+    /**
+     * @return the destination key of {@code BITOP}, which follows the operation
+     */
+    static List<String> destinationKey(List<String> args) {
+        return args.size() < 2 ? Collections.emptyList() : Collections.singletonList(args.get(1));
+    }
+
+    /**
+     * @return the keys declared to a script run with {@code EVAL} or {@code EVALSHA}, which follow the script and the
+     *         number of keys, or {@code null} if that number isn't valid
+     */
+    static List<String> scriptKeys(List<String> args) {
+        if (args.size() < 2) {
+            return null;
+        }
+        int count;
+        try {
+            count = Integer.parseInt(args.get(1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (count < 0 || count > args.size() - 2) {
+            return null;
+        }
+        return args.subList(2, 2 + count);
+    }
+
+    /**
+     * @return a view of the keys of a command taking key/value pairs, such as {@code MSET}
+     */
+    static List<String> pairKeys(List<String> args) {
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                return args.get(index * 2);
+            }
+
+            @Override
+            public int size() {
+                return (args.size() + 1) / 2;
+            }
+        };
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    int getSize() {
+        return entries.size();
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+
+    synchronized void close() {
+        closed = true;
+        connected = false;
+        generation++;
+        entries.clear();
+        closeQuietly(subscriber);
+        closeQuietly(tracker);
+        invalidationClient.close();
+    }
+
+    /**
+     * Evicts the least recently read entries once the cache is above its maximum size. A tenth of the entries are evicted
+     * at once, so the entries are only sorted by their last read every so often rather than on every miss, and the hits
+     * only record the time of the read instead of reordering a shared list.
+     */
+    private void evictIfNeeded(Entry loading) {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        List<EvictionCandidate> candidates = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (entry.getValue() != loading) {
+                // the time of the last read is copied, as it may change while the candidates are sorted
+                candidates.add(new EvictionCandidate(entry.getKey(), entry.getValue()));
+            }
+        }
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.lastRead));
+        int targetSize = maxSize - maxSize / 10;
+        Iterator<EvictionCandidate> iterator = candidates.iterator();
+        while (entries.size() > targetSize && iterator.hasNext()) {
+            EvictionCandidate candidate = iterator.next();
+            if (entries.remove(candidate.key, candidate.entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private Uni<Void> publish(List<String> keys) {
+        List<io.vertx.mutiny.redis.client.Request> requests = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            requests.add(io.vertx.mutiny.redis.client.Request.cmd(io.vertx.mutiny.redis.client.Command.PUBLISH)
+                    .arg(channel).arg(key));
+        }
+        return redis.batch(requests).onItem().ignore().andContinueWithNull();
+    }
+
+    private synchronized void connect() {
+        int attempt = ++generation;
+        invalidationClient.connect(connected -> {
+            if (connected.failed()) {
+                reconnect(attempt, connected.cause());
+                return;
+            }
+            RedisConnection connection = connected.result();
+            if (!register(attempt, connection, true)) {
+                return;
+            }
+            connection.handler(this::onMessage);
+            if (invalidation == NearCacheInvalidation.TRACKING) {
+                connection.send(Request.cmd(Command.CLIENT).arg("ID"), id -> {
+                    if (id.failed()) {
+                        reconnect(attempt, id.cause());
+                        return;
+                    }
+                    subscribe(attempt, connection, () -> enableTracking(attempt, id.result().toLong()));
+                });
+            } else {
+                subscribe(attempt, connection, () -> ready(attempt));
+            }
+        });
+    }
+
+    private void subscribe(int attempt, RedisConnection connection, Runnable then) {
+        connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel), subscribed -> {
+            if (subscribed.failed()) {
+                reconnect(attempt, subscribed.cause());
+            } else {
+                then.run();
+            }
+        });
+    }
+
+    /**
+     * Enables the tracking in broadcasting mode on a second connection, redirecting the invalidation messages to the
+     * subscribed one. Broadcasting mode doesn't depend on the keys read by the connection enabling it, so it covers the
+     * reads done through any connection of the pool.
+     */
+    private void enableTracking(int attempt, long subscriberId) {
+        invalidationClient.connect(connected -> {
+            if (connected.failed()) {
+                reconnect(attempt, connected.cause());
+                return;
+            }
+            RedisConnection connection = connected.result();
+            if (!register(attempt, connection, false)) {
+                return;
+            }
+            Request tracking = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                    .arg("REDIRECT").arg(subscriberId).arg("BCAST");
+            if (prefixes != null) {
+                for (String prefix : prefixes) {
+                    tracking.arg("PREFIX").arg(prefix);
+                }
+            }
+            connection.send(tracking, enabled -> {
+                if (enabled.failed()) {
+                    reconnect(attempt, enabled.cause());
+                } else {
+                    ready(attempt);
+                }
+            });
+        });
+    }
+
+    /**
+     * Keeps track of a connection opened by the given connection attempt, or closes it if a newer attempt started in
+     * the meantime.
+     */
+    private synchronized boolean register(int attempt, RedisConnection connection, boolean subscriber) {
+        if (attempt != generation || closed) {
+            closeQuietly(connection);
+            return false;
+        }
+        if (subscriber) {
+            this.subscriber = connection;
+        } else {
+            this.tracker = connection;
+        }
+        connection.exceptionHandler(failure -> reconnect(attempt, failure));
+        connection.endHandler(ignored -> reconnect(attempt, null));
+        return true;
+    }
+
+    private synchronized void ready(int attempt) {
+        if (attempt != generation || closed) {
+            return;
+        }
+        entries.clear();
+        connected = true;
+        LOGGER.debugf("Redis near cache listening to invalidation messages on %s", channel);
+    }
+
+    /**
+     * Drops the connections of the given attempt and schedules a new one. Failures of an attempt which was already
+     * replaced are ignored.
+     */
+    private synchronized void reconnect(int attempt, Throwable cause) {
+        if (attempt != generation) {
+            return;
+        }
+        // invalidates the handlers of the current connections, a new attempt is started by the timer
+        generation++;
+        connected = false;
+        entries.clear();
+        closeQuietly(subscriber);
+        closeQuietly(tracker);
+        subscriber = null;
+        tracker = null;
+        if (closed) {
+            return;
+        }
+        if (cause != null) {
+            LOGGER.warnf(cause, "Redis near cache lost its invalidation connection, reconnecting in %d ms",
+                    RECONNECT_DELAY);
+        }
+        vertx.setTimer(RECONNECT_DELAY, ignored -> {
+            if (!closed) {
+                connect();
+            }
+        });
+    }
+
+    private void onMessage(Response message) {
+        if (message.type() != ResponseType.MULTI || message.size() < 3
+                || !"message".equals(message.get(0).toString()) || !channel.equals(message.get(1).toString())) {
+            return;
+        }
+        Response payload = message.get(2);
+        if (payload == null) {
+            // the database was flushed
+            invalidateAll();
+        } else if (payload.type() == ResponseType.MULTI) {
+            for (Response key : payload) {
+                invalidate(key.toString());
+            }
+        } else {
+            invalidate(payload.toString());
+        }
+    }
+
+    private static void closeQuietly(RedisConnection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                LOGGER.debug("Unable to close a Redis near cache connection", e);
+            }
+        }
+    }
+
+    private static final class Entry {
+        final io.vertx.mutiny.redis.client.Response value;
+        final long expiresAt;
+        final boolean loaded;
+        // compared with the other entries on eviction, a stale value only changes which entries are evicted; for an
+        // entry being loaded, this is the time the load started
+        volatile long lastRead = System.nanoTime();
+
+        Entry() {
+            this.value = null;
+            this.expiresAt = 0;
+            this.loaded = false;
+        }
+
+        Entry(io.vertx.mutiny.redis.client.Response value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.loaded = true;
+        }
+    }
+
+    private static final class EvictionCandidate {
+        final String key;
+        final Entry entry;
+        final long lastRead;
+
+        EvictionCandidate(String key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastRead = entry.lastRead;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.List;
+
+import io.quarkus.redis.client.typed.Codec;
+import io.quarkus.redis.client.typed.SortedSetCommands;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+
+class SortedSetCommandsImpl<K, V> extends AbstractTypedCommands<K, V> implements SortedSetCommands<K, V> {
+
+    SortedSetCommandsImpl(Redis redis, Codec<K> keyCodec, Codec<V> valueCodec, long timeout, RedisNearCache nearCache) {
+        super(redis, keyCodec, valueCodec, timeout, nearCache);
+    }
+
+    @Override
+    public Uni<Boolean> zadd(K key, double score, V member) {
+        return write(request(Command.ZADD, key).arg(Double.toString(score)).arg(valueCodec.encode(member)), key)
+                .map(AbstractTypedCommands::isOne);
+    }
+
+    @Override
+    public boolean zaddAndAwait(K key, double score, V member) {
+        return await(zadd(key, score, member));
+    }
+
+    @Override
+    public Uni<Double> zincrby(K key, double increment, V member) {
+        return write(request(Command.ZINCRBY, key).arg(Double.toString(increment)).arg(valueCodec.encode(member)),
+                key).map(AbstractTypedCommands::toDouble);
+    }
+
+    @Override
+    public double zincrbyAndAwait(K key, double increment, V member) {
+        return await(zincrby(key, increment, member));
+    }
+
+    @Override
+    public Uni<Double> zscore(K key, V member) {
+        return send(request(Command.ZSCORE, key).arg(valueCodec.encode(member))).map(AbstractTypedCommands::toDouble);
+    }
+
+    @Override
+    public Double zscoreAndAwait(K key, V member) {
+        return await(zscore(key, member));
+    }
+
+    @Override
+    public Uni<List<V>> zrange(K key, long start, long stop) {
+        return send(request(Command.ZRANGE, key).arg(start).arg(stop)).map(this::decodeValues);
+    }
+
+    @Override
+    public List<V> zrangeAndAwait(K key, long start, long stop) {
+        return await(zrange(key, start, stop));
+    }
+
+    @Override
+    public Uni<List<V>> zrevrange(K key, long start, long stop) {
+        return send(request(Command.ZREVRANGE, key).arg(start).arg(stop)).map(this::decodeValues);
+    }
+
+    @Override
+    public List<V> zrevrangeAndAwait(K key, long start, long stop) {
+        return await(zrevrange(key, start, stop));
+    }
+
+    @Override
+    public Uni<Boolean> zrem(K key, V member) {
+        return write(request(Command.ZREM, key).arg(valueCodec.encode(member)), key).map(AbstractTypedCommands::isOne);
+    }
+
+    @Override
+    public boolean zremAndAwait(K key, V member) {
+        return await(zrem(key, member));
+    }
+
+    @Override
+    public Uni<Long> zcard(K key) {
+        return send(request(Command.ZCARD, key)).map(AbstractTypedCommands::toLong);
+    }
+
+    @Override
+    public long zcardAndAwait(K key) {
+        return await(zcard(key));
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.redis.client.runtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.redis.client.typed.Codec;
+import io.quarkus.redis.client.typed.Codecs;
+import io.quarkus.redis.client.typed.HashCommands;
+import io.quarkus.redis.client.typed.ListCommands;
+import io.quarkus.redis.client.typed.SortedSetCommands;
+import io.quarkus.redis.client.typed.TypedRedisClient;
+import io.quarkus.redis.client.typed.ValueCommands;
+import io.vertx.mutiny.redis.client.Redis;
+
+class TypedRedisClientImpl implements TypedRedisClient {
+    private final Redis redis;
+    private final ObjectMapper objectMapper;
+    private final long timeout;
+    private final RedisNearCache nearCache;
+
+    TypedRedisClientImpl(Redis redis, ObjectMapper objectMapper, long timeout, RedisNearCache nearCache) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public <K, V> ValueCommands<K, V> value(Codec<K> keyCodec, Codec<V> valueCodec) {
+        return new ValueCommandsImpl<>(redis, keyCodec, valueCodec, timeout, nearCache);
+    }
+
+    @Override
+    public <V> ValueCommands<String, V> value(Class<V> valueType) {
+        return value(Codecs.string(), Codecs.forType(objectMapper, valueType));
+    }
+
+    @Override
+    public <K, F, V> HashCommands<K, F, V> hash(Codec<K> keyCodec, Codec<F> fieldCodec, Codec<V> valueCodec) {
+        return new HashCommandsImpl<>(redis, keyCodec, fieldCodec, valueCodec, timeout, nearCache);
+    }
+
+    @Override
+    public <V> HashCommands<String, String, V> hash(Class<V> valueType) {
+        return hash(Codecs.string(), Codecs.string(), Codecs.forType(objectMapper, valueType));
+    }
+
+    @Override
+    public <K, V> ListCommands<K, V> list(Codec<K> keyCodec, Codec<V> valueCodec) {
+        return new ListCommandsImpl<>(redis, keyCodec, valueCodec, timeout, nearCache);
+    }
+
+    @Override
+    public <V> ListCommands<String, V> list(Class<V> valueType) {
+        return list(Codecs.string(), Codecs.forType(objectMapper, valueType));
+    }
+
+    @Override
+    public <K, V> SortedSetCommands<K, V> sortedSet(Codec<K> keyCodec, Codec<V> valueCodec) {
+        return new SortedSetCommandsImpl<>(redis, keyCodec, valueCodec, timeout, nearCache);
+    }
+
+    @Override
+    public <V> SortedSetCommands<String, V> sortedSet(Class<V> valueType) {
+        return sortedSet(Codecs.string(), Codecs.forType(objectMapper, valueType));
+    }
+}
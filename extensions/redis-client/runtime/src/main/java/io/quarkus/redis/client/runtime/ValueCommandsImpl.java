@@ -0,0 +1,96 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.typed.Codec;
+import io.quarkus.redis.client.typed.ValueCommands;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+class ValueCommandsImpl<K, V> extends AbstractTypedCommands<K, V> implements ValueCommands<K, V> {
+
+    ValueCommandsImpl(Redis redis, Codec<K> keyCodec, Codec<V> valueCodec, long timeout, RedisNearCache nearCache) {
+        super(redis, keyCodec, valueCodec, timeout, nearCache);
+    }
+
+    @Override
+    public Uni<V> get(K key) {
+        return send(request(Command.GET, key)).map(this::decodeValue);
+    }
+
+    @Override
+    public V getAndAwait(K key) {
+        return await(get(key));
+    }
+
+    @Override
+    public Uni<Void> set(K key, V value) {
+        return write(request(Command.SET, key).arg(valueCodec.encode(value)), key).map(r -> null);
+    }
+
+    @Override
+    public void setAndAwait(K key, V value) {
+        await(set(key, value));
+    }
+
+    @Override
+    public Uni<Void> set(K key, V value, Duration expiration) {
+        return write(request(Command.SET, key).arg(valueCodec.encode(value)).arg("PX").arg(expiration.toMillis()), key)
+                .map(r -> null);
+    }
+
+    @Override
+    public void setAndAwait(K key, V value, Duration expiration) {
+        await(set(key, value, expiration));
+    }
+
+    @Override
+    public Uni<Boolean> setIfAbsent(K key, V value) {
+        // SET NX replies with a null reply if the key already exists
+        return write(request(Command.SET, key).arg(valueCodec.encode(value)).arg("NX"), key).map(r -> r != null);
+    }
+
+    @Override
+    public boolean setIfAbsentAndAwait(K key, V value) {
+        return await(setIfAbsent(key, value));
+    }
+
+    @Override
+    public Uni<Map<K, V>> mget(List<K> keys) {
+        Request request = Request.cmd(Command.MGET);
+        for (K key : keys) {
+            request.arg(keyCodec.encode(key));
+        }
+        return send(request).map(response -> {
+            Map<K, V> values = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                Response value = response.get(i);
+                if (value != null) {
+                    values.put(keys.get(i), decodeValue(value));
+                }
+            }
+            return values;
+        });
+    }
+
+    @Override
+    public Map<K, V> mgetAndAwait(List<K> keys) {
+        return await(mget(keys));
+    }
+
+    @Override
+    public Uni<Boolean> delete(K key) {
+        return write(request(Command.DEL, key), key).map(AbstractTypedCommands::isOne);
+    }
+
+    @Override
+    public boolean deleteAndAwait(K key) {
+        return await(delete(key));
+    }
+}
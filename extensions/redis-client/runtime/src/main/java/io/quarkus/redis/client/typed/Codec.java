@@ -0,0 +1,26 @@
+package io.quarkus.redis.client.typed;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Converts keys and values to the binary form that is sent to Redis, and back.
+ * <p>
+ * Codecs are passed to the factory methods of {@link TypedRedisClient}. Commonly used codecs are available from
+ * {@link Codecs}, but any binary serialization can be plugged in by implementing this interface.
+ *
+ * @param <T> the type of the encoded values
+ */
+public interface Codec<T> {
+
+    /**
+     * @param value the value to encode, never {@code null}
+     * @return the encoded value
+     */
+    Buffer encode(T value);
+
+    /**
+     * @param buffer the encoded value, never {@code null}
+     * @return the decoded value
+     */
+    T decode(Buffer buffer);
+}
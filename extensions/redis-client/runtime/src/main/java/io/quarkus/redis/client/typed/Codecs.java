@@ -0,0 +1,154 @@
+package io.quarkus.redis.client.typed;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * The codecs shipped with the Redis extension.
+ */
+public final class Codecs {
+
+    private static final Codec<String> STRING = new Codec<String>() {
+        @Override
+        public Buffer encode(String value) {
+            return Buffer.buffer(value, StandardCharsets.UTF_8.name());
+        }
+
+        @Override
+        public String decode(Buffer buffer) {
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    };
+
+    private static final Codec<byte[]> BYTES = new Codec<byte[]>() {
+        @Override
+        public Buffer encode(byte[] value) {
+            return Buffer.buffer(value);
+        }
+
+        @Override
+        public byte[] decode(Buffer buffer) {
+            return buffer.getBytes();
+        }
+    };
+
+    private Codecs() {
+    }
+
+    /**
+     * @return a codec storing strings as UTF-8
+     */
+    public static Codec<String> string() {
+        return STRING;
+    }
+
+    /**
+     * @return a codec storing byte arrays as they are
+     */
+    public static Codec<byte[]> bytes() {
+        return BYTES;
+    }
+
+    /**
+     * @param mapper the object mapper
+     * @param type the type of the values
+     * @param <T> the type of the values
+     * @return a codec storing values as JSON
+     */
+    public static <T> Codec<T> json(ObjectMapper mapper, Class<T> type) {
+        return new JacksonCodec<>(mapper, mapper.constructType(type));
+    }
+
+    /**
+     * @param mapper the object mapper
+     * @param type the type of the values, which may be generic
+     * @param <T> the type of the values
+     * @return a codec storing values as JSON
+     */
+    public static <T> Codec<T> json(ObjectMapper mapper, JavaType type) {
+        return new JacksonCodec<>(mapper, type);
+    }
+
+    /**
+     * Select the codec for the given type: {@link #string()} for strings, {@link #bytes()} for byte arrays and
+     * JSON for anything else.
+     *
+     * @param mapper the object mapper used for JSON
+     * @param type the type of the values
+     * @param <T> the type of the values
+     * @return the codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Codec<T> forType(ObjectMapper mapper, Class<T> type) {
+        if (type == String.class) {
+            return (Codec<T>) STRING;
+        }
+        if (type == byte[].class) {
+            return (Codec<T>) BYTES;
+        }
+        return json(mapper, type);
+    }
+
+    /**
+     * Serializes directly into the buffer sent to Redis, and deserializes directly from the buffer received from
+     * Redis, without intermediate strings or byte arrays.
+     */
+    private static final class JacksonCodec<T> implements Codec<T> {
+        private final ObjectWriter writer;
+        private final ObjectReader reader;
+
+        JacksonCodec(ObjectMapper mapper, JavaType type) {
+            this.writer = mapper.writerFor(type);
+            this.reader = mapper.readerFor(type);
+        }
+
+        @Override
+        public Buffer encode(T value) {
+            Buffer buffer = Buffer.buffer();
+            try {
+                writer.writeValue(new BufferOutputStream(buffer), value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer;
+        }
+
+        @Override
+        public T decode(Buffer buffer) {
+            try {
+                return reader.readValue((InputStream) new ByteBufInputStream(buffer.getByteBuf()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class BufferOutputStream extends OutputStream {
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.appendBytes(b, off, len);
+        }
+    }
+}
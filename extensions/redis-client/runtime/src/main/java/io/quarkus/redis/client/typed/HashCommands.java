@@ -0,0 +1,50 @@
+package io.quarkus.redis.client.typed;
+
+import java.util.Map;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Typed Redis hash commands, storing fields and values encoded by a {@link Codec}.
+ * <p>
+ * The {@code AndAwait} variants block for at most the timeout configured for the client.
+ *
+ * @param <K> the type of the keys
+ * @param <F> the type of the fields
+ * @param <V> the type of the values
+ */
+public interface HashCommands<K, F, V> {
+
+    Uni<V> hget(K key, F field);
+
+    V hgetAndAwait(K key, F field);
+
+    /**
+     * @return {@code true} if the field is new, {@code false} if its value was updated
+     */
+    Uni<Boolean> hset(K key, F field, V value);
+
+    boolean hsetAndAwait(K key, F field, V value);
+
+    /**
+     * @return the number of fields that were added
+     */
+    Uni<Long> hset(K key, Map<F, V> values);
+
+    long hsetAndAwait(K key, Map<F, V> values);
+
+    Uni<Map<F, V>> hgetall(K key);
+
+    Map<F, V> hgetallAndAwait(K key);
+
+    /**
+     * @return {@code true} if the field was removed
+     */
+    Uni<Boolean> hdel(K key, F field);
+
+    boolean hdelAndAwait(K key, F field);
+
+    Uni<Boolean> hexists(K key, F field);
+
+    boolean hexistsAndAwait(K key, F field);
+}
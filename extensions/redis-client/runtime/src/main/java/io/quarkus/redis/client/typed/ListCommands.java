@@ -0,0 +1,46 @@
+package io.quarkus.redis.client.typed;
+
+import java.util.List;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Typed Redis list commands, storing elements encoded by a {@link Codec}.
+ * <p>
+ * The {@code AndAwait} variants block for at most the timeout configured for the client.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the elements
+ */
+public interface ListCommands<K, V> {
+
+    /**
+     * @return the length of the list after the push
+     */
+    Uni<Long> lpush(K key, V value);
+
+    long lpushAndAwait(K key, V value);
+
+    /**
+     * @return the length of the list after the push
+     */
+    Uni<Long> rpush(K key, V value);
+
+    long rpushAndAwait(K key, V value);
+
+    Uni<V> lpop(K key);
+
+    V lpopAndAwait(K key);
+
+    Uni<V> rpop(K key);
+
+    V rpopAndAwait(K key);
+
+    Uni<List<V>> lrange(K key, long start, long stop);
+
+    List<V> lrangeAndAwait(K key, long start, long stop);
+
+    Uni<Long> llen(K key);
+
+    long llenAndAwait(K key);
+}
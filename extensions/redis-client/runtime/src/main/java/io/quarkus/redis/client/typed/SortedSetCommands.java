@@ -0,0 +1,62 @@
+package io.quarkus.redis.client.typed;
+
+import java.util.List;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Typed Redis sorted set commands, storing members encoded by a {@link Codec}.
+ * <p>
+ * The {@code AndAwait} variants block for at most the timeout configured for the client.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the members
+ */
+public interface SortedSetCommands<K, V> {
+
+    /**
+     * @return {@code true} if the member is new, {@code false} if its score was updated
+     */
+    Uni<Boolean> zadd(K key, double score, V member);
+
+    boolean zaddAndAwait(K key, double score, V member);
+
+    /**
+     * @return the new score of the member
+     */
+    Uni<Double> zincrby(K key, double increment, V member);
+
+    double zincrbyAndAwait(K key, double increment, V member);
+
+    /**
+     * @return the score of the member, or {@code null} if it is not in the set
+     */
+    Uni<Double> zscore(K key, V member);
+
+    Double zscoreAndAwait(K key, V member);
+
+    /**
+     * @return the members between the given ranks, ordered from the lowest to the highest score
+     */
+    Uni<List<V>> zrange(K key, long start, long stop);
+
+    List<V> zrangeAndAwait(K key, long start, long stop);
+
+    /**
+     * @return the members between the given ranks, ordered from the highest to the lowest score
+     */
+    Uni<List<V>> zrevrange(K key, long start, long stop);
+
+    List<V> zrevrangeAndAwait(K key, long start, long stop);
+
+    /**
+     * @return {@code true} if the member was removed
+     */
+    Uni<Boolean> zrem(K key, V member);
+
+    boolean zremAndAwait(K key, V member);
+
+    Uni<Long> zcard(K key);
+
+    long zcardAndAwait(K key);
+}
@@ -0,0 +1,30 @@
+package io.quarkus.redis.client.typed;
+
+/**
+ * Entry point to the typed Redis commands.
+ * <p>
+ * Keys and values are encoded with {@link Codec}s and sent to Redis as binary arguments, so structured values do not
+ * need to be converted to strings first. The factory methods taking a {@link Class} use string keys and select the
+ * value codec with {@link Codecs#forType(com.fasterxml.jackson.databind.ObjectMapper, Class)}, using the application
+ * {@code ObjectMapper} for JSON.
+ * <p>
+ * The command groups are lightweight and can be created on demand or kept in fields.
+ */
+public interface TypedRedisClient {
+
+    <K, V> ValueCommands<K, V> value(Codec<K> keyCodec, Codec<V> valueCodec);
+
+    <V> ValueCommands<String, V> value(Class<V> valueType);
+
+    <K, F, V> HashCommands<K, F, V> hash(Codec<K> keyCodec, Codec<F> fieldCodec, Codec<V> valueCodec);
+
+    <V> HashCommands<String, String, V> hash(Class<V> valueType);
+
+    <K, V> ListCommands<K, V> list(Codec<K> keyCodec, Codec<V> valueCodec);
+
+    <V> ListCommands<String, V> list(Class<V> valueType);
+
+    <K, V> SortedSetCommands<K, V> sortedSet(Codec<K> keyCodec, Codec<V> valueCodec);
+
+    <V> SortedSetCommands<String, V> sortedSet(Class<V> valueType);
+}
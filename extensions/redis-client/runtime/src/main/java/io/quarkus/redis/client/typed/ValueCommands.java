@@ -0,0 +1,51 @@
+package io.quarkus.redis.client.typed;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Typed Redis string commands, storing values encoded by a {@link Codec}.
+ * <p>
+ * The {@code AndAwait} variants block for at most the timeout configured for the client.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public interface ValueCommands<K, V> {
+
+    Uni<V> get(K key);
+
+    V getAndAwait(K key);
+
+    Uni<Void> set(K key, V value);
+
+    void setAndAwait(K key, V value);
+
+    Uni<Void> set(K key, V value, Duration expiration);
+
+    void setAndAwait(K key, V value, Duration expiration);
+
+    /**
+     * @return {@code true} if the value was set, {@code false} if the key already existed
+     */
+    Uni<Boolean> setIfAbsent(K key, V value);
+
+    boolean setIfAbsentAndAwait(K key, V value);
+
+    /**
+     * @return the values of the keys that exist
+     */
+    Uni<Map<K, V>> mget(List<K> keys);
+
+    Map<K, V> mgetAndAwait(List<K> keys);
+
+    /**
+     * @return {@code true} if the key was removed
+     */
+    Uni<Boolean> delete(K key);
+
+    boolean deleteAndAwait(K key);
+}
@@ -0,0 +1,303 @@
+package io.quarkus.redis.client.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.redis.client.RedisBatch;
+import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.runtime.RedisConfig.NearCacheConfiguration;
+import io.quarkus.redis.client.runtime.RedisConfig.NearCacheInvalidation;
+import io.quarkus.redis.client.typed.Codecs;
+import io.quarkus.redis.client.typed.ValueCommands;
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisOptions;
+
+public class RedisNearCacheTest {
+
+    private Vertx vertx;
+    private RedisStandIn standIn;
+    private RedisOptions options;
+    private final List<Redis> clients = new ArrayList<>();
+    private final List<RedisNearCache> caches = new ArrayList<>();
+
+    @BeforeEach
+    public void start() throws Exception {
+        vertx = Vertx.vertx();
+        standIn = new RedisStandIn(vertx);
+        options = new RedisOptions().setConnectionString(standIn.getConnectionString());
+    }
+
+    @AfterEach
+    public void stop() throws Exception {
+        caches.forEach(RedisNearCache::close);
+        clients.forEach(Redis::close);
+        standIn.close();
+        vertx.close();
+    }
+
+    @Test
+    public void testTrackingInvalidation() {
+        RedisNearCache cache = nearCache(NearCacheInvalidation.TRACKING, 100);
+        RedisClient client = client(cache);
+        RedisClient other = client(null);
+
+        client.set(Arrays.asList("hot", "1"));
+        // the invalidation message of the write may drop the first value read
+        await(() -> cached(cache, client, "hot"));
+        int gets = countGets();
+        long hits = cache.getHits();
+        assertEquals("1", client.get("hot").toString());
+        assertEquals("1", client.get("hot").toString());
+        assertEquals(gets, countGets());
+        assertEquals(hits + 2, cache.getHits());
+
+        // a write from another client is only seen through the invalidation message
+        other.set(Arrays.asList("hot", "2"));
+        await(() -> "2".equals(client.get("hot").toString()));
+        assertTrue(cache.getInvalidations() > 0);
+
+        // a write through the client is visible right away
+        client.set(Arrays.asList("hot", "3"));
+        assertEquals("3", client.get("hot").toString());
+        client.del(Arrays.asList("hot"));
+        assertNull(client.get("hot"));
+    }
+
+    @Test
+    public void testChannelInvalidation() {
+        RedisNearCache firstCache = nearCache(NearCacheInvalidation.CHANNEL, 100);
+        RedisNearCache secondCache = nearCache(NearCacheInvalidation.CHANNEL, 100);
+        RedisClient first = client(firstCache);
+        RedisClient second = client(secondCache);
+
+        first.set(Arrays.asList("shared", "1"));
+        await(() -> cached(secondCache, second, "shared"));
+        long hits = secondCache.getHits();
+        assertEquals("1", second.get("shared").toString());
+        assertEquals(hits + 1, secondCache.getHits());
+
+        first.mset(Arrays.asList("shared", "2", "other", "2"));
+        await(() -> "2".equals(second.get("shared").toString()));
+    }
+
+    @Test
+    public void testBitAndScriptWritesInvalidate() {
+        RedisNearCache firstCache = nearCache(NearCacheInvalidation.CHANNEL, 100);
+        RedisNearCache secondCache = nearCache(NearCacheInvalidation.CHANNEL, 100);
+        RedisClient first = client(firstCache);
+        RedisClient second = client(secondCache);
+        first.set(Arrays.asList("bits", "@"));
+        await(() -> cached(firstCache, first, "bits"));
+        await(() -> cached(secondCache, second, "bits"));
+
+        first.setbit("bits", "7", "1");
+        assertEquals("A", first.get("bits").toString());
+        await(() -> "A".equals(second.get("bits").toString()));
+
+        await(() -> cached(secondCache, second, "bits"));
+        long invalidations = secondCache.getInvalidations();
+        first.eval(Arrays.asList("return redis.call('SET', KEYS[1], ARGV[1])", "1", "bits", "B"));
+        await(() -> secondCache.getInvalidations() > invalidations);
+        assertEquals(0, secondCache.getSize());
+    }
+
+    @Test
+    public void testBoundedSize() {
+        RedisNearCache cache = nearCache(NearCacheInvalidation.TRACKING, 2);
+        RedisClient client = client(cache);
+
+        for (int i = 0; i < 5; i++) {
+            client.get("key" + i);
+        }
+        assertTrue(cache.getSize() <= 2);
+        assertEquals(3, cache.getEvictions());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyRead() throws InterruptedException {
+        RedisNearCache cache = nearCache(NearCacheInvalidation.TRACKING, 3);
+        RedisClient client = client(cache);
+        client.get("key0");
+        client.get("key1");
+        client.get("key2");
+        Thread.sleep(1);
+        client.get("key0");
+
+        client.get("key3");
+        assertEquals(1, cache.getEvictions());
+        long hits = cache.getHits();
+        client.get("key0");
+        assertEquals(hits + 1, cache.getHits());
+    }
+
+    @Test
+    public void testLookupWhenSubscribed() {
+        RedisNearCache cache = nearCache(NearCacheInvalidation.TRACKING, 100);
+        RedisClient client = client(cache);
+        ReactiveRedisClient reactiveClient = reactiveClient(cache);
+        client.set(Arrays.asList("key", "1"));
+        await(() -> cached(cache, client, "key"));
+
+        Uni<io.vertx.mutiny.redis.client.Response> read = reactiveClient.get("key");
+        client.set(Arrays.asList("key", "2"));
+        assertEquals("2", read.await().indefinitely().toString());
+    }
+
+    @Test
+    public void testCancelledLoadIsNotKept() {
+        RedisNearCache cache = nearCache(NearCacheInvalidation.TRACKING, 100);
+        RedisClient client = client(cache);
+
+        cache.get("key", key -> Uni.createFrom().nothing()).subscribe().with(response -> {
+        }).cancel();
+        assertEquals(0, cache.getSize());
+        await(() -> cached(cache, client, "key"));
+    }
+
+    @Test
+    public void testAbandonedLoadIsReplaced() {
+        RedisNearCache cache = nearCache(NearCacheInvalidation.TRACKING, 100, Duration.ofMillis(100));
+        RedisClient client = client(cache);
+
+        // the timeout of a blocking read doesn't cancel the load
+        assertThrows(TimeoutException.class, () -> cache.get("key", key -> Uni.createFrom().nothing())
+                .await().atMost(Duration.ofMillis(50)));
+        await(() -> cached(cache, client, "key"));
+    }
+
+    @Test
+    public void testTypedAndBatchWritesInvalidate() {
+        RedisNearCache cache = nearCache(NearCacheInvalidation.TRACKING, 100);
+        RedisClient client = client(cache);
+        ValueCommands<String, String> values = new TypedRedisClientImpl(new MutinyRedis(redis()), new ObjectMapper(), 10,
+                cache).value(Codecs.string(), Codecs.string());
+        client.set(Arrays.asList("key", "1"));
+        await(() -> cached(cache, client, "key"));
+
+        values.setAndAwait("key", "2");
+        assertEquals("2", client.get("key").toString());
+
+        await(() -> cached(cache, client, "key"));
+        RedisBatch batch = client.batch();
+        batch.set("key", "3");
+        batch.execute();
+        assertEquals("3", client.get("key").toString());
+    }
+
+    @Test
+    public void testWrittenKeys() {
+        assertEquals(Arrays.asList("a", "b"), RedisNearCache.writtenKeys(Command.MSET, Arrays.asList("a", "1", "b", "2")));
+        assertEquals(Arrays.asList("a", "b"), RedisNearCache.writtenKeys(Command.DEL, Arrays.asList("a", "b")));
+        assertEquals(Collections.singletonList("a"), RedisNearCache.writtenKeys(Command.SET, Arrays.asList("a", "1")));
+        assertTrue(RedisNearCache.writtenKeys(Command.GET, Collections.singletonList("a")).isEmpty());
+        assertEquals(Collections.singletonList("a"),
+                RedisNearCache.writtenKeys(Command.EVAL, Arrays.asList("return 1", "1", "a")));
+        assertNull(RedisNearCache.writtenKeys(Command.EVAL, Arrays.asList("return 1", "one")));
+        assertNull(RedisNearCache.writtenKeys(Command.FLUSHDB, Collections.emptyList()));
+        assertEquals(Collections.singletonList("dest"),
+                RedisNearCache.destinationKey(Arrays.asList("AND", "dest", "a", "b")));
+        assertEquals(Arrays.asList("a", "b"), RedisNearCache.scriptKeys(Arrays.asList("return 1", "2", "a", "b", "c")));
+        assertTrue(RedisNearCache.scriptKeys(Arrays.asList("return 1", "0", "a")).isEmpty());
+        assertNull(RedisNearCache.scriptKeys(Arrays.asList("return 1", "3", "a")));
+    }
+
+    @Test
+    public void testBypassedWhileDisconnected() {
+        RedisNearCache cache = nearCache(NearCacheInvalidation.TRACKING, 100);
+        RedisClient client = client(cache);
+        client.set(Arrays.asList("key", "1"));
+        await(() -> cached(cache, client, "key"));
+
+        standIn.disconnectClients();
+        await(() -> !cache.isConnected());
+        assertEquals(0, cache.getSize());
+        int gets = countGets();
+        client.get("key");
+        assertEquals(gets + 1, countGets());
+        assertEquals(0, cache.getSize());
+
+        await(() -> cached(cache, client, "key"));
+    }
+
+    private RedisNearCache nearCache(NearCacheInvalidation invalidation, int maxSize) {
+        return nearCache(invalidation, maxSize, Duration.ofSeconds(10));
+    }
+
+    private RedisNearCache nearCache(NearCacheInvalidation invalidation, int maxSize, Duration loadTimeout) {
+        NearCacheConfiguration config = new NearCacheConfiguration();
+        config.enabled = true;
+        config.maxSize = maxSize;
+        config.expireAfterWrite = Optional.empty();
+        config.invalidation = invalidation;
+        config.prefixes = Optional.empty();
+        config.channel = "invalidations";
+        RedisNearCache cache = new RedisNearCache(vertx, new MutinyRedis(redis()), options, config, loadTimeout);
+        caches.add(cache);
+        cache.start();
+        await(cache::isConnected);
+        return cache;
+    }
+
+    private RedisClient client(RedisNearCache cache) {
+        Redis redis = redis();
+        return new RedisClientImpl(new MutinyRedis(redis), new MutinyRedisAPI(RedisAPI.api(redis)), 10, cache);
+    }
+
+    private ReactiveRedisClient reactiveClient(RedisNearCache cache) {
+        Redis redis = redis();
+        return new ReactiveRedisClientImpl(new MutinyRedis(redis), new MutinyRedisAPI(RedisAPI.api(redis)), cache);
+    }
+
+    private Redis redis() {
+        Redis redis = Redis.createClient(vertx, options);
+        clients.add(redis);
+        return redis;
+    }
+
+    private static boolean cached(RedisNearCache cache, RedisClient client, String key) {
+        client.get(key);
+        return cache.getSize() == 1;
+    }
+
+    private int countGets() {
+        synchronized (standIn.getCommands()) {
+            return (int) standIn.getCommands().stream().filter("GET"::equals).count();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertFalse(System.currentTimeMillis() > deadline, "Condition not met in time");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
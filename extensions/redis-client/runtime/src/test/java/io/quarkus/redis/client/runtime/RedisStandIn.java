@@ -0,0 +1,381 @@
+package io.quarkus.redis.client.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+
+/**
+ * A minimal in-memory Redis stand-in, speaking RESP2 and implementing the commands used by the tests.
+ * <p>
+ * Keys, fields and values are kept as ISO-8859-1 strings, which map every byte to one char, so binary values are
+ * preserved. Pub/sub and the broadcasting mode of {@code CLIENT TRACKING} (with {@code REDIRECT}) are supported.
+ */
+class RedisStandIn implements AutoCloseable {
+
+    private static final Set<String> WRITE_COMMANDS = new HashSet<>(Arrays.asList("SET", "MSET", "DEL", "HSET", "HDEL", "LPUSH",
+            "RPUSH", "LPOP", "RPOP", "ZADD", "ZINCRBY", "ZREM", "SETBIT"));
+
+    private final Map<String, Object> data = new HashMap<>();
+    private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Long, NetSocket> connections = new HashMap<>();
+    private final Map<String, List<NetSocket>> subscribers = new HashMap<>();
+    private final Set<Long> trackingRedirects = new HashSet<>();
+    private long lastConnectionId;
+    private final NetServer server;
+
+    RedisStandIn(Vertx vertx) throws Exception {
+        server = vertx.createNetServer().connectHandler(this::handle);
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        server.listen(0, "localhost", ar -> {
+            if (ar.succeeded()) {
+                started.complete(null);
+            } else {
+                started.completeExceptionally(ar.cause());
+            }
+        });
+        started.get(10, TimeUnit.SECONDS);
+    }
+
+    String getConnectionString() {
+        return "redis://localhost:" + server.actualPort();
+    }
+
+    /**
+     * @return the names of the commands received so far
+     */
+    List<String> getCommands() {
+        return commands;
+    }
+
+    /**
+     * Closes the connections of the clients, as a restart of the server would.
+     */
+    synchronized void disconnectClients() {
+        for (NetSocket socket : new ArrayList<>(connections.values())) {
+            socket.close();
+        }
+    }
+
+    private void handle(NetSocket socket) {
+        long id;
+        synchronized (this) {
+            id = ++lastConnectionId;
+            connections.put(id, socket);
+        }
+        socket.closeHandler(ignored -> disconnected(id, socket));
+        Buffer[] pending = { Buffer.buffer() };
+        socket.handler(received -> {
+            pending[0].appendBuffer(received);
+            int[] position = { 0 };
+            List<String> request;
+            Buffer replies = Buffer.buffer();
+            while ((request = parse(pending[0], position)) != null) {
+                execute(id, socket, request, replies);
+            }
+            pending[0] = pending[0].getBuffer(position[0], pending[0].length());
+            if (replies.length() > 0) {
+                socket.write(replies);
+            }
+        });
+    }
+
+    private synchronized void disconnected(long id, NetSocket socket) {
+        connections.remove(id);
+        trackingRedirects.remove(id);
+        for (List<NetSocket> sockets : subscribers.values()) {
+            sockets.remove(socket);
+        }
+    }
+
+    private static List<String> parse(Buffer buffer, int[] position) {
+        int pos = position[0];
+        Object[] line = readLine(buffer, pos);
+        if (line == null) {
+            return null;
+        }
+        int count = Integer.parseInt(((String) line[0]).substring(1));
+        pos = (Integer) line[1];
+        List<String> request = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            line = readLine(buffer, pos);
+            if (line == null) {
+                return null;
+            }
+            int length = Integer.parseInt(((String) line[0]).substring(1));
+            pos = (Integer) line[1];
+            if (buffer.length() < pos + length + 2) {
+                return null;
+            }
+            request.add(buffer.getString(pos, pos + length, StandardCharsets.ISO_8859_1.name()));
+            pos += length + 2;
+        }
+        position[0] = pos;
+        return request;
+    }
+
+    private static Object[] readLine(Buffer buffer, int start) {
+        for (int i = start; i + 1 < buffer.length(); i++) {
+            if (buffer.getByte(i) == '\r' && buffer.getByte(i + 1) == '\n') {
+                return new Object[] { buffer.getString(start, i), i + 2 };
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void execute(long id, NetSocket socket, List<String> request, Buffer out) {
+        String command = request.get(0).toUpperCase(Locale.ROOT);
+        commands.add(command);
+        String key = request.size() > 1 ? request.get(1) : null;
+        if (WRITE_COMMANDS.contains(command)) {
+            List<String> keys = new ArrayList<>();
+            for (int i = 1; i < request.size(); i += command.equals("MSET") ? 2 : 1) {
+                keys.add(request.get(i));
+                if (!command.equals("DEL") && !command.equals("MSET")) {
+                    break;
+                }
+            }
+            for (long redirect : trackingRedirects) {
+                Buffer message = Buffer.buffer("*3\r\n");
+                bulk(message, "message");
+                bulk(message, RedisNearCache.TRACKING_CHANNEL);
+                array(message, keys);
+                connections.get(redirect).write(message);
+            }
+        }
+        switch (command) {
+            case "CLIENT":
+                if (key.equalsIgnoreCase("ID")) {
+                    integer(out, id);
+                } else {
+                    // CLIENT TRACKING ON REDIRECT <id> BCAST
+                    trackingRedirects.add(Long.parseLong(request.get(4)));
+                    out.appendString("+OK\r\n");
+                }
+                break;
+            case "SUBSCRIBE":
+                subscribers.computeIfAbsent(key, k -> new ArrayList<>()).add(socket);
+                out.appendString("*3\r\n");
+                bulk(out, "subscribe");
+                bulk(out, key);
+                integer(out, 1);
+                break;
+            case "PUBLISH": {
+                List<NetSocket> sockets = subscribers.getOrDefault(key, Collections.emptyList());
+                for (NetSocket subscriber : sockets) {
+                    Buffer message = Buffer.buffer("*3\r\n");
+                    bulk(message, "message");
+                    bulk(message, key);
+                    bulk(message, request.get(2));
+                    subscriber.write(message);
+                }
+                integer(out, sockets.size());
+                break;
+            }
+            case "GET":
+                bulk(out, (String) data.get(key));
+                break;
+            case "SET": {
+                boolean nx = request.size() > 3 && request.subList(3, request.size()).contains("NX");
+                if (nx && data.containsKey(key)) {
+                    bulk(out, null);
+                } else {
+                    data.put(key, request.get(2));
+                    out.appendString("+OK\r\n");
+                }
+                break;
+            }
+            case "MSET":
+                for (int i = 1; i + 1 < request.size(); i += 2) {
+                    data.put(request.get(i), request.get(i + 1));
+                }
+                out.appendString("+OK\r\n");
+                break;
+            case "MGET":
+                out.appendString("*" + (request.size() - 1) + "\r\n");
+                for (String k : request.subList(1, request.size())) {
+                    bulk(out, (String) data.get(k));
+                }
+                break;
+            case "DEL":
+                integer(out, data.remove(key) != null ? 1 : 0);
+                break;
+            case "SETBIT": {
+                int offset = Integer.parseInt(request.get(2));
+                StringBuilder value = new StringBuilder((String) data.getOrDefault(key, ""));
+                while (value.length() <= offset / 8) {
+                    value.append('\0');
+                }
+                int mask = 0x80 >> (offset % 8);
+                char current = value.charAt(offset / 8);
+                value.setCharAt(offset / 8, (char) (request.get(3).equals("1") ? current | mask : current & ~mask));
+                data.put(key, value.toString());
+                integer(out, (current & mask) != 0 ? 1 : 0);
+                break;
+            }
+            case "HSET": {
+                Map<String, String> hash = (Map<String, String>) data.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                int added = 0;
+                for (int i = 2; i + 1 < request.size(); i += 2) {
+                    if (hash.put(request.get(i), request.get(i + 1)) == null) {
+                        added++;
+                    }
+                }
+                integer(out, added);
+                break;
+            }
+            case "HGET":
+                bulk(out, hash(key).get(request.get(2)));
+                break;
+            case "HGETALL": {
+                Map<String, String> hash = hash(key);
+                out.appendString("*" + hash.size() * 2 + "\r\n");
+                for (Map.Entry<String, String> entry : hash.entrySet()) {
+                    bulk(out, entry.getKey());
+                    bulk(out, entry.getValue());
+                }
+                break;
+            }
+            case "HDEL":
+                integer(out, hash(key).remove(request.get(2)) != null ? 1 : 0);
+                break;
+            case "HEXISTS":
+                integer(out, hash(key).containsKey(request.get(2)) ? 1 : 0);
+                break;
+            case "LPUSH":
+            case "RPUSH": {
+                LinkedList<String> list = (LinkedList<String>) data.computeIfAbsent(key, k -> new LinkedList<>());
+                if (command.equals("LPUSH")) {
+                    list.addFirst(request.get(2));
+                } else {
+                    list.addLast(request.get(2));
+                }
+                integer(out, list.size());
+                break;
+            }
+            case "LPOP":
+            case "RPOP": {
+                LinkedList<String> list = list(key);
+                bulk(out, list.isEmpty() ? null : command.equals("LPOP") ? list.removeFirst() : list.removeLast());
+                break;
+            }
+            case "LRANGE":
+                array(out, range(list(key), request.get(2), request.get(3)));
+                break;
+            case "LLEN":
+                integer(out, list(key).size());
+                break;
+            case "ZADD":
+            case "ZINCRBY": {
+                Map<String, Double> set = (Map<String, Double>) data.computeIfAbsent(key, k -> new HashMap<>());
+                double score = Double.parseDouble(request.get(2));
+                Double previous = set.get(request.get(3));
+                if (command.equals("ZADD")) {
+                    set.put(request.get(3), score);
+                    integer(out, previous == null ? 1 : 0);
+                } else {
+                    double updated = (previous == null ? 0 : previous) + score;
+                    set.put(request.get(3), updated);
+                    bulk(out, Double.toString(updated));
+                }
+                break;
+            }
+            case "ZSCORE": {
+                Double score = sortedSet(key).get(request.get(2));
+                bulk(out, score == null ? null : score.toString());
+                break;
+            }
+            case "ZRANGE":
+            case "ZREVRANGE": {
+                List<String> members = new ArrayList<>(sortedSet(key).keySet());
+                Map<String, Double> set = sortedSet(key);
+                members.sort((a, b) -> Double.compare(set.get(a), set.get(b)));
+                if (command.equals("ZREVRANGE")) {
+                    Collections.reverse(members);
+                }
+                array(out, range(members, request.get(2), request.get(3)));
+                break;
+            }
+            case "ZREM":
+                integer(out, sortedSet(key).remove(request.get(2)) != null ? 1 : 0);
+                break;
+            case "ZCARD":
+                integer(out, sortedSet(key).size());
+                break;
+            default:
+                out.appendString("+OK\r\n");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> hash(String key) {
+        return (Map<String, String>) data.getOrDefault(key, new LinkedHashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private LinkedList<String> list(String key) {
+        return (LinkedList<String>) data.getOrDefault(key, new LinkedList<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Double> sortedSet(String key) {
+        return (Map<String, Double>) data.getOrDefault(key, new HashMap<>());
+    }
+
+    private static List<String> range(List<String> list, String start, String stop) {
+        int from = Integer.parseInt(start);
+        int to = Integer.parseInt(stop);
+        if (from < 0) {
+            from += list.size();
+        }
+        if (to < 0) {
+            to += list.size();
+        }
+        to = Math.min(to, list.size() - 1);
+        return from > to ? Collections.emptyList() : new ArrayList<>(list.subList(Math.max(0, from), to + 1));
+    }
+
+    private static void bulk(Buffer out, String value) {
+        if (value == null) {
+            out.appendString("$-1\r\n");
+        } else {
+            out.appendString("$" + value.length() + "\r\n");
+            out.appendString(value, StandardCharsets.ISO_8859_1.name());
+            out.appendString("\r\n");
+        }
+    }
+
+    private static void integer(Buffer out, long value) {
+        out.appendString(":" + value + "\r\n");
+    }
+
+    private static void array(Buffer out, List<String> values) {
+        out.appendString("*" + values.size() + "\r\n");
+        for (String value : values) {
+            bulk(out, value);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        server.close(ar -> closed.complete(null));
+        closed.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkus.redis.client.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.redis.client.typed.Codecs;
+import io.quarkus.redis.client.typed.HashCommands;
+import io.quarkus.redis.client.typed.ListCommands;
+import io.quarkus.redis.client.typed.SortedSetCommands;
+import io.quarkus.redis.client.typed.TypedRedisClient;
+import io.quarkus.redis.client.typed.ValueCommands;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisOptions;
+
+public class TypedRedisClientTest {
+
+    private static Vertx vertx;
+    private static RedisStandIn standIn;
+    private static Redis redis;
+    private static TypedRedisClient client;
+
+    @BeforeAll
+    public static void start() throws Exception {
+        vertx = Vertx.vertx();
+        standIn = new RedisStandIn(vertx);
+        redis = Redis.createClient(vertx, new RedisOptions().setConnectionString(standIn.getConnectionString()));
+        client = new TypedRedisClientImpl(new MutinyRedis(redis), new ObjectMapper(), 10, null);
+    }
+
+    @AfterAll
+    public static void stop() throws Exception {
+        redis.close();
+        standIn.close();
+        vertx.close();
+    }
+
+    @Test
+    public void testJsonValues() {
+        ValueCommands<String, Person> values = client.value(Person.class);
+        assertNull(values.getAndAwait("person:1"));
+        values.setAndAwait("person:1", new Person("Jane", 42));
+        assertEquals(new Person("Jane", 42), values.getAndAwait("person:1"));
+        assertFalse(values.setIfAbsentAndAwait("person:1", new Person("John", 24)));
+        assertTrue(values.setIfAbsentAndAwait("person:2", new Person("John", 24)));
+
+        Map<String, Person> people = values.mgetAndAwait(Arrays.asList("person:1", "person:3", "person:2"));
+        assertEquals(Arrays.asList("person:1", "person:2"), Arrays.asList(people.keySet().toArray()));
+        assertEquals("John", people.get("person:2").name);
+
+        assertTrue(values.deleteAndAwait("person:1"));
+        assertFalse(values.deleteAndAwait("person:1"));
+    }
+
+    @Test
+    public void testBinaryValues() {
+        ValueCommands<String, byte[]> values = client.value(byte[].class);
+        byte[] data = { 0, (byte) 0xff, '\r', '\n', 42 };
+        values.setAndAwait("binary", data);
+        assertArrayEquals(data, values.getAndAwait("binary"));
+    }
+
+    @Test
+    public void testHash() {
+        HashCommands<String, String, Long> hash = client.hash(Codecs.string(), Codecs.string(),
+                Codecs.json(new ObjectMapper(), Long.class));
+        assertTrue(hash.hsetAndAwait("counters", "a", 1L));
+        assertFalse(hash.hsetAndAwait("counters", "a", 2L));
+        Map<String, Long> more = new LinkedHashMap<>();
+        more.put("b", 3L);
+        more.put("c", 4L);
+        assertEquals(2L, hash.hsetAndAwait("counters", more));
+        assertEquals(2L, hash.hgetAndAwait("counters", "a"));
+        assertTrue(hash.hexistsAndAwait("counters", "b"));
+        assertTrue(hash.hdelAndAwait("counters", "b"));
+        Map<String, Long> all = hash.hgetallAndAwait("counters");
+        assertEquals(2, all.size());
+        assertEquals(4L, all.get("c"));
+    }
+
+    @Test
+    public void testList() {
+        ListCommands<String, String> list = client.list(String.class);
+        assertEquals(1L, list.rpushAndAwait("queue", "b"));
+        assertEquals(2L, list.lpushAndAwait("queue", "a"));
+        assertEquals(3L, list.rpushAndAwait("queue", "c"));
+        assertEquals(Arrays.asList("a", "b", "c"), list.lrangeAndAwait("queue", 0, -1));
+        assertEquals("a", list.lpopAndAwait("queue"));
+        assertEquals("c", list.rpopAndAwait("queue"));
+        assertEquals(1L, list.llenAndAwait("queue"));
+    }
+
+    @Test
+    public void testSortedSet() {
+        SortedSetCommands<String, Person> set = client.sortedSet(Person.class);
+        Person jane = new Person("Jane", 42);
+        Person john = new Person("John", 24);
+        assertTrue(set.zaddAndAwait("scores", 10, jane));
+        assertTrue(set.zaddAndAwait("scores", 5, john));
+        assertEquals(12.5, set.zincrbyAndAwait("scores", 7.5, john));
+        assertEquals(12.5, set.zscoreAndAwait("scores", john));
+        assertNull(set.zscoreAndAwait("scores", new Person("Nobody", 0)));
+        assertEquals(Arrays.asList(jane, john), set.zrangeAndAwait("scores", 0, -1));
+        assertEquals(Collections.singletonList(john), set.zrevrangeAndAwait("scores", 0, 0));
+        assertTrue(set.zremAndAwait("scores", jane));
+        assertEquals(1L, set.zcardAndAwait("scores"));
+    }
+
+    public static class Person {
+        public String name;
+        public int age;
+
+        public Person() {
+        }
+
+        Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Person)) {
+                return false;
+            }
+            Person other = (Person) o;
+            return age == other.age && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, age);
+        }
+    }
+}
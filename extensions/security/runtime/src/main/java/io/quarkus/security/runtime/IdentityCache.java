@@ -0,0 +1,159 @@
+package io.quarkus.security.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * A bounded cache of the identities created from verified credentials, each entry expiring at a given time.
+ * <p>
+ * The keys are expected to be digests of the credentials, see {@link #digest(String...)}, so that the cache does not keep
+ * the credentials themselves. When the cache is full, the expired entries are removed, then arbitrary ones if it is still full.
+ */
+public class IdentityCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maxSize;
+
+    public IdentityCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the cached identity, or {@code null} if it is not cached or expired
+     */
+    public SecurityIdentity get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.identity;
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * @param expiresAt the time in milliseconds since the epoch after which the identity is no longer returned
+     */
+    public void put(String key, SecurityIdentity identity, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        entries.put(key, new Entry(identity, expiresAt));
+        evictIfNeeded();
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes the entries whose identity matches the given predicate, such as the identities of a given principal.
+     */
+    public void invalidateIf(Predicate<SecurityIdentity> predicate) {
+        entries.values().removeIf(entry -> predicate.test(entry.identity));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Registers the hits, misses, evictions and size of this cache, tagged with the given cache name.
+     */
+    public void registerMetrics(MetricsFactory metricsFactory, String name) {
+        metricsFactory.builder("security.identity.cache.hits")
+                .description("Number of authentications answered from the identity cache.")
+                .tag("cache", name)
+                .buildCounter(this::getHits);
+        metricsFactory.builder("security.identity.cache.misses")
+                .description("Number of authentications whose identity was not cached.")
+                .tag("cache", name)
+                .buildCounter(this::getMisses);
+        metricsFactory.builder("security.identity.cache.evictions")
+                .description("Number of identities removed from the cache because it was full.")
+                .tag("cache", name)
+                .buildCounter(this::getEvictions);
+        metricsFactory.builder("security.identity.cache.size")
+                .description("Number of identities in the cache.")
+                .tag("cache", name)
+                .buildGauge(this::getSize);
+    }
+
+    /**
+     * Computes a SHA-256 digest of the given values, to be used as a key.
+     */
+    public static String digest(String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+                // separates the values, so that ("ab", "c") and ("a", "bc") differ
+                digest.update((byte) 0);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        // evicts a tenth of the entries at once, so that a full cache is not scanned on every put
+        int targetSize = maxSize - maxSize / 10;
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > targetSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        Entry(SecurityIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -22,6 +22,7 @@ public class QuarkusSecurityIdentity implements SecurityIdentity {
     private final Set<Credential> credentials;
     private final Map<String, Object> attributes;
     private final List<Function<Permission, Uni<Boolean>>> permissionCheckers;
+    private volatile RoleBits roleBits;
 
     private QuarkusSecurityIdentity(Builder builder) {
         this.principal = builder.principal;
@@ -51,6 +52,20 @@ public class QuarkusSecurityIdentity implements SecurityIdentity {
         return roles.contains(role);
     }
 
+    /**
+     * @return the bits of the roles of this identity which have been registered in the {@link RoleIndex}
+     */
+    public long getRoleBits() {
+        RoleBits current = roleBits;
+        int version = RoleIndex.version();
+        if (current == null || current.version != version) {
+            // computed again when roles have been registered since
+            current = new RoleBits(version, RoleIndex.bits(roles));
+            roleBits = current;
+        }
+        return current.bits;
+    }
+
     @Override
     public <T extends Credential> T getCredential(Class<T> credentialType) {
         for (Credential i : credentials) {
@@ -128,6 +143,16 @@ public class QuarkusSecurityIdentity implements SecurityIdentity {
                 .setPrincipal(identity.getPrincipal());
     }
 
+    private static final class RoleBits {
+        final int version;
+        final long bits;
+
+        RoleBits(int version, long bits) {
+            this.version = version;
+            this.bits = bits;
+        }
+    }
+
     public static class Builder {
 
         Principal principal;
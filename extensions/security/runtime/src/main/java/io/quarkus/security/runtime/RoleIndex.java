@@ -0,0 +1,61 @@
+package io.quarkus.security.runtime;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns a bit to each role named by a security check, so that the roles of a {@link QuarkusSecurityIdentity} can be
+ * checked by comparing masks, see {@link QuarkusSecurityIdentity#getRoleBits()}.
+ * <p>
+ * The roles are registered when the checks are recorded, only the first 64 of them get a bit. The index is cleared when
+ * the application stops, so that a dev mode restart starts from the roles of the new application.
+ */
+public final class RoleIndex {
+
+    private static final Map<String, Long> BITS = new ConcurrentHashMap<>();
+    private static volatile int version;
+
+    private RoleIndex() {
+    }
+
+    /**
+     * @return the bit of the given role, or {@code 0} if all the bits are already taken
+     */
+    public static synchronized long register(String role) {
+        Long bit = BITS.get(role);
+        if (bit != null) {
+            return bit;
+        }
+        if (BITS.size() == Long.SIZE) {
+            return 0;
+        }
+        bit = 1L << BITS.size();
+        BITS.put(role, bit);
+        version++;
+        return bit;
+    }
+
+    static synchronized void clear() {
+        BITS.clear();
+        version++;
+    }
+
+    /**
+     * @return a number which changes each time a role is registered or the index is cleared
+     */
+    static int version() {
+        return version;
+    }
+
+    static long bits(Set<String> roles) {
+        long bits = 0;
+        for (String role : roles) {
+            Long bit = BITS.get(role);
+            if (bit != null) {
+                bits |= bit;
+            }
+        }
+        return bits;
+    }
+}
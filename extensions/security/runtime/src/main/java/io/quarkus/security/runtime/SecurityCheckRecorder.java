@@ -1,6 +1,7 @@
 package io.quarkus.security.runtime;
 
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.security.runtime.interceptor.SecurityCheckStorage;
 import io.quarkus.security.runtime.interceptor.SecurityCheckStorageBuilder;
@@ -46,8 +47,16 @@ public class SecurityCheckRecorder {
         builder.getValue().registerCheck(className, methodName, parameterTypes, securityCheck);
     }
 
-    public void create(RuntimeValue<SecurityCheckStorageBuilder> builder) {
+    public void create(RuntimeValue<SecurityCheckStorageBuilder> builder, ShutdownContext shutdown) {
         storage = builder.getValue().create();
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                // the roles of the checks are registered again when the application is restarted in dev mode
+                RolesAllowedCheck.clearCache();
+                RoleIndex.clear();
+            }
+        });
     }
 
 }
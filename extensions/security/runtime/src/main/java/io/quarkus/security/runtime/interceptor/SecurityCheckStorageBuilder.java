@@ -5,6 +5,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.quarkus.security.runtime.interceptor.check.SecurityCheck;
 
@@ -19,12 +21,19 @@ public class SecurityCheckStorageBuilder {
     }
 
     public SecurityCheckStorage create() {
+        // the checks are looked up by description once per method, then by the method itself
+        Map<Method, Optional<SecurityCheck>> checksByMethod = new ConcurrentHashMap<>();
         return new SecurityCheckStorage() {
             @Override
             public SecurityCheck getSecurityCheck(Method method) {
-                MethodDescription descriptor = new MethodDescription(method.getDeclaringClass().getName(), method.getName(),
-                        typesAsStrings(method.getParameterTypes()));
-                return securityChecks.get(descriptor);
+                Optional<SecurityCheck> securityCheck = checksByMethod.get(method);
+                if (securityCheck == null) {
+                    MethodDescription descriptor = new MethodDescription(method.getDeclaringClass().getName(),
+                            method.getName(), typesAsStrings(method.getParameterTypes()));
+                    securityCheck = Optional.ofNullable(securityChecks.get(descriptor));
+                    checksByMethod.put(method, securityCheck);
+                }
+                return securityCheck.orElse(null);
             }
         };
     }
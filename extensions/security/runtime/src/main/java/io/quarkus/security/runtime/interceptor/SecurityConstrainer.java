@@ -6,6 +6,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.SecurityIdentityAssociation;
+import io.quarkus.security.runtime.SecurityIdentityProxy;
 import io.quarkus.security.runtime.interceptor.check.SecurityCheck;
 
 /**
@@ -20,11 +22,23 @@ public class SecurityConstrainer {
     @Inject
     SecurityCheckStorage storage;
 
+    @Inject
+    SecurityIdentityAssociation association;
+
     public void check(Method method, Object[] parameters) {
 
         SecurityCheck securityCheck = storage.getSecurityCheck(method);
         if (securityCheck != null) {
-            securityCheck.apply(identity, method, parameters);
+            securityCheck.apply(resolveIdentity(), method, parameters);
+        }
+    }
+
+    private SecurityIdentity resolveIdentity() {
+        if (identity instanceof SecurityIdentityProxy) {
+            // resolves the current identity once, rather than through the request scoped proxy for each role checked
+            return association.getIdentity();
         }
+        // the identity bean has been replaced, e.g. by a test
+        return identity;
     }
 }
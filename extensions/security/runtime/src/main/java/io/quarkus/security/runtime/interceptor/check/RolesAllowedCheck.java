@@ -12,6 +12,8 @@ import java.util.function.Function;
 import io.quarkus.security.ForbiddenException;
 import io.quarkus.security.UnauthorizedException;
 import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.security.runtime.RoleIndex;
 
 public class RolesAllowedCheck implements SecurityCheck {
 
@@ -24,9 +26,25 @@ public class RolesAllowedCheck implements SecurityCheck {
     private static final Map<Collection<String>, RolesAllowedCheck> CACHE = new ConcurrentHashMap<>();
 
     private final String[] allowedRoles;
+    private final boolean allowsAuthenticated;
+    /**
+     * Bits of the allowed roles in the {@link RoleIndex}, {@code 0} if one of them has no bit
+     */
+    private final long allowedRoleBits;
 
     private RolesAllowedCheck(String[] allowedRoles) {
         this.allowedRoles = allowedRoles;
+        this.allowsAuthenticated = Arrays.asList(allowedRoles).contains("**");
+        long bits = 0;
+        for (String role : allowedRoles) {
+            long bit = RoleIndex.register(role);
+            if (bit == 0) {
+                bits = 0;
+                break;
+            }
+            bits |= bit;
+        }
+        this.allowedRoleBits = bits;
     }
 
     public static RolesAllowedCheck of(String[] allowedRoles) {
@@ -38,6 +56,13 @@ public class RolesAllowedCheck implements SecurityCheck {
         });
     }
 
+    /**
+     * Drops the cached checks, along with the role bits they have computed.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
     private static Collection<String> getCollectionForKey(String[] allowedRoles) {
         if (allowedRoles.length == 0) { // shouldn't happen, but lets be on the safe side
             return Collections.emptyList();
@@ -50,10 +75,19 @@ public class RolesAllowedCheck implements SecurityCheck {
 
     @Override
     public void apply(SecurityIdentity identity, Method method, Object[] parameters) {
-        for (String role : allowedRoles) {
-            if (identity.hasRole(role) || ("**".equals(role) && !identity.isAnonymous())) {
+        if (allowedRoleBits != 0 && identity instanceof QuarkusSecurityIdentity) {
+            if ((((QuarkusSecurityIdentity) identity).getRoleBits() & allowedRoleBits) != 0) {
                 return;
             }
+        } else {
+            for (String role : allowedRoles) {
+                if (identity.hasRole(role)) {
+                    return;
+                }
+            }
+        }
+        if (allowsAuthenticated && !identity.isAnonymous()) {
+            return;
         }
         if (identity.isAnonymous()) {
             throw new UnauthorizedException();
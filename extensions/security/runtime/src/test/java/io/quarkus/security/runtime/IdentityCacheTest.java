@@ -0,0 +1,107 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+public class IdentityCacheTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        IdentityCache cache = new IdentityCache(10);
+        SecurityIdentity identity = identity("alice");
+        String key = IdentityCache.digest("token");
+
+        assertNull(cache.get(key));
+        cache.put(key, identity, System.currentTimeMillis() + 60_000);
+        assertSame(identity, cache.get(key));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testExpiredIdentitiesAreNotReturned() {
+        IdentityCache cache = new IdentityCache(10);
+        cache.put("expired", identity("alice"), System.currentTimeMillis() - 1);
+        cache.put("expiring", identity("bob"), System.currentTimeMillis() + 50);
+
+        assertNull(cache.get("expired"));
+        assertEquals(1, cache.getSize());
+        waitUntilExpired();
+        assertNull(cache.get("expiring"));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testEvictionWhenFull() {
+        IdentityCache cache = new IdentityCache(10);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 11; i++) {
+            cache.put("key" + i, identity("user" + i), expiresAt);
+        }
+        assertEquals(9, cache.getSize());
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    public void testExpiredIdentitiesAreEvictedFirst() {
+        IdentityCache cache = new IdentityCache(10);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put("expiring", identity("alice"), System.currentTimeMillis() + 50);
+        for (int i = 0; i < 9; i++) {
+            cache.put("key" + i, identity("user" + i), expiresAt);
+        }
+        waitUntilExpired();
+
+        // removing the expired identity is enough to make room
+        cache.put("key9", identity("user9"), expiresAt);
+        assertEquals(10, cache.getSize());
+        assertEquals(0, cache.getEvictions());
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(cache.get("key" + i));
+        }
+    }
+
+    @Test
+    public void testInvalidation() {
+        IdentityCache cache = new IdentityCache(10);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put("alice", identity("alice"), expiresAt);
+        cache.put("bob", identity("bob"), expiresAt);
+
+        cache.put("carol", identity("carol"), expiresAt);
+
+        cache.invalidate("alice");
+        assertNull(cache.get("alice"));
+        cache.invalidateIf(identity -> identity.getPrincipal().getName().equals("carol"));
+        assertNull(cache.get("carol"));
+        assertEquals(1, cache.getSize());
+        cache.invalidateAll();
+        assertNull(cache.get("bob"));
+    }
+
+    @Test
+    public void testDigestSeparatesValues() {
+        assertEquals(IdentityCache.digest("ab", "c"), IdentityCache.digest("ab", "c"));
+        assertNotEquals(IdentityCache.digest("ab", "c"), IdentityCache.digest("a", "bc"));
+    }
+
+    private static SecurityIdentity identity(String name) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal(name)).build();
+    }
+
+    private static void waitUntilExpired() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
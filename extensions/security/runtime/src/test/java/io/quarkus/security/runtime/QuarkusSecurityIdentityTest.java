@@ -1,6 +1,7 @@
 package io.quarkus.security.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,4 +26,24 @@ public class QuarkusSecurityIdentityTest {
         assertEquals(identity1.getCredentials(), identity2.getCredentials());
         assertEquals(identity1.getRoles(), identity2.getRoles());
     }
+
+    @Test
+    public void testRoleBitsAfterClear() {
+        RoleIndex.clear();
+        QuarkusSecurityIdentity identity = QuarkusSecurityIdentity.builder()
+                .setPrincipal(new QuarkusPrincipal("alice"))
+                .addRole("admin")
+                .build();
+        long admin = RoleIndex.register("admin");
+        assertNotEquals(0, admin);
+        assertEquals(admin, identity.getRoleBits());
+
+        // a restarted application registers its own roles, the bits computed before are not used anymore
+        RoleIndex.clear();
+        assertEquals(0, identity.getRoleBits());
+        RoleIndex.register("user");
+        long newAdmin = RoleIndex.register("admin");
+        assertNotEquals(admin, newAdmin);
+        assertEquals(newAdmin, identity.getRoleBits());
+    }
 }
@@ -0,0 +1,35 @@
+package io.quarkus.security.runtime.interceptor.check;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.ForbiddenException;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+
+public class RolesAllowedCheckTest {
+
+    @Test
+    public void testAllowedRoles() {
+        SecurityIdentity admin = identity("admin");
+        SecurityIdentity user = identity("user");
+
+        RolesAllowedCheck check = RolesAllowedCheck.of(new String[] { "admin", "manager" });
+        check.apply(admin, null, null);
+        assertThrows(ForbiddenException.class, () -> check.apply(user, null, null));
+
+        // roles registered after the identity has been created are taken into account
+        RolesAllowedCheck.of(new String[] { "user" }).apply(user, null, null);
+    }
+
+    @Test
+    public void testAnyAuthenticatedRole() {
+        RolesAllowedCheck.of(new String[] { "**" }).apply(identity("user"), null, null);
+    }
+
+    private static SecurityIdentity identity(String role) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal(role)).addRole(role).build();
+    }
+}
@@ -15,6 +15,7 @@ import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem.BeanConfiguratorBuildItem;
 import io.quarkus.arc.processor.BeanConfigurator;
@@ -26,11 +27,16 @@ import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.security.deployment.JCAProviderBuildItem;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRecorder;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRuntimeConfig;
 import io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism;
 import io.quarkus.smallrye.jwt.runtime.auth.JwtPrincipalProducer;
 import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
@@ -131,6 +137,19 @@ class SmallRyeJwtProcessor {
         return new JCAProviderBuildItem(config.rsaSigProvider);
     }
 
+    /**
+     * Create the cache of the verified tokens, if enabled, and publish its metrics
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupIdentityCache(SmallRyeJwtRecorder recorder, SmallRyeJwtRuntimeConfig runtimeConfig,
+            BeanContainerBuildItem beanContainer, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.enabled) {
+            recorder.setupIdentityCache(runtimeConfig);
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerIdentityCacheMetrics()));
+        }
+    }
+
     @BuildStep
     void registerOptionalClaimProducer(BeanRegistrationPhaseBuildItem beanRegistrationPhase,
             BuildProducer<BeanConfiguratorBuildItem> beanConfigurator) {
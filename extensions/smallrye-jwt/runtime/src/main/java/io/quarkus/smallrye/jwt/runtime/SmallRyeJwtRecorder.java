@@ -0,0 +1,32 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+
+@Recorder
+public class SmallRyeJwtRecorder {
+
+    public void setupIdentityCache(SmallRyeJwtRuntimeConfig config) {
+        if (config.identityCacheSize > 0) {
+            MpJwtValidator validator = Arc.container().instance(MpJwtValidator.class).get();
+            validator.setIdentityCache(new IdentityCache(config.identityCacheSize));
+        }
+    }
+
+    public Consumer<MetricsFactory> registerIdentityCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                IdentityCache identityCache = Arc.container().instance(MpJwtValidator.class).get().getIdentityCache();
+                if (identityCache != null) {
+                    identityCache.registerMetrics(metricsFactory, "smallrye-jwt");
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * runtime configuration
+ */
+@ConfigRoot(name = "smallrye-jwt", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeJwtRuntimeConfig {
+
+    /**
+     * The maximum number of verified bearer tokens for which the security identity is kept in memory, until the token
+     * expires. A request with a cached token is not parsed and verified again.
+     * The cache is keyed by a digest of the token and is disabled when set to 0.
+     */
+    @ConfigItem(defaultValue = "0")
+    public int identityCacheSize;
+}
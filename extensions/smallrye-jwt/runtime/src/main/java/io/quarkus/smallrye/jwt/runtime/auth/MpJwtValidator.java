@@ -13,6 +13,7 @@ import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
@@ -29,6 +30,11 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     final JWTParser parser;
 
+    /**
+     * The identities of the verified tokens, {@code null} if they are not cached
+     */
+    private volatile IdentityCache identityCache;
+
     public MpJwtValidator() {
         this.parser = null;
     }
@@ -46,14 +52,27 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     @Override
     public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        String token = request.getToken().getToken();
+        IdentityCache identityCache = this.identityCache;
+        String key = identityCache != null ? IdentityCache.digest(token) : null;
+        if (key != null) {
+            SecurityIdentity cached = identityCache.get(key);
+            if (cached != null) {
+                return Uni.createFrom().item(cached);
+            }
+        }
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
             @Override
             public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
                 try {
-                    JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
-                    uniEmitter.complete(QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
+                    JsonWebToken jwtPrincipal = parser.parse(token);
+                    SecurityIdentity identity = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
                             .addRoles(jwtPrincipal.getGroups())
-                            .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build());
+                            .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build();
+                    if (key != null && jwtPrincipal.getExpirationTime() > 0) {
+                        identityCache.put(key, identity, jwtPrincipal.getExpirationTime() * 1000);
+                    }
+                    uniEmitter.complete(identity);
 
                 } catch (ParseException e) {
                     log.debug("Authentication failed", e);
@@ -63,4 +82,12 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
         });
 
     }
+
+    public IdentityCache getIdentityCache() {
+        return identityCache;
+    }
+
+    public void setIdentityCache(IdentityCache identityCache) {
+        this.identityCache = identityCache;
+    }
 }
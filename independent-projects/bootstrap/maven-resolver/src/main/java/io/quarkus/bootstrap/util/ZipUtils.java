@@ -17,6 +17,7 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.zip.ZipError;
 
@@ -28,6 +29,7 @@ public class ZipUtils {
 
     private static final String JAR_URI_PREFIX = "jar:";
     private static final Map<String, String> CREATE_ENV = Collections.singletonMap("create", "true");
+    private static final String NO_COMPRESSION = "noCompression";
 
     public static void unzip(Path zipFile, Path targetDir) throws IOException {
         try {
@@ -101,11 +103,24 @@ public class ZipUtils {
     }
 
     public static FileSystem newZip(Path zipFile) throws IOException {
-        final Map<String, ?> env;
-        if (Files.exists(zipFile)) {
-            env = Collections.emptyMap();
-        } else {
-            env = CREATE_ENV;
+        return newZip(zipFile, true);
+    }
+
+    /**
+     * Creates a new zip file system, optionally storing all written entries without compression.
+     *
+     * @param zipFile The zip file
+     * @param compress If entries should be deflated, if this is false entries will be stored uncompressed
+     * @return A new FileSystem
+     * @throws IOException in case of a failure
+     */
+    public static FileSystem newZip(Path zipFile, boolean compress) throws IOException {
+        Map<String, Object> env = new HashMap<>();
+        if (!compress) {
+            env.put(NO_COMPRESSION, "true");
+        }
+        if (!Files.exists(zipFile)) {
+            env.putAll(CREATE_ENV);
             // explicitly create any parent dirs, since the ZipFileSystem only creates a new file
             // with "create" = "true", but doesn't create any parent dirs.
 
@@ -1,12 +1,25 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Returns the resource data as a buffer. Implementations that have direct access to the underlying
+     * storage can return a view of it, which avoids copying the data onto the heap.
+     */
+    default ByteBuffer getResourceBuffer(String resource) {
+        byte[] data = getResourceData(resource);
+        if (data == null) {
+            return null;
+        }
+        return ByteBuffer.wrap(data);
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
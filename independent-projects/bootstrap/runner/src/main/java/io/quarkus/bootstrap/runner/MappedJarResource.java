@@ -0,0 +1,225 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A jar resource that memory maps the underlying jar file.
+ *
+ * Entries that are stored uncompressed are served directly from the mapped file, which avoids the inflater
+ * and the intermediate copies of the standard {@link JarResource}. Compressed entries, and jars that cannot be
+ * indexed (e.g. zip64 or multi release jars), transparently fall back to the standard behaviour.
+ */
+public class MappedJarResource extends JarResource {
+
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+    private static final int END_HEADER_SIZE = 22;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int STORED = 0;
+    private static final int ENCRYPTED_FLAG = 1;
+
+    private final Path jarPath;
+    private volatile MappedIndex index;
+
+    public MappedJarResource(ManifestInfo manifestInfo, Path jarPath) {
+        super(manifestInfo, jarPath);
+        this.jarPath = jarPath;
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        ByteBuffer buffer = mappedEntry(resource);
+        if (buffer == null) {
+            return super.getResourceData(resource);
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return data;
+    }
+
+    @Override
+    public ByteBuffer getResourceBuffer(String resource) {
+        ByteBuffer buffer = mappedEntry(resource);
+        if (buffer == null) {
+            return super.getResourceBuffer(resource);
+        }
+        return buffer;
+    }
+
+    private ByteBuffer mappedEntry(String resource) {
+        MappedIndex index = index();
+        int[] entry = index.entries.get(resource);
+        if (entry == null) {
+            return null;
+        }
+        //the casts are needed to stay compatible with the Java 8 Buffer API
+        ByteBuffer slice = index.buffer.duplicate();
+        ((Buffer) slice).position(entry[0]);
+        ((Buffer) slice).limit(entry[0] + entry[1]);
+        return slice.slice();
+    }
+
+    private MappedIndex index() {
+        MappedIndex index = this.index;
+        if (index == null || index == MappedIndex.CLOSED) {
+            synchronized (this) {
+                index = this.index;
+                if (index == MappedIndex.CLOSED) {
+                    throw new IllegalStateException("Jar " + jarPath + " is closed");
+                }
+                if (index == null) {
+                    try {
+                        index = createIndex(jarPath);
+                    } catch (IOException | RuntimeException e) {
+                        //we can always fall back to reading the jar the normal way
+                        index = MappedIndex.EMPTY;
+                    }
+                    this.index = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Reads the central directory of the jar and records the data offset of every stored entry.
+     */
+    static MappedIndex createIndex(Path jarPath) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE || size < END_HEADER_SIZE) {
+                return MappedIndex.EMPTY;
+            }
+            //the mapping stays valid after the channel has been closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int end = findEndOfCentralDirectory(buffer);
+        if (end == -1) {
+            return MappedIndex.EMPTY;
+        }
+        int count = buffer.getShort(end + 10) & 0xFFFF;
+        long centralOffset = buffer.getInt(end + 16) & 0xFFFFFFFFL;
+        if (count == 0xFFFF || centralOffset == 0xFFFFFFFFL) {
+            //zip64, not worth handling for class path jars
+            return MappedIndex.EMPTY;
+        }
+        Map<String, int[]> entries = new HashMap<>(count * 2);
+        int pos = (int) centralOffset;
+        for (int i = 0; i < count; ++i) {
+            if (buffer.getInt(pos) != CENTRAL_SIGNATURE) {
+                return MappedIndex.EMPTY;
+            }
+            int flags = buffer.getShort(pos + 8) & 0xFFFF;
+            int method = buffer.getShort(pos + 10) & 0xFFFF;
+            int compressedSize = buffer.getInt(pos + 20);
+            int nameLength = buffer.getShort(pos + 28) & 0xFFFF;
+            int extraLength = buffer.getShort(pos + 30) & 0xFFFF;
+            int commentLength = buffer.getShort(pos + 32) & 0xFFFF;
+            int localOffset = buffer.getInt(pos + 42);
+            String name = readName(buffer, pos + CENTRAL_HEADER_SIZE, nameLength);
+            if (name.startsWith(SerializedApplication.META_INF_VERSIONS)) {
+                //multi release jars need the version aware lookup of JarFile
+                return MappedIndex.EMPTY;
+            }
+            if (method == STORED && (flags & ENCRYPTED_FLAG) == 0 && !name.endsWith("/")) {
+                int localNameLength = buffer.getShort(localOffset + 26) & 0xFFFF;
+                int localExtraLength = buffer.getShort(localOffset + 28) & 0xFFFF;
+                int dataOffset = localOffset + LOCAL_HEADER_SIZE + localNameLength + localExtraLength;
+                entries.put(name, new int[] { dataOffset, compressedSize });
+            }
+            pos += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return new MappedIndex(buffer, entries);
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer buffer) {
+        int limit = Math.max(0, buffer.limit() - END_HEADER_SIZE - MAX_COMMENT_SIZE);
+        for (int pos = buffer.limit() - END_HEADER_SIZE; pos >= limit; --pos) {
+            if (buffer.getInt(pos) == END_SIGNATURE) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    private static String readName(ByteBuffer buffer, int offset, int length) {
+        byte[] name = new byte[length];
+        ByteBuffer dup = buffer.duplicate();
+        ((Buffer) dup).position(offset);
+        dup.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        MappedIndex closed;
+        synchronized (this) {
+            closed = index;
+            index = MappedIndex.CLOSED;
+        }
+        if (closed != null && closed.buffer != null) {
+            //release the mapping now rather than when it is garbage collected, as it keeps the file locked on Windows
+            //the class loader is closed once it no longer loads classes, so no slice of the mapping is in use anymore
+            unmap(closed.buffer);
+        }
+        super.close();
+    }
+
+    /**
+     * Unmaps the buffer using the JDK internal cleaner, the mapping is left to the garbage collector if that fails.
+     */
+    static void unmap(ByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                //Java 8
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            //ignore, the mapping is released when the buffer is garbage collected
+        }
+    }
+
+    static final class MappedIndex {
+
+        static final MappedIndex EMPTY = new MappedIndex(null, Collections.emptyMap());
+        static final MappedIndex CLOSED = new MappedIndex(null, Collections.emptyMap());
+
+        final ByteBuffer buffer;
+        final Map<String, int[]> entries;
+
+        MappedIndex(ByteBuffer buffer, Map<String, int[]> entries) {
+            this.buffer = buffer;
+            this.entries = entries;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.quarkus.bootstrap.runner;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -74,12 +75,12 @@ public class RunnerClassLoader extends ClassLoader {
             if (resources != null) {
                 String classResource = name.replace(".", "/") + ".class";
                 for (ClassLoadingResource resource : resources) {
-                    byte[] data = resource.getResourceData(classResource);
+                    ByteBuffer data = resource.getResourceBuffer(classResource);
                     if (data == null) {
                         continue;
                     }
                     definePackage(packageName, resources);
-                    return defineClass(name, data, 0, data.length,
+                    return defineClass(name, data,
                             protectionDomains.computeIfAbsent(resource, new Function<ClassLoadingResource, ProtectionDomain>() {
                                 @Override
                                 public ProtectionDomain apply(ClassLoadingResource ce) {
@@ -32,7 +32,7 @@ public class SerializedApplication {
     public static final String META_INF_VERSIONS = "META-INF/versions/";
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 1;
+    private static final int VERSION = 2;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -53,10 +53,20 @@ public class SerializedApplication {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, false);
+    }
+
+    /**
+     * @param mappedJars if the class path jars should be memory mapped at runtime, see {@link MappedJarResource}
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, boolean mappedJars)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(mappedJars);
             data.writeInt(classPath.size());
             for (Path jar : classPath) {
                 String relativePath = applicationRoot.relativize(jar).toString().replace("\\", "/");
@@ -85,6 +95,7 @@ public class SerializedApplication {
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            boolean mappedJars = in.readBoolean();
             Map<String, ClassLoadingResource[]> resourceDirectoryMap = new HashMap<>();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readInt();
@@ -96,7 +107,8 @@ public class SerializedApplication {
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource = mappedJars ? new MappedJarResource(info, appRoot.resolve(path))
+                        : new JarResource(info, appRoot.resolve(path));
                 int numDirs = in.readInt();
                 for (int i = 0; i < numDirs; ++i) {
                     String dir = in.readUTF();
@@ -0,0 +1,114 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedJarResource}
+ */
+public class MappedJarResourceTest {
+
+    private static final byte[] STORED_DATA = "stored class data".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DEFLATED_DATA = "deflated class data".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testStoredAndDeflatedEntries() throws Exception {
+        Path jar = Files.createTempFile("mapped-jar-resource", ".jar");
+        try {
+            try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+                writeStored(out, "org/acme/");
+                writeStored(out, "org/acme/Stored.class", STORED_DATA);
+                out.putNextEntry(new ZipEntry("org/acme/Deflated.class"));
+                out.write(DEFLATED_DATA);
+                out.closeEntry();
+            }
+
+            MappedJarResource.MappedIndex index = MappedJarResource.createIndex(jar);
+            assertTrue(index.entries.containsKey("org/acme/Stored.class"));
+            assertFalse(index.entries.containsKey("org/acme/Deflated.class"));
+            assertFalse(index.entries.containsKey("org/acme/"));
+
+            MappedJarResource resource = new MappedJarResource(null, jar);
+            try {
+                assertArrayEquals(STORED_DATA, resource.getResourceData("org/acme/Stored.class"));
+                assertArrayEquals(DEFLATED_DATA, resource.getResourceData("org/acme/Deflated.class"));
+                assertNull(resource.getResourceData("org/acme/Missing.class"));
+
+                ByteBuffer buffer = resource.getResourceBuffer("org/acme/Stored.class");
+                assertEquals(STORED_DATA.length, buffer.remaining());
+                byte[] data = new byte[buffer.remaining()];
+                buffer.get(data);
+                assertArrayEquals(STORED_DATA, data);
+            } finally {
+                resource.close();
+            }
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    @Test
+    public void testClosedResourceIsNotMappedAgain() throws Exception {
+        Path jar = Files.createTempFile("mapped-jar-resource", ".jar");
+        try {
+            try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+                writeStored(out, "org/acme/Stored.class", STORED_DATA);
+            }
+            MappedJarResource resource = new MappedJarResource(null, jar);
+            assertArrayEquals(STORED_DATA, resource.getResourceData("org/acme/Stored.class"));
+            resource.close();
+
+            assertThrows(IllegalStateException.class, () -> resource.getResourceData("org/acme/Stored.class"));
+            assertThrows(IllegalStateException.class, () -> resource.getResourceBuffer("org/acme/Stored.class"));
+            //the file is neither mapped nor open anymore
+            Files.delete(jar);
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    @Test
+    public void testNonZipFallsBack() throws Exception {
+        Path jar = Files.createTempFile("mapped-jar-resource", ".jar");
+        try {
+            try (OutputStream out = Files.newOutputStream(jar)) {
+                out.write(new byte[64]);
+            }
+            assertTrue(MappedJarResource.createIndex(jar).entries.isEmpty());
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    private static void writeStored(ZipOutputStream out, String name, byte[] data) throws Exception {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(data.length);
+        entry.setCompressedSize(data.length);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        entry.setCrc(crc.getValue());
+        out.putNextEntry(entry);
+        out.write(data);
+        out.closeEntry();
+    }
+
+    private static void writeStored(ZipOutputStream out, String name) throws Exception {
+        writeStored(out, name, new byte[0]);
+    }
+}
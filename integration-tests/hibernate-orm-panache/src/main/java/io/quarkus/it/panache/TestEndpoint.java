@@ -8,9 +8,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -1147,6 +1150,41 @@ public class TestEndpoint {
         return person;
     }
 
+    @GET
+    @Path("persist-in-batches")
+    @Transactional
+    public String testPersistInBatches() {
+        long count = Person.count();
+        Person person = new Person();
+        person.name = "batchManaged";
+        person.persist();
+
+        long persisted = Person.persistInBatches(IntStream.range(0, 25).mapToObj(i -> {
+            Person batched = new Person();
+            batched.name = "batch" + i;
+            return batched;
+        }), 10);
+        assertEquals(25, persisted);
+        assertEquals(count + 26, Person.count());
+        // the persistence context was cleared
+        assertFalse(person.isPersistent());
+
+        List<Person> repositoryPersons = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Person batched = new Person();
+            batched.name = "repositoryBatch" + i;
+            repositoryPersons.add(batched);
+        }
+        assertEquals(5, personDao.persistInBatches(repositoryPersons, 2));
+        assertEquals(count + 31, personDao.count());
+        assertEquals(0, personDao.persistInBatches(Collections.emptyList(), 2));
+
+        assertEquals(26, Person.delete("name like ?1", "batch%"));
+        assertEquals(5, personDao.delete("name like ?1", "repositoryBatch%"));
+        assertEquals(count, Person.count());
+        return "OK";
+    }
+
     @Inject
     Bug5274EntityRepository bug5274EntityRepository;
 
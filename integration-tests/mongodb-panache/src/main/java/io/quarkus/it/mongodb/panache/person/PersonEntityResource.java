@@ -4,6 +4,7 @@ import java.net.URI;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
@@ -42,6 +43,12 @@ public class PersonEntityResource {
         PersonEntity.persist(persons);
     }
 
+    @POST
+    @Path("/batched")
+    public void addPersonsBatched(List<PersonEntity> persons) {
+        PersonEntity.persist(persons.stream(), 1, false);
+    }
+
     @PUT
     public Response updatePerson(PersonEntity person) {
         person.update();
@@ -79,6 +86,14 @@ public class PersonEntityResource {
         PersonEntity.deleteAll();
     }
 
+    @DELETE
+    @Path("/batched")
+    public long deleteAllBatched() {
+        try (Stream<PersonEntity> persons = PersonEntity.<PersonEntity> findAll().withBatchSize(2).stream()) {
+            return PersonEntity.delete(persons, 2, true);
+        }
+    }
+
     @POST
     @Path("/rename")
     public Response rename(@QueryParam("previousName") String previousName, @QueryParam("newName") String newName) {
@@ -4,6 +4,7 @@ import java.net.URI;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.ws.rs.*;
@@ -51,6 +52,12 @@ public class PersonRepositoryResource {
         personRepository.persist(persons);
     }
 
+    @POST
+    @Path("/batched")
+    public void addPersonsBatched(List<Person> persons) {
+        personRepository.persist(persons.stream(), 1, false);
+    }
+
     @PUT
     public Response updatePerson(Person person) {
         personRepository.update(person);
@@ -88,6 +95,14 @@ public class PersonRepositoryResource {
         personRepository.deleteAll();
     }
 
+    @DELETE
+    @Path("/batched")
+    public long deleteAllBatched() {
+        try (Stream<Person> persons = personRepository.findAll().withBatchSize(2).stream()) {
+            return personRepository.delete(persons, 2, true);
+        }
+    }
+
     @POST
     @Path("/rename")
     public Response rename(@QueryParam("previousName") String previousName, @QueryParam("newName") String newName) {
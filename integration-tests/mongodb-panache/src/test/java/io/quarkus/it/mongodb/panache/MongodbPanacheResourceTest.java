@@ -302,6 +302,30 @@ class MongodbPanacheResourceTest {
         count = get(endpoint + "/count").as(Long.class);
         Assertions.assertEquals(3, count);
 
+        //insert and delete in batches
+        Person person5 = new Person();
+        person5.id = 5L;
+        person5.firstname = "Arthur";
+        person5.lastname = "Rimbaud";
+        Person person6 = new Person();
+        person6.id = 6L;
+        person6.firstname = "Paul";
+        person6.lastname = "Verlaine";
+        response = RestAssured
+                .given()
+                .header("Content-Type", "application/json")
+                .body(Arrays.asList(person5, person6))
+                .post(endpoint + "/batched")
+                .andReturn();
+        Assertions.assertEquals(204, response.statusCode());
+        count = get(endpoint + "/count").as(Long.class);
+        Assertions.assertEquals(5, count);
+
+        count = RestAssured.given().delete(endpoint + "/batched").as(Long.class);
+        Assertions.assertEquals(5, count);
+        count = get(endpoint + "/count").as(Long.class);
+        Assertions.assertEquals(0, count);
+
         //delete all
         response = RestAssured
                 .given()
@@ -0,0 +1,39 @@
+package io.quarkus.it.reactive.mysql.client;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.reactive.datasource.runtime.EventLoopPool;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.vertx.mutiny.mysqlclient.MySQLPool;
+
+/**
+ * Runs the same tests as the parent class, with a pool per event loop.
+ */
+@QuarkusTest
+@TestProfile(EventLoopPoolFruitsEndpointTest.EventLoopPoolProfile.class)
+public class EventLoopPoolFruitsEndpointTest extends FruitsEndpointTest {
+
+    @Inject
+    MySQLPool client;
+
+    @Test
+    public void testPoolPerEventLoop() {
+        Assertions.assertTrue(client.getDelegate() instanceof EventLoopPool);
+    }
+
+    public static class EventLoopPoolProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Collections.singletonMap("quarkus.datasource.reactive.per-event-loop", "true");
+        }
+    }
+}
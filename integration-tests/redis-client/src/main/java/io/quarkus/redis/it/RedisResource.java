@@ -9,6 +9,8 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 
+import io.quarkus.redis.client.BatchResponse;
+import io.quarkus.redis.client.RedisBatch;
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.smallrye.mutiny.Uni;
@@ -37,6 +39,18 @@ public class RedisResource {
         this.redisClient.set(Arrays.asList(key, value));
     }
 
+    // batch
+    @POST
+    @Path("/batch/{key}")
+    public String incrementBatch(@PathParam("key") String key, String value) {
+        RedisBatch batch = redisClient.batch(true);
+        batch.set(key, value);
+        BatchResponse<Long> incremented = batch.incr(key);
+        BatchResponse<String> current = batch.get(key);
+        batch.execute();
+        return incremented.get() + ":" + current.get();
+    }
+
     // reactive
     @GET
     @Path("/reactive/{key}")
@@ -12,6 +12,7 @@ class QuarkusRedisTest {
     static final String SYNC_VALUE = "sync-value";
     static final String REACTIVE_KEY = "reactive-key";
     static final String REACTIVE_VALUE = "reactive-value";
+    static final String BATCH_KEY = "batch-key";
 
     @Test
     public void sync() {
@@ -58,4 +59,15 @@ class QuarkusRedisTest {
                 .statusCode(200)
                 .body(CoreMatchers.is(REACTIVE_VALUE));
     }
+
+    @Test
+    public void batch() {
+        RestAssured.given()
+                .body("41")
+                .when()
+                .post("/quarkus-redis/batch/" + BATCH_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("42:42"));
+    }
 }